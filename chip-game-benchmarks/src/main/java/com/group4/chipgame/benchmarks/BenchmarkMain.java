@@ -0,0 +1,47 @@
+package com.group4.chipgame.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks, accepting the usual JMH command-line options.
+ * Unless another format or file is given, results are written as
+ * JSON to target/jmh-result.json so runs can be compared across commits.
+ */
+public final class BenchmarkMain {
+    private static final String DEFAULT_RESULT_FILE =
+            "target/jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command-line options.
+     * @throws CommandLineOptionException If the options are invalid.
+     * @throws RunnerException            If a benchmark fails.
+     */
+    public static void main(final String[] args)
+            throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine);
+        if (commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(commandLine.getResultFormat().get());
+        } else {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (commandLine.getResult().hasValue()) {
+            options.result(commandLine.getResult().get());
+        } else {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.group4.chipgame.benchmarks;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.PathSearchMode;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Frog;
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a frog choosing its next step towards the player
+ * through serpentine mazes of growing size, where the path
+ * search has to cover the whole maze.
+ * The game's own frog decides and takes the step in a level
+ * loaded without animation, and is then put back where it
+ * started for the next invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "--enable-preview")
+@State(Scope.Benchmark)
+public class FrogPathBenchmark {
+    @Param({"16", "32", "64", "128"})
+    private int size;
+
+    @Param({"A_STAR", "JUMP_POINT"})
+    private PathSearchMode mode;
+
+    private LevelRenderer renderer;
+    private Frog frog;
+    private int startX;
+    private int startY;
+
+    /**
+     * Loads the maze with the frog at its far end from the player.
+     *
+     * @throws IOException          If the maze cannot be written or read.
+     * @throws InterruptedException If interrupted while starting JavaFX.
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        HeadlessFx.start();
+        GameContext context = new GameContext();
+        context.setPathSearchMode(mode);
+        LevelData level = HeadlessLevels.load(context,
+                SyntheticLevels.serpentine(size));
+        renderer = level.getLevelRenderer();
+        for (Actor actor : level.getActors()) {
+            if (actor instanceof Frog) {
+                frog = (Frog) actor;
+            }
+        }
+        startX = (int) frog.getCurrentPosition().getX();
+        startY = (int) frog.getCurrentPosition().getY();
+    }
+
+    /**
+     * Lets the frog plan and take its step, then puts it back.
+     *
+     * @return The cell the frog stepped to.
+     */
+    @Benchmark
+    public Point2D findNextMove() {
+        frog.makeMoveDecision(renderer);
+        Point2D step = frog.getCurrentPosition();
+        HeadlessLevels.place(frog, startX, startY, renderer);
+        return step;
+    }
+}
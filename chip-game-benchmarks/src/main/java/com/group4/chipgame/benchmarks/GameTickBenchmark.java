@@ -0,0 +1,78 @@
+package com.group4.chipgame.benchmarks;
+
+import com.group4.chipgame.EnemyScheduler;
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.GameLoop;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.ui.TimerUI;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-tick cost of the game loop with a growing
+ * number of enemies. Each invocation runs one full enemy move
+ * interval, so every enemy moves once. The game's own loop is
+ * handled frame by frame on a level loaded without animation
+ * or a camera, so each move lands as soon as it is made.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "--enable-preview")
+@State(Scope.Benchmark)
+public class GameTickBenchmark {
+    private static final int ARENA_SIZE = 96;
+    private static final int MOVE_INTERVAL = 100;
+    private static final long FRAME_NANOS = 16_666_667;
+
+    @Param({"10", "100", "1000"})
+    private int actors;
+
+    private GameLoop gameLoop;
+    private long now;
+
+    /**
+     * Loads an arena filled with pink balls. The timer is set
+     * long enough never to run out during a run.
+     *
+     * @throws IOException          If the arena cannot be written or read.
+     * @throws InterruptedException If interrupted while starting JavaFX.
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        HeadlessFx.start();
+        LevelData level = HeadlessLevels.load(new GameContext(),
+                SyntheticLevels.arena(ARENA_SIZE, actors));
+        gameLoop = new GameLoop(level.getActors(), level.getLevelRenderer(),
+                null, new TimerUI(new Pane(), Integer.MAX_VALUE));
+        gameLoop.setEnemyBudget(EnemyScheduler.UNLIMITED);
+    }
+
+    /**
+     * Handles one enemy move interval of frames.
+     *
+     * @return The time of the last frame.
+     */
+    @Benchmark
+    public long handle() {
+        for (int i = 0; i < MOVE_INTERVAL; i++) {
+            now += FRAME_NANOS;
+            gameLoop.handle(now);
+        }
+        return now;
+    }
+}
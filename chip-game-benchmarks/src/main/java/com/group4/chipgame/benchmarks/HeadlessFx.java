@@ -0,0 +1,41 @@
+package com.group4.chipgame.benchmarks;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Starts the JavaFX toolkit on the headless Monocle platform,
+ * so benchmarks can create tiles and actors, which load images,
+ * on machines without a display.
+ */
+final class HeadlessFx {
+    private static boolean started;
+
+    private HeadlessFx() {
+    }
+
+    /**
+     * Starts the toolkit if it is not already running.
+     *
+     * @throws InterruptedException If interrupted while waiting for startup.
+     */
+    static synchronized void start() throws InterruptedException {
+        if (started) {
+            return;
+        }
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("java.awt.headless", "true");
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+        } catch (IllegalStateException e) {
+            // Already started by someone else.
+            latch.countDown();
+        }
+        latch.await();
+        started = true;
+    }
+}
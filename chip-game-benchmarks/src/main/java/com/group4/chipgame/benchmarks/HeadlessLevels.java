@@ -0,0 +1,56 @@
+package com.group4.chipgame.benchmarks;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelLoader;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.entities.actors.Actor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Loads levels into the game's own renderer, the way the game builds
+ * a level before showing it, for benchmarks that drive the game code
+ * rather than the simulation. The game is not shown, so its moves are
+ * not animated and every move lands as soon as it is made.
+ */
+final class HeadlessLevels {
+    private HeadlessLevels() {
+    }
+
+    /**
+     * Loads a level file into a new renderer. The toolkit must have
+     * been started with {@link HeadlessFx#start()}.
+     *
+     * @param context   The context of the game, which is set to
+     *                  play without animation.
+     * @param levelPath The path of the level file.
+     * @return The loaded level.
+     * @throws IOException If the level cannot be read.
+     */
+    static LevelData load(final GameContext context,
+                          final Path levelPath) throws IOException {
+        context.setAnimated(false);
+        return new LevelLoader().loadLevel(levelPath.toString(), context);
+    }
+
+    /**
+     * Puts an actor back on a cell between invocations,
+     * moving its hold on the cells along with it.
+     *
+     * @param actor    The actor to place.
+     * @param x        The column to place it on.
+     * @param y        The row to place it on.
+     * @param renderer The renderer of the actor's level.
+     */
+    static void place(final Actor actor,
+                      final int x,
+                      final int y,
+                      final LevelRenderer renderer) {
+        renderer.setOccupant((int) actor.getCurrentPosition().getX(),
+                (int) actor.getCurrentPosition().getY(), null);
+        actor.placeAt(x, y);
+        renderer.setOccupant(x, y, actor);
+    }
+}
@@ -0,0 +1,88 @@
+package com.group4.chipgame.benchmarks;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.tiles.Ice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a chain of ice slides: the player steps onto a ring
+ * of ice and slides once all the way round it, turning at every
+ * corner. The game's own ice tiles play the slide in a level
+ * loaded without animation, one tile for each step of the level's
+ * active slides, and the player is then put back for the next
+ * invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "--enable-preview")
+@State(Scope.Benchmark)
+public class IceSlideBenchmark {
+    private static final int CORNERS = 4;
+
+    @Param({"8", "32", "128"})
+    private int size;
+
+    private LevelRenderer renderer;
+    private Player player;
+    private int startX;
+    private int startY;
+    private int chainLength;
+
+    /**
+     * Loads the ring with the player beside it.
+     *
+     * @throws IOException          If the ring cannot be written or read.
+     * @throws InterruptedException If interrupted while starting JavaFX.
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        HeadlessFx.start();
+        LevelData level = HeadlessLevels.load(new GameContext(),
+                SyntheticLevels.iceRing(size));
+        renderer = level.getLevelRenderer();
+        for (Actor actor : level.getActors()) {
+            if (actor instanceof Player) {
+                player = (Player) actor;
+            }
+        }
+        startX = (int) player.getCurrentPosition().getX();
+        startY = (int) player.getCurrentPosition().getY();
+        chainLength = CORNERS * (size - 1);
+    }
+
+    /**
+     * Steps onto the ice, slides once round the ring,
+     * then stops the slide and puts the player back.
+     *
+     * @return The player, after the slide.
+     */
+    @Benchmark
+    public Player slideChain() {
+        player.move(-1, 0, renderer);
+        for (int i = 0; i < chainLength; i++) {
+            renderer.getActiveSlides().advance();
+        }
+        Ice.stopSliding(player, renderer);
+        HeadlessLevels.place(player, startX, startY, renderer);
+        return player;
+    }
+}
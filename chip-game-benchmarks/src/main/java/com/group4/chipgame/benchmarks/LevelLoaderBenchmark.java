@@ -0,0 +1,70 @@
+package com.group4.chipgame.benchmarks;
+
+import com.group4.chipgame.Level.LevelLoader;
+import com.group4.chipgame.Level.LevelTiles;
+import com.group4.chipgame.Level.TileGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading the tiles of a level, both with objects for its
+ * stateful cells and as the bare palette grid, on levels of growing size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "--enable-preview")
+@State(Scope.Benchmark)
+public class LevelLoaderBenchmark {
+    @Param({"16", "64", "256"})
+    private int size;
+
+    private String levelPath;
+
+    /**
+     * Starts the toolkit and writes the level file.
+     *
+     * @throws IOException          If the level cannot be written.
+     * @throws InterruptedException If interrupted while starting JavaFX.
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        HeadlessFx.start();
+        levelPath = SyntheticLevels.mixed(size).toString();
+    }
+
+    /**
+     * Loads the level into its tiles.
+     *
+     * @return The loaded tiles.
+     * @throws IOException If the level cannot be read.
+     */
+    @Benchmark
+    public LevelTiles loadTiles() throws IOException {
+        return new LevelLoader().loadTiles(levelPath);
+    }
+
+    /**
+     * Loads the level into a palette grid.
+     *
+     * @return The loaded grid.
+     * @throws IOException If the level cannot be read.
+     */
+    @Benchmark
+    public TileGrid loadGrid() throws IOException {
+        return new LevelLoader().loadGrid(levelPath);
+    }
+}
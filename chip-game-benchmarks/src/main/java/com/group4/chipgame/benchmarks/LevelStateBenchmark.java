@@ -0,0 +1,95 @@
+package com.group4.chipgame.benchmarks;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelLoader;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.LevelStateManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving a level's state to disk and loading it back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "--enable-preview")
+@State(Scope.Benchmark)
+public class LevelStateBenchmark {
+    @Param({"16", "64", "256"})
+    private int size;
+
+    private final GameContext context = new GameContext();
+    private LevelData levelData;
+    private Path saveFile;
+
+    /**
+     * Builds the level and writes an initial save to load from.
+     *
+     * @throws IOException          If the level cannot be built or saved.
+     * @throws InterruptedException If interrupted while starting JavaFX.
+     */
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        HeadlessFx.start();
+        String levelPath = SyntheticLevels.mixed(size).toString();
+        levelData = new LevelLoader().loadLevel(levelPath, context);
+        saveFile = Files.createTempFile("chip-game-bench-save", ".json");
+        LevelStateManager.saveLevel(levelData, saveFile.toString());
+    }
+
+    /**
+     * Removes the save file.
+     *
+     * @throws IOException If the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFile);
+    }
+
+    /**
+     * Saves the level state.
+     *
+     * @throws IOException If the save cannot be written.
+     */
+    @Benchmark
+    public void saveLevel() throws IOException {
+        LevelStateManager.saveLevel(levelData, saveFile.toString());
+    }
+
+    /**
+     * Loads the level state into a new renderer,
+     * as the game does when a save is loaded. The renderer is
+     * disposed of afterwards, so the shared context does not
+     * collect one per invocation.
+     *
+     * @return The loaded level.
+     * @throws IOException If the save cannot be read.
+     */
+    @Benchmark
+    public LevelData loadLevel() throws IOException {
+        LevelRenderer renderer = new LevelRenderer(context, levelData);
+        LevelData loaded = LevelStateManager.loadLevel(
+                saveFile.toString(), renderer);
+        renderer.dispose();
+        return loaded;
+    }
+}
@@ -0,0 +1,67 @@
+package com.group4.chipgame.benchmarks;
+
+import com.group4.chipgame.profile.ProfileManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the high score table from many profiles.
+ * Profiles are added in memory only, so the profile file on disk
+ * is read once and never rewritten.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "--enable-preview")
+@State(Scope.Benchmark)
+public class ProfileBenchmark {
+    private static final int LEVELS = 20;
+    private static final int SCORE_RANGE = 1000;
+
+    @Param({"10", "100", "1000"})
+    private int profiles;
+
+    private ProfileManager profileManager;
+
+    /**
+     * Creates the profiles and their level scores.
+     *
+     * @throws IOException If the profile file cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        profileManager = new ProfileManager();
+        for (int i = 0; i < profiles; i++) {
+            profileManager.addProfile("bench" + i);
+            for (int level = 0; level < LEVELS; level++) {
+                profileManager.getCurrentProfile().setLevelScore(
+                        "level" + level, (i * LEVELS + level) % SCORE_RANGE);
+            }
+        }
+    }
+
+    /**
+     * Builds the high score table.
+     *
+     * @return The high scores by level.
+     */
+    @Benchmark
+    public Map<String, List<Map.Entry<String, Integer>>> getHighScores() {
+        return profileManager.getHighScores();
+    }
+}
@@ -0,0 +1,173 @@
+package com.group4.chipgame.benchmarks;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Writes generated level files of arbitrary size,
+ * in the same format as the levels shipped with the game.
+ */
+final class SyntheticLevels {
+    private static final String PATH = "P";
+    private static final String WALL = "G";
+    private static final String ICE = "I";
+    private static final String ICE_TOP_RIGHT = "I_TR";
+    private static final String ICE_BOTTOM_RIGHT = "I_BR";
+    private static final String ICE_TOP_LEFT = "I_TL";
+    private static final String ICE_BOTTOM_LEFT = "I_BL";
+    private static final String[] MIXED_TILES = {
+        PATH, PATH, PATH, WALL, "W", "S", ICE, PATH
+    };
+    private static final int TIMER = 600;
+    private static final int ITEM_SPACING = 7;
+    private static final int ACTOR_SPACING = 11;
+
+    private SyntheticLevels() {
+    }
+
+    /**
+     * Writes a square level of mixed tiles with a scattering
+     * of chips and pink balls.
+     *
+     * @param size The width and height of the level.
+     * @return The path of the written file.
+     * @throws IOException If the file cannot be written.
+     */
+    static Path mixed(final int size) throws IOException {
+        String[][] tiles = new String[size][size];
+        JSONArray collectibles = new JSONArray();
+        JSONArray actors = new JSONArray();
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int cell = y * size + x;
+                tiles[y][x] = MIXED_TILES[cell % MIXED_TILES.length];
+                if (!PATH.equals(tiles[y][x])) {
+                    continue;
+                }
+                if (cell % ITEM_SPACING == 0) {
+                    collectibles.put(actor("Chip", x, y));
+                } else if (cell % ACTOR_SPACING == 0) {
+                    actors.put(actor("RPinkBall", x, y));
+                }
+            }
+        }
+        tiles[0][0] = PATH;
+        actors.put(actor("Player", 0, 0));
+        return write(tiles, actors, collectibles);
+    }
+
+    /**
+     * Writes a serpentine maze with a frog at one end
+     * and the player at the other, so the frog's path
+     * to the player covers every row.
+     *
+     * @param size The width and height of the maze.
+     * @return The path of the written file.
+     * @throws IOException If the file cannot be written.
+     */
+    static Path serpentine(final int size) throws IOException {
+        String[][] tiles = new String[size][size];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                tiles[y][x] = y % 2 == 0 ? PATH : WALL;
+            }
+            if (y % 2 == 1) {
+                tiles[y][(y / 2) % 2 == 0 ? size - 1 : 0] = PATH;
+            }
+        }
+        int last = size % 2 == 0 ? size - 2 : size - 1;
+        JSONArray actors = new JSONArray()
+                .put(actor("Frog", 0, 0))
+                .put(actor("Player", ((last - 1) / 2) % 2 == 0
+                        ? 0 : size - 1, last));
+        return write(tiles, actors, new JSONArray());
+    }
+
+    /**
+     * Writes an open floor of the given size with a player
+     * walled into the top-left corner and pink balls bouncing
+     * along every other row.
+     *
+     * @param size   The width and height of the floor.
+     * @param actors The number of pink balls.
+     * @return The path of the written file.
+     * @throws IOException If the file cannot be written.
+     */
+    static Path arena(final int size, final int actors) throws IOException {
+        String[][] tiles = new String[size][size];
+        for (String[] row : tiles) {
+            Arrays.fill(row, PATH);
+        }
+        tiles[0][1] = WALL;
+        tiles[1][0] = WALL;
+        tiles[1][1] = WALL;
+        JSONArray actorArray = new JSONArray().put(actor("Player", 0, 0));
+        int placed = 0;
+        for (int y = 2; y < size && placed < actors; y += 2) {
+            for (int x = 0; x < size && placed < actors; x += 2) {
+                actorArray.put(actor(placed % 2 == 0
+                        ? "RPinkBall" : "LPinkBall", x, y));
+                placed++;
+            }
+        }
+        return write(tiles, actorArray, new JSONArray());
+    }
+
+    /**
+     * Writes a square ring of ice inside walls, turned at each
+     * corner, with the player standing on a path tile to the right
+     * of its top edge. A player stepping left onto the ring slides
+     * round it anticlockwise for as long as the level runs.
+     *
+     * @param size The width and height of the ring.
+     * @return The path of the written file.
+     * @throws IOException If the file cannot be written.
+     */
+    static Path iceRing(final int size) throws IOException {
+        int span = size + 2;
+        String[][] tiles = new String[span][span];
+        for (String[] row : tiles) {
+            Arrays.fill(row, WALL);
+        }
+        for (int i = 1; i <= size; i++) {
+            tiles[1][i] = ICE;
+            tiles[size][i] = ICE;
+            tiles[i][1] = ICE;
+            tiles[i][size] = ICE;
+        }
+        tiles[1][1] = ICE_TOP_LEFT;
+        tiles[1][size] = ICE_TOP_RIGHT;
+        tiles[size][size] = ICE_BOTTOM_RIGHT;
+        tiles[size][1] = ICE_BOTTOM_LEFT;
+        tiles[1][span - 1] = PATH;
+        JSONArray actors = new JSONArray()
+                .put(actor("Player", span - 1, 1));
+        return write(tiles, actors, new JSONArray());
+    }
+
+    private static JSONObject actor(final String type,
+                                    final int x,
+                                    final int y) {
+        return new JSONObject().put("type", type).put("x", x).put("y", y);
+    }
+
+    private static Path write(final String[][] tiles,
+                              final JSONArray actors,
+                              final JSONArray collectibles)
+            throws IOException {
+        JSONObject level = new JSONObject()
+                .put("timer", TIMER)
+                .put("tiles", new JSONArray(tiles))
+                .put("actors", actors)
+                .put("collectibles", collectibles);
+        Path file = Files.createTempFile("chip-game-bench", ".json");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, level.toString());
+        return file;
+    }
+}
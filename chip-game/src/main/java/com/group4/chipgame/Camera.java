@@ -1,6 +1,8 @@
 package com.group4.chipgame;
 
 import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
 import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -23,6 +25,7 @@ public class Camera {
     private Timeline currentTimeline;
     private AnimationTimer cameraTimer;
 
+    private static final Logger LOG = Logger.get(LogCategory.CAMERA);
     private static final double MIN_ANIMATION_DURATION = 300;
     private static final double MAX_ANIMATION_DURATION = 1000;
     private static final double ANIMATION_SPEED_MULTIPLIER = 0.4;
@@ -158,7 +161,9 @@ public class Camera {
      */
     void adjustCamera() {
         if (target == null) {
-            System.out.println("No target set for camera");
+            if (Logger.TRACE) {
+                LOG.trace("No target set for camera");
+            }
             return;
         }
 
@@ -0,0 +1,280 @@
+package com.group4.chipgame;
+
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.PlanningSnapshot;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Enemy;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+import com.group4.chipgame.telemetry.Telemetry;
+import javafx.geometry.Point2D;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plans enemy moves on a pool of worker threads, so that path searches
+ * use every core and the JavaFX thread never waits for them.
+ *
+ * <p>At the end of each tick a {@link PlanningSnapshot} is taken of the
+ * level and every enemy due to move on the next tick is handed to the
+ * pool with it. Finished plans are posted back and applied on the game
+ * thread when the enemy falls due. An enemy whose plan is not back yet
+ * carries on with its previous decision and takes its plan as soon as
+ * it arrives. Plans made from a cell the enemy has since left are
+ * thrown away and made again.
+ *
+ * <p>Conflicts are settled in the order enemies are applied: the first
+ * enemy to claim a cell in a tick gets it, and any other enemy planning
+ * to step there stays put and plans again from the next snapshot.
+ * Every move is still checked against the live level when it is made.
+ */
+public class EnemyPlanner implements AutoCloseable {
+    private static final String THREAD_NAME = "enemy-planner-";
+    private static final Logger LOG = Logger.get(LogCategory.GAME);
+
+    private final LevelRenderer levelRenderer;
+    private final ExecutorService pool;
+    private final Queue<Plan> finished = new ConcurrentLinkedQueue<>();
+    private final Set<Enemy> inFlight = identitySet();
+    private final Map<Enemy, Plan> ready = new IdentityHashMap<>();
+    private final Set<Enemy> waiting = identitySet();
+    private final Set<Long> claimed = new HashSet<>();
+    private int generation;
+    private long conflicts;
+
+    /**
+     * Starts a planner for the enemies of a level.
+     *
+     * @param levelRenderer The renderer of the level.
+     * @param threads       The number of planning threads.
+     */
+    public EnemyPlanner(final LevelRenderer levelRenderer,
+                        final int threads) {
+        this(levelRenderer, newPool(threads));
+    }
+
+    /**
+     * Starts a planner that plans on a given pool,
+     * which it shuts down when it is closed.
+     *
+     * @param levelRenderer The renderer of the level.
+     * @param pool          The pool to plan on.
+     */
+    EnemyPlanner(final LevelRenderer levelRenderer,
+                 final ExecutorService pool) {
+        this.levelRenderer = levelRenderer;
+        this.pool = pool;
+    }
+
+    /**
+     * Moves an enemy that is due to move, by its plan if one is back,
+     * or else by its previous decision until the plan arrives.
+     *
+     * @param enemy The enemy, which must be free to move.
+     */
+    public void due(final Enemy enemy) {
+        collect();
+        Plan plan = ready.remove(enemy);
+        if (plan != null) {
+            apply(plan);
+            return;
+        }
+        if (waiting.add(enemy)) {
+            Telemetry.recordDeferredDecision();
+        }
+        enemy.continuePreviousDecision(levelRenderer);
+    }
+
+    /**
+     * Applies the plans that have come back for enemies that were
+     * due before them. It is called once per tick, after every enemy
+     * has had its turn and before the tick's events are flushed.
+     *
+     * @param actors The actors of the level, in turn order.
+     */
+    public void applyReady(final List<Actor> actors) {
+        collect();
+        if (waiting.isEmpty() || ready.isEmpty()) {
+            return;
+        }
+        for (Actor actor : actors) {
+            if (actor instanceof Enemy enemy && waiting.contains(enemy)
+                    && isFree(enemy)) {
+                Plan plan = ready.remove(enemy);
+                if (plan != null) {
+                    apply(plan);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot at the end of a tick and starts planning for
+     * every enemy due on the next tick, or still waiting for a plan.
+     *
+     * @param tick   The tick that has just ended.
+     * @param actors The actors of the level.
+     */
+    public void planNext(final long tick, final List<Actor> actors) {
+        claimed.clear();
+        List<Enemy> planning = new ArrayList<>();
+        for (Actor actor : actors) {
+            if (actor instanceof Enemy enemy && enemy.plansOffThread()
+                    && !inFlight.contains(enemy)
+                    && !ready.containsKey(enemy)
+                    && (waiting.contains(enemy) || enemy.isDueAt(tick + 1))) {
+                planning.add(enemy);
+            }
+        }
+        if (planning.isEmpty()) {
+            return;
+        }
+        PlanningSnapshot snapshot =
+                PlanningSnapshot.capture(levelRenderer, tick);
+        int planGeneration = generation;
+        for (Enemy enemy : planning) {
+            Point2D position = enemy.getCurrentPosition();
+            int x = (int) position.getX();
+            int y = (int) position.getY();
+            inFlight.add(enemy);
+            pool.execute(() -> finished.add(new Plan(enemy, x, y,
+                    plan(enemy, snapshot, x, y), planGeneration)));
+        }
+    }
+
+    /**
+     * Drops every plan, such as when the level is
+     * taken back to an earlier state.
+     */
+    public void clear() {
+        generation++;
+        finished.clear();
+        inFlight.clear();
+        ready.clear();
+        waiting.clear();
+    }
+
+    /**
+     * Gets the number of planned moves given up because
+     * another enemy had already claimed the cell.
+     *
+     * @return The number of conflicts.
+     */
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Stops the planning threads. Plans still running are abandoned.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Runs an enemy's planning on a worker thread. A failure is logged
+     * and treated as finding nothing, so the enemy still gets a turn.
+     */
+    private static int[] plan(final Enemy enemy,
+                              final PlanningSnapshot snapshot,
+                              final int x,
+                              final int y) {
+        try {
+            return enemy.planMove(snapshot, x, y);
+        } catch (RuntimeException e) {
+            LOG.warn("Planning failed for {}: {}",
+                    enemy.getClass().getSimpleName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Moves the plans posted back by the workers to the ready
+     * set, dropping any made before the last {@link #clear()}.
+     */
+    private void collect() {
+        Plan plan;
+        while ((plan = finished.poll()) != null) {
+            if (plan.generation == generation) {
+                inFlight.remove(plan.enemy);
+                ready.put(plan.enemy, plan);
+            }
+        }
+    }
+
+    /**
+     * Carries out a plan, unless the enemy has left the cell it was
+     * made from or another enemy has claimed its target this tick.
+     * Either way the enemy waits for a fresh plan.
+     */
+    private void apply(final Plan plan) {
+        Enemy enemy = plan.enemy;
+        Point2D position = enemy.getCurrentPosition();
+        if ((int) position.getX() != plan.fromX
+                || (int) position.getY() != plan.fromY) {
+            waiting.add(enemy);
+            return;
+        }
+        if (plan.step != null && !claimed.add(
+                (long) plan.step[1] << Integer.SIZE | plan.step[0])) {
+            conflicts++;
+            waiting.add(enemy);
+            return;
+        }
+        waiting.remove(enemy);
+        enemy.applyPlannedMove(plan.step, levelRenderer);
+    }
+
+    private static ExecutorService newPool(final int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task,
+                    THREAD_NAME + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static boolean isFree(final Enemy enemy) {
+        return !enemy.isMoving() && !enemy.isHeld();
+    }
+
+    private static Set<Enemy> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A planned move and the cell it was planned from.
+     */
+    private static final class Plan {
+        private final Enemy enemy;
+        private final int fromX;
+        private final int fromY;
+        private final int[] step;
+        private final int generation;
+
+        Plan(final Enemy enemy,
+             final int fromX,
+             final int fromY,
+             final int[] step,
+             final int generation) {
+            this.enemy = enemy;
+            this.fromX = fromX;
+            this.fromY = fromY;
+            this.step = step;
+            this.generation = generation;
+        }
+    }
+}
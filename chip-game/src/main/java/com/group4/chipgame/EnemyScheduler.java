@@ -0,0 +1,143 @@
+package com.group4.chipgame;
+
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.entities.actors.Enemy;
+import com.group4.chipgame.telemetry.Telemetry;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Makes the move decisions of enemies within a time budget per frame.
+ * Cheap decisions are always made as soon as they are due. Costly ones,
+ * such as a frog's path search, are made in place only while the frame
+ * still has budget left; once it is spent, further costly decisions
+ * wait in a round-robin queue and are made first in later frames. An
+ * enemy waiting for its turn carries on with its previous decision, so
+ * it keeps moving rather than freezing.
+ *
+ * <p>At least one waiting decision is made every frame, so the queue
+ * always drains. With an unlimited budget nothing is ever deferred and
+ * decisions are made exactly when and in the order they fall due.
+ */
+public class EnemyScheduler {
+    /** The time enemy decisions may take in one frame by default. */
+    public static final long DEFAULT_BUDGET_NANOS = 4_000_000;
+    /** A budget under which no decision is ever deferred. */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final LevelRenderer levelRenderer;
+    private final Deque<Enemy> waiting = new ArrayDeque<>();
+    private final Set<Enemy> waitingSet =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+    private long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private long spentNanos;
+    private long deferred;
+
+    /**
+     * Creates a scheduler for the enemies of a level.
+     *
+     * @param levelRenderer The renderer of the level.
+     */
+    public EnemyScheduler(final LevelRenderer levelRenderer) {
+        this.levelRenderer = levelRenderer;
+    }
+
+    /**
+     * Sets the time enemy decisions may take in one frame.
+     *
+     * @param nanos The budget in nanoseconds, or {@link #UNLIMITED}.
+     */
+    public void setBudget(final long nanos) {
+        this.budgetNanos = nanos;
+    }
+
+    /**
+     * Starts the budget of a new frame.
+     */
+    public void beginTick() {
+        spentNanos = 0;
+    }
+
+    /**
+     * Makes the decision of an enemy that is due to move, or queues it
+     * if it is costly and the frame's budget is spent or other costly
+     * decisions are already waiting.
+     *
+     * @param enemy The enemy, which must be free to move.
+     */
+    public void schedule(final Enemy enemy) {
+        if (!enemy.hasCostlyDecisions()
+                || (waiting.isEmpty() && spentNanos < budgetNanos)) {
+            decide(enemy);
+            return;
+        }
+        if (waitingSet.add(enemy)) {
+            waiting.addLast(enemy);
+            deferred++;
+            Telemetry.recordDeferredDecision();
+        }
+        enemy.continuePreviousDecision(levelRenderer);
+    }
+
+    /**
+     * Makes waiting decisions, oldest first, until the frame's budget
+     * is spent. It is called once per frame, after every enemy has
+     * been scheduled. Enemies still finishing a move keep their place
+     * for a later frame, and those no longer in the level are dropped.
+     */
+    public void endTick() {
+        boolean decided = false;
+        int remaining = waiting.size();
+        while (remaining-- > 0 && (!decided || spentNanos < budgetNanos)) {
+            Enemy enemy = waiting.pollFirst();
+            if (enemy.getParent() == null) {
+                waitingSet.remove(enemy);
+            } else if (enemy.isMoving() || enemy.isHeld()) {
+                waiting.addLast(enemy);
+            } else {
+                waitingSet.remove(enemy);
+                decide(enemy);
+                decided = true;
+            }
+        }
+    }
+
+    /**
+     * Drops every waiting decision, such as when the level is
+     * taken back to an earlier state.
+     */
+    public void clear() {
+        waiting.clear();
+        waitingSet.clear();
+    }
+
+    /**
+     * Gets the number of decisions that have been deferred
+     * to a later frame since the scheduler was created.
+     *
+     * @return The number of deferred decisions.
+     */
+    public long getDeferredDecisions() {
+        return deferred;
+    }
+
+    /**
+     * Gets the number of decisions waiting for their turn.
+     *
+     * @return The number of waiting decisions.
+     */
+    public int getWaitingDecisions() {
+        return waiting.size();
+    }
+
+    private void decide(final Enemy enemy) {
+        long start = System.nanoTime();
+        enemy.makeMoveDecision(levelRenderer);
+        Telemetry.recordEnemy(enemy.getClass(), start);
+        spentNanos += System.nanoTime() - start;
+    }
+}
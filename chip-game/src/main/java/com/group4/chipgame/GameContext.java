@@ -0,0 +1,133 @@
+package com.group4.chipgame;
+
+import com.group4.chipgame.Level.PathSearchMode;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * The per-game settings that the entities of a game are drawn
+ * and behave with.
+ * Every running game owns one context, handed to its
+ * {@link com.group4.chipgame.Level.LevelRenderer} and from there to each
+ * tile, actor and collectible it shows, so several games can run side by
+ * side in one JVM, such as a split-screen or spectator view, without
+ * sharing any sizing.
+ */
+public class GameContext {
+    /** The tile size a game starts with, in pixels. */
+    public static final int DEFAULT_TILE_SIZE = 50;
+    /** How many times larger a tile is than the actors drawn on it. */
+    public static final double TILE_TO_ACTOR_RATIO = 1.5;
+
+    private final SimpleIntegerProperty tileSize;
+    private final SimpleIntegerProperty actorSize;
+    private PathSearchMode pathSearchMode = PathSearchMode.A_STAR;
+    private boolean animated = true;
+
+    /**
+     * Constructs a context with the default tile size.
+     */
+    public GameContext() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Constructs a context with the given tile size.
+     *
+     * @param tileSize The size of a tile in pixels.
+     */
+    public GameContext(final int tileSize) {
+        this.tileSize = new SimpleIntegerProperty(tileSize);
+        this.actorSize = new SimpleIntegerProperty(actorSizeFor(tileSize));
+    }
+
+    /**
+     * Gets the size of a tile in pixels.
+     *
+     * @return The tile size.
+     */
+    public int getTileSize() {
+        return tileSize.get();
+    }
+
+    /**
+     * Gets the size of an actor or collectible in pixels.
+     *
+     * @return The actor size.
+     */
+    public int getActorSize() {
+        return actorSize.get();
+    }
+
+    /**
+     * Gets the tile size as a property that entities can bind to.
+     *
+     * @return The read-only tile size property.
+     */
+    public ReadOnlyIntegerProperty tileSizeProperty() {
+        return tileSize;
+    }
+
+    /**
+     * Gets the actor size as a property that entities can bind to.
+     *
+     * @return The read-only actor size property.
+     */
+    public ReadOnlyIntegerProperty actorSizeProperty() {
+        return actorSize;
+    }
+
+    /**
+     * Resizes the game, scaling the actors along with the tiles.
+     *
+     * @param newTileSize The new size of a tile in pixels.
+     */
+    public void setTileSize(final int newTileSize) {
+        tileSize.set(newTileSize);
+        actorSize.set(actorSizeFor(newTileSize));
+    }
+
+    /**
+     * Gets the way the game's frogs search for the player.
+     *
+     * @return The path search mode.
+     */
+    public PathSearchMode getPathSearchMode() {
+        return pathSearchMode;
+    }
+
+    /**
+     * Sets the way the game's frogs search for the player.
+     * It takes full effect from the next level started.
+     *
+     * @param mode The path search mode.
+     */
+    public void setPathSearchMode(final PathSearchMode mode) {
+        this.pathSearchMode = mode;
+    }
+
+    /**
+     * Checks if the game's moves are animated.
+     *
+     * @return True if actors glide from cell to cell.
+     */
+    public boolean isAnimated() {
+        return animated;
+    }
+
+    /**
+     * Sets whether the game's moves are animated. A game that is not
+     * shown, such as one driven by a benchmark, turns animation off:
+     * every move then lands at once and every ice slide takes one step
+     * each time the game loop is handled.
+     *
+     * @param animated True to animate moves.
+     */
+    public void setAnimated(final boolean animated) {
+        this.animated = animated;
+    }
+
+    private static int actorSizeFor(final int tileSize) {
+        return (int) (tileSize / TILE_TO_ACTOR_RATIO);
+    }
+}
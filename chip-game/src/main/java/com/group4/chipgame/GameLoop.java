@@ -0,0 +1,480 @@
+package com.group4.chipgame;
+
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.UndoHistory;
+import com.group4.chipgame.Level.saving.AutosaveJournal;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Enemy;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+import com.group4.chipgame.replay.ReplayPlayer;
+import com.group4.chipgame.replay.ReplayRecorder;
+import com.group4.chipgame.spectator.SpectatorStream;
+import com.group4.chipgame.telemetry.Phase;
+import com.group4.chipgame.telemetry.Telemetry;
+import com.group4.chipgame.ui.TimerUI;
+import javafx.animation.AnimationTimer;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * This class handles the main game loop, including updating actors' movements,
+ * rendering the level, and managing the game timer.
+ * Once started, it is handled on every animation frame. A level that is not
+ * shown, such as one played by a command-line tool, is run by calling
+ * {@link #tick()} directly, without ever starting the loop or the toolkit.
+ * @author William Buckley
+ */
+public class GameLoop {
+    private static final Logger LOG = Logger.get(LogCategory.GAME);
+    private static final Logger SAVE_LOG = Logger.get(LogCategory.SAVE);
+    private List<Actor> actors;
+    private final Queue<Direction> moveQueue = new LinkedList<>();
+    private final LevelRenderer levelRenderer;
+    private final Camera camera;
+    private final TimerUI timerUI;
+    private final EnemyScheduler enemyScheduler;
+    private long ticksElapsed = 0;
+    private long lastTimerUpdate = 0;
+    private long lastFrame = 0;
+    private ReplayRecorder replayRecorder;
+    private ReplayPlayer replayPlayer;
+    private AutosaveJournal autosave;
+    private SpectatorStream spectatorStream;
+    private EnemyPlanner enemyPlanner;
+    private AnimationTimer frames;
+    private static final long NANOS_PER_SECOND = 1_000_000_000;
+
+    /**
+     * Constructs a GameLoop with the specified actors,
+     * level renderer, camera, and timer UI.
+     *
+     * @param actors        The list of actors in the game.
+     * @param levelRenderer The renderer for the game level.
+     * @param camera        The camera following the player,
+     *                      or null if the game is not shown.
+     * @param timerUI       The UI component for the game timer,
+     *                      or null if the loop is only ticked.
+     */
+    public GameLoop(final List<Actor> actors,
+                    final LevelRenderer levelRenderer,
+                    final Camera camera,
+                    final TimerUI timerUI) {
+        this.actors = actors;
+        this.levelRenderer = levelRenderer;
+        this.camera = camera;
+        this.timerUI = timerUI;
+        this.enemyScheduler = new EnemyScheduler(levelRenderer);
+    }
+
+    /**
+     * Returns the queue of directions for player movement.
+     *
+     * @return The queue of movement directions.
+     */
+    public Queue<Direction> getMoveQueue() {
+        return moveQueue;
+    }
+
+    /**
+     * Sets the time enemy decisions may take in one frame
+     * before costly ones are deferred to later frames.
+     *
+     * @param nanos The budget in nanoseconds,
+     *              or {@link EnemyScheduler#UNLIMITED}.
+     */
+    public void setEnemyBudget(final long nanos) {
+        enemyScheduler.setBudget(nanos);
+    }
+
+    /**
+     * Gets the scheduler that makes the enemies' move decisions.
+     *
+     * @return The enemy scheduler.
+     */
+    public EnemyScheduler getEnemyScheduler() {
+        return enemyScheduler;
+    }
+
+    /**
+     * Plans the moves of enemies that can plan off the JavaFX thread
+     * on the given planner's worker threads. The loop closes the
+     * planner when it stops. Planning depends on how fast the workers
+     * run, so it is never used while a replay is recorded or played.
+     *
+     * @param planner The planner to use, or null to make every
+     *                decision on the JavaFX thread.
+     */
+    public void setEnemyPlanner(final EnemyPlanner planner) {
+        closeEnemyPlanner();
+        if (replayRecorder != null || replayPlayer != null) {
+            if (planner != null) {
+                planner.close();
+            }
+            return;
+        }
+        this.enemyPlanner = planner;
+    }
+
+    /**
+     * Records every direction consumed by the loop into a replay.
+     * Enemy decisions are never deferred while recording,
+     * since a replay must play back the same way every time.
+     *
+     * @param recorder The recorder to write to, or null to stop recording.
+     */
+    public void setReplayRecorder(final ReplayRecorder recorder) {
+        this.replayRecorder = recorder;
+        if (recorder != null) {
+            enemyScheduler.setBudget(EnemyScheduler.UNLIMITED);
+            closeEnemyPlanner();
+        }
+    }
+
+    /**
+     * Drives the player from a replay instead of the move queue.
+     * Enemy decisions are never deferred while a replay plays.
+     *
+     * @param player The replay to play, or null to use the move queue.
+     */
+    public void setReplayPlayer(final ReplayPlayer player) {
+        this.replayPlayer = player;
+        if (player != null) {
+            enemyScheduler.setBudget(EnemyScheduler.UNLIMITED);
+            closeEnemyPlanner();
+        }
+    }
+
+    /**
+     * Journals the level into an autosave while the loop runs.
+     * The loop closes the journal when it stops.
+     *
+     * @param journal The autosave to write to, or null for none.
+     */
+    public void setAutosave(final AutosaveJournal journal) {
+        closeAutosave();
+        this.autosave = journal;
+        if (journal != null) {
+            journal.attach(levelRenderer.getEventBus());
+        }
+    }
+
+    /**
+     * Publishes the level to spectators while the loop runs.
+     * The loop closes the stream when it stops.
+     *
+     * @param stream The stream to publish to, or null for none.
+     */
+    public void setSpectatorStream(final SpectatorStream stream) {
+        closeSpectatorStream();
+        this.spectatorStream = stream;
+        if (stream != null) {
+            stream.attach(levelRenderer.getEventBus());
+        }
+    }
+
+    /**
+     * Starts handling the loop on every animation frame.
+     */
+    public void start() {
+        if (frames == null) {
+            frames = new AnimationTimer() {
+                @Override
+                public void handle(final long now) {
+                    GameLoop.this.handle(now);
+                }
+            };
+        }
+        frames.start();
+    }
+
+    /**
+     * Stops the game loop and closes any replay being recorded,
+     * any autosave being journaled, any spectator stream
+     * and any enemy planner.
+     */
+    public void stop() {
+        if (frames != null) {
+            frames.stop();
+        }
+        closeReplayRecorder();
+        closeAutosave();
+        closeSpectatorStream();
+        closeEnemyPlanner();
+    }
+
+    /**
+     * Takes the level back to before the player's last move.
+     * Queued moves are dropped and any replay being recorded is
+     * closed, since a replay has no way to express going back.
+     *
+     * @return true if a move was undone.
+     */
+    public boolean undo() {
+        UndoHistory history = levelRenderer.getUndoHistory();
+        if (history == null || !isPlayerAlive()) {
+            return false;
+        }
+        moveQueue.clear();
+        enemyScheduler.clear();
+        if (enemyPlanner != null) {
+            enemyPlanner.clear();
+        }
+        closeReplayRecorder();
+        if (!history.undo()) {
+            return false;
+        }
+        if (autosave != null) {
+            try {
+                autosave.checkpoint();
+            } catch (IOException e) {
+                SAVE_LOG.warn("Could not checkpoint the autosave: {}", e);
+            }
+        }
+        if (spectatorStream != null) {
+            spectatorStream.requestKeyframe();
+        }
+        return true;
+    }
+
+    private boolean isPlayerAlive() {
+        for (Actor actor : actors) {
+            if (actor instanceof Player player) {
+                return player.isAlive();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Closes the enemy planner, if any.
+     */
+    private void closeEnemyPlanner() {
+        if (enemyPlanner != null) {
+            enemyPlanner.close();
+            enemyPlanner = null;
+        }
+    }
+
+    /**
+     * Detaches and closes the autosave, if any.
+     */
+    private void closeAutosave() {
+        if (autosave == null) {
+            return;
+        }
+        autosave.detach(levelRenderer.getEventBus());
+        try {
+            autosave.close();
+        } catch (IOException e) {
+            SAVE_LOG.warn("Could not close the autosave: {}", e);
+        }
+        autosave = null;
+    }
+
+    /**
+     * Sends anything still pending to spectators, then
+     * detaches and closes the spectator stream, if any.
+     */
+    private void closeSpectatorStream() {
+        if (spectatorStream == null) {
+            return;
+        }
+        spectatorStream.detach(levelRenderer.getEventBus());
+        spectatorStream.endTick(ticksElapsed);
+        spectatorStream.close();
+        spectatorStream = null;
+    }
+
+    /**
+     * Closes the replay being recorded, if any.
+     */
+    private void closeReplayRecorder() {
+        if (replayRecorder != null) {
+            try {
+                replayRecorder.close();
+            } catch (IOException e) {
+                LOG.warn("Could not close the replay: {}", e);
+            }
+            replayRecorder = null;
+        }
+    }
+
+    /**
+     * The main game loop, called at each animation frame.
+     * Handles game logic updates, and counts down the
+     * game timer once a second has passed.
+     *
+     * @param now The timestamp of the current frame given in nanoseconds.
+     */
+    public void handle(final long now) {
+        if (lastFrame != 0) {
+            Telemetry.recordDuration(Phase.FRAME, now - lastFrame);
+        }
+        lastFrame = now;
+        if (lastTimerUpdate == 0) {
+            lastTimerUpdate = now;
+        }
+        boolean secondPassed = now - lastTimerUpdate >= NANOS_PER_SECOND;
+        if (secondPassed) {
+            lastTimerUpdate = now;
+        }
+        tick(secondPassed);
+    }
+
+    /**
+     * Runs one tick of the game without a frame clock: the slides, the
+     * player and the enemies move just as they do on a frame, but the
+     * game timer is left to the caller.
+     */
+    public void tick() {
+        tick(false);
+    }
+
+    /**
+     * Gets the number of ticks the loop has run.
+     *
+     * @return The tick count.
+     */
+    public long getTicksElapsed() {
+        return ticksElapsed;
+    }
+
+    private void tick(final boolean secondPassed) {
+        long tickStart = Telemetry.start();
+        ticksElapsed++;
+        levelRenderer.getEventBus().beginTick(ticksElapsed);
+        enemyScheduler.beginTick();
+        this.actors = new CopyOnWriteArrayList<>(actors);
+
+        if (secondPassed) {
+            long syncStart = Telemetry.start();
+            updateTimer();
+            Telemetry.record(Phase.RENDER_SYNC, syncStart);
+        }
+
+        if (!levelRenderer.getContext().isAnimated()) {
+            levelRenderer.getActiveSlides().advance();
+        }
+        for (Actor actor : actors) {
+            if (actor.shouldMove(ticksElapsed)) {
+                if (actor instanceof Player) {
+                    handlePlayerMovement((Player) actor);
+                } else if (actor instanceof Enemy enemy) {
+                    handleEnemyMovement(enemy);
+                }
+            }
+        }
+        enemyScheduler.endTick();
+        if (enemyPlanner != null) {
+            enemyPlanner.applyReady(actors);
+        }
+        long syncStart = Telemetry.start();
+        levelRenderer.getEventBus().flush();
+        if (enemyPlanner != null) {
+            enemyPlanner.planNext(ticksElapsed, actors);
+        }
+        if (spectatorStream != null) {
+            spectatorStream.endTick(ticksElapsed);
+            if (spectatorStream.hasFailed()) {
+                closeSpectatorStream();
+            }
+        }
+        Telemetry.record(Phase.RENDER_SYNC, syncStart);
+        Telemetry.record(Phase.TICK, tickStart);
+    }
+
+    /**
+     * Updates the game timer and stops the game if time runs out.
+     */
+    private void updateTimer() {
+        int remainingTime = timerUI.getTimeRemaining() - 1;
+        timerUI.updateTime(remainingTime);
+        if (autosave != null) {
+            autosave.recordTimer(remainingTime);
+        }
+        if (spectatorStream != null) {
+            spectatorStream.recordTimer(remainingTime);
+        }
+        if (remainingTime <= 0) {
+            this.stop();
+        }
+    }
+
+    /**
+     * Handles movement for player characters.
+     */
+    private void handlePlayerMovement(final Player player) {
+        if (player.isAlive()) {
+            if (camera != null) {
+                long syncStart = Telemetry.start();
+                camera.setTarget(player);
+                Telemetry.record(Phase.RENDER_SYNC, syncStart);
+            }
+            if (player.isAlive() && !player.isMoving()) {
+                long inputStart = Telemetry.start();
+                Direction direction = nextDirection();
+                if (direction != null) {
+                    recordDirection(direction);
+                }
+                Telemetry.record(Phase.INPUT, inputStart);
+                if (direction != null) {
+                    long moveStart = Telemetry.start();
+                    UndoHistory history = levelRenderer.getUndoHistory();
+                    if (history != null) {
+                        history.record();
+                    }
+                    double[] delta = Direction.toDelta(direction);
+                    player.move(delta[0], delta[1], levelRenderer);
+                    Telemetry.record(Phase.MOVEMENT, moveStart);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes the next player direction from the replay
+     * if one is playing, or from the move queue otherwise.
+     */
+    private Direction nextDirection() {
+        if (replayPlayer != null) {
+            return replayPlayer.next(ticksElapsed);
+        }
+        return moveQueue.poll();
+    }
+
+    /**
+     * Writes a consumed direction to the replay being recorded.
+     * Recording stops if the replay cannot be written.
+     */
+    private void recordDirection(final Direction direction) {
+        if (replayRecorder == null) {
+            return;
+        }
+        try {
+            replayRecorder.record(ticksElapsed, direction);
+        } catch (IOException e) {
+            LOG.warn("Replay recording stopped: {}", e);
+            replayRecorder = null;
+        }
+    }
+
+    /**
+     * Hands enemies that are due to move to the enemy planner if they
+     * plan off the JavaFX thread, or to the enemy scheduler otherwise.
+     * Enemies held by a trap are skipped until the trap releases them.
+     */
+    private void handleEnemyMovement(final Enemy enemy) {
+        if (enemy.isMoving() || enemy.isHeld()) {
+            return;
+        }
+        if (enemyPlanner != null && enemy.plansOffThread()) {
+            enemyPlanner.due(enemy);
+        } else {
+            enemyScheduler.schedule(enemy);
+        }
+    }
+}
@@ -88,13 +88,15 @@ public class KeybindHandler {
 
 
     /**
-     * Handles actions for special keys, such as opening settings, saving, or loading the game.
+     * Handles actions for special keys, such as opening settings,
+     * saving, loading the game or undoing a move.
      */
     private void handleSpecialKeys(final KeyCode key) {
         switch (key) {
             case ESCAPE -> mainClass.toggleSettingsMenu();
             case M -> saveQuickSave();
             case L -> loadQuickSave();
+            case Z -> gameLoop.undo();
             default -> {
             }
         }
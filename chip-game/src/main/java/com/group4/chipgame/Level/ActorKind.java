@@ -0,0 +1,43 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.Bug;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.Frog;
+import com.group4.chipgame.entities.actors.MovableBlock;
+import com.group4.chipgame.entities.actors.PinkBall;
+import com.group4.chipgame.entities.actors.Player;
+
+/**
+ * The kinds of actor a level can hold, as told apart by the state hash
+ * and by reports of what killed the player. Actors of the same kind
+ * are interchangeable, so the order of the kinds is part of every
+ * {@link ZobristTable} and must not change.
+ */
+public enum ActorKind {
+    PLAYER,
+    FROG,
+    BUG,
+    PINK_BALL,
+    BLOCK;
+
+    /**
+     * Gets the kind of an entity.
+     *
+     * @param entity The entity.
+     * @return The kind, or null if the entity is not an actor of a kind.
+     */
+    public static ActorKind of(final Entity entity) {
+        if (entity instanceof Player) {
+            return PLAYER;
+        } else if (entity instanceof MovableBlock) {
+            return BLOCK;
+        } else if (entity instanceof Frog) {
+            return FROG;
+        } else if (entity instanceof Bug) {
+            return BUG;
+        } else if (entity instanceof PinkBall) {
+            return PINK_BALL;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,346 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many simulated sessions of levels for balancing timers and
+ * enemy placement. Every session is an isolated {@link HeadlessGame}
+ * with its own copy of the level and its own seeds, driven by a
+ * {@link BotPolicy}; nothing is shared between sessions, so the
+ * sessions of every level run in parallel on a {@link ForkJoinPool}. The results are aggregated per
+ * level into the completion rate, the time taken to reach the exit and
+ * what killed the player.
+ *
+ * <p>Usage: {@code BatchSimulator [--sessions=N] [--seed=N]
+ * [--threads=N] [--policy=random|solution] LEVEL_OR_DIR...}
+ */
+public class BatchSimulator {
+    /** The number of game loop ticks in a second of the level timer. */
+    public static final int TICKS_PER_SECOND = 60;
+    /** The number of sessions run per level by default. */
+    public static final int DEFAULT_SESSIONS = 100;
+
+    private static final String LEVEL_EXTENSION = ".json";
+    private static final String SESSIONS_OPTION = "--sessions=";
+    private static final String SEED_OPTION = "--seed=";
+    private static final String POLICY_OPTION = "--policy=";
+    private static final String RANDOM_POLICY = "random";
+    private static final String SOLUTION_POLICY = "solution";
+    /** Mixed into each session seed to seed the bot's own generator. */
+    private static final long BOT_SEED_SALT = 0x9E3779B97F4A7C15L;
+    private static final String OUT_OF_TIME = "OUT_OF_TIME";
+    private static final String BY = "_BY_";
+
+    private final BotPolicy policy;
+    private final int sessions;
+    private final long seed;
+    private final int threads;
+
+    /**
+     * Constructs a batch simulator.
+     *
+     * @param policy   The policy playing every session.
+     * @param sessions The number of sessions to run per level.
+     * @param seed     The seed the session seeds are derived from.
+     * @param threads  The number of worker threads.
+     */
+    public BatchSimulator(final BotPolicy policy,
+                          final int sessions,
+                          final long seed,
+                          final int threads) {
+        this.policy = policy;
+        this.sessions = sessions;
+        this.seed = seed;
+        this.threads = threads;
+    }
+
+    /**
+     * Runs the sessions of every level.
+     *
+     * @param levelPaths The level files.
+     * @return One report per level, in the order given.
+     */
+    public List<LevelReport> run(final List<Path> levelPaths) {
+        return FileBatch.runAll(levelPaths, threads, this::runLevel);
+    }
+
+    /**
+     * Runs the sessions of a level in parallel.
+     */
+    private LevelReport runLevel(final Path levelPath) {
+        String name = levelPath.getFileName().toString();
+        try {
+            List<SessionResult> results = IntStream.range(0, sessions)
+                    .parallel()
+                    .mapToObj(i -> runSession(levelPath, seed + i))
+                    .collect(Collectors.toList());
+            return LevelReport.of(name, results);
+        } catch (UncheckedIOException e) {
+            return LevelReport.failed(name, e.getCause().toString());
+        } catch (RuntimeException e) {
+            return LevelReport.failed(name, e.toString());
+        }
+    }
+
+    /**
+     * Plays one session until it is won, lost or out of time.
+     */
+    private SessionResult runSession(final Path levelPath,
+                                     final long sessionSeed) {
+        HeadlessGame game;
+        try {
+            game = HeadlessGame.load(levelPath.toString(),
+                    PathSearchMode.A_STAR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        game.getLevel().getLevelRenderer().getRandom().reseed(sessionSeed);
+        long timeLimit =
+                (long) game.getLevel().getTimer() * TICKS_PER_SECOND;
+        BotPolicy.Bot bot = policy.start(game,
+                new LevelRandom(sessionSeed ^ BOT_SEED_SALT));
+        while (game.getStatus() == HeadlessGame.Status.RUNNING
+                && game.getTick() < timeLimit) {
+            if (game.isPlayerDue()) {
+                Direction input = bot.nextMove(game);
+                if (input != null) {
+                    game.queueMove(input);
+                }
+            }
+            game.tick();
+        }
+        return new SessionResult(game.getStatus(), game.getTick(),
+                lossOf(game));
+    }
+
+    /**
+     * Names what ended a session that was not won.
+     */
+    private static String lossOf(final HeadlessGame game) {
+        if (game.getStatus() == HeadlessGame.Status.RUNNING) {
+            return OUT_OF_TIME;
+        }
+        if (game.getStatus() != HeadlessGame.Status.LOST) {
+            return null;
+        }
+        HeadlessGame.LossCause cause = game.getLossCause();
+        if (cause == HeadlessGame.LossCause.CAUGHT
+                && game.getKiller() != null) {
+            return cause + BY + game.getKiller();
+        }
+        return String.valueOf(cause);
+    }
+
+    /**
+     * Simulates the levels named on the command line.
+     *
+     * @param args The options and level files or directories.
+     * @throws IOException If a level directory cannot be read.
+     */
+    public static void main(final String[] args) throws IOException {
+        int sessions = DEFAULT_SESSIONS;
+        long seed = 0;
+        int threads = FileBatch.defaultThreads();
+        BotPolicy policy = BotPolicy.randomWalk();
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(SESSIONS_OPTION)) {
+                sessions = Integer.parseInt(
+                        arg.substring(SESSIONS_OPTION.length()));
+            } else if (arg.startsWith(SEED_OPTION)) {
+                seed = Long.parseLong(arg.substring(SEED_OPTION.length()));
+            } else if (FileBatch.isThreadsOption(arg)) {
+                threads = FileBatch.parseThreads(arg);
+            } else if (arg.startsWith(POLICY_OPTION)) {
+                policy = parsePolicy(arg.substring(POLICY_OPTION.length()));
+            } else {
+                FileBatch.collect(Paths.get(arg), LEVEL_EXTENSION, files);
+            }
+        }
+
+        BatchSimulator simulator =
+                new BatchSimulator(policy, sessions, seed, threads);
+        for (LevelReport report : simulator.run(files)) {
+            if (report.getError() != null) {
+                System.out.printf("%s ERROR %s%n", report.getName(),
+                        report.getError());
+                continue;
+            }
+            System.out.printf("%s sessions=%d completion=%.1f%%"
+                            + " meanExit=%.1fs worstExit=%.1fs losses=%s%n",
+                    report.getName(), report.getSessions(),
+                    report.getCompletionRate() * 100,
+                    report.getMeanTicksToExit() / TICKS_PER_SECOND,
+                    (double) report.getWorstTicksToExit() / TICKS_PER_SECOND,
+                    report.getLosses());
+        }
+    }
+
+    private static BotPolicy parsePolicy(final String name) {
+        return switch (name) {
+            case RANDOM_POLICY -> BotPolicy.randomWalk();
+            case SOLUTION_POLICY -> BotPolicy.solutionFollower(
+                    LevelSolver.DEFAULT_MAX_STATES);
+            default -> throw new IllegalArgumentException(
+                    "Unknown policy: " + name);
+        };
+    }
+
+    /**
+     * The outcome of one session.
+     */
+    private static final class SessionResult {
+        private final HeadlessGame.Status status;
+        private final long ticks;
+        private final String loss;
+
+        SessionResult(final HeadlessGame.Status status,
+                      final long ticks,
+                      final String loss) {
+            this.status = status;
+            this.ticks = ticks;
+            this.loss = loss;
+        }
+    }
+
+    /**
+     * The aggregated results of every session of a level.
+     */
+    public static final class LevelReport {
+        private final String name;
+        private final int sessions;
+        private final int wins;
+        private final double meanTicksToExit;
+        private final long worstTicksToExit;
+        private final Map<String, Integer> losses;
+        private final String error;
+
+        private LevelReport(final String name,
+                            final int sessions,
+                            final int wins,
+                            final double meanTicksToExit,
+                            final long worstTicksToExit,
+                            final Map<String, Integer> losses,
+                            final String error) {
+            this.name = name;
+            this.sessions = sessions;
+            this.wins = wins;
+            this.meanTicksToExit = meanTicksToExit;
+            this.worstTicksToExit = worstTicksToExit;
+            this.losses = losses;
+            this.error = error;
+        }
+
+        private static LevelReport of(final String name,
+                                      final List<SessionResult> results) {
+            int wins = 0;
+            long totalTicks = 0;
+            long worstTicks = 0;
+            Map<String, Integer> losses = new TreeMap<>();
+            for (SessionResult result : results) {
+                if (result.status == HeadlessGame.Status.WON) {
+                    wins++;
+                    totalTicks += result.ticks;
+                    worstTicks = Math.max(worstTicks, result.ticks);
+                } else {
+                    losses.merge(result.loss, 1, Integer::sum);
+                }
+            }
+            double mean = wins == 0 ? 0 : (double) totalTicks / wins;
+            return new LevelReport(name, results.size(), wins, mean,
+                    worstTicks, Collections.unmodifiableMap(losses), null);
+        }
+
+        private static LevelReport failed(final String name,
+                                          final String error) {
+            return new LevelReport(name, 0, 0, 0, 0, Map.of(), error);
+        }
+
+        /**
+         * Gets the file name of the level.
+         *
+         * @return The level name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of sessions run.
+         *
+         * @return The session count.
+         */
+        public int getSessions() {
+            return sessions;
+        }
+
+        /**
+         * Gets the number of sessions that reached the exit.
+         *
+         * @return The win count.
+         */
+        public int getWins() {
+            return wins;
+        }
+
+        /**
+         * Gets the share of sessions that reached the exit.
+         *
+         * @return The completion rate, from 0 to 1.
+         */
+        public double getCompletionRate() {
+            return sessions == 0 ? 0 : (double) wins / sessions;
+        }
+
+        /**
+         * Gets the mean number of ticks winning sessions took.
+         *
+         * @return The mean time to the exit in ticks, or 0 with no wins.
+         */
+        public double getMeanTicksToExit() {
+            return meanTicksToExit;
+        }
+
+        /**
+         * Gets the most ticks a winning session took.
+         *
+         * @return The worst time to the exit in ticks, or 0 with no wins.
+         */
+        public long getWorstTicksToExit() {
+            return worstTicksToExit;
+        }
+
+        /**
+         * Gets how many sessions ended for each reason other than a win,
+         * such as {@code DROWNED}, {@code CAUGHT_BY_BUG} or
+         * {@code OUT_OF_TIME}.
+         *
+         * @return An unmodifiable map from loss reason to session count.
+         */
+        public Map<String, Integer> getLosses() {
+            return losses;
+        }
+
+        /**
+         * Gets the reason the level could not be simulated.
+         *
+         * @return The error, or null if the level ran.
+         */
+        public String getError() {
+            return error;
+        }
+    }
+}
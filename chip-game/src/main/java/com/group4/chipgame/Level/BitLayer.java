@@ -0,0 +1,245 @@
+package com.group4.chipgame.Level;
+
+import java.util.Arrays;
+
+/**
+ * A flat bitmap over the cells of a level, one bit per cell in
+ * row-major order. Every row starts on a fresh 64-bit word, so a
+ * neighbour test is a shift and a mask on one or two words, and a
+ * scan along a row tests 64 cells per step instead of one.
+ */
+public class BitLayer {
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_BITS = 1 << WORD_SHIFT;
+    private static final int BIT_MASK = WORD_BITS - 1;
+    private static final long ALL_ONES = -1L;
+
+    /** Neighbour mask bit for the cell to the right. */
+    public static final int RIGHT = 1;
+    /** Neighbour mask bit for the cell to the left. */
+    public static final int LEFT = 1 << 1;
+    /** Neighbour mask bit for the cell below. */
+    public static final int DOWN = 1 << 2;
+    /** Neighbour mask bit for the cell above. */
+    public static final int UP = 1 << 3;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    /**
+     * Constructs an empty layer.
+     *
+     * @param width  The width of the level.
+     * @param height The height of the level.
+     */
+    public BitLayer(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + BIT_MASK) >>> WORD_SHIFT;
+        this.words = new long[wordsPerRow * height];
+    }
+
+    private BitLayer(final BitLayer other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.wordsPerRow = other.wordsPerRow;
+        this.words = Arrays.copyOf(other.words, other.words.length);
+    }
+
+    /**
+     * Creates an independent copy of this layer.
+     *
+     * @return A copy of the layer.
+     */
+    public BitLayer copy() {
+        return new BitLayer(this);
+    }
+
+    /**
+     * Gets the width of the layer.
+     *
+     * @return The width in cells.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the layer.
+     *
+     * @return The height in cells.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Tests the bit of a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return true if the bit is set; false if it is clear
+     * or the cell is out of bounds.
+     */
+    public boolean get(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (words[y * wordsPerRow + (x >>> WORD_SHIFT)]
+                & (1L << x)) != 0;
+    }
+
+    /**
+     * Sets or clears the bit of a cell.
+     *
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     * @param value The new value of the bit.
+     */
+    public void set(final int x, final int y, final boolean value) {
+        int index = y * wordsPerRow + (x >>> WORD_SHIFT);
+        if (value) {
+            words[index] |= 1L << x;
+        } else {
+            words[index] &= ~(1L << x);
+        }
+    }
+
+    /**
+     * Gets which of the four neighbours of a cell have their bit set.
+     * The left and right neighbours are read from the cell's own word
+     * with a shift, or from the word beside it at a word boundary, and
+     * the cells above and below from the same bit of the rows around.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return A combination of RIGHT, LEFT, DOWN and UP,
+     * or 0 if the cell is out of bounds.
+     */
+    public int neighbours(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return 0;
+        }
+        int wordIndex = x >>> WORD_SHIFT;
+        int bit = x & BIT_MASK;
+        int index = y * wordsPerRow + wordIndex;
+        long word = words[index];
+        long right;
+        if (bit < BIT_MASK) {
+            right = word >>> (bit + 1);
+        } else {
+            right = wordIndex + 1 < wordsPerRow ? words[index + 1] : 0;
+        }
+        long left;
+        if (bit > 0) {
+            left = word >>> (bit - 1);
+        } else {
+            left = wordIndex > 0 ? words[index - 1] >>> BIT_MASK : 0;
+        }
+        long down = y + 1 < height ? words[index + wordsPerRow] >>> bit : 0;
+        long up = y > 0 ? words[index - wordsPerRow] >>> bit : 0;
+        return (int) (right & 1)
+                | (int) (left & 1) << 1
+                | (int) (down & 1) << 2
+                | (int) (up & 1) << 3;
+    }
+
+    /**
+     * Gets the neighbour mask bit for a step to a neighbouring cell.
+     *
+     * @param dx The step along the x-axis.
+     * @param dy The step along the y-axis.
+     * @return RIGHT, LEFT, DOWN or UP, or 0 if the step
+     * does not lead to one of the four neighbours.
+     */
+    public static int maskFor(final int dx, final int dy) {
+        if (dy == 0) {
+            return dx == 1 ? RIGHT : dx == -1 ? LEFT : 0;
+        }
+        if (dx == 0) {
+            return dy == 1 ? DOWN : dy == -1 ? UP : 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the first set bit in a row at or after a column.
+     *
+     * @param x The column to start from.
+     * @param y The row to scan.
+     * @return The column of the set bit, or -1 if there is none.
+     */
+    public int nextSetInRow(final int x, final int y) {
+        return scanRow(x, y, false);
+    }
+
+    /**
+     * Finds the first clear bit in a row at or after a column.
+     *
+     * @param x The column to start from.
+     * @param y The row to scan.
+     * @return The column of the clear bit, or the width of
+     * the layer if the rest of the row is set.
+     */
+    public int nextClearInRow(final int x, final int y) {
+        int found = scanRow(x, y, true);
+        return found < 0 ? width : found;
+    }
+
+    /**
+     * Finds the last clear bit in a row at or before a column.
+     *
+     * @param x The column to start from.
+     * @param y The row to scan.
+     * @return The column of the clear bit, or -1 if the row
+     * is set all the way to its start.
+     */
+    public int previousClearInRow(final int x, final int y) {
+        if (x < 0) {
+            return -1;
+        }
+        int base = y * wordsPerRow;
+        int wordIndex = Math.min(x, width - 1) >>> WORD_SHIFT;
+        long word = ~words[base + wordIndex]
+                & (ALL_ONES >>> (BIT_MASK - (Math.min(x, width - 1)
+                & BIT_MASK)));
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << WORD_SHIFT) + BIT_MASK
+                        - Long.numberOfLeadingZeros(word);
+            }
+            if (--wordIndex < 0) {
+                return -1;
+            }
+            word = ~words[base + wordIndex];
+        }
+    }
+
+    /**
+     * Scans a row forwards a word at a time for a set
+     * bit, or for a clear bit if inverted.
+     */
+    private int scanRow(final int x, final int y, final boolean invert) {
+        if (x >= width) {
+            return -1;
+        }
+        int start = Math.max(x, 0);
+        int base = y * wordsPerRow;
+        int wordIndex = start >>> WORD_SHIFT;
+        long flip = invert ? ALL_ONES : 0;
+        long word = (words[base + wordIndex] ^ flip) & (ALL_ONES << start);
+        while (true) {
+            if (word != 0) {
+                int found = (wordIndex << WORD_SHIFT)
+                        + Long.numberOfTrailingZeros(word);
+                return found < width ? found : -1;
+            }
+            if (++wordIndex == wordsPerRow) {
+                return -1;
+            }
+            word = words[base + wordIndex] ^ flip;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides the player's moves in simulated sessions.
+ * A policy is shared by every session of a batch and may be used from
+ * several threads at once, so per-session state belongs in the
+ * {@link Bot} it starts for each session.
+ */
+@FunctionalInterface
+public interface BotPolicy {
+    /** The directions a bot may move in. */
+    Direction[] MOVES = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    /**
+     * Starts a bot for one session.
+     *
+     * @param game   The game of the session, before its first tick,
+     *               which the bot must not change.
+     * @param random A generator for the bot's own choices, separate
+     *               from the one driving the enemies.
+     * @return The bot for the session.
+     */
+    Bot start(HeadlessGame game, LevelRandom random);
+
+    /**
+     * The player of a single session.
+     */
+    @FunctionalInterface
+    interface Bot {
+        /**
+         * Picks the player's next move. It is called
+         * whenever the player is free to move.
+         *
+         * @param game The game, which the bot must not change.
+         * @return The move, or null to stand still.
+         */
+        Direction nextMove(HeadlessGame game);
+    }
+
+    /**
+     * A policy that moves in a random direction every time.
+     *
+     * @return The random walk policy.
+     */
+    static BotPolicy randomWalk() {
+        return (game, random) ->
+                current -> MOVES[random.nextInt(MOVES.length)];
+    }
+
+    /**
+     * A policy that plays the shortest enemy-free solution found by
+     * {@link LevelSolver}, then stands still. Measured against the real
+     * enemies it shows how often a player who knows the puzzle but
+     * ignores the enemies gets caught, and how long the level takes.
+     * Solutions are worked out once per level file.
+     *
+     * @param maxStates The state limit of each search.
+     * @return The solution-following policy.
+     */
+    static BotPolicy solutionFollower(final int maxStates) {
+        LevelSolver solver = new LevelSolver(maxStates);
+        Map<String, List<Direction>> solutions = new ConcurrentHashMap<>();
+        return (game, random) -> {
+            List<Direction> moves = solutions.computeIfAbsent(
+                    game.getLevel().getLevelPath(), path -> {
+                        try {
+                            List<Direction> found =
+                                    solver.solve(path).getMoves();
+                            return found == null ? List.of() : found;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            int[] next = {0};
+            return current -> next[0] < moves.size()
+                    ? moves.get(next[0]++) : null;
+        };
+    }
+}
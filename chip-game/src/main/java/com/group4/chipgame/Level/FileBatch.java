@@ -0,0 +1,109 @@
+package com.group4.chipgame.Level;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * What the command-line tools that work through many files share:
+ * gathering the files named on the command line, the
+ * {@code --threads=N} option and running a task on every file
+ * on a {@link ForkJoinPool} of that size.
+ */
+public final class FileBatch {
+    /** The option setting the number of worker threads. */
+    public static final String THREADS_OPTION = "--threads=";
+
+    private FileBatch() {
+    }
+
+    /**
+     * Gets the number of worker threads used without the option.
+     *
+     * @return The number of processors.
+     */
+    public static int defaultThreads() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Checks if an argument is the thread count option.
+     *
+     * @param arg The argument.
+     * @return True if it starts with {@link #THREADS_OPTION}.
+     */
+    public static boolean isThreadsOption(final String arg) {
+        return arg.startsWith(THREADS_OPTION);
+    }
+
+    /**
+     * Gets the thread count given by the option.
+     *
+     * @param arg The argument, which must be the thread count option.
+     * @return The number of worker threads.
+     */
+    public static int parseThreads(final String arg) {
+        return Integer.parseInt(arg.substring(THREADS_OPTION.length()));
+    }
+
+    /**
+     * Adds a file, or every file with the given extension
+     * in a directory tree, in name order.
+     *
+     * @param path      The file or directory named on the command line.
+     * @param extension The extension of the files to find in a directory.
+     * @param files     The list to add the files to.
+     * @throws IOException If the directory cannot be read.
+     */
+    public static void collect(final Path path,
+                               final String extension,
+                               final List<Path> files) throws IOException {
+        if (!Files.isDirectory(path)) {
+            files.add(path);
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            walk.filter(file -> file.getFileName().toString()
+                            .endsWith(extension))
+                    .sorted()
+                    .forEach(files::add);
+        }
+    }
+
+    /**
+     * Runs a task on every item on a pool of the given size.
+     * Parallel streams the task opens run on the same pool.
+     *
+     * @param items   The items, such as files.
+     * @param threads The number of worker threads.
+     * @param task    The task to run on each item.
+     * @param <T>     The type of item.
+     * @param <R>     The type of result.
+     * @return The results, in the order of the items.
+     */
+    public static <T, R> List<R> runAll(
+            final List<T> items,
+            final int threads,
+            final Function<? super T, ? extends R> task) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> items.parallelStream()
+                            .<R>map(task)
+                            .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
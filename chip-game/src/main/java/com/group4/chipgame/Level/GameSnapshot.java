@@ -0,0 +1,175 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.collectibles.Key;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable picture of a running level at the start of a player move.
+ * Snapshots are built by {@link UndoHistory} and share as much as they
+ * can with the snapshot before them: the tiles are a
+ * {@link PersistentGrid}, and the actor and collectible lists are
+ * reused as they are when nothing in them has changed.
+ */
+public final class GameSnapshot {
+    private final PersistentGrid tiles;
+    private final List<ActorRecord> actors;
+    private final List<Collectible> collectibles;
+    private final int chips;
+    private final Set<Key.KeyColor> keys;
+    private final long hash;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param tiles        The tile types of the level.
+     * @param actors       The actors in the level and their cells.
+     * @param collectibles The collectibles still lying in the level.
+     * @param chips        The player's chip count.
+     * @param keys         The colors of the keys the player holds.
+     * @param hash         The Zobrist hash of the level.
+     */
+    GameSnapshot(final PersistentGrid tiles,
+                 final List<ActorRecord> actors,
+                 final List<Collectible> collectibles,
+                 final int chips,
+                 final Set<Key.KeyColor> keys,
+                 final long hash) {
+        this.tiles = tiles;
+        this.actors = actors;
+        this.collectibles = collectibles;
+        this.chips = chips;
+        this.keys = keys.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(keys));
+        this.hash = hash;
+    }
+
+    /**
+     * Gets the tile types of the level.
+     *
+     * @return The tile grid.
+     */
+    public PersistentGrid getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Gets the actors of the level and the cells they stood on.
+     *
+     * @return An unmodifiable list of actor records.
+     */
+    public List<ActorRecord> getActors() {
+        return actors;
+    }
+
+    /**
+     * Gets the collectibles that had not been picked up.
+     *
+     * @return An unmodifiable list of collectibles.
+     */
+    public List<Collectible> getCollectibles() {
+        return collectibles;
+    }
+
+    /**
+     * Gets the player's chip count.
+     *
+     * @return The number of chips held.
+     */
+    public int getChips() {
+        return chips;
+    }
+
+    /**
+     * Gets the colors of the keys the player held.
+     *
+     * @return An unmodifiable set of key colors.
+     */
+    public Set<Key.KeyColor> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Gets the Zobrist hash of the level, used to tell
+     * whether two snapshots show the same state.
+     *
+     * @return The 64-bit state hash.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * The cell an actor stood on when a snapshot was taken, and the
+     * direction it was heading in. Records refer to the live actor,
+     * which is moved back to the recorded cell and turned back to the
+     * recorded heading when the snapshot is restored.
+     */
+    public static final class ActorRecord {
+        private final Actor actor;
+        private final int x;
+        private final int y;
+        private final Direction heading;
+
+        /**
+         * Constructs a record of an actor's cell and heading.
+         *
+         * @param actor   The actor.
+         * @param x       The column the actor stood on.
+         * @param y       The row the actor stood on.
+         * @param heading The actor's heading, or null if it keeps none.
+         */
+        ActorRecord(final Actor actor,
+                    final int x,
+                    final int y,
+                    final Direction heading) {
+            this.actor = actor;
+            this.x = x;
+            this.y = y;
+            this.heading = heading;
+        }
+
+        /**
+         * Gets the recorded actor.
+         *
+         * @return The actor.
+         */
+        public Actor getActor() {
+            return actor;
+        }
+
+        /**
+         * Gets the column the actor stood on.
+         *
+         * @return The column.
+         */
+        public int getX() {
+            return x;
+        }
+
+        /**
+         * Gets the row the actor stood on.
+         *
+         * @return The row.
+         */
+        public int getY() {
+            return y;
+        }
+
+        /**
+         * Gets the direction the actor was heading in.
+         *
+         * @return The heading, or null if the actor keeps none.
+         */
+        public Direction getHeading() {
+            return heading;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.EnemyScheduler;
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.GameLoop;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Enemy;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.MovableBlock;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.events.GameEvent;
+import com.group4.chipgame.events.LevelCompletedEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * A level played without being shown, for the command-line tools.
+ * The level is built by {@link LevelLoader} in a game whose moves are
+ * not animated and is run by its own {@link GameLoop}, ticked as fast
+ * as the caller likes, so every rule of the game applies exactly as it
+ * does on screen. The game watches for the level being completed and
+ * for the player being killed, and by what.
+ *
+ * <p>A game belongs to one thread, but separate games share nothing
+ * and can be played side by side.
+ */
+public final class HeadlessGame {
+    private final LevelData level;
+    private final LevelRenderer renderer;
+    private final GameLoop loop;
+    private final Player player;
+    private Status status = Status.RUNNING;
+    private LossCause lossCause;
+    private ActorKind killer;
+
+    /**
+     * How a game stands.
+     */
+    public enum Status {
+        RUNNING,
+        WON,
+        LOST
+    }
+
+    /**
+     * What killed the player in a lost game.
+     */
+    public enum LossCause {
+        /** The player walked into water. */
+        DROWNED,
+        /** A block was pushed or slid onto the player. */
+        CRUSHED,
+        /** An enemy moved onto the player. */
+        CAUGHT
+    }
+
+    private HeadlessGame(final LevelData level) {
+        this.level = level;
+        this.renderer = level.getLevelRenderer();
+        this.player = findPlayer();
+        this.loop = new GameLoop(level.getActors(), renderer, null, null);
+        loop.setEnemyBudget(EnemyScheduler.UNLIMITED);
+        renderer.getGamePane().addEventHandler(
+                LevelCompletedEvent.LEVEL_COMPLETED,
+                event -> status = Status.WON);
+        renderer.getEventBus().subscribe(GameEvent.Type.KILL,
+                this::onKill);
+    }
+
+    /**
+     * Loads a level into a new game whose frogs search for
+     * the player in the given mode.
+     *
+     * @param levelPath The path to the level file.
+     * @param mode      The path search mode of the game.
+     * @return The game, before its first tick.
+     * @throws IOException If the level cannot be read.
+     */
+    public static HeadlessGame load(final String levelPath,
+                                    final PathSearchMode mode)
+            throws IOException {
+        GameContext context = new GameContext();
+        context.setAnimated(false);
+        context.setPathSearchMode(mode);
+        return new HeadlessGame(
+                new LevelLoader().loadLevel(levelPath, context));
+    }
+
+    /**
+     * Takes every enemy out of the level and off its cell,
+     * leaving the puzzle. It must be called before the first tick.
+     */
+    public void removeEnemies() {
+        for (Actor actor : new ArrayList<>(level.getActors())) {
+            if (actor instanceof Enemy) {
+                int x = (int) actor.getPosition().getX();
+                int y = (int) actor.getPosition().getY();
+                if (renderer.getOccupant(x, y) == actor) {
+                    renderer.setOccupant(x, y, null);
+                }
+                renderer.remove(actor);
+            }
+        }
+    }
+
+    /**
+     * Runs one tick of the game loop.
+     */
+    public void tick() {
+        loop.tick();
+    }
+
+    /**
+     * Queues a move for the player, taken the next time the
+     * player is due to move.
+     *
+     * @param direction The direction to move in.
+     */
+    public void queueMove(final Direction direction) {
+        loop.getMoveQueue().add(direction);
+    }
+
+    /**
+     * Checks if the player will take a queued move on the next tick:
+     * the game is running, the player's move is due and the player
+     * is neither moving nor sliding.
+     *
+     * @return True if the player is free to move on the next tick.
+     */
+    public boolean isPlayerDue() {
+        return status == Status.RUNNING && player != null
+                && player.isAlive() && !player.isMoving()
+                && !renderer.getActiveSlides().isSliding(player)
+                && player.isDueAt(loop.getTicksElapsed() + 1);
+    }
+
+    /**
+     * Checks if nothing is sliding.
+     *
+     * @return True if no slide is under way.
+     */
+    public boolean isSettled() {
+        return renderer.getActiveSlides().isEmpty();
+    }
+
+    /**
+     * Takes a snapshot of the level to come back to later.
+     *
+     * @return The snapshot.
+     */
+    public GameSnapshot snapshot() {
+        return renderer.getUndoHistory().snapshot();
+    }
+
+    /**
+     * Brings the level back to a snapshot taken from this game
+     * and sets the game running again.
+     *
+     * @param snapshot The snapshot.
+     */
+    public void restore(final GameSnapshot snapshot) {
+        renderer.getUndoHistory().restore(snapshot);
+        status = Status.RUNNING;
+        lossCause = null;
+        killer = null;
+    }
+
+    /**
+     * Gets the level being played.
+     *
+     * @return The level.
+     */
+    public LevelData getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the game loop, so a replay can be played through it.
+     *
+     * @return The game loop.
+     */
+    public GameLoop getLoop() {
+        return loop;
+    }
+
+    /**
+     * Gets the player.
+     *
+     * @return The player, or null if the level has none.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the number of ticks run.
+     *
+     * @return The tick count.
+     */
+    public long getTick() {
+        return loop.getTicksElapsed();
+    }
+
+    /**
+     * Gets how the game stands.
+     *
+     * @return The status.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets what killed the player.
+     *
+     * @return The cause, or null if the game is not lost.
+     */
+    public LossCause getLossCause() {
+        return lossCause;
+    }
+
+    /**
+     * Gets the kind of enemy that caught the player.
+     *
+     * @return The kind, or null if the player was not caught.
+     */
+    public ActorKind getKiller() {
+        return killer;
+    }
+
+    /**
+     * Gets the Zobrist hash of the level as it is now.
+     *
+     * @return The state hash.
+     */
+    public long hash() {
+        return level.getStateHash().get();
+    }
+
+    private void onKill(final GameEvent event) {
+        if (event.getActor() != player) {
+            return;
+        }
+        status = Status.LOST;
+        Entity by = event.getSubject();
+        if (by == null) {
+            lossCause = LossCause.DROWNED;
+        } else if (by instanceof MovableBlock) {
+            lossCause = LossCause.CRUSHED;
+        } else {
+            lossCause = LossCause.CAUGHT;
+            killer = ActorKind.of(by);
+        }
+    }
+
+    private Player findPlayer() {
+        for (Actor actor : level.getActors()) {
+            if (actor instanceof Player found) {
+                return found;
+            }
+        }
+        return null;
+    }
+}
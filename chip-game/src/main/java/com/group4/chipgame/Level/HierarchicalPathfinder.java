@@ -0,0 +1,635 @@
+package com.group4.chipgame.Level;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A hierarchical path-finder (HPA*) for the enemies of large levels.
+ * The grid is divided into square clusters. Wherever two neighbouring
+ * clusters share a run of cells that are open on both sides, one or two
+ * entrances are placed on it, and the walking distance between every
+ * pair of entrances inside a cluster is worked out in advance. A query
+ * then searches only the small graph of entrances, linking in the start
+ * and the target with a search of their own clusters, and refines the
+ * first leg of the route into the step to take.
+ *
+ * <p>The graph follows the fixed terrain only. Other actors are seen
+ * just in the start's cluster, where the first leg is refined, so an
+ * actor in the way nearby is walked around while distant ones are
+ * dealt with once they are reached. When the terrain of a cell changes
+ * only the clusters touching it are rebuilt, the next time a path is
+ * asked for.
+ */
+public class HierarchicalPathfinder {
+    /** The width and height of a cluster, in cells. */
+    public static final int CLUSTER_SIZE = 16;
+    /**
+     * The fewest cells a level must have for the hierarchy to pay off.
+     * Smaller levels are searched cell by cell.
+     */
+    public static final int MIN_CELLS = 4 * CLUSTER_SIZE * CLUSTER_SIZE;
+    /** The shortest run of open border cells given two entrances. */
+    static final int SPLIT_RUN = 6;
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int NO_PARENT = -1;
+    private static final int DIRECT = -2;
+    private static final int[][] NEIGHBOURS = {
+        {1, 0}, {-1, 0}, {0, 1}, {0, -1}
+    };
+
+    private final int width;
+    private final int height;
+    private final int clustersWide;
+    private final CellTest terrain;
+    private final BitLayer open;
+    private final Cluster[] clusters;
+    private final List<Cluster> dirty = new ArrayList<>();
+    /** The index of each entrance cell among its cluster's entrances. */
+    private final int[] nodeIndex;
+    private final int[] cost;
+    private final int[] parent;
+    private final int[] reached;
+    private final int[] closed;
+    private final Local startSearch = new Local();
+    private final Local goalSearch = new Local();
+    private final Local buildSearch = new Local();
+    private long[] heap = new long[CLUSTER_SIZE * CLUSTER_SIZE];
+    private int[] heapNodes = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private int heapSize;
+    private int polledCost;
+    private int generation;
+
+    /**
+     * A test of a single cell.
+     */
+    @FunctionalInterface
+    public interface CellTest {
+        /**
+         * Tests a cell, which is always within the level.
+         *
+         * @param x The x-coordinate of the cell.
+         * @param y The y-coordinate of the cell.
+         * @return The result of the test.
+         */
+        boolean test(int x, int y);
+    }
+
+    /**
+     * Builds the entrance graph of a level.
+     *
+     * @param width   The width of the level.
+     * @param height  The height of the level.
+     * @param terrain Whether the terrain of a cell can be walked on,
+     *                ignoring any actors; it is read again for a cell
+     *                each time {@link #update} is called for it.
+     */
+    public HierarchicalPathfinder(final int width,
+                                  final int height,
+                                  final CellTest terrain) {
+        this.width = width;
+        this.height = height;
+        this.terrain = terrain;
+        this.clustersWide = (width + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        int clustersHigh = (height + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        open = new BitLayer(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                open.set(x, y, terrain.test(x, y));
+            }
+        }
+        int cells = width * height;
+        nodeIndex = new int[cells];
+        Arrays.fill(nodeIndex, NO_PARENT);
+        cost = new int[cells];
+        parent = new int[cells];
+        reached = new int[cells];
+        closed = new int[cells];
+        clusters = new Cluster[clustersWide * clustersHigh];
+        for (int cy = 0; cy < clustersHigh; cy++) {
+            for (int cx = 0; cx < clustersWide; cx++) {
+                Cluster cluster = new Cluster(cx * CLUSTER_SIZE,
+                        cy * CLUSTER_SIZE,
+                        Math.min(width, (cx + 1) * CLUSTER_SIZE),
+                        Math.min(height, (cy + 1) * CLUSTER_SIZE));
+                clusters[cy * clustersWide + cx] = cluster;
+                markDirty(cluster);
+            }
+        }
+    }
+
+    /**
+     * Checks if a level is large enough to be searched hierarchically.
+     *
+     * @param width  The width of the level.
+     * @param height The height of the level.
+     * @return true if the level has at least {@link #MIN_CELLS} cells.
+     */
+    public static boolean suits(final int width, final int height) {
+        return (long) width * height >= MIN_CELLS;
+    }
+
+    /**
+     * Reads the terrain of a cell again after its tile has been
+     * replaced. The clusters it borders are rebuilt lazily.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     */
+    public void update(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        boolean now = terrain.test(x, y);
+        if (open.get(x, y) == now) {
+            return;
+        }
+        open.set(x, y, now);
+        int cx = x / CLUSTER_SIZE;
+        int cy = y / CLUSTER_SIZE;
+        markDirty(clusterAt(x, y));
+        if (x % CLUSTER_SIZE == 0 && cx > 0) {
+            markDirty(clusterAt(x - 1, y));
+        }
+        if (x % CLUSTER_SIZE == CLUSTER_SIZE - 1 && x + 1 < width) {
+            markDirty(clusterAt(x + 1, y));
+        }
+        if (y % CLUSTER_SIZE == 0 && cy > 0) {
+            markDirty(clusterAt(x, y - 1));
+        }
+        if (y % CLUSTER_SIZE == CLUSTER_SIZE - 1 && y + 1 < height) {
+            markDirty(clusterAt(x, y + 1));
+        }
+    }
+
+    /**
+     * Finds the first step of a shortest route between two cells.
+     *
+     * @param fromX     The x-coordinate of the actor.
+     * @param fromY     The y-coordinate of the actor.
+     * @param toX       The x-coordinate of the target.
+     * @param toY       The y-coordinate of the target.
+     * @param enterable Whether the actor could step onto a cell right
+     *                  now, taking other actors into account. It is
+     *                  asked only about cells in the actor's cluster.
+     * @return The cell to step onto as {x, y}, or null if the target
+     * cannot be reached.
+     */
+    public int[] firstStep(final int fromX,
+                           final int fromY,
+                           final int toX,
+                           final int toY,
+                           final CellTest enterable) {
+        if (!isInBounds(fromX, fromY) || !isInBounds(toX, toY)
+                || !open.get(toX, toY)
+                || (fromX == toX && fromY == toY)) {
+            return null;
+        }
+        refresh();
+        Cluster startCluster = clusterAt(fromX, fromY);
+        Cluster goalCluster = clusterAt(toX, toY);
+        int start = fromY * width + fromX;
+        int goal = toY * width + toX;
+        startSearch.run(startCluster, fromX, fromY, enterable);
+        goalSearch.run(goalCluster, toX, toY, open::get);
+
+        generation++;
+        heapSize = 0;
+        int best = UNREACHED;
+        int bestVia = NO_PARENT;
+        if (startCluster == goalCluster) {
+            int direct = startSearch.distanceTo(toX, toY);
+            if (direct != UNREACHED) {
+                best = direct;
+                bestVia = DIRECT;
+            }
+        }
+        for (int node : startCluster.nodes) {
+            int distance = startSearch.distanceTo(node % width,
+                    node / width);
+            if (distance != UNREACHED) {
+                relax(node, distance, NO_PARENT, goal);
+            }
+        }
+        while (heapSize > 0) {
+            int node = poll();
+            if (polledCost >= best) {
+                break;
+            }
+            if (closed[node] == generation) {
+                continue;
+            }
+            closed[node] = generation;
+            int g = cost[node];
+            Cluster cluster = clusterAt(node % width, node / width);
+            if (cluster == goalCluster) {
+                int rest = goalSearch.distanceTo(node % width,
+                        node / width);
+                if (rest != UNREACHED && g + rest < best) {
+                    best = g + rest;
+                    bestVia = node;
+                }
+            }
+            int i = nodeIndex[node];
+            int[] edges = cluster.edges[i];
+            int[] weights = cluster.weights[i];
+            for (int e = 0; e < edges.length; e++) {
+                relax(cluster.nodes[edges[e]], g + weights[e], node, goal);
+            }
+            for (int partner : cluster.partners[i]) {
+                relax(partner, g + 1, node, goal);
+            }
+        }
+        if (bestVia == NO_PARENT) {
+            return null;
+        }
+        return stepTowards(waypoint(bestVia, start, goal), start);
+    }
+
+    /**
+     * Finds the first cell of the abstract route other than the start:
+     * the target itself if it was reached within the start's cluster.
+     */
+    private int waypoint(final int via, final int start, final int goal) {
+        if (via == DIRECT) {
+            return goal;
+        }
+        int node = via;
+        int next = goal;
+        while (parent[node] != NO_PARENT) {
+            next = node;
+            node = parent[node];
+        }
+        return node == start ? next : node;
+    }
+
+    /**
+     * Turns a waypoint into the step to take: a neighbouring cell is
+     * stepped onto directly, and anything else in the start's cluster
+     * is reached along the refined route.
+     */
+    private int[] stepTowards(final int waypoint, final int start) {
+        int x = waypoint % width;
+        int y = waypoint / width;
+        if (Math.abs(x - start % width) + Math.abs(y - start / width) == 1) {
+            return new int[]{x, y};
+        }
+        return startSearch.firstStepTo(x, y);
+    }
+
+    private void relax(final int node,
+                       final int g,
+                       final int from,
+                       final int goal) {
+        if (closed[node] == generation
+                || (reached[node] == generation && cost[node] <= g)) {
+            return;
+        }
+        reached[node] = generation;
+        cost[node] = g;
+        parent[node] = from;
+        int h = Math.abs(node % width - goal % width)
+                + Math.abs(node / width - goal / width);
+        push(node, g + h, g);
+    }
+
+    /**
+     * Adds a node to the open set. Entries are ordered by estimated
+     * total cost and then by the larger cost so far, which favours
+     * the most advanced of equally promising nodes.
+     */
+    private void push(final int node, final int f, final int g) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+            heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+        }
+        long key = ((long) f << Integer.SIZE) | (Integer.MAX_VALUE - g);
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) / 2;
+            if (heap[up] <= key) {
+                break;
+            }
+            heap[i] = heap[up];
+            heapNodes[i] = heapNodes[up];
+            i = up;
+        }
+        heap[i] = key;
+        heapNodes[i] = node;
+    }
+
+    /**
+     * Removes the first node of the open set, leaving its
+     * estimated total cost in {@link #polledCost}.
+     */
+    private int poll() {
+        int top = heapNodes[0];
+        polledCost = (int) (heap[0] >>> Integer.SIZE);
+        long lastKey = heap[--heapSize];
+        int lastNode = heapNodes[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (lastKey <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            heapNodes[i] = heapNodes[child];
+            i = child;
+        }
+        heap[i] = lastKey;
+        heapNodes[i] = lastNode;
+        return top;
+    }
+
+    private Cluster clusterAt(final int x, final int y) {
+        return clusters[(y / CLUSTER_SIZE) * clustersWide
+                + x / CLUSTER_SIZE];
+    }
+
+    private void markDirty(final Cluster cluster) {
+        if (!cluster.dirty) {
+            cluster.dirty = true;
+            dirty.add(cluster);
+        }
+    }
+
+    /**
+     * Rebuilds every cluster whose terrain has changed.
+     */
+    private void refresh() {
+        for (Cluster cluster : dirty) {
+            rebuild(cluster);
+            cluster.dirty = false;
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Places the entrances of a cluster on its four borders and
+     * works out the distances between them inside the cluster.
+     */
+    private void rebuild(final Cluster cluster) {
+        for (int node : cluster.nodes) {
+            nodeIndex[node] = NO_PARENT;
+        }
+        List<Integer> nodes = new ArrayList<>();
+        List<List<Integer>> partners = new ArrayList<>();
+        int lastX = cluster.maxX - 1;
+        int lastY = cluster.maxY - 1;
+        if (cluster.minX > 0) {
+            addEntrances(nodes, partners, cluster.minX, cluster.minY,
+                    0, 1, cluster.maxY - cluster.minY, -1, 0);
+        }
+        if (cluster.maxX < width) {
+            addEntrances(nodes, partners, lastX, cluster.minY,
+                    0, 1, cluster.maxY - cluster.minY, 1, 0);
+        }
+        if (cluster.minY > 0) {
+            addEntrances(nodes, partners, cluster.minX, cluster.minY,
+                    1, 0, cluster.maxX - cluster.minX, 0, -1);
+        }
+        if (cluster.maxY < height) {
+            addEntrances(nodes, partners, cluster.minX, lastY,
+                    1, 0, cluster.maxX - cluster.minX, 0, 1);
+        }
+
+        int n = nodes.size();
+        cluster.nodes = new int[n];
+        cluster.partners = new int[n][];
+        for (int i = 0; i < n; i++) {
+            cluster.nodes[i] = nodes.get(i);
+            cluster.partners[i] = partners.get(i).stream()
+                    .mapToInt(Integer::intValue).toArray();
+            nodeIndex[cluster.nodes[i]] = i;
+        }
+        int[] distances = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            int node = cluster.nodes[i];
+            buildSearch.run(cluster, node % width, node / width, open::get);
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = buildSearch.distanceTo(
+                        cluster.nodes[j] % width, cluster.nodes[j] / width);
+            }
+        }
+        linkEntrances(cluster, distances);
+    }
+
+    /**
+     * Turns the distances between the entrances of a cluster into
+     * edges, leaving out any edge whose route passes through another
+     * entrance on the way. Each edge left out is replaced by two
+     * strictly shorter ones, so no route gets longer, and on a cluster
+     * crossed by many short border runs most edges go.
+     */
+    private static void linkEntrances(final Cluster cluster,
+                                      final int[] distances) {
+        int n = cluster.nodes.length;
+        cluster.edges = new int[n][];
+        cluster.weights = new int[n][];
+        int[] edges = new int[n];
+        int[] weights = new int[n];
+        for (int i = 0; i < n; i++) {
+            int count = 0;
+            for (int j = 0; j < n; j++) {
+                int d = distances[i * n + j];
+                if (j != i && d != UNREACHED
+                        && !passesThrough(distances, n, i, j)) {
+                    edges[count] = j;
+                    weights[count] = d;
+                    count++;
+                }
+            }
+            cluster.edges[i] = Arrays.copyOf(edges, count);
+            cluster.weights[i] = Arrays.copyOf(weights, count);
+        }
+    }
+
+    private static boolean passesThrough(final int[] distances,
+                                         final int n,
+                                         final int i,
+                                         final int j) {
+        int d = distances[i * n + j];
+        for (int k = 0; k < n; k++) {
+            int first = distances[i * n + k];
+            int second = distances[k * n + j];
+            if (k != i && k != j && first != UNREACHED
+                    && second != UNREACHED && first + second == d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scans one border of a cluster for runs of cells open on both
+     * sides and places entrances on them: one in the middle of a short
+     * run, or one at each end of a long one. The placement depends only
+     * on the two rows of cells, so the neighbouring cluster places its
+     * matching entrances opposite.
+     */
+    private void addEntrances(final List<Integer> nodes,
+                              final List<List<Integer>> partners,
+                              final int x0,
+                              final int y0,
+                              final int stepX,
+                              final int stepY,
+                              final int length,
+                              final int outX,
+                              final int outY) {
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            int x = x0 + i * stepX;
+            int y = y0 + i * stepY;
+            boolean both = i < length && open.get(x, y)
+                    && open.get(x + outX, y + outY);
+            if (both && runStart < 0) {
+                runStart = i;
+            } else if (!both && runStart >= 0) {
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 >= SPLIT_RUN) {
+                    addEntrance(nodes, partners, x0 + runStart * stepX,
+                            y0 + runStart * stepY, outX, outY);
+                    addEntrance(nodes, partners, x0 + runEnd * stepX,
+                            y0 + runEnd * stepY, outX, outY);
+                } else {
+                    int middle = (runStart + runEnd) / 2;
+                    addEntrance(nodes, partners, x0 + middle * stepX,
+                            y0 + middle * stepY, outX, outY);
+                }
+                runStart = -1;
+            }
+        }
+    }
+
+    private void addEntrance(final List<Integer> nodes,
+                             final List<List<Integer>> partners,
+                             final int x,
+                             final int y,
+                             final int outX,
+                             final int outY) {
+        int node = y * width + x;
+        int partner = (y + outY) * width + x + outX;
+        int i = nodes.indexOf(node);
+        if (i < 0) {
+            nodes.add(node);
+            partners.add(new ArrayList<>());
+            i = nodes.size() - 1;
+        }
+        partners.get(i).add(partner);
+    }
+
+    private boolean isInBounds(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * A square block of the level and the entrances on its borders.
+     */
+    private static final class Cluster {
+        private final int minX;
+        private final int minY;
+        private final int maxX;
+        private final int maxY;
+        private int[] nodes = new int[0];
+        private int[][] partners = new int[0][];
+        /** The entrances each entrance has an edge to, by index. */
+        private int[][] edges = new int[0][];
+        /** The lengths of those edges. */
+        private int[][] weights = new int[0][];
+        private boolean dirty;
+
+        Cluster(final int minX,
+                final int minY,
+                final int maxX,
+                final int maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+    }
+
+    /**
+     * A breadth-first search confined to one cluster.
+     */
+    private static final class Local {
+        private final int[] distance = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+        private final int[] from = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+        private final int[] queue = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+        private Cluster cluster;
+        private int originX;
+        private int originY;
+
+        /**
+         * Searches outwards from a cell, which need not itself be
+         * enterable, over the cells of its cluster that are.
+         */
+        void run(final Cluster target,
+                 final int x,
+                 final int y,
+                 final CellTest enterable) {
+            cluster = target;
+            originX = x;
+            originY = y;
+            Arrays.fill(distance, UNREACHED);
+            int origin = local(x, y);
+            distance[origin] = 0;
+            from[origin] = NO_PARENT;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = origin;
+            while (head < tail) {
+                int cell = queue[head++];
+                int cx = cluster.minX + cell % CLUSTER_SIZE;
+                int cy = cluster.minY + cell / CLUSTER_SIZE;
+                for (int[] offset : NEIGHBOURS) {
+                    int nx = cx + offset[0];
+                    int ny = cy + offset[1];
+                    if (nx < cluster.minX || ny < cluster.minY
+                            || nx >= cluster.maxX || ny >= cluster.maxY) {
+                        continue;
+                    }
+                    int next = local(nx, ny);
+                    if (distance[next] == UNREACHED
+                            && enterable.test(nx, ny)) {
+                        distance[next] = distance[cell] + 1;
+                        from[next] = cell;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        int distanceTo(final int x, final int y) {
+            return distance[local(x, y)];
+        }
+
+        /**
+         * Gets the first step from the origin towards a reached cell.
+         */
+        int[] firstStepTo(final int x, final int y) {
+            int cell = local(x, y);
+            if (distance[cell] == UNREACHED
+                    || (x == originX && y == originY)) {
+                return null;
+            }
+            while (from[cell] != local(originX, originY)) {
+                cell = from[cell];
+            }
+            return new int[]{cluster.minX + cell % CLUSTER_SIZE,
+                    cluster.minY + cell / CLUSTER_SIZE};
+        }
+
+        private int local(final int x, final int y) {
+            return (y - cluster.minY) * CLUSTER_SIZE + x - cluster.minX;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.tiles.Ice;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Works out whole slides across ice in one go.
+ * Given the cell an actor slides from and the direction it entered in,
+ * the resolver follows the ice through corner turns and bounces
+ * until the actor leaves the ice, hits a door or water, gets stuck,
+ * or comes back round to a state it has already been in.
+ *
+ * <p>Paths only depend on the tiles, so they are cached per cell,
+ * direction and movement class, and a cached path is dropped only
+ * when one of the tiles it read is replaced. For every cell the resolver
+ * keeps the keys of the cached paths that read it, so replacing a tile
+ * only looks at those. The resolver keeps its own copy of the level's
+ * tile types and is used from the JavaFX thread.
+ */
+public class IceSlideResolver {
+    private static final int DIRECTIONS = Direction.values().length;
+    private static final int CLASSES = MovementClass.values().length;
+
+    private final TileGrid grid;
+    private final Map<Integer, SlidePath> cache = new HashMap<>();
+    /**
+     * The keys of the cached paths that read each cell. The lists are
+     * never changed in place, so copies of the resolver can share them.
+     */
+    private final int[][] dependents;
+
+    /**
+     * Constructs a resolver over a grid of tile types.
+     *
+     * @param grid The tile types of the level, owned by the resolver.
+     */
+    public IceSlideResolver(final TileGrid grid) {
+        this.grid = grid;
+        this.dependents = new int[grid.getWidth() * grid.getHeight()][];
+    }
+
+    /**
+     * Creates an independent copy of this resolver,
+     * sharing the cached paths, which never change.
+     *
+     * @return A copy of the resolver.
+     */
+    public IceSlideResolver copy() {
+        IceSlideResolver copy = new IceSlideResolver(grid.copy());
+        copy.cache.putAll(cache);
+        System.arraycopy(dependents, 0, copy.dependents, 0,
+                dependents.length);
+        return copy;
+    }
+
+    /**
+     * Gets the slide of an actor from an ice cell,
+     * reusing the cached path where there is one.
+     *
+     * @param x             The column the slide starts from.
+     * @param y             The row the slide starts from.
+     * @param incoming      The direction the actor entered the cell in.
+     * @param movementClass The movement class of the sliding actor.
+     * @return The path of the slide.
+     */
+    public SlidePath resolve(final int x,
+                             final int y,
+                             final Direction incoming,
+                             final MovementClass movementClass) {
+        if (!grid.isInBounds(x, y)) {
+            return trace(x, y, incoming, movementClass);
+        }
+        int key = (grid.index(x, y) * DIRECTIONS + incoming.ordinal())
+                * CLASSES + movementClass.ordinal();
+        SlidePath path = cache.get(key);
+        if (path == null) {
+            path = trace(x, y, incoming, movementClass);
+            cache.put(key, path);
+            path.forEachCell(cell -> addDependent(cell, key));
+        }
+        return path;
+    }
+
+    /**
+     * Records that a tile was replaced, dropping
+     * every cached path that read it.
+     *
+     * @param x    The column of the tile.
+     * @param y    The row of the tile.
+     * @param type The type of the new tile.
+     */
+    public void update(final int x, final int y, final TileType type) {
+        if (!grid.isInBounds(x, y)) {
+            return;
+        }
+        grid.setType(x, y, type);
+        int index = grid.index(x, y);
+        int[] keys = dependents[index];
+        dependents[index] = null;
+        if (keys == null) {
+            return;
+        }
+        for (int key : keys) {
+            SlidePath path = cache.get(key);
+            if (path != null && path.dependsOn(index)) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Lists a cached path under a cell it read. Paths dropped since may
+     * still be listed under other cells they read; they are skipped
+     * when those cells change.
+     */
+    private void addDependent(final int cell, final int key) {
+        int[] keys = dependents[cell];
+        if (keys == null) {
+            dependents[cell] = new int[]{key};
+            return;
+        }
+        for (int listed : keys) {
+            if (listed == key) {
+                return;
+            }
+        }
+        int[] grown = Arrays.copyOf(keys, keys.length + 1);
+        grown[keys.length] = key;
+        dependents[cell] = grown;
+    }
+
+    /**
+     * Follows a slide through the grid without using the cache.
+     */
+    private SlidePath trace(final int startX,
+                            final int startY,
+                            final Direction incoming,
+                            final MovementClass movementClass) {
+        List<int[]> moves = new ArrayList<>();
+        List<Direction> directions = new ArrayList<>();
+        BitSet cells = new BitSet();
+        BitSet seen = new BitSet();
+        int x = startX;
+        int y = startY;
+        Direction in = incoming;
+        while (true) {
+            TileType here = read(x, y, cells);
+            if (!here.isIce()) {
+                return build(moves, directions, SlidePath.Outcome.STOP,
+                        x, y, x, y, in, cells);
+            }
+            int state = grid.index(x, y) * DIRECTIONS + in.ordinal();
+            if (seen.get(state)) {
+                return build(moves, directions, SlidePath.Outcome.LOOP,
+                        x, y, x, y, in, cells);
+            }
+            seen.set(state);
+
+            Direction.Corner corner = here.getCorner();
+            Direction direction = Ice.slideDirection(corner, in);
+            int nx = x + (int) direction.getDx();
+            int ny = y + (int) direction.getDy();
+            TileType target = read(nx, ny, cells);
+            if (target == TileType.EMPTY) {
+                return build(moves, directions, SlidePath.Outcome.BLOCKED,
+                        x, y, nx, ny, direction, cells);
+            }
+            if (movementClass == MovementClass.PLAYER && target.isDoor()) {
+                return build(moves, directions, SlidePath.Outcome.DOOR,
+                        x, y, nx, ny, direction, cells);
+            }
+            if (movementClass == MovementClass.BLOCK
+                    && target == TileType.WATER) {
+                return build(moves, directions, SlidePath.Outcome.WATER,
+                        x, y, nx, ny, direction, cells);
+            }
+            if (target.isWalkable()) {
+                moves.add(new int[]{nx, ny, 0});
+                directions.add(direction);
+                x = nx;
+                y = ny;
+                in = direction;
+                continue;
+            }
+
+            Direction reverse = Ice.slideDirection(
+                    corner, direction.getOpposite());
+            int rx = x + (int) reverse.getDx();
+            int ry = y + (int) reverse.getDy();
+            if (!read(rx, ry, cells).isWalkable()) {
+                return build(moves, directions, SlidePath.Outcome.BLOCKED,
+                        x, y, nx, ny, direction, cells);
+            }
+            moves.add(new int[]{rx, ry, 1});
+            directions.add(reverse);
+            x = rx;
+            y = ry;
+            in = reverse;
+        }
+    }
+
+    /**
+     * Reads the type of a cell, recording that the path depends on it.
+     */
+    private TileType read(final int x, final int y, final BitSet cells) {
+        if (grid.isInBounds(x, y)) {
+            cells.set(grid.index(x, y));
+        }
+        return grid.getType(x, y);
+    }
+
+    private static SlidePath build(final List<int[]> moves,
+                                   final List<Direction> directions,
+                                   final SlidePath.Outcome outcome,
+                                   final int stopX,
+                                   final int stopY,
+                                   final int endX,
+                                   final int endY,
+                                   final Direction endDirection,
+                                   final BitSet cells) {
+        int[] xs = new int[moves.size()];
+        int[] ys = new int[moves.size()];
+        boolean[] bounces = new boolean[moves.size()];
+        for (int i = 0; i < xs.length; i++) {
+            int[] move = moves.get(i);
+            xs[i] = move[0];
+            ys[i] = move[1];
+            bounces[i] = move[2] != 0;
+        }
+        return new SlidePath(xs, ys, directions.toArray(new Direction[0]),
+                bounces, outcome, stopX, stopY, endX, endY, endDirection,
+                cells);
+    }
+}
@@ -0,0 +1,222 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+
+import java.util.Arrays;
+
+/**
+ * A table of where every slide across a level's ice ends up.
+ * For each ice cell and each direction an actor can enter it in,
+ * the table holds the resolved {@link SlidePath}, so the cell the slide
+ * stops in and the number of moves it takes are a single array lookup.
+ * The table is filled when the level is loaded. For every cell it also
+ * keeps the entries whose slides read that cell's tile, so when a tile
+ * is replaced only those entries are worked out again.
+ *
+ * <p>The table ignores occupants. Solvers and AI lookahead use it to
+ * weigh up ice moves without stepping through them. Copies share their
+ * entries until one of them is updated, so copying a state that holds
+ * a table is cheap.
+ */
+public class IceSlideTable {
+    /** The exit of a cell that is not ice. */
+    public static final int NO_EXIT = -1;
+
+    private static final Direction[] ALL_DIRECTIONS = Direction.values();
+    private static final int DIRECTIONS = ALL_DIRECTIONS.length;
+    private static final Direction[] SLIDES = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    private final MovementClass movementClass;
+    private final int width;
+    private final int height;
+    private IceSlideResolver resolver;
+    private SlidePath[] entries;
+    /**
+     * The keys of the entries that read each cell. The lists are never
+     * changed in place, so copies of the table can share them.
+     */
+    private int[][] dependents;
+    private boolean shared;
+
+    private IceSlideTable(final IceSlideResolver resolver,
+                          final MovementClass movementClass,
+                          final int width,
+                          final int height,
+                          final SlidePath[] entries,
+                          final int[][] dependents,
+                          final boolean shared) {
+        this.resolver = resolver;
+        this.movementClass = movementClass;
+        this.width = width;
+        this.height = height;
+        this.entries = entries;
+        this.dependents = dependents;
+        this.shared = shared;
+    }
+
+    /**
+     * Builds the table of a level for a movement class.
+     *
+     * @param grid          The tile grid of the level, which is copied.
+     * @param movementClass The movement class of the sliding actor.
+     * @return The filled table.
+     */
+    public static IceSlideTable build(final TileGrid grid,
+                                      final MovementClass movementClass) {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        IceSlideTable table = new IceSlideTable(
+                new IceSlideResolver(grid.copy()), movementClass,
+                width, height, new SlidePath[width * height * DIRECTIONS],
+                new int[width * height][], false);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (grid.getType(x, y).isIce()) {
+                    table.fill(x, y);
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Creates an independent copy of this table.
+     *
+     * @return A copy of the table.
+     */
+    public IceSlideTable copy() {
+        shared = true;
+        return new IceSlideTable(resolver, movementClass,
+                width, height, entries, dependents, true);
+    }
+
+    /**
+     * Gets the slide of an actor entering an ice cell.
+     *
+     * @param x         The column of the ice.
+     * @param y         The row of the ice.
+     * @param direction The direction the actor enters the cell in.
+     * @return The slide path, or null if the cell is not ice.
+     */
+    public SlidePath get(final int x, final int y, final Direction direction) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return null;
+        }
+        return entries[key(x, y, direction)];
+    }
+
+    /**
+     * Gets the cell a slide from an ice cell stops in.
+     *
+     * @param x         The column of the ice.
+     * @param y         The row of the ice.
+     * @param direction The direction the actor enters the cell in.
+     * @return The row-major index of the cell the slide stops in,
+     *         or {@link #NO_EXIT} if the cell is not ice.
+     */
+    public int getExit(final int x, final int y, final Direction direction) {
+        SlidePath path = get(x, y, direction);
+        return path == null
+                ? NO_EXIT
+                : path.getStopY() * width + path.getStopX();
+    }
+
+    /**
+     * Gets the number of moves a slide from an ice cell takes.
+     *
+     * @param x         The column of the ice.
+     * @param y         The row of the ice.
+     * @param direction The direction the actor enters the cell in.
+     * @return The number of moves, or 0 if the cell is not ice.
+     */
+    public int getLength(final int x, final int y, final Direction direction) {
+        SlidePath path = get(x, y, direction);
+        return path == null ? 0 : path.length();
+    }
+
+    /**
+     * Records that a tile was replaced, working out again
+     * every entry whose slide read the tile.
+     *
+     * @param x    The column of the tile.
+     * @param y    The row of the tile.
+     * @param type The type of the new tile.
+     */
+    public void update(final int x, final int y, final TileType type) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        if (shared) {
+            resolver = resolver.copy();
+            entries = Arrays.copyOf(entries, entries.length);
+            dependents = Arrays.copyOf(dependents, dependents.length);
+            shared = false;
+        }
+        resolver.update(x, y, type);
+        int index = y * width + x;
+        int[] keys = dependents[index];
+        dependents[index] = null;
+        if (keys != null) {
+            for (int key : keys) {
+                SlidePath path = entries[key];
+                if (path != null && path.dependsOn(index)) {
+                    int cell = key / DIRECTIONS;
+                    set(key, resolver.resolve(cell % width, cell / width,
+                            ALL_DIRECTIONS[key % DIRECTIONS],
+                            movementClass));
+                }
+            }
+        }
+        if (type.isIce()) {
+            fill(x, y);
+        } else {
+            for (Direction direction : SLIDES) {
+                entries[key(x, y, direction)] = null;
+            }
+        }
+    }
+
+    /**
+     * Resolves the slides entering an ice cell in every direction.
+     */
+    private void fill(final int x, final int y) {
+        for (Direction direction : SLIDES) {
+            set(key(x, y, direction),
+                    resolver.resolve(x, y, direction, movementClass));
+        }
+    }
+
+    /**
+     * Stores an entry and lists it under every cell its slide read.
+     * Entries replaced since may still be listed under cells they no
+     * longer read; they are skipped when those cells change.
+     */
+    private void set(final int key, final SlidePath path) {
+        entries[key] = path;
+        path.forEachCell(cell -> addDependent(cell, key));
+    }
+
+    private void addDependent(final int cell, final int key) {
+        int[] keys = dependents[cell];
+        if (keys == null) {
+            dependents[cell] = new int[]{key};
+            return;
+        }
+        for (int listed : keys) {
+            if (listed == key) {
+                return;
+            }
+        }
+        int[] grown = Arrays.copyOf(keys, keys.length + 1);
+        grown[keys.length] = key;
+        dependents[cell] = grown;
+    }
+
+    private int key(final int x, final int y, final Direction direction) {
+        return (y * width + x) * DIRECTIONS + direction.ordinal();
+    }
+}
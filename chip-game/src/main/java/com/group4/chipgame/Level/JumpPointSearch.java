@@ -0,0 +1,327 @@
+package com.group4.chipgame.Level;
+
+import java.util.Arrays;
+
+/**
+ * Jump point search (JPS) for enemies on a 4-connected grid where every
+ * step costs the same. Plain A* on such a grid expands every one of the
+ * many equally short orderings of the same moves. JPS instead runs
+ * straight on from each node, without storing the cells it passes,
+ * until it reaches the target or a jump point: a cell beside the end of
+ * an obstacle, where turning may be the only shortest way on. Only
+ * jump points enter the open set, so open areas cost a few expansions
+ * rather than one for each cell, while the path found is still a
+ * shortest one.
+ *
+ * <p>Horizontal runs stop at cells where a cell above or below opens up
+ * behind an obstacle. Vertical runs also stop there, and wherever a
+ * horizontal run from the cell would find a jump point.
+ *
+ * <p>The cells that can be walked on are given with each query, so
+ * actors in the way are respected exactly. One search can be reused for
+ * any number of queries on a level but is not safe to share between
+ * threads.
+ */
+public class JumpPointSearch {
+    private static final int NO_PARENT = -1;
+    private static final int NOT_FOUND = -1;
+    private static final int INITIAL_HEAP = 64;
+    private static final int[][] DIRECTIONS = {
+        {1, 0}, {-1, 0}, {0, 1}, {0, -1}
+    };
+
+    private final int width;
+    private final int height;
+    private final int[] cost;
+    private final int[] parent;
+    private final int[] reached;
+    private final int[] closed;
+    private long[] heap = new long[INITIAL_HEAP];
+    private int[] heapNodes = new int[INITIAL_HEAP];
+    private int heapSize;
+    private int generation;
+    private int expanded;
+    private int goalX;
+    private int goalY;
+    private int startX;
+    private int startY;
+    private HierarchicalPathfinder.CellTest enterable;
+
+    /**
+     * Creates a search for a level of the given size.
+     *
+     * @param width  The width of the level.
+     * @param height The height of the level.
+     */
+    public JumpPointSearch(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        int cells = width * height;
+        cost = new int[cells];
+        parent = new int[cells];
+        reached = new int[cells];
+        closed = new int[cells];
+    }
+
+    /**
+     * Checks if the search was made for a level of the given size.
+     *
+     * @param levelWidth  The width of the level.
+     * @param levelHeight The height of the level.
+     * @return True if the sizes match.
+     */
+    public boolean fits(final int levelWidth, final int levelHeight) {
+        return width == levelWidth && height == levelHeight;
+    }
+
+    /**
+     * Finds the first step of a shortest path between two cells.
+     *
+     * @param fromX     The x-coordinate of the start.
+     * @param fromY     The y-coordinate of the start.
+     * @param toX       The x-coordinate of the target.
+     * @param toY       The y-coordinate of the target.
+     * @param enterable Whether a cell can be stepped onto right now.
+     *                  It is never asked about the start, which always
+     *                  counts as open, since the one searching is there.
+     * @return The coordinates of the cell to step to, or null if the
+     *         start is the target or the target cannot be reached.
+     */
+    public int[] firstStep(final int fromX,
+                           final int fromY,
+                           final int toX,
+                           final int toY,
+                           final HierarchicalPathfinder.CellTest enterable) {
+        expanded = 0;
+        if (!inside(fromX, fromY) || !inside(toX, toY)
+                || (fromX == toX && fromY == toY)) {
+            return null;
+        }
+        this.enterable = enterable;
+        this.startX = fromX;
+        this.startY = fromY;
+        this.goalX = toX;
+        this.goalY = toY;
+        try {
+            int goal = search(fromY * width + fromX);
+            return goal == NOT_FOUND ? null : stepTowards(goal);
+        } finally {
+            this.enterable = null;
+        }
+    }
+
+    /**
+     * Gets the number of nodes the last query took from its open set,
+     * which is the measure of how much searching it did.
+     *
+     * @return The number of nodes expanded.
+     */
+    public int getExpanded() {
+        return expanded;
+    }
+
+    /**
+     * Runs the search from a cell.
+     *
+     * @return The target cell, or {@link #NOT_FOUND}.
+     */
+    private int search(final int start) {
+        generation++;
+        heapSize = 0;
+        int goal = goalY * width + goalX;
+        cost[start] = 0;
+        parent[start] = NO_PARENT;
+        reached[start] = generation;
+        push(start, estimate(start), 0);
+        while (heapSize > 0) {
+            int node = poll();
+            if (closed[node] == generation) {
+                continue;
+            }
+            closed[node] = generation;
+            expanded++;
+            if (node == goal) {
+                return goal;
+            }
+            int x = node % width;
+            int y = node / width;
+            int from = parent[node];
+            for (int[] direction : DIRECTIONS) {
+                if (from != NO_PARENT && isPruned(node, from, direction)) {
+                    continue;
+                }
+                int jumpPoint = jump(x + direction[0], y + direction[1],
+                        direction[0], direction[1]);
+                if (jumpPoint != NOT_FOUND) {
+                    relax(node, jumpPoint);
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Checks if a direction need not be searched from a node, given the
+     * node it was reached from. Only going back the way it came is
+     * pruned here; the straight runs do the rest of the pruning.
+     */
+    private boolean isPruned(final int node,
+                             final int from,
+                             final int[] direction) {
+        int dx = Integer.signum(from % width - node % width);
+        int dy = Integer.signum(from / width - node / width);
+        return direction[0] == dx && direction[1] == dy;
+    }
+
+    /**
+     * Records a jump point as reached from a node,
+     * if that is the cheapest way to it yet.
+     */
+    private void relax(final int node, final int jumpPoint) {
+        int g = cost[node] + distance(node, jumpPoint);
+        if (reached[jumpPoint] == generation && cost[jumpPoint] <= g) {
+            return;
+        }
+        reached[jumpPoint] = generation;
+        cost[jumpPoint] = g;
+        parent[jumpPoint] = node;
+        push(jumpPoint, g + estimate(jumpPoint), g);
+    }
+
+    /**
+     * Runs straight on from a cell until a jump point is found.
+     *
+     * @return The jump point, or {@link #NOT_FOUND} if the run
+     *         hits an obstacle or the edge of the level first.
+     */
+    private int jump(final int startX,
+                     final int startY,
+                     final int dx,
+                     final int dy) {
+        int x = startX;
+        int y = startY;
+        while (isOpen(x, y)) {
+            if (x == goalX && y == goalY) {
+                return y * width + x;
+            }
+            if (dx != 0) {
+                if (isForced(x, y, 0, 1, dx, 0)
+                        || isForced(x, y, 0, -1, dx, 0)) {
+                    return y * width + x;
+                }
+            } else if (isForced(x, y, 1, 0, 0, dy)
+                    || isForced(x, y, -1, 0, 0, dy)
+                    || jump(x + 1, y, 1, 0) != NOT_FOUND
+                    || jump(x - 1, y, -1, 0) != NOT_FOUND) {
+                return y * width + x;
+            }
+            x += dx;
+            y += dy;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Checks if the cell beside a cell of a run is a forced neighbour:
+     * open, while the cell beside the one before it is not.
+     */
+    private boolean isForced(final int x,
+                             final int y,
+                             final int sideX,
+                             final int sideY,
+                             final int dx,
+                             final int dy) {
+        return isOpen(x + sideX, y + sideY)
+                && !isOpen(x + sideX - dx, y + sideY - dy);
+    }
+
+    private boolean isOpen(final int x, final int y) {
+        return inside(x, y)
+                && (x == startX && y == startY || enterable.test(x, y));
+    }
+
+    private boolean inside(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Walks the path back from the target to its first jump point,
+     * which lies in a straight line from the start, and steps that way.
+     */
+    private int[] stepTowards(final int goal) {
+        int node = goal;
+        while (parent[parent[node]] != NO_PARENT) {
+            node = parent[node];
+        }
+        int start = parent[node];
+        int x = start % width;
+        int y = start / width;
+        return new int[]{
+            x + Integer.signum(node % width - x),
+            y + Integer.signum(node / width - y)
+        };
+    }
+
+    private int estimate(final int node) {
+        return Math.abs(node % width - goalX)
+                + Math.abs(node / width - goalY);
+    }
+
+    private int distance(final int a, final int b) {
+        return Math.abs(a % width - b % width)
+                + Math.abs(a / width - b / width);
+    }
+
+    /**
+     * Adds a node to the open set. Entries are ordered by estimated
+     * total cost and then by the larger cost so far, which favours
+     * the most advanced of equally promising nodes.
+     */
+    private void push(final int node, final int f, final int g) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+            heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+        }
+        long key = ((long) f << Integer.SIZE) | (Integer.MAX_VALUE - g);
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) / 2;
+            if (heap[up] <= key) {
+                break;
+            }
+            heap[i] = heap[up];
+            heapNodes[i] = heapNodes[up];
+            i = up;
+        }
+        heap[i] = key;
+        heapNodes[i] = node;
+    }
+
+    /**
+     * Removes the first node of the open set.
+     */
+    private int poll() {
+        int top = heapNodes[0];
+        long lastKey = heap[--heapSize];
+        int lastNode = heapNodes[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (lastKey <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            heapNodes[i] = heapNodes[child];
+            i = child;
+        }
+        heap[i] = lastKey;
+        heapNodes[i] = lastNode;
+        return top;
+    }
+}
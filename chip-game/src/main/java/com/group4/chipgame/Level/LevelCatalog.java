@@ -0,0 +1,236 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An index of the level files available in the levels directory.
+ * The directory is scanned once and then watched for changes,
+ * so callers can query the ordered level list without touching the disk.
+ */
+public class LevelCatalog implements AutoCloseable {
+    private static final Logger LOG = Logger.get(LogCategory.LEVEL);
+    private static final String LEVEL_EXTENSION = ".json";
+    private static final String WATCHER_THREAD_NAME = "level-catalog-watcher";
+
+    private final Path baseDir;
+    private final List<Consumer<Path>> changeListeners =
+            new CopyOnWriteArrayList<>();
+    private volatile List<Path> levels = List.of();
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    /**
+     * Constructs a catalog for the given levels directory
+     * and performs the initial scan.
+     *
+     * @param baseDir The directory containing the level files.
+     * @throws IOException If the directory cannot be read.
+     */
+    public LevelCatalog(final String baseDir) throws IOException {
+        this.baseDir = Paths.get(baseDir);
+        rescan();
+    }
+
+    /**
+     * Starts watching the levels directory for created,
+     * deleted and modified level files on a background thread.
+     *
+     * @throws IOException If the watch service cannot be registered.
+     */
+    public void startWatching() throws IOException {
+        if (watcherThread != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        baseDir.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        watcherThread = new Thread(this::watchLoop, WATCHER_THREAD_NAME);
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    /**
+     * Registers a listener notified with the path
+     * of every level file that is created, deleted or modified.
+     *
+     * @param listener The listener to register.
+     */
+    public void addChangeListener(final Consumer<Path> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Gets the level files in natural order,
+     * so that level10 is listed after level9.
+     *
+     * @return An immutable list of level file paths.
+     */
+    public List<Path> getLevels() {
+        return levels;
+    }
+
+    /**
+     * Gets the path of the level following the specified one.
+     *
+     * @param currentLevelPath The path of the current level.
+     * @return The path of the next level, or null if there is none.
+     */
+    public String getNextLevel(final String currentLevelPath) {
+        List<Path> snapshot = levels;
+        Path current = normalize(Paths.get(currentLevelPath));
+        for (int i = 0; i < snapshot.size() - 1; i++) {
+            if (normalize(snapshot.get(i)).equals(current)) {
+                return snapshot.get(i + 1).toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops watching the levels directory.
+     */
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOG.warn("Could not stop watching {}: {}", baseDir, e);
+            }
+        }
+        watcherThread = null;
+    }
+
+    /**
+     * Re-reads the levels directory and replaces the level list.
+     */
+    private void rescan() throws IOException {
+        if (!Files.isDirectory(baseDir)) {
+            throw new IOException(
+                    "Levels directory not found or not a directory: "
+                            + baseDir);
+        }
+        try (Stream<Path> files = Files.list(baseDir)) {
+            levels = List.copyOf(files
+                    .filter(path -> path.getFileName().toString()
+                            .endsWith(LEVEL_EXTENSION))
+                    .sorted(Comparator.comparing(
+                            path -> path.getFileName().toString(),
+                            LevelCatalog::compareNaturally))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Waits for directory events and refreshes
+     * the catalog until the watch service is closed.
+     */
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                List<Path> changed = new ArrayList<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path relative) {
+                        changed.add(baseDir.resolve(relative));
+                    }
+                }
+                key.reset();
+                if (!changed.isEmpty()) {
+                    rescan();
+                    changed.forEach(path -> changeListeners
+                            .forEach(listener -> listener.accept(path)));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // The catalog was closed; stop watching.
+        } catch (IOException e) {
+            LOG.warn("Stopped watching {} for level changes: {}",
+                    baseDir, e);
+        }
+    }
+
+    /**
+     * Normalizes a path so that relative and absolute
+     * forms of the same file compare equal.
+     */
+    private static Path normalize(final Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Compares two file names, treating runs of digits as numbers.
+     *
+     * @param a The first file name.
+     * @param b The second file name.
+     * @return A negative, zero or positive value as in Comparator.
+     */
+    static int compareNaturally(final String a, final String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(j);
+            if (Character.isDigit(ca) && Character.isDigit(cb)) {
+                int endA = skipDigits(a, i);
+                int endB = skipDigits(b, j);
+                String numA = stripLeadingZeros(a.substring(i, endA));
+                String numB = stripLeadingZeros(b.substring(j, endB));
+                int result = numA.length() != numB.length()
+                        ? Integer.compare(numA.length(), numB.length())
+                        : numA.compareTo(numB);
+                if (result != 0) {
+                    return result;
+                }
+                i = endA;
+                j = endB;
+            } else {
+                if (ca != cb) {
+                    return Character.compare(ca, cb);
+                }
+                i++;
+                j++;
+            }
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    private static int skipDigits(final String s, final int start) {
+        int end = start;
+        while (end < s.length() && Character.isDigit(s.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static String stripLeadingZeros(final String digits) {
+        int start = 0;
+        while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+            start++;
+        }
+        return digits.substring(start);
+    }
+}
@@ -1,8 +1,8 @@
 package com.group4.chipgame.Level;
 
 import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.MovementClass;
 import com.group4.chipgame.entities.actors.collectibles.Collectible;
-import com.group4.chipgame.entities.actors.tiles.Tile;
 
 import java.util.List;
 
@@ -13,7 +13,10 @@ import java.util.List;
  * @author William Buckley
  */
 public class LevelData {
-    private final Tile[][] tiles;
+    private final LevelTiles tiles;
+    private final IceSlideTable iceSlideTable;
+    private final StateHash stateHash;
+    private final TrapWiring trapWiring;
     private final int gridWidth;
     private final int gridHeight;
     private int timer;
@@ -25,7 +28,7 @@ public class LevelData {
     /**
      * Constructs a new LevelData object with the specified parameters.
      *
-     * @param tiles         The array of tiles for the level.
+     * @param tiles         The tiles of the level.
      * @param gridWidth     The width of the grid.
      * @param gridHeight    The height of the grid.
      * @param actors        The list of actors in the level.
@@ -34,7 +37,7 @@ public class LevelData {
      * @param levelFilePath The file path to the level data.
      * @param timer         The timer for the level.
      */
-    public LevelData(final Tile[][] tiles,
+    public LevelData(final LevelTiles tiles,
                      final int gridWidth,
                      final int gridHeight,
                      final List<Actor> actors,
@@ -43,6 +46,11 @@ public class LevelData {
                      final String levelFilePath,
                      final int timer) {
         this.tiles = tiles;
+        this.iceSlideTable =
+                IceSlideTable.build(tiles.getGrid(), MovementClass.PLAYER);
+        this.trapWiring = TrapWiring.fromTiles(tiles);
+        this.stateHash =
+                StateHash.build(tiles.getGrid(), actors, collectibles);
         this.actors = actors;
         this.collectibles = collectibles;
         this.levelRenderer = levelRenderer;
@@ -52,6 +60,15 @@ public class LevelData {
         this.timer = timer;
     }
 
+    /**
+     * Gets the wiring between the buttons and traps of the level.
+     *
+     * @return The level's trap wiring.
+     */
+    public TrapWiring getTrapWiring() {
+        return trapWiring;
+    }
+
     /**
      * Gets the current timer value for the level.
      *
@@ -81,14 +98,44 @@ public class LevelData {
 
 
     /**
-     * Gets the array of tiles for the level.
+     * Gets the tiles of the level.
      *
-     * @return The array of tiles.
+     * @return The level's tiles.
      */
-    public Tile[][] getTiles() {
+    public LevelTiles getTiles() {
         return tiles;
     }
 
+    /**
+     * Gets the compact palette grid holding the types of the
+     * level's tiles, which follows every tile replaced.
+     *
+     * @return The tile grid.
+     */
+    public TileGrid getTileGrid() {
+        return tiles.getGrid();
+    }
+
+    /**
+     * Gets the table of where the player's slides
+     * across the level's ice end up.
+     *
+     * @return The player's ice slide table.
+     */
+    public IceSlideTable getIceSlideTable() {
+        return iceSlideTable;
+    }
+
+    /**
+     * Gets the Zobrist fingerprint of the level, which follows
+     * every change once the level's renderer is set up.
+     *
+     * @return The level's state hash.
+     */
+    public StateHash getStateHash() {
+        return stateHash;
+    }
+
     /**
      * Sets the level renderer.
      *
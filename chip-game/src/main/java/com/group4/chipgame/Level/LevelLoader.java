@@ -0,0 +1,366 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.entities.actors.*;
+import com.group4.chipgame.entities.actors.collectibles.Chip;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.collectibles.Key;
+import com.group4.chipgame.entities.actors.tiles.*;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * A class for loading level data from a JSON file.
+ * This class is responsible for
+ * parsing level data and instantiating corresponding game entities.
+ * @author William Buckley
+ */
+public class LevelLoader {
+    private static final String BUTTON_PREFIX = "B_";
+    private static final String TRAP_PREFIX = "T_";
+    private static final String CHIPSOCKET_PREFIX = "CS_";
+    private static final String TIMER_KEY = "timer";
+    private static final String SEED_KEY = "seed";
+    private static final String ACTORS_KEY = "actors";
+    private static final String COLLECTIBLES_KEY = "collectibles";
+    private static final int DEFAULT_TIMER = 300;
+
+    private String headerPath;
+    private JSONObject header;
+
+    /**
+     * Loads the top-level fields of a level file other than its tiles.
+     * The header read while streaming the tiles is reused, so
+     * the file is only mapped again if a different level is requested.
+     *
+     * @param path The path to the level file.
+     * @return A JSONObject holding the timer, actors and collectibles.
+     * @throws IOException If an error occurs while reading the file.
+     */
+    public JSONObject loadHeader(final String path) throws IOException {
+        if (!path.equals(headerPath)) {
+            header = new LevelStreamReader(path).read(null);
+            headerPath = path;
+        }
+        return header;
+    }
+
+    /**
+     * Builds a level from its file into a new renderer: its tiles,
+     * actors and collectibles are created and rendered, and the
+     * renderer's random source is seeded from the file if it has a seed.
+     * This is how every level is built, whether it is shown or not.
+     *
+     * @param path    The path to the level file.
+     * @param context The context of the game the level is played in.
+     * @return The built level.
+     * @throws IOException If an error occurs while reading the file.
+     */
+    public LevelData loadLevel(final String path,
+                               final GameContext context)
+            throws IOException {
+        return build(parse(path), context);
+    }
+
+    /**
+     * Reads a level file and builds its tiles, without creating
+     * anything that is drawn or bound to a game. It touches no shared
+     * state, so it can run on a background thread.
+     *
+     * @param path The path to the level file.
+     * @return The parsed level.
+     * @throws IOException If an error occurs while reading the file.
+     */
+    public ParsedLevel parse(final String path) throws IOException {
+        LevelTiles tiles = loadTiles(path);
+        return new ParsedLevel(path, tiles, loadHeader(path));
+    }
+
+    /**
+     * Builds a parsed level into a new renderer of a game, creating
+     * its actors and collectibles and binding them to the game's
+     * sizing. A level that is shown must be built on the JavaFX thread.
+     *
+     * @param parsed  The parsed level, which must not have been built.
+     * @param context The context of the game the level is played in.
+     * @return The built level.
+     */
+    public LevelData build(final ParsedLevel parsed,
+                           final GameContext context) {
+        LevelTiles tiles = parsed.getTiles();
+        JSONObject levelHeader = parsed.getHeader();
+        LevelRenderer renderer = new LevelRenderer(context, null);
+        if (levelHeader.has(SEED_KEY)) {
+            renderer.getRandom().reseed(levelHeader.getLong(SEED_KEY));
+        }
+        renderer.renderTiles(tiles);
+        LevelData levelData = new LevelData(
+                tiles,
+                tiles.getWidth(),
+                tiles.getHeight(),
+                createEntities(levelHeader.getJSONArray(ACTORS_KEY),
+                        actorCreators, renderer),
+                createEntities(levelHeader.getJSONArray(COLLECTIBLES_KEY),
+                        collectibleCreators, renderer),
+                renderer,
+                parsed.getPath(),
+                levelHeader.optInt(TIMER_KEY, DEFAULT_TIMER));
+        renderer.setCurrentLevelData(levelData);
+        renderer.renderActors(levelData.getActors());
+        renderer.renderCollectibles(levelData.getCollectibles());
+        return levelData;
+    }
+
+    private static final Map<String, TileType> TILE_CODES = Map.ofEntries(
+            Map.entry("P", TileType.PATH),
+            Map.entry("W", TileType.WATER),
+            Map.entry("G", TileType.WALL),
+            Map.entry("E", TileType.EXIT),
+            Map.entry("S", TileType.DIRT),
+
+            Map.entry("RD", TileType.DOOR_RED),
+            Map.entry("GD", TileType.DOOR_GREEN),
+            Map.entry("YD", TileType.DOOR_YELLOW),
+            Map.entry("BD", TileType.DOOR_BLUE),
+
+            Map.entry("I", TileType.ICE),
+            Map.entry("I_BL", TileType.ICE_BOTTOM_LEFT),
+            Map.entry("I_BR", TileType.ICE_BOTTOM_RIGHT),
+            Map.entry("I_TL", TileType.ICE_TOP_LEFT),
+            Map.entry("I_TR", TileType.ICE_TOP_RIGHT));
+
+    private final Map<String,
+                    BiFunction<Integer,
+                    Integer,
+                    Actor>> actorCreators = new HashMap<>() {{
+        put("Frog", Frog::new);
+        put("Player", Player::new);
+        put("MovableBlock", MovableBlock::new);
+        put("RPinkBall", (x, y) -> new PinkBall(x, y, Direction.RIGHT));
+        put("LPinkBall", (x, y) -> new PinkBall(x, y, Direction.LEFT));
+        put("UPinkBall", (x, y) -> new PinkBall(x, y, Direction.UP));
+        put("DPinkBall", (x, y) -> new PinkBall(x, y, Direction.DOWN));
+        put("leftBug", (x, y) -> new Bug(x, y, true));
+        put("rightBug", (x, y) -> new Bug(x, y, false));
+    }};
+
+    private final Map<String,
+                    BiFunction<Integer,
+                    Integer,
+                    Collectible>> collectibleCreators = new HashMap<>() {{
+        put("redKey", (x, y) -> new Key(Key.KeyColor.RED, x, y));
+        put("blueKey", (x, y) -> new Key(Key.KeyColor.BLUE, x, y));
+        put("greenKey", (x, y) -> new Key(Key.KeyColor.GREEN, x, y));
+        put("yellowKey", (x, y) -> new Key(Key.KeyColor.YELLOW, x, y));
+
+        put("Chip", Chip::new);
+    }};
+
+    /**
+     * Loads and creates actors based on the JSON data in a level file.
+     *
+     * @param levelFilePath The file path for the level data.
+     * @param levelRenderer The renderer for the game level.
+     * @return A list of created actors.
+     * @throws IOException If an error occurs while reading the level file.
+     */
+    public List<Actor> loadActors(final String levelFilePath,
+                                  final LevelRenderer levelRenderer)
+            throws IOException {
+        JSONObject levelData = loadHeader(levelFilePath);
+        return createEntities(levelData.getJSONArray(
+                ACTORS_KEY),
+                actorCreators,
+                levelRenderer);
+    }
+
+    /**
+     * Loads and creates collectibles based on the JSON data in a level file.
+     *
+     * @param levelFilePath The file path for the level data.
+     * @param levelRenderer The renderer for the game level.
+     * @return A list of created
+     * collectibles.
+     * @throws IOException If an error occurs while reading the level file.
+     */
+    public List<Collectible> loadCollectibles(final String levelFilePath,
+                                              final LevelRenderer levelRenderer)
+            throws IOException {
+        JSONObject levelData = loadHeader(levelFilePath);
+        return createEntities(levelData.getJSONArray(COLLECTIBLES_KEY),
+                collectibleCreators,
+                levelRenderer);
+    }
+
+    /**
+     * Loads the tiles of a level from a level file.
+     * The grid is streamed into a {@link TileGrid}, as by
+     * {@link #loadGrid(String)}, and tile objects are only created for
+     * its stateful cells; every other cell resolves to the tile shared
+     * by its type. Buttons and traps are wired together when the level
+     * is built.
+     *
+     * @param levelFilePath The file path for the level data.
+     * @return The tiles of the level.
+     * @throws IOException If an error occurs while reading the level file.
+     */
+    public LevelTiles loadTiles(final String levelFilePath)
+            throws IOException {
+        TileGrid grid = loadGrid(levelFilePath);
+        LevelTiles tiles = new LevelTiles(grid);
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                switch (grid.getType(x, y)) {
+                    case BUTTON -> tiles.set(x, y,
+                            new Button(grid.getConnection(x, y)));
+                    case TRAP -> tiles.set(x, y,
+                            new Trap(grid.getConnection(x, y)));
+                    case CHIP_SOCKET -> tiles.set(x, y,
+                            new ChipSocket(grid.getRequiredChips(x, y)));
+                    default -> {
+                    }
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Loads the tiles of a level into a compact palette grid
+     * without creating any tile objects. This is suited to very
+     * large maps and to tools that only need the tiles.
+     * A trap whose connection no button shares is left out.
+     *
+     * @param levelFilePath The file path for the level data.
+     * @return The tile grid of the level.
+     * @throws IOException If an error occurs while reading the level file,
+     *                     or if its rows are not all the same width.
+     */
+    public TileGrid loadGrid(final String levelFilePath) throws IOException {
+        ByteArrayOutputStream codes = new ByteArrayOutputStream();
+        Map<Integer, String> connections = new HashMap<>();
+        Map<Integer, Integer> sockets = new HashMap<>();
+        int[] width = {0};
+        int[] cellCount = {0};
+        int[] raggedRow = {-1, 0};
+
+        header = new LevelStreamReader(levelFilePath).read(
+                new LevelStreamReader.TileVisitor() {
+            @Override
+            public void visit(final int x,
+                              final int y,
+                              final String tileType) {
+                int cell = cellCount[0]++;
+                TileType type = parseTileType(tileType);
+                codes.write(type.getCode());
+                if (type == TileType.BUTTON) {
+                    connections.put(cell,
+                            tileType.substring(BUTTON_PREFIX.length()));
+                } else if (type == TileType.TRAP) {
+                    connections.put(cell, tileType.split("_")[1]);
+                } else if (type == TileType.CHIP_SOCKET) {
+                    sockets.put(cell, Integer.parseInt(tileType
+                            .substring(CHIPSOCKET_PREFIX.length())));
+                }
+            }
+
+            @Override
+            public void endRow(final int y, final int rowWidth) {
+                if (y == 0) {
+                    width[0] = rowWidth;
+                } else if (rowWidth != width[0] && raggedRow[0] < 0) {
+                    raggedRow[0] = y;
+                    raggedRow[1] = rowWidth;
+                }
+            }
+        });
+        if (raggedRow[0] >= 0) {
+            throw new IOException("Row " + raggedRow[0] + " of "
+                    + levelFilePath + " has " + raggedRow[1]
+                    + " tiles, but row 0 has " + width[0]);
+        }
+        headerPath = levelFilePath;
+
+        byte[] cells = codes.toByteArray();
+        int height = width[0] == 0 ? 0 : cells.length / width[0];
+        Set<String> buttonIds = new HashSet<>();
+        for (Map.Entry<Integer, String> entry : connections.entrySet()) {
+            if (cells[entry.getKey()] == TileType.BUTTON.getCode()) {
+                buttonIds.add(entry.getValue());
+            }
+        }
+        TileGrid grid = new TileGrid(width[0], height);
+        for (int i = 0; i < width[0] * height; i++) {
+            int x = i % width[0];
+            int y = i / width[0];
+            TileType type = TileType.fromCode(cells[i]);
+            if (type == TileType.TRAP
+                    && !buttonIds.contains(connections.get(i))) {
+                // A trap no button can release is dropped.
+                connections.remove(i);
+                type = TileType.EMPTY;
+            }
+            grid.setType(x, y, type);
+            if (connections.containsKey(i)) {
+                grid.setConnection(x, y, connections.get(i));
+            }
+            if (sockets.containsKey(i)) {
+                grid.setRequiredChips(x, y, sockets.get(i));
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Maps a tile type code from a level file onto the tile palette.
+     *
+     * @param tileType The tile type code.
+     * @return The palette type, or EMPTY if the code is unknown.
+     */
+    public static TileType parseTileType(final String tileType) {
+        if (tileType == null) {
+            return TileType.EMPTY;
+        }
+        if (tileType.startsWith(BUTTON_PREFIX)) {
+            return TileType.BUTTON;
+        }
+        if (tileType.startsWith(TRAP_PREFIX)) {
+            return tileType.split("_").length > 1
+                    ? TileType.TRAP : TileType.EMPTY;
+        }
+        if (tileType.startsWith(CHIPSOCKET_PREFIX)) {
+            return TileType.CHIP_SOCKET;
+        }
+        return TILE_CODES.getOrDefault(tileType, TileType.EMPTY);
+    }
+
+    private <T> List<T> createEntities(
+            final JSONArray dataArray,
+                    final Map<String,
+                    BiFunction<Integer,
+                    Integer,
+                    T>> creators,
+                    final LevelRenderer renderer) {
+        List<T> entities = new ArrayList<>();
+        for (int i = 0; i < dataArray.length(); i++) {
+            JSONObject data = dataArray.getJSONObject(i);
+            String type = data.getString("type");
+            int x = data.getInt("x");
+            int y = data.getInt("y");
+            T entity = Optional.ofNullable(
+                    creators.get(type)).orElse(
+                            (a, b) -> null).apply(x, y);
+            if (entity != null) {
+                entities.add(entity);
+                renderer.setOccupant(x, y, (Entity) entity);
+            }
+        }
+        return entities;
+    }
+}
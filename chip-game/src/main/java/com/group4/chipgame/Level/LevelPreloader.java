@@ -0,0 +1,129 @@
+package com.group4.chipgame.Level;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Parses levels on a background thread ahead of time,
+ * so that switching to the next level does not stall the game.
+ * Only the file is read and the tiles built off the JavaFX thread;
+ * the level is built into the game, which binds it to the game's
+ * sizing, by whoever takes it, so a level that is preloaded and then
+ * dropped never touches the game.
+ */
+public class LevelPreloader implements AutoCloseable {
+    private static final String PRELOAD_THREAD_NAME = "level-preloader";
+
+    private final LevelParser levelParser;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, PRELOAD_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final Map<Path, CompletableFuture<ParsedLevel>> pending =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a preloader that uses the given parser to read levels.
+     *
+     * @param levelParser The parser that reads a level from its path.
+     */
+    public LevelPreloader(final LevelParser levelParser) {
+        this.levelParser = levelParser;
+    }
+
+    /**
+     * Starts parsing the specified level in the background.
+     * Does nothing if the level is already being parsed.
+     *
+     * @param levelPath The path of the level to preload.
+     */
+    public void preload(final String levelPath) {
+        if (levelPath == null) {
+            return;
+        }
+        pending.computeIfAbsent(key(levelPath), path ->
+                CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return levelParser.parse(levelPath);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor));
+    }
+
+    /**
+     * Takes the specified level, waiting for a background parse
+     * if one is in progress, or parsing it directly otherwise.
+     *
+     * @param levelPath The path of the level to take.
+     * @return The parsed level.
+     * @throws IOException If the level file cannot be read.
+     */
+    public ParsedLevel take(final String levelPath) throws IOException {
+        CompletableFuture<ParsedLevel> future =
+                pending.remove(key(levelPath));
+        if (future != null) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                throw e;
+            }
+        }
+        return levelParser.parse(levelPath);
+    }
+
+    /**
+     * Discards any preloaded copy of the specified level,
+     * typically because its file changed on disk.
+     *
+     * @param levelPath The path of the level to discard.
+     */
+    public void invalidate(final Path levelPath) {
+        CompletableFuture<ParsedLevel> future =
+                pending.remove(key(levelPath.toString()));
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        pending.clear();
+    }
+
+    private static Path key(final String levelPath) {
+        return Paths.get(levelPath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Reads a level from its file.
+     */
+    @FunctionalInterface
+    public interface LevelParser {
+        /**
+         * Parses the level stored at the given path.
+         *
+         * @param levelPath The path of the level file.
+         * @return The parsed level.
+         * @throws IOException If the level file cannot be read.
+         */
+        ParsedLevel parse(String levelPath) throws IOException;
+    }
+}
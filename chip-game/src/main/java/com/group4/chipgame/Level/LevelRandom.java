@@ -0,0 +1,132 @@
+package com.group4.chipgame.Level;
+
+/**
+ * The source of randomness for a single level.
+ * Every random decision made during a level draws from this
+ * seeded generator, so replaying the same inputs with the
+ * same seed reproduces the same run.
+ * The generator is a SplitMix64 sequence held in a single long,
+ * so it can be copied mid-level and both copies continue identically.
+ */
+public class LevelRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_MULTIPLIER_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94d049bb133111ebL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+    private static final int INT_SHIFT = 33;
+    private static final int DOUBLE_SHIFT = 11;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long seed;
+    private long state;
+
+    /**
+     * Constructs a generator with the specified seed.
+     *
+     * @param seed The seed of the generator.
+     */
+    public LevelRandom(final long seed) {
+        reseed(seed);
+    }
+
+    /**
+     * Creates a generator that continues from
+     * exactly where this one currently is.
+     *
+     * @return A copy of the generator.
+     */
+    public LevelRandom copy() {
+        LevelRandom copy = new LevelRandom(seed);
+        copy.state = state;
+        return copy;
+    }
+
+    /**
+     * Restarts the generator from a new seed.
+     *
+     * @param newSeed The new seed.
+     */
+    public void reseed(final long newSeed) {
+        this.seed = newSeed;
+        this.state = newSeed;
+    }
+
+    /**
+     * Gets the seed the generator was last started from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the current position of the generator in its sequence.
+     *
+     * @return The internal state.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Returns a random integer between zero (inclusive)
+     * and the specified bound (exclusive).
+     *
+     * @param bound The upper bound, which must be positive.
+     * @return The random integer.
+     */
+    public int nextInt(final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException(
+                    "Bound must be positive: " + bound);
+        }
+        int limit = Integer.MAX_VALUE - Integer.MAX_VALUE % bound;
+        int value;
+        do {
+            value = (int) (nextLong() >>> INT_SHIFT);
+        } while (value >= limit);
+        return value % bound;
+    }
+
+    /**
+     * Returns a random double between zero (inclusive) and one (exclusive).
+     *
+     * @return The random double.
+     */
+    public double nextDouble() {
+        return (nextLong() >>> DOUBLE_SHIFT) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns a random long spread over every 64-bit value.
+     *
+     * @return The random long.
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /**
+     * Gets a value of the sequence started from a seed without drawing
+     * the ones before it: the value a new generator with that seed
+     * would return from its (index + 1)th call to {@link #nextLong()}.
+     *
+     * @param seed  The seed of the sequence.
+     * @param index The position in the sequence, from 0.
+     * @return The value at that position.
+     */
+    public static long valueAt(final long seed, final long index) {
+        return mix(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+}
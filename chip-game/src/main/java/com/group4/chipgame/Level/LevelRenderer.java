@@ -0,0 +1,659 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.tiles.ActiveSlides;
+import com.group4.chipgame.entities.actors.tiles.ChipSocket;
+import com.group4.chipgame.entities.actors.tiles.Tile;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.events.GameEvent;
+import com.group4.chipgame.events.GameEventBus;
+import com.group4.chipgame.telemetry.Phase;
+import com.group4.chipgame.telemetry.Telemetry;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.Point2D;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.text.Font;
+import java.util.*;
+
+/**
+ * Renderer for the level in the ChipGame.
+ * @author William Buckley
+ */
+public class LevelRenderer {
+    private static final Logger LOG = Logger.get(LogCategory.LEVEL);
+    private static final String FONT_ARIAL = "Arial";
+    private static final int CHIP_COUNT_FONT_SIZE = 14;
+
+    private final GameContext context;
+    private LevelData currentLevelData;
+    private final Pane gamePane;
+    private final Pane tilesPane;
+    private final Pane actorsPane;
+    private final Pane collectiblesPane;
+    private final TileViewport tileViewport;
+    private final Map<Point2D, Label> chipSocketLabels = new HashMap<>();
+    private final GameEventBus eventBus = new GameEventBus();
+    private final LevelRandom random = new LevelRandom(System.nanoTime());
+    private LevelTiles tiles = new LevelTiles(0, 0);
+    private Entity[] occupants = new Entity[0];
+    private WalkabilityMap walkability = new WalkabilityMap(0, 0);
+    private UndoHistory undoHistory;
+    private HierarchicalPathfinder frogPaths;
+    private JumpPointSearch frogJumps = new JumpPointSearch(0, 0);
+    private IceSlideResolver iceSlides =
+            new IceSlideResolver(new TileGrid(0, 0));
+    private final ActiveSlides activeSlides = new ActiveSlides();
+    private final Set<Actor> attachedActors = new HashSet<>();
+    private final Set<Collectible> attachedCollectibles = new HashSet<>();
+    private final ChangeListener<Number> resizeListener =
+            (obs, oldVal, newVal) -> updateSizes();
+
+    /**
+     * Constructor for LevelRenderer.
+     *
+     * @param context          The context of the game the level is in.
+     * @param currentLevelData The current level data to be rendered.
+     */
+    public LevelRenderer(final GameContext context,
+                         final LevelData currentLevelData) {
+        this.context = context;
+        this.currentLevelData = currentLevelData;
+        tilesPane = new Pane();
+        actorsPane = new Pane();
+        collectiblesPane = new Pane();
+        gamePane = new Pane(tilesPane, actorsPane, collectiblesPane);
+        tileViewport = new TileViewport(tilesPane, context);
+        context.tileSizeProperty().addListener(resizeListener);
+        context.actorSizeProperty().addListener(resizeListener);
+        eventBus.subscribe(GameEvent.Type.STEP, event -> {
+            long start = Telemetry.start();
+            event.getTile().onStep(event.getActor(), this,
+                    event.getX(), event.getY(), event.getDirection());
+            Telemetry.record(Phase.TILE_CALLBACKS, start);
+        });
+    }
+
+    /**
+     * Lets go of the game's context once the level is discarded: the
+     * renderer stops following the game's size, and its tile views and
+     * every actor and collectible it attached, including any removed
+     * since, are unbound from it. A context outlives its levels, so
+     * without this it would hold on to every level ever built into it.
+     */
+    public void dispose() {
+        context.tileSizeProperty().removeListener(resizeListener);
+        context.actorSizeProperty().removeListener(resizeListener);
+        tileViewport.dispose();
+        attachedActors.forEach(Actor::detach);
+        attachedActors.clear();
+        attachedCollectibles.forEach(Collectible::detach);
+        attachedCollectibles.clear();
+    }
+
+    /**
+     * Gets the context of the game the level is in.
+     *
+     * @return The game context.
+     */
+    public GameContext getContext() {
+        return context;
+    }
+
+    /**
+     * Gets the event bus on which interactions in this level are published.
+     *
+     * @return The level's event bus.
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Gets the walkability of this level's tiles for every
+     * movement class. It is kept up to date as tiles are replaced.
+     *
+     * @return The level's walkability map.
+     */
+    public WalkabilityMap getWalkability() {
+        return walkability;
+    }
+
+    /**
+     * Gets the resolver that works out slides across this level's ice.
+     * It is kept up to date as tiles are replaced.
+     *
+     * @return The level's ice slide resolver.
+     */
+    public IceSlideResolver getIceSlides() {
+        return iceSlides;
+    }
+
+    /**
+     * Gets the slides being played across this level's ice.
+     *
+     * @return The level's active slides.
+     */
+    public ActiveSlides getActiveSlides() {
+        return activeSlides;
+    }
+
+    /**
+     * Gets the hierarchical path-finder frogs use on this level.
+     * It is kept up to date as tiles are replaced.
+     *
+     * @return The frogs' path-finder, or null if the level is small
+     * enough to be searched cell by cell.
+     */
+    public HierarchicalPathfinder getFrogPaths() {
+        return frogPaths;
+    }
+
+    /**
+     * Gets the jump point search frogs use on this level
+     * when the game searches in {@link PathSearchMode#JUMP_POINT} mode.
+     *
+     * @return The frogs' jump point search.
+     */
+    public JumpPointSearch getFrogJumps() {
+        return frogJumps;
+    }
+
+    /**
+     * Gets the seeded random generator of this level.
+     * All random decisions in the level must draw from it
+     * so that runs can be replayed.
+     *
+     * @return The level's random generator.
+     */
+    public LevelRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Sets the current level data.
+     *
+     * @param levelData The new level data.
+     */
+    public void setCurrentLevelData(final LevelData levelData) {
+        if (currentLevelData != null && currentLevelData != levelData) {
+            currentLevelData.getStateHash().detach(eventBus);
+        }
+        if (undoHistory != null) {
+            undoHistory.detach(eventBus);
+            undoHistory = null;
+        }
+        this.currentLevelData = levelData;
+        tileViewport.setGrid(levelData != null
+                ? levelData.getTileGrid() : new TileGrid(0, 0));
+        if (levelData != null) {
+            levelData.getStateHash().attach(eventBus);
+            undoHistory = new UndoHistory(this, levelData,
+                    UndoHistory.DEFAULT_CAPACITY);
+            undoHistory.attach(eventBus);
+        }
+    }
+
+    /**
+     * Gets the undo history of the current level.
+     *
+     * @return The level's undo history, or null if no level is set.
+     */
+    public UndoHistory getUndoHistory() {
+        return undoHistory;
+    }
+
+    /**
+     * Updates tile occupation based on actors' positions.
+     */
+    public void updateTileOccupation() {
+        for (final Actor actor : currentLevelData.getActors()) {
+            Point2D actorPosition = actor.getPosition();
+            int x = (int) actorPosition.getX();
+            int y = (int) actorPosition.getY();
+            if (tiles.isInBounds(x, y)) {
+                if (Logger.TRACE) {
+                    LOG.trace("Actor at: {}, {}", x, y);
+                }
+                setOccupant(x, y, actor);
+            }
+        }
+        for (final Collectible collectible
+                : currentLevelData.getCollectibles()) {
+            Point2D collectiblePosition = collectible.getPosition();
+            int x = (int) collectiblePosition.getX();
+            int y = (int) collectiblePosition.getY();
+            if (tiles.isInBounds(x, y)) {
+                if (Logger.TRACE) {
+                    LOG.trace("Collectible at: {}, {}", x, y);
+                }
+                setOccupant(x, y, collectible);
+            }
+        }
+    }
+
+    /**
+     * Gets the entity standing on a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The entity, or null if the cell is free or out of bounds.
+     */
+    public Entity getOccupant(final int x, final int y) {
+        return tiles.isInBounds(x, y)
+                ? occupants[tiles.getGrid().index(x, y)] : null;
+    }
+
+    /**
+     * Checks if an entity stands on a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return true if the cell is occupied, false otherwise.
+     */
+    public boolean isOccupied(final int x, final int y) {
+        return getOccupant(x, y) != null;
+    }
+
+    /**
+     * Records the entity standing on a cell and lets the cell's tile
+     * react to it. Cells out of bounds are ignored.
+     *
+     * @param x        The x-coordinate of the cell.
+     * @param y        The y-coordinate of the cell.
+     * @param occupant The entity on the cell, or null to free it.
+     */
+    public void setOccupant(final int x, final int y, final Entity occupant) {
+        if (!tiles.isInBounds(x, y)) {
+            return;
+        }
+        occupants[tiles.getGrid().index(x, y)] = occupant;
+        Tile tile = tiles.get(x, y);
+        if (tile != null) {
+            tile.onOccupantChanged(occupant);
+        }
+    }
+
+    /**
+     * Frees every cell of the level.
+     */
+    public void clearOccupants() {
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                if (isOccupied(x, y)) {
+                    setOccupant(x, y, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the sizes of tiles, actors, and collectibles.
+     * Only what is drawn is rescaled; the level and the structures
+     * searched on it are left as they are.
+     */
+    public void updateSizes() {
+        tileViewport.rescale();
+        chipSocketLabels.forEach(this::positionChipSocketLabel);
+        actorsPane.getChildren().forEach(this::position);
+        collectiblesPane.getChildren().forEach(this::position);
+        if (tiles.getWidth() > 0 && tiles.getHeight() > 0) {
+            gamePane.setLayoutX(context.getTileSize() * tiles.getWidth());
+            gamePane.setLayoutY(context.getTileSize() * tiles.getHeight());
+        }
+    }
+
+    /**
+     * Gets a list of all collectibles in the level.
+     *
+     * @return List of collectibles.
+     */
+    public List<Collectible> getCollectibles() {
+        return castToList(collectiblesPane, Collectible.class);
+    }
+
+    /**
+     * Gets a list of all actors in the level.
+     *
+     * @return List of actors.
+     */
+    public List<Actor> getActors() {
+        return castToList(actorsPane, Actor.class);
+    }
+
+    /**
+     * Renders the given collectibles.
+     *
+     * @param collectibles The list of collectibles to render.
+     */
+    public void renderCollectibles(final List<Collectible> collectibles) {
+        renderNodes(collectiblesPane, collectibles);
+    }
+
+    /**
+     * Renders the given actors.
+     *
+     * @param actors The list of actors to render.
+     */
+    public void renderActors(final List<Actor> actors) {
+        renderNodes(actorsPane, actors);
+    }
+
+    /**
+     * Renders the given tiles, building the structures searched
+     * on them. This is done once each time a level is loaded.
+     *
+     * @param tiles The tiles to render.
+     */
+    public void renderTiles(final LevelTiles tiles) {
+        this.tiles = tiles;
+        this.walkability = WalkabilityMap.fromGrid(tiles.getGrid());
+        this.iceSlides = new IceSlideResolver(tiles.getGrid().copy());
+        int height = tiles.getHeight();
+        int width = tiles.getWidth();
+        this.occupants = new Entity[width * height];
+        WalkabilityMap map = walkability;
+        this.frogJumps = new JumpPointSearch(width, height);
+        this.frogPaths = context.getPathSearchMode() == PathSearchMode.A_STAR
+                && HierarchicalPathfinder.suits(width, height)
+                ? new HierarchicalPathfinder(width, height, (x, y)
+                        -> map.isPassable(MovementClass.FROG, x, y))
+                : null;
+        tilesPane.getChildren().removeAll(chipSocketLabels.values());
+        chipSocketLabels.clear();
+        tiles.forEachStateful((x, y, tile) -> {
+            if (tile instanceof ChipSocket socket && context.isAnimated()) {
+                renderChipSocketLabel(socket, x, y);
+            }
+        });
+    }
+
+    /**
+     * Renders a label for a ChipSocket. A game that is not animated is
+     * not shown, so it has no labels and needs no JavaFX toolkit.
+     */
+    private void renderChipSocketLabel(final ChipSocket chipSocket,
+                                       final int x,
+                                       final int y) {
+        Label chipCountLabel =
+                new Label(String.valueOf(chipSocket.getRequiredChips()));
+        chipCountLabel.setFont(
+                new Font(FONT_ARIAL, CHIP_COUNT_FONT_SIZE));
+        chipCountLabel.setTextFill(
+                javafx.scene.paint.Color.WHITE);
+        Point2D position = new Point2D(x, y);
+        chipSocketLabels.put(position, chipCountLabel);
+        positionChipSocketLabel(position, chipCountLabel);
+        tilesPane.getChildren().add(chipCountLabel);
+    }
+
+    /**
+     * Centres a chip socket's label on its cell.
+     */
+    private void positionChipSocketLabel(final Point2D position,
+                                         final Label chipCountLabel) {
+        int tileSize = context.getTileSize();
+        chipCountLabel.setLayoutX(position.getX() * tileSize
+                + (tileSize - chipCountLabel.getWidth()) / 2.0);
+        chipCountLabel.setLayoutY(position.getY() * tileSize
+                + (tileSize - chipCountLabel.getHeight()) / 2.0);
+    }
+
+    /**
+     * Gets the game pane.
+     *
+     * @return The game pane.
+     */
+    public Pane getGamePane() {
+        return gamePane;
+    }
+
+    /**
+     * Gets the tiles of the current level.
+     *
+     * @return The level's tiles.
+     */
+    public LevelTiles getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Removes the specified actor from the level.
+     *
+     * @param actor The actor to remove.
+     */
+    public void remove(final Actor actor) {
+        modifyPaneLater(() -> actorsPane.getChildren().remove(actor));
+        this.currentLevelData.getActors().remove(actor);
+        int x = (int) actor.getPosition().getX();
+        int y = (int) actor.getPosition().getY();
+        eventBus.publish(GameEvent.remove(actor,
+                getTileAtGridPosition(x, y).orElse(null), x, y));
+    }
+
+    /**
+     * Puts an actor back into the level at its current position.
+     *
+     * @param actor The actor to add.
+     */
+    public void add(final Actor actor) {
+        this.currentLevelData.getActors().add(actor);
+        attach(actor);
+        position(actor);
+        modifyPaneLater(() -> {
+            if (!actorsPane.getChildren().contains(actor)) {
+                actorsPane.getChildren().add(actor);
+            }
+        });
+    }
+
+    /**
+     * Puts a collectible back into the level at its position.
+     *
+     * @param collectible The collectible to add.
+     */
+    public void add(final Collectible collectible) {
+        this.currentLevelData.getCollectibles().add(collectible);
+        attach(collectible);
+        position(collectible);
+        modifyPaneLater(() -> {
+            if (!collectiblesPane.getChildren().contains(collectible)) {
+                collectiblesPane.getChildren().add(collectible);
+            }
+        });
+    }
+
+    /**
+     * Removes the specified collectible from the level.
+     *
+     * @param collectible The collectible to remove.
+     */
+    public void remove(final Collectible collectible) {
+        this.currentLevelData.getCollectibles().remove(collectible);
+        modifyPaneLater(()
+                -> collectiblesPane.getChildren().remove(collectible));
+    }
+
+    /**
+     * Schedules a modification of a pane
+     * to be executed on the JavaFX application thread.
+     * A game that is not animated is not shown, so the
+     * modification is made at once instead.
+     */
+    private void modifyPaneLater(final Runnable action) {
+        if (context.isAnimated()) {
+            Platform.runLater(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Casts and collects all nodes of a specified type from a pane.
+     */
+    private <T> List<T> castToList(final Pane pane, final Class<T> clazz) {
+        List<T> list = new ArrayList<>();
+        pane.getChildren().forEach(node -> {
+            if (clazz.isInstance(node)) {
+                list.add(clazz.cast(node));
+            }
+        });
+        return list;
+    }
+
+    /**
+     * Renders nodes in a pane.
+     */
+    private <T> void renderNodes(final Pane pane, final List<T> nodes) {
+        pane.getChildren().clear();
+        Optional.ofNullable(nodes).ifPresent(list -> list.forEach(node -> {
+            if (node != null) {
+                positionAndAddNode(pane, node);
+            }
+        }));
+    }
+
+    /**
+     * Binds an actor to the game's context, remembering
+     * it so it can be unbound when the level is disposed.
+     */
+    private void attach(final Actor actor) {
+        actor.attach(context);
+        attachedActors.add(actor);
+    }
+
+    /**
+     * Binds a collectible to the game's context, remembering
+     * it so it can be unbound when the level is disposed.
+     */
+    private void attach(final Collectible collectible) {
+        collectible.attach(context);
+        attachedCollectibles.add(collectible);
+    }
+
+    /**
+     * Positions and adds a given node to the specified pane.
+     * The method attaches the node to the game's context,
+     * positions it based on its type (either Collectible or Actor)
+     * and adds it to the pane.
+     */
+    private <T> void positionAndAddNode(final Pane pane, final T node) {
+        if (node instanceof Collectible collectible) {
+            attach(collectible);
+            position(collectible);
+        } else if (node instanceof Actor actor) {
+            attach(actor);
+            position(actor);
+        }
+        pane.getChildren().add((javafx.scene.Node) node);
+    }
+
+    /**
+     * Positions a drawn actor or collectible at its current position.
+     */
+    private void position(final javafx.scene.Node node) {
+        if (node instanceof Actor actor) {
+            position(actor);
+        } else if (node instanceof Collectible collectible) {
+            position(collectible);
+        }
+    }
+
+    /**
+     * Positions an Actor based on its current position.
+     */
+    private void position(final Actor actor) {
+        position(actor, actor.getPosition());
+    }
+
+    /**
+     * Positions a Collectible based on its current position.
+     */
+    private void position(final Collectible collectible) {
+        position(collectible, collectible.getPosition());
+    }
+
+    /**
+     * Positions a JavaFX Node (Actor or Collectible)
+     * at a specified position.
+     * The position is adjusted based on the tile size and actor size.
+     */
+    private void position(final javafx.scene.Node node,
+                          final Point2D position) {
+        if (position == null) {
+            return;
+        }
+        double offsetX = (context.getTileSize()
+                - context.getActorSize()) / 2.0;
+        double offsetY = (context.getTileSize()
+                - context.getActorSize()) / 2.0;
+        node.setLayoutX(position.getX()
+                * context.getTileSize() + offsetX);
+        node.setLayoutY(position.getY()
+                * context.getTileSize() + offsetY);
+    }
+
+    /**
+     * Retrieves the tile at a specific grid position.
+     *
+     * @param x The x-coordinate of the grid position.
+     * @param y The y-coordinate of the grid position.
+     * @return An Optional containing the Tile at the specified
+     * position, or an empty Optional if it is empty or out of bounds.
+     */
+    public Optional<Tile> getTileAtGridPosition(final int x,
+                                                final int y) {
+        return Optional.ofNullable(tiles.get(x, y));
+    }
+
+    /**
+     * Updates a tile at a specific grid position with a new tile.
+     * If the position is out of bounds or the new
+     * tile is null, the method returns without making any changes.
+     * Whatever stands on the cell now stands on the new tile.
+     *
+     * @param x       The x-coordinate of the tile to update.
+     * @param y       The y-coordinate of the tile to update.
+     * @param newTile The new Tile to place at the specified position.
+     */
+    public void updateTile(final int x,
+                           final int y,
+                           final Tile newTile) {
+        if (!tiles.isInBounds(x, y) || newTile == null) {
+            return;
+        }
+        Tile oldTile = tiles.get(x, y);
+        Entity occupant = getOccupant(x, y);
+        if (occupant != null && oldTile != null) {
+            oldTile.onOccupantChanged(null);
+        }
+        Point2D position = new Point2D(x, y);
+        if (chipSocketLabels.containsKey(
+                position)) {
+            Label labelToRemove = chipSocketLabels.remove(position);
+            modifyPaneLater(()
+                    -> tilesPane.getChildren().remove(labelToRemove));
+        }
+        tiles.set(x, y, newTile);
+        if (occupant != null) {
+            newTile.onOccupantChanged(occupant);
+        }
+        walkability.update(x, y, newTile.getType());
+        iceSlides.update(x, y, newTile.getType());
+        if (frogPaths != null) {
+            frogPaths.update(x, y);
+        }
+        if (currentLevelData != null) {
+            currentLevelData.getIceSlideTable().update(x, y,
+                    newTile.getType());
+        }
+        tileViewport.refreshCell(x, y);
+        eventBus.publish(GameEvent.tileReplaced(oldTile, newTile, x, y));
+    }
+}
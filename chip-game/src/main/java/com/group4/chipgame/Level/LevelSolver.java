@@ -0,0 +1,368 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A solver that proves a level can be completed.
+ * It runs a breadth-first search over the level itself, played as a
+ * {@link HeadlessGame}, so every rule of the game applies, with the
+ * enemies taken out: what is left is the puzzle of the player's
+ * position, keys, chips, opened doors and sockets, filled water and
+ * block positions. Each edge of the search is one player move followed
+ * by any slides it sets off; states are kept as {@link GameSnapshot}s,
+ * restored before each move is tried, and deduplicated by the level's
+ * Zobrist hash in a {@link LongHashSet}. A move that would send the player
+ * round an ice loop is dropped before it is played by looking its
+ * slide up in the level's {@link IceSlideTable}, rather than ticking
+ * the loop until the settle limit runs out.
+ * Because the search is breadth-first, the first win it finds uses the
+ * fewest moves.
+ *
+ * <p>Usage: {@code LevelSolver [--threads=N] [--max-states=N]
+ * LEVEL_OR_DIR...}
+ *
+ * <p>Levels are solved in parallel on a {@link ForkJoinPool}. The
+ * process exits with status 1 if any level is unsolvable or fails
+ * to load.
+ */
+public class LevelSolver {
+    /** The number of states explored before a search gives up. */
+    public static final int DEFAULT_MAX_STATES = 250_000;
+
+    private static final String LEVEL_EXTENSION = ".json";
+    private static final String MAX_STATES_OPTION = "--max-states=";
+    private static final int FAILURE_STATUS = 1;
+    /** Ticks a move may take to settle, after which it is dropped. */
+    private static final int MAX_SETTLE_TICKS = 1_000;
+    private static final Direction[] MOVES = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
+
+    private final int maxStates;
+
+    /**
+     * The verdict of a search.
+     */
+    public enum Outcome {
+        /** The level can be won. */
+        SOLVED,
+        /** Every reachable state was explored without a win. */
+        UNSOLVABLE,
+        /** The search hit its state limit before deciding. */
+        GAVE_UP
+    }
+
+    /**
+     * Constructs a solver that explores at most the given number of states.
+     *
+     * @param maxStates The state limit of each search.
+     */
+    public LevelSolver(final int maxStates) {
+        this.maxStates = maxStates;
+    }
+
+    /**
+     * Solves the level stored in a file.
+     *
+     * @param levelPath The path to the level file.
+     * @return The result of the search.
+     * @throws IOException If the level cannot be read.
+     */
+    public Result solve(final String levelPath) throws IOException {
+        HeadlessGame game =
+                HeadlessGame.load(levelPath, PathSearchMode.A_STAR);
+        game.removeEnemies();
+        return solve(game);
+    }
+
+    private Result solve(final HeadlessGame game) {
+        if (game.getPlayer() == null || !settle(game)) {
+            return new Result(Outcome.UNSOLVABLE, null, 0);
+        }
+        if (game.getStatus() == HeadlessGame.Status.WON) {
+            return new Result(Outcome.SOLVED, List.of(), 1);
+        }
+
+        LongHashSet visited = new LongHashSet();
+        visited.add(game.hash());
+
+        int[] parents = new int[Math.min(maxStates, 1 << 10)];
+        byte[] moves = new byte[parents.length];
+        int explored = 1;
+        parents[0] = -1;
+
+        ArrayDeque<GameSnapshot> queue = new ArrayDeque<>();
+        ArrayDeque<Integer> ids = new ArrayDeque<>();
+        queue.add(game.snapshot());
+        ids.add(0);
+        while (!queue.isEmpty()) {
+            GameSnapshot state = queue.poll();
+            int id = ids.poll();
+            for (int m = 0; m < MOVES.length; m++) {
+                game.restore(state);
+                settle(game);
+                if (slidesForever(game, MOVES[m])) {
+                    continue;
+                }
+                game.queueMove(MOVES[m]);
+                game.tick();
+                if (!settle(game)
+                        || game.getStatus() == HeadlessGame.Status.LOST
+                        || !visited.add(game.hash())) {
+                    continue;
+                }
+                if (explored == parents.length) {
+                    int grown = Math.min(maxStates, parents.length << 1);
+                    parents = Arrays.copyOf(parents, grown);
+                    moves = Arrays.copyOf(moves, grown);
+                }
+                parents[explored] = id;
+                moves[explored] = (byte) m;
+                if (game.getStatus() == HeadlessGame.Status.WON) {
+                    return new Result(Outcome.SOLVED,
+                            trace(parents, moves, explored), explored + 1);
+                }
+                explored++;
+                if (explored >= maxStates) {
+                    return new Result(Outcome.GAVE_UP, null, explored);
+                }
+                queue.add(game.snapshot());
+                ids.add(explored - 1);
+            }
+        }
+        return new Result(Outcome.UNSOLVABLE, null, explored);
+    }
+
+    /**
+     * Runs ticks without input until every slide has finished
+     * and the player's next move is due.
+     *
+     * @return false if the game never settles, such as on an ice loop.
+     */
+    private static boolean settle(final HeadlessGame game) {
+        for (int ticks = 0; ticks < MAX_SETTLE_TICKS; ticks++) {
+            if (game.getStatus() != HeadlessGame.Status.RUNNING
+                    || (game.isSettled() && game.isPlayerDue())) {
+                return true;
+            }
+            game.tick();
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a move would send the player round an ice loop that
+     * nothing can interrupt: the level's {@link IceSlideTable} gives a
+     * looping slide from the cell the move enters, and nothing lies on
+     * that cell or on the loop. Such a game would never settle. It is
+     * called once the game has settled, so no other actor is sliding.
+     */
+    private static boolean slidesForever(final HeadlessGame game,
+                                         final Direction move) {
+        Player player = game.getPlayer();
+        LevelData level = game.getLevel();
+        int x = (int) (player.getPosition().getX() + move.getDx());
+        int y = (int) (player.getPosition().getY() + move.getDy());
+        SlidePath path = level.getIceSlideTable().get(x, y, move);
+        if (path == null || path.getOutcome() != SlidePath.Outcome.LOOP
+                || isTaken(level, x, y)) {
+            return false;
+        }
+        for (int step = 0; step < path.length(); step++) {
+            if (isTaken(level, path.getX(step), path.getY(step))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTaken(final LevelData level,
+                                   final int x,
+                                   final int y) {
+        Entity occupant = level.getLevelRenderer().getOccupant(x, y);
+        return (occupant != null && !(occupant instanceof Player))
+                || hasCollectibleAt(level, x, y);
+    }
+
+    private static boolean hasCollectibleAt(final LevelData level,
+                                            final int x,
+                                            final int y) {
+        for (Collectible collectible : level.getCollectibles()) {
+            if ((int) collectible.getPosition().getX() == x
+                    && (int) collectible.getPosition().getY() == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follows the parent links back from a state to the start.
+     */
+    private static List<Direction> trace(final int[] parents,
+                                         final byte[] moves,
+                                         final int id) {
+        List<Direction> path = new ArrayList<>();
+        for (int node = id; parents[node] >= 0; node = parents[node]) {
+            path.add(MOVES[moves[node]]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Solves the levels named on the command line.
+     *
+     * @param args The options and level files or directories.
+     * @throws IOException If a level directory cannot be read.
+     */
+    public static void main(final String[] args) throws IOException {
+        int threads = FileBatch.defaultThreads();
+        int maxStates = DEFAULT_MAX_STATES;
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            if (FileBatch.isThreadsOption(arg)) {
+                threads = FileBatch.parseThreads(arg);
+            } else if (arg.startsWith(MAX_STATES_OPTION)) {
+                maxStates = Integer.parseInt(
+                        arg.substring(MAX_STATES_OPTION.length()));
+            } else {
+                FileBatch.collect(Paths.get(arg), LEVEL_EXTENSION, files);
+            }
+        }
+
+        boolean failed = false;
+        for (NamedResult named : solveAll(files, threads, maxStates)) {
+            Result result = named.result;
+            if (result == null) {
+                System.out.printf("%s ERROR %s%n", named.name, named.error);
+                failed = true;
+                continue;
+            }
+            if (result.getOutcome() == Outcome.SOLVED) {
+                System.out.printf("%s SOLVED moves=%d states=%d %s%n",
+                        named.name, result.getMoveCount(),
+                        result.getStatesExplored(), result.getMoves());
+            } else {
+                System.out.printf("%s %s states=%d%n", named.name,
+                        result.getOutcome(), result.getStatesExplored());
+                failed |= result.getOutcome() == Outcome.UNSOLVABLE;
+            }
+        }
+        if (failed) {
+            System.exit(FAILURE_STATUS);
+        }
+    }
+
+    /**
+     * Solves every level on a pool of the given size.
+     *
+     * @param files     The level files.
+     * @param threads   The number of worker threads.
+     * @param maxStates The state limit of each search.
+     * @return The results, sorted by level name.
+     */
+    private static List<NamedResult> solveAll(final List<Path> files,
+                                              final int threads,
+                                              final int maxStates) {
+        LevelSolver solver = new LevelSolver(maxStates);
+        List<NamedResult> results = new ArrayList<>(FileBatch.runAll(
+                files, threads, file -> solveFile(solver, file)));
+        results.sort(Comparator.comparing(r -> r.name));
+        return results;
+    }
+
+    private static NamedResult solveFile(final LevelSolver solver,
+                                         final Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return new NamedResult(name, solver.solve(file.toString()), null);
+        } catch (IOException | RuntimeException e) {
+            return new NamedResult(name, null, e.toString());
+        }
+    }
+
+    /**
+     * The result of searching a level.
+     */
+    public static final class Result {
+        private final Outcome outcome;
+        private final List<Direction> moves;
+        private final int statesExplored;
+
+        Result(final Outcome outcome,
+               final List<Direction> moves,
+               final int statesExplored) {
+            this.outcome = outcome;
+            this.moves = moves;
+            this.statesExplored = statesExplored;
+        }
+
+        /**
+         * Gets the verdict of the search.
+         *
+         * @return The outcome.
+         */
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * Gets a shortest winning sequence of moves.
+         *
+         * @return The moves, or null if no win was found.
+         */
+        public List<Direction> getMoves() {
+            return moves;
+        }
+
+        /**
+         * Gets the minimum number of moves needed to win.
+         *
+         * @return The move count, or -1 if no win was found.
+         */
+        public int getMoveCount() {
+            return moves == null ? -1 : moves.size();
+        }
+
+        /**
+         * Gets the number of distinct states the search explored.
+         *
+         * @return The state count.
+         */
+        public int getStatesExplored() {
+            return statesExplored;
+        }
+    }
+
+    /**
+     * The result of searching one level file.
+     */
+    private static final class NamedResult {
+        private final String name;
+        private final Result result;
+        private final String error;
+
+        NamedResult(final String name,
+                    final Result result,
+                    final String error) {
+            this.name = name;
+            this.result = result;
+            this.error = error;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.group4.chipgame.Level;
 
 import com.group4.chipgame.Level.saving.ActorFactory;
+import com.group4.chipgame.Level.saving.AutosaveJournal;
 import com.group4.chipgame.Level.saving.CollectibleFactory;
 import com.group4.chipgame.Level.saving.TileFactory;
 import com.group4.chipgame.entities.actors.Actor;
@@ -10,6 +11,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -37,6 +39,17 @@ public class LevelStateManager {
     public static void saveLevel(final LevelData levelData,
                                  final String filePath)
             throws IOException {
+        saveToFile(filePath, toJson(levelData).toString(INDENT_FACTOR));
+    }
+
+    /**
+     * Serializes the current state of the level to a JSON object,
+     * in the format read by {@link #loadLevel(String, LevelRenderer)}.
+     *
+     * @param levelData The current state of the level.
+     * @return The level state as JSON.
+     */
+    public static JSONObject toJson(final LevelData levelData) {
         JSONObject levelState = new JSONObject();
         JSONArray tilesArray = new JSONArray();
         JSONArray actorsArray = new JSONArray();
@@ -51,17 +64,18 @@ public class LevelStateManager {
         levelState.put("tiles", tilesArray);
         levelState.put("actors", actorsArray);
         levelState.put("collectibles", collectiblesArray);
-
-        saveToFile(filePath, levelState.toString(INDENT_FACTOR));
+        return levelState;
     }
 
     private static void serializeTiles(final LevelData levelData,
                                        final JSONArray tilesArray) {
-        for (Tile[] row : levelData.getTiles()) {
+        LevelTiles tiles = levelData.getTiles();
+        for (int y = 0; y < tiles.getHeight(); y++) {
             JSONArray rowArray = new JSONArray();
-            for (Tile tile : row) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                Tile tile = tiles.get(x, y);
                 JSONObject tileJson = (tile != null)
-                        ? tile.serialize()
+                        ? tile.serialize(x, y)
                         : new JSONObject().put("type", "Empty");
                 rowArray.put(tileJson);
             }
@@ -96,6 +110,8 @@ public class LevelStateManager {
 
     /**
      * Loads a level from a file into a LevelData object.
+     * If the file is an autosave checkpoint, its journal
+     * is replayed onto it.
      *
      * @param filePath  The file path of the level data to load.
      * @param renderer  The renderer to be used for the loaded level.
@@ -106,8 +122,35 @@ public class LevelStateManager {
                                       final LevelRenderer renderer)
             throws IOException {
         String fileContent = Files.readString(Paths.get(filePath));
-        JSONObject levelState = new JSONObject(fileContent);
+        return fromJson(new JSONObject(fileContent), renderer,
+                Paths.get(filePath));
+    }
+
+    /**
+     * Builds a level from a state serialized by {@link #toJson(LevelData)},
+     * such as a keyframe received from a spectator stream.
+     *
+     * @param levelState The level state as JSON.
+     * @param renderer   The renderer to be used for the level.
+     * @return The level.
+     */
+    public static LevelData fromJson(final JSONObject levelState,
+                                     final LevelRenderer renderer) {
+        try {
+            return fromJson(levelState, renderer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
+    /**
+     * Builds a level from its JSON state, replaying the journal
+     * of an autosave checkpoint onto it if there is one.
+     */
+    private static LevelData fromJson(final JSONObject levelState,
+                                      final LevelRenderer renderer,
+                                      final Path filePath)
+            throws IOException {
         int timer = levelState.optInt("timer", DEFAULT_TIMER);
         String levelFilePath = levelState.optString("levelPath", "null");
 
@@ -118,13 +161,13 @@ public class LevelStateManager {
         int numRows = tilesArray.length();
         int numCols = numRows > 0 ? tilesArray.getJSONArray(0).length() : 0;
 
-        Tile[][] tiles = new Tile[numRows][numCols];
+        LevelTiles tiles = new LevelTiles(numCols, numRows);
 
         for (int i = 0; i < numRows; i++) {
             JSONArray rowArray = tilesArray.getJSONArray(i);
-            for (int j = 0; j < rowArray.length(); j++) {
+            for (int j = 0; j < rowArray.length() && j < numCols; j++) {
                 JSONObject tileJson = rowArray.getJSONObject(j);
-                tiles[i][j] = TileFactory.createTile(tileJson);
+                tiles.set(j, i, TileFactory.createTile(tileJson));
             }
         }
         List<Actor> actors = new ArrayList<>();
@@ -139,6 +182,13 @@ public class LevelStateManager {
             collectibles.add(CollectibleFactory.
                     createCollectible(collectibleJson));
         }
+        if (filePath != null
+                && levelState.has(AutosaveJournal.GENERATION_KEY)) {
+            timer = AutosaveJournal.replay(
+                    AutosaveJournal.journalFor(filePath),
+                    levelState.getLong(AutosaveJournal.GENERATION_KEY),
+                    tiles, actors, collectibles, timer);
+        }
 
         return new LevelData(tiles,
                 numCols,
@@ -0,0 +1,319 @@
+package com.group4.chipgame.Level;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A streaming reader for level files.
+ * The file is memory-mapped and the tiles array is tokenized
+ * row by row, handing each tile type to a visitor without ever
+ * building a JSON tree for the grid. All other top-level fields
+ * (timer, actors, collectibles) are small and are parsed normally.
+ */
+public class LevelStreamReader {
+    private static final String TILES_KEY = "tiles";
+    private static final String TYPE_KEY = "type";
+    private static final int UNICODE_ESCAPE_LENGTH = 4;
+    private static final int HEX_RADIX = 16;
+
+    private final String path;
+    private MappedByteBuffer buffer;
+    private int position;
+
+    /**
+     * Constructs a reader for the specified level file.
+     *
+     * @param path The path to the level file.
+     */
+    public LevelStreamReader(final String path) {
+        this.path = path;
+    }
+
+    /**
+     * Reads the level, streaming every tile to the visitor.
+     *
+     * @param visitor The visitor receiving each tile type,
+     *                or null to skip the tiles array entirely.
+     * @return The top-level fields of the level other than the tiles.
+     * @throws IOException If the file cannot be read or is malformed.
+     */
+    public JSONObject read(final TileVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+                Paths.get(path), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Level file too large to map: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, channel.size());
+        }
+        position = 0;
+        try {
+            return readTopLevel(visitor);
+        } finally {
+            buffer = null;
+        }
+    }
+
+    /**
+     * Walks the top-level object, streaming the tiles
+     * array and parsing the remaining fields.
+     */
+    private JSONObject readTopLevel(final TileVisitor visitor)
+            throws IOException {
+        JSONObject header = new JSONObject();
+        expect('{');
+        if (peek() == '}') {
+            position++;
+            return header;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            if (TILES_KEY.equals(key)) {
+                if (visitor == null) {
+                    skipValue();
+                } else {
+                    readTiles(visitor);
+                }
+            } else {
+                int start = skipWhitespace();
+                skipValue();
+                header.put(key, new JSONTokener(
+                        decode(start, position)).nextValue());
+            }
+        } while (nextSeparator('}'));
+        return header;
+    }
+
+    /**
+     * Streams the tiles array row by row.
+     */
+    private void readTiles(final TileVisitor visitor) throws IOException {
+        expect('[');
+        if (peek() == ']') {
+            position++;
+            return;
+        }
+        int y = 0;
+        do {
+            expect('[');
+            int x = 0;
+            if (peek() != ']') {
+                do {
+                    visitor.visit(x, y, readTileType());
+                    x++;
+                } while (nextSeparator(']'));
+            } else {
+                position++;
+            }
+            visitor.endRow(y, x);
+            y++;
+        } while (nextSeparator(']'));
+    }
+
+    /**
+     * Reads a single tile, which is either a type
+     * string or an object with a type field.
+     */
+    private String readTileType() throws IOException {
+        char next = peek();
+        if (next == '"') {
+            return readString();
+        }
+        if (next == '{') {
+            int start = skipWhitespace();
+            skipValue();
+            return new JSONObject(decode(start, position))
+                    .optString(TYPE_KEY, null);
+        }
+        skipValue();
+        return null;
+    }
+
+    /**
+     * Consumes a separator, returning true for a comma
+     * and false for the given closing bracket.
+     */
+    private boolean nextSeparator(final char close) throws IOException {
+        char c = next();
+        if (c == ',') {
+            return true;
+        }
+        if (c == close) {
+            return false;
+        }
+        throw error("Expected ',' or '" + close + "'");
+    }
+
+    /**
+     * Skips over a complete JSON value of any type.
+     */
+    private void skipValue() throws IOException {
+        char c = peek();
+        if (c == '"') {
+            readString();
+            return;
+        }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            do {
+                char b = (char) (buffer.get(position) & 0xFF);
+                if (b == '"') {
+                    readString();
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+                position++;
+            } while (depth > 0 && position < buffer.limit());
+            if (depth > 0) {
+                throw error("Unterminated value");
+            }
+            return;
+        }
+        while (position < buffer.limit()) {
+            char b = (char) (buffer.get(position) & 0xFF);
+            if (b == ',' || b == '}' || b == ']'
+                    || Character.isWhitespace(b)) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Reads a JSON string, decoding escape sequences. The text between
+     * escapes is decoded a run at a time, and the escapes are kept as
+     * characters, so a surrogate pair written as two escapes joins up.
+     */
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder text = null;
+        int start = position;
+        while (position < buffer.limit()) {
+            byte b = buffer.get(position);
+            if (b == '"') {
+                String run = decode(start, position);
+                position++;
+                return text == null ? run : text.append(run).toString();
+            }
+            if (b == '\\') {
+                if (text == null) {
+                    text = new StringBuilder();
+                }
+                text.append(decode(start, position));
+                position++;
+                text.append(readEscape());
+                start = position;
+                continue;
+            }
+            position++;
+        }
+        throw error("Unterminated string");
+    }
+
+    /**
+     * Reads the character following a backslash.
+     */
+    private char readEscape() throws IOException {
+        char c = next();
+        return switch (c) {
+            case 'n' -> '\n';
+            case 't' -> '\t';
+            case 'r' -> '\r';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'u' -> {
+                if (position + UNICODE_ESCAPE_LENGTH > buffer.limit()) {
+                    throw error("Unterminated string");
+                }
+                String hex = decode(position,
+                        position + UNICODE_ESCAPE_LENGTH);
+                try {
+                    char decoded = (char) Integer.parseInt(hex, HEX_RADIX);
+                    position += UNICODE_ESCAPE_LENGTH;
+                    yield decoded;
+                } catch (NumberFormatException e) {
+                    throw error("Invalid unicode escape");
+                }
+            }
+            default -> c;
+        };
+    }
+
+    /**
+     * Decodes a range of the mapped file as UTF-8.
+     */
+    private String decode(final int start, final int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int skipWhitespace() {
+        while (position < buffer.limit()
+                && Character.isWhitespace(
+                        (char) (buffer.get(position) & 0xFF))) {
+            position++;
+        }
+        return position;
+    }
+
+    private char peek() throws IOException {
+        skipWhitespace();
+        if (position >= buffer.limit()) {
+            throw error("Unexpected end of file");
+        }
+        return (char) (buffer.get(position) & 0xFF);
+    }
+
+    private char next() throws IOException {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(final char expected) throws IOException {
+        if (next() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private IOException error(final String message) {
+        return new IOException(message + " at byte "
+                + position + " in " + path);
+    }
+
+    /**
+     * Receives the tiles of a level as they are read.
+     */
+    public interface TileVisitor {
+        /**
+         * Called for every tile, in row-major order.
+         *
+         * @param x        The column of the tile.
+         * @param y        The row of the tile.
+         * @param tileType The type code of the tile, or null if absent.
+         */
+        void visit(int x, int y, String tileType);
+
+        /**
+         * Called once a row has been fully read.
+         *
+         * @param y     The row that was completed.
+         * @param width The number of tiles in the row.
+         */
+        default void endRow(final int y, final int width) {
+        }
+    }
+}
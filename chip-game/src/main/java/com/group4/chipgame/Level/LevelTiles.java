@@ -0,0 +1,150 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.tiles.Tile;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The tiles of a level. The type of every cell is kept in the level's
+ * {@link TileGrid}, and a cell of a stateless type resolves to the tile
+ * shared by its type, so those cells hold no objects at all. Only
+ * stateful cells, such as buttons, traps and chip sockets, keep tiles
+ * of their own, in a sparse map ordered by cell.
+ */
+public class LevelTiles {
+    private final TileGrid grid;
+    private final Map<Integer, Tile> statefulTiles = new TreeMap<>();
+
+    /**
+     * Constructs the tiles of an empty level of the specified size.
+     *
+     * @param width  The width of the level.
+     * @param height The height of the level.
+     */
+    public LevelTiles(final int width, final int height) {
+        this(new TileGrid(width, height));
+    }
+
+    /**
+     * Constructs the tiles of a level over its grid, which the tiles
+     * take over. A stateful cell of the grid has no tile until one
+     * is set on it.
+     *
+     * @param grid The tile grid of the level.
+     */
+    public LevelTiles(final TileGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Gets the grid of tile types, which follows every tile set.
+     *
+     * @return The tile grid of the level.
+     */
+    public TileGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Gets the width of the level.
+     *
+     * @return The width in cells.
+     */
+    public int getWidth() {
+        return grid.getWidth();
+    }
+
+    /**
+     * Gets the height of the level.
+     *
+     * @return The height in cells.
+     */
+    public int getHeight() {
+        return grid.getHeight();
+    }
+
+    /**
+     * Checks if the coordinates lie within the level.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return true if the coordinates are in bounds.
+     */
+    public boolean isInBounds(final int x, final int y) {
+        return grid.isInBounds(x, y);
+    }
+
+    /**
+     * Gets the type of the tile at the specified position.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return The tile type, or EMPTY if out of bounds.
+     */
+    public TileType getType(final int x, final int y) {
+        return grid.getType(x, y);
+    }
+
+    /**
+     * Gets the tile at the specified position.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return The tile, or null if the cell is empty or out of bounds.
+     */
+    public Tile get(final int x, final int y) {
+        TileType type = grid.getType(x, y);
+        if (type == TileType.EMPTY) {
+            return null;
+        }
+        return type.isStateful()
+                ? statefulTiles.get(grid.index(x, y))
+                : type.getTile();
+    }
+
+    /**
+     * Puts a tile on a cell. A stateless tile only changes the
+     * cell's type; a stateful one is kept for the cell.
+     *
+     * @param x    The x-coordinate.
+     * @param y    The y-coordinate.
+     * @param tile The tile, or null for an empty cell.
+     */
+    public void set(final int x, final int y, final Tile tile) {
+        grid.set(x, y, tile);
+        int cell = grid.index(x, y);
+        if (tile != null && tile.getType().isStateful()) {
+            statefulTiles.put(cell, tile);
+        } else {
+            statefulTiles.remove(cell);
+        }
+    }
+
+    /**
+     * Visits the tiles of the stateful cells, row by row.
+     *
+     * @param visitor Called with each stateful cell and its tile.
+     */
+    public void forEachStateful(final CellVisitor visitor) {
+        int width = grid.getWidth();
+        statefulTiles.forEach((cell, tile)
+                -> visitor.visit(cell % width, cell / width, tile));
+    }
+
+    /**
+     * Receives the cells found by {@link #forEachStateful(CellVisitor)}.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+        /**
+         * Visits a cell.
+         *
+         * @param x    The column of the cell.
+         * @param y    The row of the cell.
+         * @param tile The tile of the cell.
+         */
+        void visit(int x, int y, Tile tile);
+    }
+}
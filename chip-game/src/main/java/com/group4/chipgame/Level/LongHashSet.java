@@ -0,0 +1,115 @@
+package com.group4.chipgame.Level;
+
+/**
+ * A compact set of longs using open addressing in a single array.
+ * It is used for visited sets of state hashes, where a boxed set
+ * would need several times the memory. Zero marks an empty slot,
+ * so the value zero is tracked by a separate flag.
+ */
+public class LongHashSet {
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+    private static final long SPREAD = 0x9e3779b97f4a7c15L;
+    private static final int LOAD_FACTOR_SHIFT = 1;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    /**
+     * Constructs an empty set.
+     */
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty set sized for an expected number of values.
+     *
+     * @param expected The number of values expected.
+     */
+    public LongHashSet(final int expected) {
+        int capacity = Integer.highestOneBit(
+                Math.max(expected, DEFAULT_CAPACITY) << LOAD_FACTOR_SHIFT);
+        slots = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value The value to add.
+     * @return true if the value was not already in the set.
+     */
+    public boolean add(final long value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int slot = slot(value);
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+        size++;
+        if (size << LOAD_FACTOR_SHIFT > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a value is in the set.
+     *
+     * @param value The value to look for.
+     * @return true if the set holds the value.
+     */
+    public boolean contains(final long value) {
+        if (value == 0) {
+            return hasZero;
+        }
+        int slot = slot(value);
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of values in the set.
+     *
+     * @return The size of the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slot(final long value) {
+        return (int) ((value * SPREAD) >>> Integer.SIZE) & mask;
+    }
+
+    private void grow() {
+        long[] old = slots;
+        slots = new long[old.length << 1];
+        mask = slots.length - 1;
+        for (long value : old) {
+            if (value != 0) {
+                int slot = slot(value);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = value;
+            }
+        }
+    }
+}
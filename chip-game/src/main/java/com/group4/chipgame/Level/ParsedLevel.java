@@ -0,0 +1,61 @@
+package com.group4.chipgame.Level;
+
+import org.json.JSONObject;
+
+/**
+ * A level file as read from disk, before it is built into a game.
+ * It holds the level's tiles and the rest of the file, but nothing
+ * that is drawn or bound to a game, so a level can be parsed on a
+ * background thread and built later on the JavaFX thread by
+ * {@link LevelLoader#build(ParsedLevel, com.group4.chipgame.GameContext)}.
+ *
+ * <p>A parsed level is built at most once, as its tiles become the
+ * tiles of the built level.
+ */
+public final class ParsedLevel {
+    private final String path;
+    private final LevelTiles tiles;
+    private final JSONObject header;
+
+    /**
+     * Constructs a parsed level.
+     *
+     * @param path   The path of the level file.
+     * @param tiles  The tiles of the level.
+     * @param header The fields of the file other than its tiles.
+     */
+    ParsedLevel(final String path,
+                final LevelTiles tiles,
+                final JSONObject header) {
+        this.path = path;
+        this.tiles = tiles;
+        this.header = header;
+    }
+
+    /**
+     * Gets the path of the level file.
+     *
+     * @return The path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the tiles of the level.
+     *
+     * @return The tiles.
+     */
+    LevelTiles getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Gets the fields of the level file other than its tiles.
+     *
+     * @return The timer, seed, actors and collectibles.
+     */
+    JSONObject getHeader() {
+        return header;
+    }
+}
@@ -0,0 +1,34 @@
+package com.group4.chipgame.Level;
+
+import java.util.Locale;
+
+/**
+ * The ways a frog can search for a path to the player.
+ * The choice changes which of several equally short paths a frog takes,
+ * so a recorded game must be replayed with the mode it was played with.
+ */
+public enum PathSearchMode {
+    /**
+     * A* over single cells, or over the entrances of a
+     * {@link HierarchicalPathfinder} on large levels.
+     */
+    A_STAR,
+    /**
+     * A {@link JumpPointSearch} on every level, which expands far fewer
+     * nodes in open areas and always finds a shortest path.
+     */
+    JUMP_POINT;
+
+    /**
+     * Gets the mode named by a command line option value,
+     * such as {@code a-star} or {@code jump-point}.
+     *
+     * @param value The option value.
+     * @return The mode.
+     * @throws IllegalArgumentException If no mode has that name.
+     */
+    public static PathSearchMode fromOption(final String value) {
+        return valueOf(value.trim().replace('-', '_')
+                .toUpperCase(Locale.ROOT));
+    }
+}
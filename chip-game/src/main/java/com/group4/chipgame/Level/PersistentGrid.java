@@ -0,0 +1,171 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.tiles.TileType;
+
+/**
+ * An immutable grid of tile types that shares structure between versions.
+ * The grid is split into square chunks of {@value #CHUNK_SIZE} cells a
+ * side, held in one array per row of chunks. Changing a cell copies only
+ * the chunk holding it, the array of its chunk row and the short array of
+ * rows: every other chunk and chunk row is shared with the previous
+ * version. Keeping a version per move therefore costs one small chunk per
+ * changed tile rather than a copy of the whole level, and two versions
+ * can be compared row by row and chunk by chunk, skipping what they share.
+ */
+public final class PersistentGrid {
+    private static final int CHUNK_BITS = 4;
+    /** The number of cells along each side of a chunk. */
+    public static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int width;
+    private final int height;
+    /** The chunks of the grid, indexed [chunk row][chunk column]. */
+    private final byte[][][] rows;
+
+    private PersistentGrid(final int width,
+                           final int height,
+                           final byte[][][] rows) {
+        this.width = width;
+        this.height = height;
+        this.rows = rows;
+    }
+
+    /**
+     * Builds a persistent grid holding the tile types of a grid.
+     *
+     * @param grid The grid to copy.
+     * @return A persistent copy of the grid's tile types.
+     */
+    public static PersistentGrid of(final TileGrid grid) {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int columns = (width + CHUNK_MASK) >> CHUNK_BITS;
+        int rowCount = (height + CHUNK_MASK) >> CHUNK_BITS;
+        byte[][][] rows =
+                new byte[rowCount][columns][CHUNK_SIZE * CHUNK_SIZE];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                rows[y >> CHUNK_BITS][x >> CHUNK_BITS][offset(x, y)] =
+                        grid.getType(x, y).getCode();
+            }
+        }
+        return new PersistentGrid(width, height, rows);
+    }
+
+    /**
+     * Gets the width of the grid.
+     *
+     * @return The number of columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the grid.
+     *
+     * @return The number of rows.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the tile type of a cell.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return The cell's type, or EMPTY if it is out of bounds.
+     */
+    public TileType getType(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return TileType.EMPTY;
+        }
+        return TileType.fromCode(
+                rows[y >> CHUNK_BITS][x >> CHUNK_BITS][offset(x, y)]);
+    }
+
+    /**
+     * Gets a version of the grid with one cell changed.
+     * Only the path to the cell is copied: the array of chunk rows,
+     * the row holding the cell and the chunk holding it.
+     *
+     * @param x    The column of the cell.
+     * @param y    The row of the cell.
+     * @param type The new type of the cell.
+     * @return The new version, or this grid if nothing changed.
+     */
+    public PersistentGrid with(final int x,
+                               final int y,
+                               final TileType type) {
+        if (getType(x, y) == type
+                || x < 0 || y < 0 || x >= width || y >= height) {
+            return this;
+        }
+        int row = y >> CHUNK_BITS;
+        int column = x >> CHUNK_BITS;
+        byte[][][] copy = rows.clone();
+        copy[row] = copy[row].clone();
+        copy[row][column] = copy[row][column].clone();
+        copy[row][column][offset(x, y)] = type.getCode();
+        return new PersistentGrid(width, height, copy);
+    }
+
+    /**
+     * Visits every cell whose type differs in another version
+     * of this grid. Chunk rows and chunks the versions share are skipped.
+     *
+     * @param other   Another version of the same grid.
+     * @param visitor Called with each cell and its type in the other grid.
+     */
+    public void forEachDifference(final PersistentGrid other,
+                                  final CellVisitor visitor) {
+        for (int row = 0; row < rows.length; row++) {
+            byte[][] myRow = rows[row];
+            byte[][] theirRow = other.rows[row];
+            if (myRow == theirRow) {
+                continue;
+            }
+            for (int column = 0; column < myRow.length; column++) {
+                byte[] mine = myRow[column];
+                byte[] theirs = theirRow[column];
+                if (mine == theirs) {
+                    continue;
+                }
+                int originX = column << CHUNK_BITS;
+                int originY = row << CHUNK_BITS;
+                for (int i = 0; i < mine.length; i++) {
+                    if (mine[i] == theirs[i]) {
+                        continue;
+                    }
+                    int x = originX + (i & CHUNK_MASK);
+                    int y = originY + (i >> CHUNK_BITS);
+                    if (x < width && y < height) {
+                        visitor.visit(x, y, TileType.fromCode(theirs[i]));
+                    }
+                }
+            }
+        }
+    }
+
+    private static int offset(final int x, final int y) {
+        return ((y & CHUNK_MASK) << CHUNK_BITS) | (x & CHUNK_MASK);
+    }
+
+    /**
+     * Receives the cells found by
+     * {@link #forEachDifference(PersistentGrid, CellVisitor)}.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+        /**
+         * Visits a cell.
+         *
+         * @param x    The column of the cell.
+         * @param y    The row of the cell.
+         * @param type The type of the cell in the other grid.
+         */
+        void visit(int x, int y, TileType type);
+    }
+}
@@ -0,0 +1,311 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import javafx.geometry.Point2D;
+
+import java.util.List;
+
+/**
+ * An immutable picture of what enemies need to plan their moves, taken
+ * on the game thread at the end of a tick and read from planning
+ * threads. It holds the cells each movement class may enter and their
+ * connected regions, the cells held by actors and collectibles, where
+ * the player is and the path search mode of the game, so a plan is
+ * searched the same way as a move decided on the game thread.
+ *
+ * <p>Taking a snapshot is cheap: the passable layers and region labels
+ * are the frozen copies kept by the level's {@link WalkabilityMap},
+ * shared between snapshots until the terrain changes, and occupancy is
+ * a small set built from the positions of the actors and collectibles
+ * alone.
+ */
+public final class PlanningSnapshot {
+    private static final int NO_PLAYER = -1;
+    private static final MovementClass[] CLASSES = MovementClass.values();
+    private static final ThreadLocal<JumpPointSearch> SEARCHES =
+            new ThreadLocal<>();
+    private static final ThreadLocal<HierarchicalSearch[]> HIERARCHIES =
+            ThreadLocal.withInitial(
+                    () -> new HierarchicalSearch[CLASSES.length]);
+
+    private final long tick;
+    private final int width;
+    private final int height;
+    private final PathSearchMode mode;
+    private final BitLayer[] passable;
+    private final int[][] regions;
+    private final LongHashSet occupied;
+    private final int playerX;
+    private final int playerY;
+
+    private PlanningSnapshot(final long tick,
+                             final int width,
+                             final int height,
+                             final PathSearchMode mode,
+                             final BitLayer[] passable,
+                             final int[][] regions,
+                             final LongHashSet occupied,
+                             final int playerX,
+                             final int playerY) {
+        this.tick = tick;
+        this.width = width;
+        this.height = height;
+        this.mode = mode;
+        this.passable = passable;
+        this.regions = regions;
+        this.occupied = occupied;
+        this.playerX = playerX;
+        this.playerY = playerY;
+    }
+
+    /**
+     * Takes a snapshot of a level. It must be called on the game thread.
+     *
+     * @param levelRenderer The renderer of the level.
+     * @param tick          The tick that has just ended.
+     * @return The snapshot.
+     */
+    public static PlanningSnapshot capture(final LevelRenderer levelRenderer,
+                                           final long tick) {
+        LevelTiles tiles = levelRenderer.getTiles();
+        int height = tiles.getHeight();
+        int width = tiles.getWidth();
+        WalkabilityMap walkability = levelRenderer.getWalkability();
+        BitLayer[] passable = new BitLayer[CLASSES.length];
+        int[][] regions = new int[CLASSES.length][];
+        for (MovementClass movementClass : CLASSES) {
+            passable[movementClass.ordinal()] =
+                    walkability.frozenPassable(movementClass);
+            regions[movementClass.ordinal()] =
+                    walkability.frozenRegions(movementClass);
+        }
+
+        List<Actor> actors = levelRenderer.getActors();
+        List<Collectible> collectibles = levelRenderer.getCollectibles();
+        LongHashSet occupied = new LongHashSet(
+                actors.size() + collectibles.size());
+        int playerX = NO_PLAYER;
+        int playerY = NO_PLAYER;
+        for (Actor actor : actors) {
+            Point2D position = actor.getCurrentPosition();
+            int x = (int) position.getX();
+            int y = (int) position.getY();
+            if (actor instanceof Player) {
+                playerX = x;
+                playerY = y;
+            } else {
+                occupied.add(cell(width, x, y));
+            }
+        }
+        for (Collectible collectible : collectibles) {
+            Point2D position = collectible.getPosition();
+            occupied.add(cell(width, (int) position.getX(),
+                    (int) position.getY()));
+        }
+        return new PlanningSnapshot(tick, width, height,
+                levelRenderer.getContext().getPathSearchMode(), passable,
+                regions, occupied, playerX, playerY);
+    }
+
+    /**
+     * Gets the tick at the end of which the snapshot was taken.
+     *
+     * @return The tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Checks if a movement class may enter a cell, ignoring occupants.
+     *
+     * @param movementClass The movement class.
+     * @param x             The x-coordinate of the cell.
+     * @param y             The y-coordinate of the cell.
+     * @return True if the cell is in the level and may be entered.
+     */
+    public boolean isPassable(final MovementClass movementClass,
+                              final int x,
+                              final int y) {
+        return isInBounds(x, y)
+                && passable[movementClass.ordinal()].get(x, y);
+    }
+
+    /**
+     * Checks if an actor of a movement class standing on one cell could
+     * ever walk to another, ignoring other actors in the way, as
+     * {@link WalkabilityMap#canReach} does on the game thread.
+     *
+     * @param movementClass The movement class of the actor.
+     * @param fromX         The x-coordinate of the actor.
+     * @param fromY         The y-coordinate of the actor.
+     * @param toX           The x-coordinate of the target.
+     * @param toY           The y-coordinate of the target.
+     * @return true if the target lies in a region the actor can enter.
+     */
+    public boolean canReach(final MovementClass movementClass,
+                            final int fromX,
+                            final int fromY,
+                            final int toX,
+                            final int toY) {
+        return WalkabilityMap.connects(regions[movementClass.ordinal()],
+                width, height, fromX, fromY, toX, toY);
+    }
+
+    /**
+     * Gets the path search mode the game was in.
+     *
+     * @return The path search mode.
+     */
+    public PathSearchMode getPathSearchMode() {
+        return mode;
+    }
+
+    /**
+     * Checks if a cell is held by an actor other than
+     * the player, or by a collectible.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the cell is occupied.
+     */
+    public boolean isOccupied(final int x, final int y) {
+        return isInBounds(x, y) && occupied.contains(cell(width, x, y));
+    }
+
+    /**
+     * Checks if the level had a player.
+     *
+     * @return True if there was a player.
+     */
+    public boolean hasPlayer() {
+        return playerX != NO_PLAYER;
+    }
+
+    /**
+     * Gets the column the player was on.
+     *
+     * @return The player's x-coordinate.
+     */
+    public int getPlayerX() {
+        return playerX;
+    }
+
+    /**
+     * Gets the row the player was on.
+     *
+     * @return The player's y-coordinate.
+     */
+    public int getPlayerY() {
+        return playerY;
+    }
+
+    /**
+     * Checks if the player was on a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return True if the player was there.
+     */
+    public boolean isPlayerAt(final int x, final int y) {
+        return hasPlayer() && x == playerX && y == playerY;
+    }
+
+    /**
+     * Gets a jump point search sized for the level. Each thread has its
+     * own, kept from one snapshot to the next while the size stays the
+     * same, so planning threads never share search state.
+     *
+     * @return The calling thread's search.
+     */
+    public JumpPointSearch pathSearch() {
+        JumpPointSearch search = SEARCHES.get();
+        if (search == null || !search.fits(width, height)) {
+            search = new JumpPointSearch(width, height);
+            SEARCHES.set(search);
+        }
+        return search;
+    }
+
+    /**
+     * Gets a hierarchical path-finder over the terrain a movement class
+     * may enter, if the game would search this level hierarchically:
+     * in {@link PathSearchMode#A_STAR} mode on a level large enough for
+     * it. Each thread has its own, brought up to date with the
+     * snapshot's terrain by updating only the cells that changed.
+     *
+     * @param movementClass The movement class of the searching actor.
+     * @return The calling thread's path-finder, or null if the level
+     *         is searched cell by cell.
+     */
+    public HierarchicalPathfinder hierarchicalSearch(
+            final MovementClass movementClass) {
+        if (mode != PathSearchMode.A_STAR
+                || !HierarchicalPathfinder.suits(width, height)) {
+            return null;
+        }
+        HierarchicalSearch[] searches = HIERARCHIES.get();
+        int c = movementClass.ordinal();
+        HierarchicalSearch search = searches[c];
+        if (search == null || !search.fits(width, height)) {
+            search = new HierarchicalSearch(width, height, passable[c]);
+            searches[c] = search;
+        }
+        return search.follow(passable[c]);
+    }
+
+    private boolean isInBounds(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private static long cell(final int width, final int x, final int y) {
+        return (long) y * width + x;
+    }
+
+    /**
+     * A planning thread's hierarchical path-finder and
+     * the frozen terrain layer it was last brought up to.
+     */
+    private static final class HierarchicalSearch {
+        private final int width;
+        private final int height;
+        private final HierarchicalPathfinder paths;
+        private BitLayer terrain;
+
+        HierarchicalSearch(final int width,
+                           final int height,
+                           final BitLayer terrain) {
+            this.width = width;
+            this.height = height;
+            this.terrain = terrain;
+            this.paths = new HierarchicalPathfinder(width, height,
+                    (x, y) -> this.terrain.get(x, y));
+        }
+
+        boolean fits(final int levelWidth, final int levelHeight) {
+            return width == levelWidth && height == levelHeight;
+        }
+
+        /**
+         * Moves the path-finder onto another version of the terrain,
+         * updating the cells whose terrain differs.
+         */
+        HierarchicalPathfinder follow(final BitLayer layer) {
+            if (layer != terrain) {
+                BitLayer previous = terrain;
+                terrain = layer;
+                for (int y = 0; y < height; y++) {
+                    for (int x = 0; x < width; x++) {
+                        if (previous.get(x, y) != layer.get(x, y)) {
+                            paths.update(x, y);
+                        }
+                    }
+                }
+            }
+            return paths;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * The precomputed trajectory of a slide across ice.
+ * A path is a list of single-tile moves, one per slide step, followed
+ * by an outcome describing what happens on the step after the last move.
+ * Paths only depend on the tiles of the level; whether a cell is
+ * occupied is checked as each move is played.
+ */
+public final class SlidePath {
+    /**
+     * What happens once every move of the path has been played.
+     */
+    public enum Outcome {
+        /** The last move left the ice, so the slide is over. */
+        STOP,
+        /** The slide hit an obstacle and could not bounce back. */
+        BLOCKED,
+        /** The player reached a locked door that may need a key. */
+        DOOR,
+        /** A block reached water, which it fills. */
+        WATER,
+        /** The slide came back to a state it was already in. */
+        LOOP
+    }
+
+    private final int[] xs;
+    private final int[] ys;
+    private final Direction[] directions;
+    private final boolean[] bounces;
+    private final Outcome outcome;
+    private final int stopX;
+    private final int stopY;
+    private final int endX;
+    private final int endY;
+    private final Direction endDirection;
+    private final BitSet cells;
+
+    /**
+     * Constructs a slide path.
+     *
+     * @param xs           The column of each move's target.
+     * @param ys           The row of each move's target.
+     * @param directions   The direction of each move.
+     * @param bounces      Whether each move is a bounce off an obstacle.
+     * @param outcome      What happens after the last move.
+     * @param stopX        The column the actor is in after the last move.
+     * @param stopY        The row the actor is in after the last move.
+     * @param endX         The column of the outcome's target cell.
+     * @param endY         The row of the outcome's target cell.
+     * @param endDirection The slide direction after the last move.
+     * @param cells        The cell indices whose tiles the path read.
+     */
+    SlidePath(final int[] xs,
+              final int[] ys,
+              final Direction[] directions,
+              final boolean[] bounces,
+              final Outcome outcome,
+              final int stopX,
+              final int stopY,
+              final int endX,
+              final int endY,
+              final Direction endDirection,
+              final BitSet cells) {
+        this.xs = xs;
+        this.ys = ys;
+        this.directions = directions;
+        this.bounces = bounces;
+        this.outcome = outcome;
+        this.stopX = stopX;
+        this.stopY = stopY;
+        this.endX = endX;
+        this.endY = endY;
+        this.endDirection = endDirection;
+        this.cells = cells;
+    }
+
+    /**
+     * Gets the number of moves in the path.
+     *
+     * @return The number of moves.
+     */
+    public int length() {
+        return xs.length;
+    }
+
+    /**
+     * Gets the column a move ends in.
+     *
+     * @param step The index of the move.
+     * @return The target column.
+     */
+    public int getX(final int step) {
+        return xs[step];
+    }
+
+    /**
+     * Gets the row a move ends in.
+     *
+     * @param step The index of the move.
+     * @return The target row.
+     */
+    public int getY(final int step) {
+        return ys[step];
+    }
+
+    /**
+     * Gets the direction of a move.
+     *
+     * @param step The index of the move.
+     * @return The direction of the move.
+     */
+    public Direction getDirection(final int step) {
+        return directions[step];
+    }
+
+    /**
+     * Checks if a move bounces back off an obstacle
+     * rather than carrying on with the slide.
+     *
+     * @param step The index of the move.
+     * @return true if the move is a bounce.
+     */
+    public boolean isBounce(final int step) {
+        return bounces[step];
+    }
+
+    /**
+     * Gets what happens once every move has been played.
+     *
+     * @return The outcome of the path.
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the column the actor is in once every move has been played,
+     * which is the start of the slide if there are no moves.
+     *
+     * @return The column the slide stops in.
+     */
+    public int getStopX() {
+        return stopX;
+    }
+
+    /**
+     * Gets the row the actor is in once every move has been played.
+     *
+     * @return The row the slide stops in.
+     */
+    public int getStopY() {
+        return stopY;
+    }
+
+    /**
+     * Gets the column of the cell the outcome concerns,
+     * such as the door or the water being entered.
+     *
+     * @return The column of the outcome's target.
+     */
+    public int getEndX() {
+        return endX;
+    }
+
+    /**
+     * Gets the row of the cell the outcome concerns.
+     *
+     * @return The row of the outcome's target.
+     */
+    public int getEndY() {
+        return endY;
+    }
+
+    /**
+     * Gets the direction the slide is heading in after the last move.
+     *
+     * @return The final slide direction.
+     */
+    public Direction getEndDirection() {
+        return endDirection;
+    }
+
+    /**
+     * Checks if the path read the tile of a cell,
+     * meaning the path is stale once that tile changes.
+     *
+     * @param index The row-major index of the cell.
+     * @return true if the path depends on the cell.
+     */
+    boolean dependsOn(final int index) {
+        return cells.get(index);
+    }
+
+    /**
+     * Passes the index of every cell whose tile the path read.
+     *
+     * @param action What to do with each row-major cell index.
+     */
+    void forEachCell(final IntConsumer action) {
+        for (int i = cells.nextSetBit(0); i >= 0;
+             i = cells.nextSetBit(i + 1)) {
+            action.accept(i);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.collectibles.Key;
+import com.group4.chipgame.events.GameEvent;
+import com.group4.chipgame.events.GameEventBus;
+import javafx.geometry.Point2D;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A 64-bit Zobrist fingerprint of a running level, kept up to date
+ * from the level's event bus. It covers the tile types, the kind and
+ * position of every actor, the collectibles still lying about and the
+ * player's keys and chips. Buttons are pressed by whatever stands on
+ * them, so their state is covered by the positions.
+ *
+ * <p>Every move, collection, removal and tile swap changes the hash
+ * with a couple of XORs, so the fingerprint can be read every tick
+ * for save deduplication, replay checks and desync detection.
+ * The keys come from a {@link ZobristTable} with a fixed seed,
+ * so the same state always has the same hash across runs.
+ */
+public class StateHash {
+    private static final Key.KeyColor[] KEY_COLORS = Key.KeyColor.values();
+    private static final int NO_CELL = -1;
+
+    private final ZobristTable keys;
+    private final int width;
+    private final int height;
+    private final Map<Entity, Integer> cells = new IdentityHashMap<>();
+    private final Consumer<GameEvent> listener = this::onEvent;
+    private Player player;
+    private long inventory;
+    private long hash;
+
+    private StateHash(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.keys = new ZobristTable(width, height,
+                ZobristTable.DEFAULT_SEED);
+    }
+
+    /**
+     * Builds the hash of a level from its starting contents.
+     *
+     * @param grid         The tile grid of the level.
+     * @param actors       The actors of the level.
+     * @param collectibles The collectibles of the level.
+     * @return The hash of the level.
+     */
+    public static StateHash build(final TileGrid grid,
+                                  final List<Actor> actors,
+                                  final List<Collectible> collectibles) {
+        StateHash stateHash =
+                new StateHash(grid.getWidth(), grid.getHeight());
+        stateHash.reset(grid, actors, collectibles);
+        return stateHash;
+    }
+
+    /**
+     * Subscribes the hash to the events of a level,
+     * so that it follows every change from now on.
+     *
+     * @param bus The level's event bus.
+     */
+    public void attach(final GameEventBus bus) {
+        bus.unsubscribe(listener);
+        bus.subscribe(GameEvent.Type.ENTER, listener);
+        bus.subscribe(GameEvent.Type.LEAVE, listener);
+        bus.subscribe(GameEvent.Type.COLLECT, listener);
+        bus.subscribe(GameEvent.Type.REMOVE, listener);
+        bus.subscribe(GameEvent.Type.TILE_REPLACED, listener);
+    }
+
+    /**
+     * Stops the hash following the events of a level.
+     *
+     * @param bus The level's event bus.
+     */
+    public void detach(final GameEventBus bus) {
+        bus.unsubscribe(listener);
+    }
+
+    /**
+     * Gets the current fingerprint of the level.
+     *
+     * @return The 64-bit Zobrist hash.
+     */
+    public long get() {
+        return hash;
+    }
+
+    /**
+     * Recomputes the hash from scratch, for checking
+     * that the incremental updates have not drifted.
+     *
+     * @param grid         The tile grid of the level.
+     * @param actors       The actors of the level.
+     * @param collectibles The collectibles of the level.
+     * @return The recomputed hash, which is also the new current hash.
+     */
+    public long reset(final TileGrid grid,
+                      final List<Actor> actors,
+                      final List<Collectible> collectibles) {
+        hash = 0;
+        cells.clear();
+        player = null;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                hash ^= keys.tile(y * width + x, grid.getType(x, y));
+            }
+        }
+        for (Actor actor : actors) {
+            if (actor instanceof Player found && player == null) {
+                player = found;
+            }
+            place(actor, cellOf(actor.getPosition()));
+        }
+        for (Collectible collectible : collectibles) {
+            place(collectible, cellOf(collectible.getPosition()));
+        }
+        inventory = inventoryKey();
+        hash ^= inventory;
+        return hash;
+    }
+
+    /**
+     * Applies a single event to the hash.
+     */
+    private void onEvent(final GameEvent event) {
+        switch (event.getType()) {
+            case ENTER -> place(event.getActor(),
+                    cellOf(event.getActor().getPosition()));
+            case LEAVE, REMOVE -> lift(event.getActor());
+            case COLLECT -> {
+                lift(event.getSubject());
+                refreshInventory();
+            }
+            case TILE_REPLACED -> {
+                int cell = cellOf(event.getX(), event.getY());
+                if (cell != NO_CELL) {
+                    hash ^= keys.tile(cell,
+                            event.getReplacedTile().getType());
+                    hash ^= keys.tile(cell, event.getTile().getType());
+                }
+                refreshInventory();
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Records an entity on a cell, moving it there
+     * if it was recorded somewhere else.
+     */
+    private void place(final Entity entity, final int cell) {
+        lift(entity);
+        long key = keyOf(entity, cell);
+        if (key != 0) {
+            hash ^= key;
+            cells.put(entity, cell);
+        }
+    }
+
+    /**
+     * Removes an entity from the cell it was recorded on.
+     */
+    private void lift(final Entity entity) {
+        Integer cell = cells.remove(entity);
+        if (cell != null) {
+            hash ^= keyOf(entity, cell);
+        }
+    }
+
+    /**
+     * Replaces the key of the player's keys and chips,
+     * which change when items are collected or sockets opened.
+     */
+    private void refreshInventory() {
+        long next = inventoryKey();
+        hash ^= inventory ^ next;
+        inventory = next;
+    }
+
+    private long inventoryKey() {
+        if (player == null) {
+            return 0;
+        }
+        long key = keys.chips(Math.max(0, player.getChipsCount()));
+        for (Key.KeyColor color : KEY_COLORS) {
+            if (player.hasKey(color)) {
+                key ^= keys.key(color);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Gets the key of an entity on a cell, or 0 if the entity
+     * or cell is not part of the hash.
+     */
+    private long keyOf(final Entity entity, final int cell) {
+        if (cell == NO_CELL) {
+            return 0;
+        }
+        if (entity instanceof Key key) {
+            return keys.item(cell, ZobristTable.keyItem(key.getColor()));
+        }
+        if (entity instanceof Collectible) {
+            return keys.item(cell, ZobristTable.ITEM_CHIP);
+        }
+        ActorKind kind = ActorKind.of(entity);
+        return kind == null ? 0 : keys.actor(cell, kind);
+    }
+
+    private int cellOf(final Point2D position) {
+        return position == null ? NO_CELL
+                : cellOf((int) position.getX(), (int) position.getY());
+    }
+
+    private int cellOf(final int x, final int y) {
+        return x < 0 || y < 0 || x >= width || y >= height
+                ? NO_CELL : y * width + x;
+    }
+}
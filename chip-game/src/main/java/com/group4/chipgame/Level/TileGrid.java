@@ -0,0 +1,197 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.tiles.Button;
+import com.group4.chipgame.entities.actors.tiles.ChipSocket;
+import com.group4.chipgame.entities.actors.tiles.Tile;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import com.group4.chipgame.entities.actors.tiles.Trap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact model of a level's tile grid.
+ * Each cell is stored as a single byte indexing into the
+ * {@link TileType} palette. Only stateful cells (buttons, traps
+ * and chip sockets) keep extra data, held in sparse maps.
+ * The grid does not depend on JavaFX, so it can be built
+ * and simulated without a running toolkit.
+ */
+public class TileGrid {
+    private final int width;
+    private final int height;
+    private final byte[] cells;
+    private final Map<Integer, String> connections;
+    private final Map<Integer, Integer> requiredChips;
+
+    /**
+     * Constructs an empty grid of the specified size.
+     *
+     * @param width  The width of the grid.
+     * @param height The height of the grid.
+     */
+    public TileGrid(final int width, final int height) {
+        this(width, height, new byte[width * height],
+                new HashMap<>(), new HashMap<>());
+    }
+
+    private TileGrid(final int width,
+                     final int height,
+                     final byte[] cells,
+                     final Map<Integer, String> connections,
+                     final Map<Integer, Integer> requiredChips) {
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+        this.connections = connections;
+        this.requiredChips = requiredChips;
+    }
+
+    /**
+     * Creates an independent copy of this grid.
+     *
+     * @return A copy of the grid.
+     */
+    public TileGrid copy() {
+        return new TileGrid(width, height,
+                Arrays.copyOf(cells, cells.length),
+                new HashMap<>(connections),
+                new HashMap<>(requiredChips));
+    }
+
+    /**
+     * Gets the width of the grid.
+     *
+     * @return The width of the grid.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the grid.
+     *
+     * @return The height of the grid.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Checks if the coordinates lie within the grid.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return true if the coordinates are in bounds.
+     */
+    public boolean isInBounds(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Converts coordinates into a row-major cell index.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return The cell index.
+     */
+    public int index(final int x, final int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Gets the type of the tile at the specified position.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return The tile type, or EMPTY if out of bounds.
+     */
+    public TileType getType(final int x, final int y) {
+        return isInBounds(x, y)
+                ? TileType.fromCode(cells[index(x, y)])
+                : TileType.EMPTY;
+    }
+
+    /**
+     * Sets the type of the tile at the specified position,
+     * clearing any per-cell data held for it.
+     *
+     * @param x    The x-coordinate.
+     * @param y    The y-coordinate.
+     * @param type The new tile type.
+     */
+    public void setType(final int x, final int y, final TileType type) {
+        int index = index(x, y);
+        cells[index] = type.getCode();
+        connections.remove(index);
+        requiredChips.remove(index);
+    }
+
+    /**
+     * Records a tile object in the grid,
+     * copying its per-cell data if it is stateful.
+     *
+     * @param x    The x-coordinate.
+     * @param y    The y-coordinate.
+     * @param tile The tile, or null for an empty cell.
+     */
+    public void set(final int x, final int y, final Tile tile) {
+        if (tile == null) {
+            setType(x, y, TileType.EMPTY);
+            return;
+        }
+        setType(x, y, tile.getType());
+        if (tile instanceof Button button) {
+            setConnection(x, y, button.getConnection());
+        } else if (tile instanceof Trap trap) {
+            setConnection(x, y, trap.getConnection());
+        } else if (tile instanceof ChipSocket socket) {
+            setRequiredChips(x, y, socket.getRequiredChips());
+        }
+    }
+
+    /**
+     * Gets the button connection of a button or trap cell.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return The connection ID, or null if there is none.
+     */
+    public String getConnection(final int x, final int y) {
+        return connections.get(index(x, y));
+    }
+
+    /**
+     * Sets the button connection of a button or trap cell.
+     *
+     * @param x  The x-coordinate.
+     * @param y  The y-coordinate.
+     * @param id The connection ID.
+     */
+    public void setConnection(final int x, final int y, final String id) {
+        connections.put(index(x, y), id);
+    }
+
+    /**
+     * Gets the number of chips required by a chip socket cell.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     * @return The required chips, or 0 if the cell is not a socket.
+     */
+    public int getRequiredChips(final int x, final int y) {
+        return requiredChips.getOrDefault(index(x, y), 0);
+    }
+
+    /**
+     * Sets the number of chips required by a chip socket cell.
+     *
+     * @param x     The x-coordinate.
+     * @param y     The y-coordinate.
+     * @param chips The required chips.
+     */
+    public void setRequiredChips(final int x, final int y, final int chips) {
+        requiredChips.put(index(x, y), chips);
+    }
+}
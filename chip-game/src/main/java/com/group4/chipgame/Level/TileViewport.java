@@ -0,0 +1,246 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Scene;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws the tiles of a level that can be seen, and no others.
+ * Rather than one node per cell, the pane holds a pool of image views
+ * just large enough for the cells inside the window, and whenever the
+ * camera scrolls to a new first row or column the views are pointed at
+ * the shared images of the types now in view. The types are read from
+ * the level's {@link TileGrid}, so tile objects keep their state and
+ * behaviour but are never drawn themselves, and the cost of a frame
+ * follows the size of the window rather than the size of the level.
+ *
+ * <p>A pane that is not in a scene, such as that of a preloaded level,
+ * shows no cells and holds no views until it is put on screen.
+ */
+final class TileViewport {
+    private final Pane pane;
+    private final GameContext context;
+    private final List<ImageView> views = new ArrayList<>();
+    private final ChangeListener<Object> refresher =
+            (obs, oldValue, newValue) -> refresh();
+    private final ChangeListener<Scene> sceneFollower =
+            (obs, oldScene, newScene) -> follow(newScene);
+    private Scene scene;
+    private TileGrid grid = new TileGrid(0, 0);
+    private int firstColumn;
+    private int firstRow;
+    private int columns;
+    private int rows;
+    private boolean stale = true;
+
+    /**
+     * Creates a viewport drawing into a pane, and follows the pane's
+     * position in its window from then on.
+     *
+     * @param pane    The pane the tiles are drawn in.
+     * @param context The context of the game the level is in.
+     */
+    TileViewport(final Pane pane, final GameContext context) {
+        this.pane = pane;
+        this.context = context;
+        pane.localToSceneTransformProperty().addListener(refresher);
+        pane.sceneProperty().addListener(sceneFollower);
+    }
+
+    /**
+     * Stops following the pane's window and unbinds the views from
+     * the game's tile size, once the level is discarded.
+     */
+    void dispose() {
+        pane.localToSceneTransformProperty().removeListener(refresher);
+        pane.sceneProperty().removeListener(sceneFollower);
+        watchScene(null);
+        for (ImageView view : views) {
+            view.fitWidthProperty().unbind();
+            view.fitHeightProperty().unbind();
+        }
+    }
+
+    /**
+     * Follows the size of the scene the pane has been put in.
+     */
+    private void follow(final Scene newScene) {
+        watchScene(newScene);
+        refresh();
+    }
+
+    /**
+     * Moves the size listeners from the scene watched so far
+     * to a new one, which may be null.
+     */
+    private void watchScene(final Scene newScene) {
+        if (scene != null) {
+            scene.widthProperty().removeListener(refresher);
+            scene.heightProperty().removeListener(refresher);
+        }
+        scene = newScene;
+        if (scene != null) {
+            scene.widthProperty().addListener(refresher);
+            scene.heightProperty().addListener(refresher);
+        }
+    }
+
+    /**
+     * Shows the cells of a new grid. The grid is read, not copied,
+     * so cells changed in it are drawn once they are refreshed.
+     *
+     * @param levelGrid The tile grid of the level.
+     */
+    void setGrid(final TileGrid levelGrid) {
+        this.grid = levelGrid;
+        rescale();
+    }
+
+    /**
+     * Draws the cells at the current tile size. The pane is kept at
+     * the size of the whole level, which is what the camera measures
+     * the level by; the views already made are reused.
+     */
+    void rescale() {
+        int tileSize = context.getTileSize();
+        pane.setMinSize(grid.getWidth() * tileSize,
+                grid.getHeight() * tileSize);
+        pane.setPrefSize(grid.getWidth() * tileSize,
+                grid.getHeight() * tileSize);
+        stale = true;
+        refresh();
+    }
+
+    /**
+     * Redraws one cell after its tile has been replaced.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     */
+    void refreshCell(final int x, final int y) {
+        int column = x - firstColumn;
+        int row = y - firstRow;
+        if (column >= 0 && row >= 0 && column < columns && row < rows) {
+            show(views.get(row * columns + column), x, y);
+        }
+    }
+
+    /**
+     * Gets the number of image views drawing tiles.
+     *
+     * @return The size of the pool.
+     */
+    int getViewCount() {
+        return views.size();
+    }
+
+    /**
+     * Shows the cells inside the pane's window.
+     */
+    void refresh() {
+        showWindow(visibleBounds());
+    }
+
+    /**
+     * Works out the cells inside part of the pane and, if they are not
+     * the ones shown, points the pool of views at them, growing it if
+     * the window has grown.
+     *
+     * @param visible The part of the pane in view, in its coordinates,
+     *                or null if none of it is.
+     */
+    void showWindow(final Bounds visible) {
+        int tileSize = context.getTileSize();
+        int height = grid.getHeight();
+        int width = grid.getWidth();
+        int minColumn = 0;
+        int minRow = 0;
+        int maxColumn = 0;
+        int maxRow = 0;
+        if (visible != null && tileSize > 0) {
+            minColumn = clamp(floorCell(visible.getMinX(), tileSize), width);
+            minRow = clamp(floorCell(visible.getMinY(), tileSize), height);
+            maxColumn = clamp(floorCell(visible.getMaxX(), tileSize) + 1,
+                    width);
+            maxRow = clamp(floorCell(visible.getMaxY(), tileSize) + 1,
+                    height);
+        }
+        int newColumns = maxColumn - minColumn;
+        int newRows = maxRow - minRow;
+        if (!stale && minColumn == firstColumn && minRow == firstRow
+                && newColumns == columns && newRows == rows) {
+            return;
+        }
+        stale = false;
+        firstColumn = minColumn;
+        firstRow = minRow;
+        columns = newColumns;
+        rows = newRows;
+
+        int needed = columns * rows;
+        while (views.size() < needed) {
+            ImageView view = new ImageView();
+            view.setSmooth(true);
+            view.fitWidthProperty().bind(context.tileSizeProperty());
+            view.fitHeightProperty().bind(context.tileSizeProperty());
+            pane.getChildren().add(views.size(), view);
+            views.add(view);
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                show(views.get(row * columns + column),
+                        firstColumn + column, firstRow + row);
+            }
+        }
+        for (int i = needed; i < views.size(); i++) {
+            ImageView spare = views.get(i);
+            spare.setImage(null);
+            spare.setVisible(false);
+        }
+    }
+
+    /**
+     * Points a view at the image of a cell's type.
+     */
+    private void show(final ImageView view, final int x, final int y) {
+        TileType type = grid.getType(x, y);
+        int tileSize = context.getTileSize();
+        boolean empty = type == TileType.EMPTY;
+        view.setImage(empty ? null : type.getImage());
+        view.setVisible(!empty);
+        view.setLayoutX(x * tileSize);
+        view.setLayoutY(y * tileSize);
+    }
+
+    /**
+     * Gets the part of the pane that lies inside its window.
+     *
+     * @return The visible bounds in the pane's coordinates,
+     *         or null if the pane is not in a scene.
+     */
+    private Bounds visibleBounds() {
+        Scene scene = pane.getScene();
+        if (scene == null) {
+            return null;
+        }
+        return pane.sceneToLocal(new BoundingBox(0, 0,
+                scene.getWidth(), scene.getHeight()));
+    }
+
+    private static int floorCell(final double coordinate,
+                                 final int tileSize) {
+        return (int) Math.floor(coordinate / tileSize);
+    }
+
+    private static int clamp(final int cell, final int size) {
+        return Math.max(0, Math.min(cell, size));
+    }
+}
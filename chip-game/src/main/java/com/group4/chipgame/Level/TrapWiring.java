@@ -0,0 +1,104 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.tiles.Button;
+import com.group4.chipgame.entities.actors.tiles.Trap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The wiring between buttons and traps of a single level.
+ * Buttons and traps sharing a connection ID are linked to each
+ * other, so one button may control many traps and one trap may
+ * be released by any of several buttons. Each level builds its
+ * own wiring, so nothing is shared between loads.
+ */
+public class TrapWiring {
+    private final Map<String, List<Button>> buttons = new HashMap<>();
+    private final Map<String, List<Trap>> traps = new HashMap<>();
+
+    /**
+     * Builds and connects the wiring for a grid of tiles.
+     *
+     * @param tiles The tiles of the level.
+     * @return The connected wiring of the level.
+     */
+    public static TrapWiring fromTiles(final LevelTiles tiles) {
+        TrapWiring wiring = new TrapWiring();
+        tiles.forEachStateful((x, y, tile) -> {
+            if (tile instanceof Button button) {
+                wiring.add(button);
+            } else if (tile instanceof Trap trap) {
+                wiring.add(trap);
+            }
+        });
+        wiring.connect();
+        return wiring;
+    }
+
+    /**
+     * Adds a button to the wiring under its connection ID.
+     *
+     * @param button The button to add.
+     */
+    public void add(final Button button) {
+        buttons.computeIfAbsent(button.getConnection(),
+                id -> new ArrayList<>()).add(button);
+    }
+
+    /**
+     * Adds a trap to the wiring under its connection ID.
+     *
+     * @param trap The trap to add.
+     */
+    public void add(final Trap trap) {
+        traps.computeIfAbsent(trap.getConnection(),
+                id -> new ArrayList<>()).add(trap);
+    }
+
+    /**
+     * Connects every trap to every button sharing its connection ID.
+     * Connections that already exist are left unchanged.
+     *
+     * @return The traps that have no button to control them.
+     */
+    public List<Trap> connect() {
+        List<Trap> unlinked = new ArrayList<>();
+        traps.forEach((id, connected) -> {
+            List<Button> controllers = buttons.get(id);
+            if (controllers == null) {
+                unlinked.addAll(connected);
+                return;
+            }
+            for (Button button : controllers) {
+                connected.forEach(button::connect);
+            }
+        });
+        return unlinked;
+    }
+
+    /**
+     * Gets the buttons with the specified connection ID.
+     *
+     * @param id The connection ID.
+     * @return An unmodifiable list of buttons, possibly empty.
+     */
+    public List<Button> getButtons(final String id) {
+        return Collections.unmodifiableList(
+                buttons.getOrDefault(id, List.of()));
+    }
+
+    /**
+     * Gets the traps with the specified connection ID.
+     *
+     * @param id The connection ID.
+     * @return An unmodifiable list of traps, possibly empty.
+     */
+    public List<Trap> getTraps(final String id) {
+        return Collections.unmodifiableList(
+                traps.getOrDefault(id, List.of()));
+    }
+}
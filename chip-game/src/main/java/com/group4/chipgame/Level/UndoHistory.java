@@ -0,0 +1,316 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.collectibles.Key;
+import com.group4.chipgame.entities.actors.tiles.ChipSocket;
+import com.group4.chipgame.entities.actors.tiles.Ice;
+import com.group4.chipgame.entities.actors.tiles.Tile;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import com.group4.chipgame.events.GameEvent;
+import com.group4.chipgame.events.GameEventBus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The undo and rewind history of a running level.
+ * A {@link GameSnapshot} is taken before each player move and kept on a
+ * bounded stack, dropping the oldest once it is full. Taking a snapshot
+ * is cheap: the tile grid is kept as a {@link PersistentGrid} that is
+ * updated from the level's tile events, so only the chunks a move changed
+ * are copied, and the actor and collectible lists are reused until an
+ * actor moves or turns or something is collected.
+ *
+ * <p>Restoring a snapshot replaces only the tiles that differ, moves the
+ * actors back to their cells and headings, puts back any collectibles and removed
+ * actors and resets the player's inventory, so rewinding many moves
+ * costs no more than the changes between now and then.
+ */
+public class UndoHistory {
+    /** The number of moves kept by default. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final LevelRenderer levelRenderer;
+    private final LevelData levelData;
+    private final TileGrid template;
+    private final Player player;
+    private final int capacity;
+    private final Deque<GameSnapshot> snapshots = new ArrayDeque<>();
+    private final Consumer<GameEvent> listener = this::onEvent;
+    private PersistentGrid tiles;
+    private List<GameSnapshot.ActorRecord> actors;
+    private List<Collectible> collectibles;
+
+    /**
+     * Constructs an empty history for a level.
+     *
+     * @param levelRenderer The renderer for the level.
+     * @param levelData     The level's data.
+     * @param capacity      The number of moves to keep.
+     */
+    public UndoHistory(final LevelRenderer levelRenderer,
+                       final LevelData levelData,
+                       final int capacity) {
+        this.levelRenderer = levelRenderer;
+        this.levelData = levelData;
+        this.capacity = capacity;
+        this.template = levelData.getTileGrid().copy();
+        this.tiles = PersistentGrid.of(template);
+        this.player = findPlayer(levelData.getActors());
+    }
+
+    /**
+     * Subscribes the history to the events of its level,
+     * so that it follows every change to the tiles and actors.
+     *
+     * @param bus The level's event bus.
+     */
+    public void attach(final GameEventBus bus) {
+        bus.unsubscribe(listener);
+        bus.subscribe(GameEvent.Type.ENTER, listener);
+        bus.subscribe(GameEvent.Type.LEAVE, listener);
+        bus.subscribe(GameEvent.Type.REMOVE, listener);
+        bus.subscribe(GameEvent.Type.COLLECT, listener);
+        bus.subscribe(GameEvent.Type.TILE_REPLACED, listener);
+    }
+
+    /**
+     * Stops the history following the events of its level.
+     *
+     * @param bus The level's event bus.
+     */
+    public void detach(final GameEventBus bus) {
+        bus.unsubscribe(listener);
+    }
+
+    /**
+     * Takes a snapshot of the level as it is now. Nothing is taken
+     * if the level is in the same state as the last snapshot. The state
+     * hash leaves out headings, so they are compared separately.
+     */
+    public void record() {
+        GameSnapshot snapshot = snapshot();
+        GameSnapshot last = snapshots.peekLast();
+        if (last != null && last.getHash() == snapshot.getHash()
+                && sameHeadings(last.getActors(), snapshot.getActors())) {
+            return;
+        }
+        snapshots.addLast(snapshot);
+        if (snapshots.size() > capacity) {
+            snapshots.removeFirst();
+        }
+    }
+
+    /**
+     * Takes the level back to the last snapshot.
+     *
+     * @return true if there was a snapshot to go back to.
+     */
+    public boolean undo() {
+        return rewind(1);
+    }
+
+    /**
+     * Takes the level back a number of snapshots in one step,
+     * or as far as the history goes if it holds fewer.
+     *
+     * @param moves The number of snapshots to go back.
+     * @return true if there was a snapshot to go back to.
+     */
+    public boolean rewind(final int moves) {
+        if (moves <= 0 || snapshots.isEmpty()) {
+            return false;
+        }
+        GameSnapshot target = null;
+        for (int i = 0; i < moves && !snapshots.isEmpty(); i++) {
+            target = snapshots.pollLast();
+        }
+        restore(target);
+        return true;
+    }
+
+    /**
+     * Gets the number of snapshots held.
+     *
+     * @return The number of moves that can be undone.
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * Forgets every snapshot.
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    /**
+     * Marks the parts of the next snapshot an event has changed.
+     */
+    private void onEvent(final GameEvent event) {
+        switch (event.getType()) {
+            case ENTER, LEAVE, REMOVE -> actors = null;
+            case COLLECT -> collectibles = null;
+            case TILE_REPLACED -> {
+                tiles = tiles.with(event.getX(), event.getY(),
+                        event.getTile().getType());
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Builds a snapshot of the level as it is now, reusing the lists
+     * that have not changed since the last one, without recording it.
+     * Searches that explore the level keep their own snapshots and go
+     * back to them with {@link #restore(GameSnapshot)}.
+     *
+     * @return The snapshot.
+     */
+    public GameSnapshot snapshot() {
+        if (actors == null || headingsChanged()) {
+            List<GameSnapshot.ActorRecord> records = new ArrayList<>();
+            for (Actor actor : levelData.getActors()) {
+                records.add(new GameSnapshot.ActorRecord(actor,
+                        (int) actor.getPosition().getX(),
+                        (int) actor.getPosition().getY(),
+                        actor.getHeading()));
+            }
+            actors = Collections.unmodifiableList(records);
+        }
+        if (collectibles == null) {
+            collectibles = List.copyOf(levelData.getCollectibles());
+        }
+        int chips = player == null ? 0 : player.getChipsCount();
+        Set<Key.KeyColor> keys =
+                player == null ? Set.of() : player.getKeys();
+        return new GameSnapshot(tiles, actors, collectibles, chips, keys,
+                levelData.getStateHash().get());
+    }
+
+    /**
+     * Checks if an actor has turned since the actor records were taken.
+     * Turning raises no event, so headings are compared directly.
+     */
+    private boolean headingsChanged() {
+        for (GameSnapshot.ActorRecord record : actors) {
+            if (record.getActor().getHeading() != record.getHeading()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if two lists of actor records hold the same headings.
+     */
+    private static boolean sameHeadings(
+            final List<GameSnapshot.ActorRecord> first,
+            final List<GameSnapshot.ActorRecord> second) {
+        if (first == second) {
+            return true;
+        }
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i).getHeading() != second.get(i).getHeading()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Brings the live level back to a snapshot taken from it, bringing
+     * the player back to life if the snapshot was taken before a death.
+     * The recorded history is left as it is.
+     *
+     * @param snapshot The snapshot to go back to.
+     */
+    public void restore(final GameSnapshot snapshot) {
+        tiles.forEachDifference(snapshot.getTiles(), (x, y, type) ->
+                levelRenderer.updateTile(x, y, createTile(x, y, type)));
+        levelRenderer.clearOccupants();
+
+        Map<Actor, Boolean> kept = new IdentityHashMap<>();
+        for (GameSnapshot.ActorRecord record : snapshot.getActors()) {
+            kept.put(record.getActor(), Boolean.TRUE);
+        }
+        for (Actor actor : new ArrayList<>(levelData.getActors())) {
+            if (!kept.containsKey(actor)) {
+                levelRenderer.remove(actor);
+            }
+        }
+        for (GameSnapshot.ActorRecord record : snapshot.getActors()) {
+            Actor actor = record.getActor();
+            Ice.stopSliding(actor, levelRenderer);
+            actor.placeAt(record.getX(), record.getY());
+            if (record.getHeading() != null) {
+                actor.setHeading(record.getHeading());
+            }
+            if (!levelData.getActors().contains(actor)) {
+                levelRenderer.add(actor);
+            }
+        }
+
+        Map<Collectible, Boolean> lying = new IdentityHashMap<>();
+        for (Collectible collectible : snapshot.getCollectibles()) {
+            lying.put(collectible, Boolean.TRUE);
+        }
+        for (Collectible collectible
+                : new ArrayList<>(levelData.getCollectibles())) {
+            if (lying.remove(collectible) == null) {
+                levelRenderer.remove(collectible);
+            }
+        }
+        for (Collectible collectible : snapshot.getCollectibles()) {
+            if (lying.containsKey(collectible)) {
+                levelRenderer.add(collectible);
+            }
+        }
+
+        if (player != null) {
+            player.setAlive(kept.containsKey(player));
+            player.setChipsCount(snapshot.getChips());
+            player.setKeys(snapshot.getKeys());
+        }
+        levelRenderer.updateTileOccupation();
+        levelData.getStateHash().reset(levelRenderer.getTiles().getGrid(),
+                levelData.getActors(), levelData.getCollectibles());
+        tiles = snapshot.getTiles();
+        actors = snapshot.getActors();
+        collectibles = snapshot.getCollectibles();
+    }
+
+    /**
+     * Creates a tile to put back on a cell,
+     * taking socket requirements from the level's starting grid.
+     */
+    private Tile createTile(final int x, final int y, final TileType type) {
+        if (type == TileType.CHIP_SOCKET) {
+            return new ChipSocket(template.getRequiredChips(x, y));
+        }
+        return type.getTile();
+    }
+
+    private static Player findPlayer(final List<Actor> actors) {
+        for (Actor actor : actors) {
+            if (actor instanceof Player player) {
+                return player;
+            }
+        }
+        return null;
+    }
+}
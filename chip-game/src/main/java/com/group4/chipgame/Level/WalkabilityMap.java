@@ -0,0 +1,371 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed walkability of a level for every movement class.
+ * Each class has a {@link BitLayer} of the cells it may enter, so
+ * neighbour checks are single bit tests, and a labelling of the connected
+ * regions of those cells, so the AI can tell in constant time that
+ * a target cannot be reached at all.
+ *
+ * <p>The map is updated in place when a tile is replaced. A cell
+ * that opens up joins its neighbouring regions straight away; a
+ * cell that closes may split a region, so that class's labels are
+ * recomputed the next time they are needed.
+ */
+public class WalkabilityMap {
+    /** The region label of a cell the movement class cannot enter. */
+    public static final int NO_REGION = -1;
+
+    private static final MovementClass[] CLASSES = MovementClass.values();
+    private static final int[][] NEIGHBOURS = {
+        {1, 0}, {-1, 0}, {0, 1}, {0, -1}
+    };
+
+    private final int width;
+    private final int height;
+    private final BitLayer[] passable = new BitLayer[CLASSES.length];
+    private final int[][] regions = new int[CLASSES.length][];
+    private final int[] regionCounts = new int[CLASSES.length];
+    private final boolean[] stale = new boolean[CLASSES.length];
+    private final BitLayer[] frozen = new BitLayer[CLASSES.length];
+    private final int[][] frozenRegions = new int[CLASSES.length][];
+
+    /**
+     * Constructs a map in which no cell can be entered.
+     *
+     * @param width  The width of the level.
+     * @param height The height of the level.
+     */
+    public WalkabilityMap(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        for (int c = 0; c < CLASSES.length; c++) {
+            passable[c] = new BitLayer(width, height);
+            regions[c] = new int[width * height];
+            stale[c] = true;
+        }
+    }
+
+    /**
+     * Builds the map of a level from its palette grid.
+     *
+     * @param grid The tile grid of the level.
+     * @return The walkability map of the level.
+     */
+    public static WalkabilityMap fromGrid(final TileGrid grid) {
+        WalkabilityMap map =
+                new WalkabilityMap(grid.getWidth(), grid.getHeight());
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                map.setPassable(x, y, grid.getType(x, y));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Checks if actors of a movement class may enter a cell.
+     *
+     * @param movementClass The movement class of the actor.
+     * @param x             The x-coordinate of the cell.
+     * @param y             The y-coordinate of the cell.
+     * @return true if the cell exists and is passable for the class.
+     */
+    public boolean isPassable(final MovementClass movementClass,
+                              final int x,
+                              final int y) {
+        return passable[movementClass.ordinal()].get(x, y);
+    }
+
+    /**
+     * Gets which of the four neighbours of a cell
+     * actors of a movement class may enter.
+     *
+     * @param movementClass The movement class of the actor.
+     * @param x             The x-coordinate of the cell.
+     * @param y             The y-coordinate of the cell.
+     * @return A combination of the {@link BitLayer} neighbour bits.
+     */
+    public int passableNeighbours(final MovementClass movementClass,
+                                  final int x,
+                                  final int y) {
+        return passable[movementClass.ordinal()].neighbours(x, y);
+    }
+
+    /**
+     * Gets the label of the connected region a cell belongs to.
+     *
+     * @param movementClass The movement class of the actor.
+     * @param x             The x-coordinate of the cell.
+     * @param y             The y-coordinate of the cell.
+     * @return The region label, or NO_REGION if the cell is impassable.
+     */
+    public int getRegion(final MovementClass movementClass,
+                         final int x,
+                         final int y) {
+        if (!isPassable(movementClass, x, y)) {
+            return NO_REGION;
+        }
+        return labels(movementClass.ordinal())[y * width + x];
+    }
+
+    /**
+     * Checks if an actor standing on one cell could ever walk
+     * to another, ignoring other actors in the way. The starting
+     * cell itself need not be passable, since actors can stand on
+     * tiles they could not walk onto.
+     *
+     * @param movementClass The movement class of the actor.
+     * @param fromX         The x-coordinate of the actor.
+     * @param fromY         The y-coordinate of the actor.
+     * @param toX           The x-coordinate of the target.
+     * @param toY           The y-coordinate of the target.
+     * @return true if the target lies in a region the actor can enter.
+     */
+    public boolean canReach(final MovementClass movementClass,
+                            final int fromX,
+                            final int fromY,
+                            final int toX,
+                            final int toY) {
+        return connects(labels(movementClass.ordinal()), width, height,
+                fromX, fromY, toX, toY);
+    }
+
+    /**
+     * Checks reachability as {@link #canReach} does, over region labels
+     * taken from a map, such as those of {@link #frozenRegions}.
+     *
+     * @param labels The region labels, indexed y * width + x.
+     * @param width  The width of the level.
+     * @param height The height of the level.
+     * @param fromX  The x-coordinate of the actor.
+     * @param fromY  The y-coordinate of the actor.
+     * @param toX    The x-coordinate of the target.
+     * @param toY    The y-coordinate of the target.
+     * @return true if the target lies in a region the actor can enter.
+     */
+    static boolean connects(final int[] labels,
+                            final int width,
+                            final int height,
+                            final int fromX,
+                            final int fromY,
+                            final int toX,
+                            final int toY) {
+        int target = regionAt(labels, width, height, toX, toY);
+        if (target == NO_REGION) {
+            return false;
+        }
+        if (regionAt(labels, width, height, fromX, fromY) == target) {
+            return true;
+        }
+        for (int[] offset : NEIGHBOURS) {
+            if (regionAt(labels, width, height, fromX + offset[0],
+                    fromY + offset[1]) == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int regionAt(final int[] labels,
+                                final int width,
+                                final int height,
+                                final int x,
+                                final int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return NO_REGION;
+        }
+        return labels[y * width + x];
+    }
+
+    /**
+     * Gets a copy of the cells a movement class may enter that later
+     * updates leave alone, so it can be read from other threads.
+     * One copy is shared by every caller until a cell of the class
+     * changes, so taking it is free while the terrain stands still.
+     *
+     * @param movementClass The movement class.
+     * @return The frozen passable layer, which must not be modified.
+     */
+    public BitLayer frozenPassable(final MovementClass movementClass) {
+        int c = movementClass.ordinal();
+        if (frozen[c] == null) {
+            frozen[c] = passable[c].copy();
+        }
+        return frozen[c];
+    }
+
+    /**
+     * Gets a copy of the region labels of a movement class that later
+     * updates leave alone, so reachability can be checked from other
+     * threads with {@link #connects}. Like {@link #frozenPassable}, one
+     * copy is shared until a cell of the class changes.
+     *
+     * @param movementClass The movement class.
+     * @return The frozen labels, indexed y * width + x, with NO_REGION
+     *         for impassable cells; they must not be modified.
+     */
+    public int[] frozenRegions(final MovementClass movementClass) {
+        int c = movementClass.ordinal();
+        if (frozenRegions[c] == null) {
+            frozenRegions[c] = labels(c).clone();
+        }
+        return frozenRegions[c];
+    }
+
+    /**
+     * Updates the map after the tile at a cell has been replaced.
+     *
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @param type The type of the new tile.
+     */
+    public void update(final int x, final int y, final TileType type) {
+        if (!isInBounds(x, y)) {
+            return;
+        }
+        for (MovementClass movementClass : CLASSES) {
+            int c = movementClass.ordinal();
+            boolean was = passable[c].get(x, y);
+            boolean now = type.isPassableFor(movementClass);
+            if (was == now) {
+                continue;
+            }
+            passable[c].set(x, y, now);
+            frozen[c] = null;
+            frozenRegions[c] = null;
+            if (!now) {
+                stale[c] = true;
+            } else if (!stale[c]) {
+                joinRegions(c, x, y);
+            }
+        }
+    }
+
+    private void setPassable(final int x,
+                             final int y,
+                             final TileType type) {
+        for (MovementClass movementClass : CLASSES) {
+            passable[movementClass.ordinal()].set(x, y,
+                    type.isPassableFor(movementClass));
+        }
+    }
+
+    /**
+     * Labels a newly opened cell, merging every neighbouring
+     * region into the first one found.
+     */
+    private void joinRegions(final int c, final int x, final int y) {
+        int[] labels = regions[c];
+        int cell = y * width + x;
+        int joined = NO_REGION;
+        for (int[] offset : NEIGHBOURS) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (!passable[c].get(nx, ny)) {
+                continue;
+            }
+            int label = labels[ny * width + nx];
+            if (joined == NO_REGION) {
+                joined = label;
+            } else if (label != joined) {
+                relabel(c, label, joined);
+            }
+        }
+        if (joined == NO_REGION) {
+            joined = regionCounts[c]++;
+        }
+        labels[cell] = joined;
+    }
+
+    private void relabel(final int c, final int from, final int to) {
+        int[] labels = regions[c];
+        BitLayer cells = passable[c];
+        for (int y = 0; y < height; y++) {
+            for (int x = cells.nextSetInRow(0, y); x >= 0;
+                 x = cells.nextSetInRow(x + 1, y)) {
+                if (labels[y * width + x] == from) {
+                    labels[y * width + x] = to;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the region labels of a class, flood-filling them
+     * again first if a cell has closed since they were computed.
+     */
+    private int[] labels(final int c) {
+        if (stale[c]) {
+            floodFill(c);
+            stale[c] = false;
+        }
+        return regions[c];
+    }
+
+    /**
+     * Labels every region with a scanline fill: each step labels a
+     * whole horizontal run of passable cells, found with word-wide
+     * row scans, and queues the runs touching it above and below.
+     */
+    private void floodFill(final int c) {
+        int[] labels = regions[c];
+        BitLayer cells = passable[c];
+        Arrays.fill(labels, NO_REGION);
+        int[] stack = new int[(width + 1) * height];
+        int count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = cells.nextSetInRow(0, y); x >= 0;
+                 x = cells.nextSetInRow(cells.nextClearInRow(x, y), y)) {
+                if (labels[y * width + x] == NO_REGION) {
+                    fillRegion(cells, labels, stack, x, y, count++);
+                }
+            }
+        }
+        regionCounts[c] = count;
+    }
+
+    private void fillRegion(final BitLayer cells,
+                            final int[] labels,
+                            final int[] stack,
+                            final int startX,
+                            final int startY,
+                            final int label) {
+        int size = 0;
+        stack[size++] = startY * width + startX;
+        while (size > 0) {
+            int seed = stack[--size];
+            int y = seed / width;
+            int x = seed % width;
+            if (labels[seed] != NO_REGION) {
+                continue;
+            }
+            int left = cells.previousClearInRow(x, y) + 1;
+            int right = cells.nextClearInRow(x, y) - 1;
+            Arrays.fill(labels, y * width + left, y * width + right + 1,
+                    label);
+            for (int ny = y - 1; ny <= y + 1; ny += 2) {
+                if (ny < 0 || ny >= height) {
+                    continue;
+                }
+                for (int nx = cells.nextSetInRow(left, ny);
+                     nx >= 0 && nx <= right;
+                     nx = cells.nextSetInRow(
+                             cells.nextClearInRow(nx, ny), ny)) {
+                    if (labels[ny * width + nx] == NO_REGION) {
+                        stack[size++] = ny * width + nx;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isInBounds(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+}
@@ -0,0 +1,134 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.collectibles.Key;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+
+/**
+ * Random keys for Zobrist hashing the state of a level.
+ * Every feature a state can have, such as a tile type on a cell, an
+ * item on a cell, a kind of actor on a cell, a key held or a chip
+ * count, has its own random 64-bit key, and the hash of a state is
+ * the XOR of the keys of its features. Changing one feature changes
+ * the hash by XORing out the old key and XORing in the new.
+ *
+ * <p>No keys are stored. Each feature is numbered and its key is the
+ * value at that number in the SplitMix64 sequence of the seed, worked
+ * out when asked for with a couple of multiplies, so a table costs the
+ * same on every size of level rather than dozens of longs per cell.
+ *
+ * <p>Actors of the same kind share one set of keys, so states that
+ * differ only in which block stands where hash the same. Headings,
+ * the tick and the random generator are not part of the hash.
+ */
+public class ZobristTable {
+    /** The seed shared by tables whose hashes are compared across runs. */
+    public static final long DEFAULT_SEED = 0x5eedc41bL;
+    /** The item code of a chip. */
+    public static final byte ITEM_CHIP = 1;
+    /** The item code of the first key; keys follow in color order. */
+    public static final byte ITEM_KEY_BASE = 2;
+
+    private static final int TILE_TYPES = TileType.values().length;
+    private static final Key.KeyColor[] KEY_COLORS = Key.KeyColor.values();
+    private static final int ITEM_CODES =
+            ITEM_KEY_BASE + KEY_COLORS.length;
+    private static final int ACTOR_KINDS = ActorKind.values().length;
+
+    private final int width;
+    private final int height;
+    private final long seed;
+    private final long itemBase;
+    private final long actorBase;
+    private final long keyBase;
+    private final long chipBase;
+    private final int lastChipCount;
+
+    /**
+     * Constructs the keys for a level of the given size.
+     * Tables built with the same size and seed hold the same keys.
+     *
+     * @param width  The width of the level.
+     * @param height The height of the level.
+     * @param seed   The seed the keys are drawn from.
+     */
+    public ZobristTable(final int width, final int height, final long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        long cells = (long) width * height;
+        itemBase = cells * TILE_TYPES;
+        actorBase = itemBase + cells * ITEM_CODES;
+        keyBase = actorBase + cells * ACTOR_KINDS;
+        chipBase = keyBase + KEY_COLORS.length;
+        lastChipCount = (int) cells;
+    }
+
+    /**
+     * Gets the key of a tile type on a cell.
+     *
+     * @param index The row-major index of the cell.
+     * @param type  The tile type.
+     * @return The key.
+     */
+    public long tile(final int index, final TileType type) {
+        return keyOf((long) index * TILE_TYPES + type.ordinal());
+    }
+
+    /**
+     * Gets the key of an item lying on a cell.
+     *
+     * @param index The row-major index of the cell.
+     * @param item  The item code: ITEM_CHIP, or a key's
+     *              {@link #keyItem(Key.KeyColor)}.
+     * @return The key.
+     */
+    public long item(final int index, final byte item) {
+        return keyOf(itemBase + (long) index * ITEM_CODES + item);
+    }
+
+    /**
+     * Gets the key of an actor of a kind standing on a cell.
+     *
+     * @param index The row-major index of the cell.
+     * @param kind  The kind of actor.
+     * @return The key.
+     */
+    public long actor(final int index, final ActorKind kind) {
+        return keyOf(actorBase + (long) index * ACTOR_KINDS + kind.ordinal());
+    }
+
+    /**
+     * Gets the key of holding a key color.
+     *
+     * @param color The key color.
+     * @return The key.
+     */
+    public long key(final Key.KeyColor color) {
+        return keyOf(keyBase + color.ordinal());
+    }
+
+    /**
+     * Gets the key of holding a number of chips.
+     * Counts beyond the number of cells share the last key.
+     *
+     * @param count The chip count.
+     * @return The key.
+     */
+    public long chips(final int count) {
+        return keyOf(chipBase + Math.min(count, lastChipCount));
+    }
+
+    /**
+     * Gets the item code of a key color.
+     *
+     * @param color The key color.
+     * @return The item code.
+     */
+    public static byte keyItem(final Key.KeyColor color) {
+        return (byte) (ITEM_KEY_BASE + color.ordinal());
+    }
+
+    private long keyOf(final long feature) {
+        return LevelRandom.valueAt(seed, feature);
+    }
+}
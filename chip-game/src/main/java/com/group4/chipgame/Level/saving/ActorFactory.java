@@ -30,7 +30,7 @@ public class ActorFactory {
 
         return switch (type) {
             case "Player" -> createPlayer(actorJson);
-            case "Bug" -> new Bug(x, y, actorJson.getBoolean("followLeftEdge"));
+            case "Bug" -> createBug(actorJson, x, y);
             case "Frog" -> new Frog(x, y);
             case "MovableBlock" -> new MovableBlock(x, y);
             case "PinkBall" -> new PinkBall(x, y, Direction.valueOf(
@@ -40,6 +40,26 @@ public class ActorFactory {
         };
     }
 
+    /**
+     * Creates a Bug from the provided JSON data, facing the direction
+     * it was saved in if the save records one.
+     *
+     * @param actorJson The JSON object containing the data for the bug.
+     * @param x         The x-coordinate of the bug.
+     * @param y         The y-coordinate of the bug.
+     * @return An instance of a Bug.
+     */
+    private static Bug createBug(final JSONObject actorJson,
+                                 final double x,
+                                 final double y) {
+        Bug bug = new Bug(x, y, actorJson.getBoolean("followLeftEdge"));
+        if (actorJson.has("direction")) {
+            bug.setHeading(Direction.valueOf(
+                    actorJson.getString("direction")));
+        }
+        return bug;
+    }
+
     /**
      * Creates a Player object from the provided JSON data.
      * This method specifically handles the instantiation of
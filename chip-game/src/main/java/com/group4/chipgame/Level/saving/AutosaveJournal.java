@@ -0,0 +1,531 @@
+package com.group4.chipgame.Level.saving;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelStateManager;
+import com.group4.chipgame.Level.LevelTiles;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.collectibles.Key;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import com.group4.chipgame.events.GameEvent;
+import com.group4.chipgame.events.GameEventBus;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A crash-safe autosave made of a full checkpoint and a journal of deltas.
+ * The checkpoint is an ordinary level save. The journal is a
+ * memory-mapped file next to it that receives a small fixed-size record
+ * for every tile replacement, actor move, turn, removal and collection,
+ * plus the player's inventory and the timer. Records are appended as each
+ * tick is flushed and the record count in the header is bumped last, so
+ * a crash part way through a tick loses only that tick. Once the journal
+ * fills up a new checkpoint is taken and the journal starts again.
+ *
+ * <p>A checkpoint is taken on the game thread as a JSON snapshot of the
+ * level, and written to disk by a background thread, so a checkpoint due
+ * in the middle of play never holds up the tick. Checkpoints are written
+ * in the order they were taken. A crash before a checkpoint is in place
+ * falls back to the one before it.
+ *
+ * <p>Loading the checkpoint with {@link LevelStateManager#loadLevel}
+ * replays the journal onto it. Each checkpoint carries the generation of
+ * its journal, so a journal left behind by an older checkpoint is ignored.
+ * Actors and collectibles are referred to by their index in the
+ * checkpoint's lists, which loading preserves.
+ */
+public class AutosaveJournal implements AutoCloseable {
+    private static final Logger LOG = Logger.get(LogCategory.SAVE);
+    /** The extension added to a checkpoint's path to name its journal. */
+    public static final String JOURNAL_EXTENSION = ".journal";
+    /** The checkpoint key holding the generation of its journal. */
+    public static final String GENERATION_KEY = "journalGeneration";
+    /** The number of records the journal holds before a checkpoint. */
+    public static final int CHECKPOINT_RECORDS = 8192;
+
+    /** The magic number identifying journal files ("CGJN"). */
+    static final int MAGIC = 0x43474A4E;
+    /** The version of the journal format. */
+    static final int VERSION = 2;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int GENERATION_OFFSET = 8;
+    private static final int COUNT_OFFSET = 16;
+    private static final int HEADER_BYTES = 24;
+    private static final int RECORD_BYTES = 16;
+    private static final int CAPACITY_BYTES =
+            HEADER_BYTES + CHECKPOINT_RECORDS * RECORD_BYTES;
+    private static final int INDENT_FACTOR = 4;
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String WRITER_THREAD_NAME = "autosave-writer";
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private static final int TILE = 1;
+    private static final int MOVE = 2;
+    private static final int REMOVE = 3;
+    private static final int COLLECT = 4;
+    private static final int INVENTORY = 5;
+    private static final int TIMER = 6;
+    private static final int HEADING = 7;
+    private static final int NO_HEADING = -1;
+    private static final Key.KeyColor[] KEY_COLORS = Key.KeyColor.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Path checkpointPath;
+    private final LevelData levelData;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Consumer<List<GameEvent>> observer = this::onTick;
+    private final Map<Entity, Integer> indices = new IdentityHashMap<>();
+    private final ExecutorService writer =
+            Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, WRITER_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+    private Actor[] actors = new Actor[0];
+    private Direction[] headings = new Direction[0];
+    private Player player;
+    private long generation;
+    private int count;
+    private int chips;
+    private int keyMask;
+    private int timer;
+    private boolean checkpointDue;
+
+    private AutosaveJournal(final Path checkpointPath,
+                            final LevelData levelData,
+                            final FileChannel channel,
+                            final MappedByteBuffer buffer,
+                            final long generation) {
+        this.checkpointPath = checkpointPath;
+        this.levelData = levelData;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.generation = generation;
+        this.timer = levelData.getTimer();
+    }
+
+    /**
+     * Opens the autosave for a level, writing its first checkpoint.
+     *
+     * @param checkpointPath The path of the checkpoint save.
+     * @param levelData      The level to save.
+     * @return The open journal.
+     * @throws IOException If the files cannot be written.
+     */
+    public static AutosaveJournal open(final Path checkpointPath,
+                                       final LevelData levelData)
+            throws IOException {
+        Path parent = checkpointPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(journalFor(checkpointPath),
+                StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(
+                FileChannel.MapMode.READ_WRITE, 0, CAPACITY_BYTES);
+        long generation = buffer.getInt(MAGIC_OFFSET) == MAGIC
+                ? buffer.getLong(GENERATION_OFFSET) : 0;
+        AutosaveJournal journal = new AutosaveJournal(checkpointPath,
+                levelData, channel, buffer, generation);
+        journal.checkpoint();
+        return journal;
+    }
+
+    /**
+     * Gets the path of the journal belonging to a checkpoint.
+     *
+     * @param checkpointPath The path of the checkpoint save.
+     * @return The path of its journal.
+     */
+    public static Path journalFor(final Path checkpointPath) {
+        return checkpointPath.resolveSibling(
+                checkpointPath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Starts journaling the events of the level.
+     *
+     * @param bus The level's event bus.
+     */
+    public void attach(final GameEventBus bus) {
+        bus.removeObserver(observer);
+        bus.addObserver(observer);
+    }
+
+    /**
+     * Stops journaling the events of the level.
+     *
+     * @param bus The level's event bus.
+     */
+    public void detach(final GameEventBus bus) {
+        bus.removeObserver(observer);
+    }
+
+    /**
+     * Records and commits the time left on the level's timer.
+     * It is called between ticks, so nothing else is pending.
+     *
+     * @param seconds The seconds remaining.
+     */
+    public void recordTimer(final int seconds) {
+        timer = seconds;
+        append(TIMER, seconds, 0, 0);
+        if (!checkpointDue) {
+            buffer.putInt(COUNT_OFFSET, count);
+        }
+    }
+
+    /**
+     * Takes a full checkpoint of the level, empties the journal and
+     * waits until the checkpoint is on disk, after any taken before it.
+     *
+     * @throws IOException If the checkpoint cannot be written.
+     */
+    public void checkpoint() throws IOException {
+        JSONObject state = snapshot();
+        try {
+            writer.submit(() -> {
+                write(state);
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted while writing the checkpoint");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io
+                    ? io : new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits for checkpoints still being written,
+     * then flushes the journal to disk and unmaps it.
+     *
+     * @throws IOException If the journal cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Captures the level for a new checkpoint and starts a new,
+     * empty journal generation belonging to it.
+     */
+    private JSONObject snapshot() {
+        generation++;
+        levelData.setTimer(timer);
+        JSONObject state = LevelStateManager.toJson(levelData);
+        state.put(GENERATION_KEY, generation);
+
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putLong(GENERATION_OFFSET, generation);
+        buffer.putInt(COUNT_OFFSET, 0);
+        count = 0;
+        checkpointDue = false;
+        indexEntities();
+        return state;
+    }
+
+    /**
+     * Writes a checkpoint to a temporary file and moves it into place,
+     * so a crash leaves either the old or the new one.
+     */
+    private void write(final JSONObject state) throws IOException {
+        Path temp = checkpointPath.resolveSibling(
+                checkpointPath.getFileName() + TEMP_EXTENSION);
+        Files.writeString(temp, state.toString(INDENT_FACTOR));
+        Files.move(temp, checkpointPath,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        buffer.force();
+    }
+
+    /**
+     * Journals the events of one tick and commits them.
+     */
+    private void onTick(final List<GameEvent> events) {
+        for (GameEvent event : events) {
+            journal(event);
+        }
+        for (int i = 0; i < actors.length; i++) {
+            Direction heading = actors[i].getHeading();
+            if (heading != headings[i]) {
+                headings[i] = heading;
+                append(HEADING, i,
+                        heading == null ? NO_HEADING : heading.ordinal(), 0);
+            }
+        }
+        int nextChips = player == null ? 0 : player.getChipsCount();
+        int nextKeys = keyMaskOf(player);
+        if (nextChips != chips || nextKeys != keyMask) {
+            chips = nextChips;
+            keyMask = nextKeys;
+            append(INVENTORY, chips, keyMask, 0);
+        }
+        if (checkpointDue) {
+            JSONObject state = snapshot();
+            writer.execute(() -> {
+                try {
+                    write(state);
+                } catch (IOException e) {
+                    LOG.warn("Could not checkpoint the autosave: {}", e);
+                }
+            });
+            return;
+        }
+        buffer.putInt(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Appends the record for an event, or marks a checkpoint
+     * as due if the event cannot be expressed as a delta.
+     */
+    private void journal(final GameEvent event) {
+        switch (event.getType()) {
+            case ENTER -> append(MOVE, indexOf(event.getActor()),
+                    event.getX(), event.getY());
+            case REMOVE, KILL -> append(REMOVE,
+                    indexOf(event.getActor()), 0, 0);
+            case COLLECT -> append(COLLECT,
+                    indexOf(event.getSubject()), 0, 0);
+            case TILE_REPLACED -> {
+                TileType type = event.getTile().getType();
+                if (type.isStateful()) {
+                    checkpointDue = true;
+                } else {
+                    append(TILE, event.getX(), event.getY(),
+                            type.getCode());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private int indexOf(final Entity entity) {
+        Integer index = indices.get(entity);
+        if (index == null) {
+            checkpointDue = true;
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Writes a record after the last one, marking
+     * a checkpoint as due if the journal is full.
+     */
+    private void append(final int kind,
+                        final int a,
+                        final int b,
+                        final int c) {
+        if (checkpointDue) {
+            return;
+        }
+        if (count == CHECKPOINT_RECORDS) {
+            checkpointDue = true;
+            return;
+        }
+        int offset = HEADER_BYTES + count * RECORD_BYTES;
+        buffer.putInt(offset, kind);
+        buffer.putInt(offset + Integer.BYTES, a);
+        buffer.putInt(offset + 2 * Integer.BYTES, b);
+        buffer.putInt(offset + 3 * Integer.BYTES, c);
+        count++;
+    }
+
+    /**
+     * Numbers the actors and collectibles in the order
+     * the checkpoint stores them.
+     */
+    private void indexEntities() {
+        indices.clear();
+        player = null;
+        actors = levelData.getActors().toArray(new Actor[0]);
+        headings = new Direction[actors.length];
+        for (int i = 0; i < actors.length; i++) {
+            indices.put(actors[i], i);
+            headings[i] = actors[i].getHeading();
+            if (actors[i] instanceof Player found && player == null) {
+                player = found;
+            }
+        }
+        List<Collectible> collectibles = levelData.getCollectibles();
+        for (int i = 0; i < collectibles.size(); i++) {
+            indices.put(collectibles.get(i), i);
+        }
+        chips = player == null ? 0 : player.getChipsCount();
+        keyMask = keyMaskOf(player);
+    }
+
+    private static int keyMaskOf(final Player player) {
+        int mask = 0;
+        if (player != null) {
+            for (Key.KeyColor color : KEY_COLORS) {
+                if (player.hasKey(color)) {
+                    mask |= 1 << color.ordinal();
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Replays a journal onto a freshly loaded checkpoint.
+     * Nothing is applied if the journal is missing, damaged or
+     * belongs to a different checkpoint.
+     *
+     * @param journalPath  The path of the journal.
+     * @param generation   The journal generation stored in the checkpoint.
+     * @param tiles        The checkpoint's tiles, updated in place.
+     * @param actors       The checkpoint's actors, updated in place.
+     * @param collectibles The checkpoint's collectibles, updated in place.
+     * @param timer        The checkpoint's timer.
+     * @return The timer after the journal has been replayed.
+     * @throws IOException If the journal cannot be read.
+     */
+    public static int replay(final Path journalPath,
+                             final long generation,
+                             final LevelTiles tiles,
+                             final List<Actor> actors,
+                             final List<Collectible> collectibles,
+                             final int timer) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return timer;
+        }
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        if (in.limit() < HEADER_BYTES
+                || in.getInt(MAGIC_OFFSET) != MAGIC
+                || in.getInt(VERSION_OFFSET) != VERSION
+                || in.getLong(GENERATION_OFFSET) != generation) {
+            return timer;
+        }
+        int records = Math.min(in.getInt(COUNT_OFFSET),
+                (in.limit() - HEADER_BYTES) / RECORD_BYTES);
+        Actor[] liveActors = actors.toArray(new Actor[0]);
+        Collectible[] liveCollectibles =
+                collectibles.toArray(new Collectible[0]);
+        Player player = null;
+        for (Actor actor : liveActors) {
+            if (actor instanceof Player found) {
+                player = found;
+                break;
+            }
+        }
+        int result = timer;
+        for (int i = 0; i < records; i++) {
+            int offset = HEADER_BYTES + i * RECORD_BYTES;
+            int a = in.getInt(offset + Integer.BYTES);
+            int b = in.getInt(offset + 2 * Integer.BYTES);
+            int c = in.getInt(offset + 3 * Integer.BYTES);
+            switch (in.getInt(offset)) {
+                case TILE -> replaceTile(tiles, a, b, c);
+                case MOVE -> {
+                    if (a >= 0 && a < liveActors.length
+                            && liveActors[a] != null) {
+                        liveActors[a].placeAt(b, c);
+                    }
+                }
+                case REMOVE -> {
+                    if (a >= 0 && a < liveActors.length) {
+                        liveActors[a] = null;
+                    }
+                }
+                case COLLECT -> {
+                    if (a >= 0 && a < liveCollectibles.length) {
+                        liveCollectibles[a] = null;
+                    }
+                }
+                case INVENTORY -> {
+                    if (player != null) {
+                        player.setChipsCount(a);
+                        player.setKeys(keysOf(b));
+                    }
+                }
+                case HEADING -> {
+                    if (a >= 0 && a < liveActors.length
+                            && liveActors[a] != null
+                            && b >= 0 && b < DIRECTIONS.length) {
+                        liveActors[a].setHeading(DIRECTIONS[b]);
+                    }
+                }
+                case TIMER -> result = a;
+                default -> {
+                }
+            }
+        }
+        actors.clear();
+        for (Actor actor : liveActors) {
+            if (actor != null) {
+                actors.add(actor);
+            }
+        }
+        collectibles.clear();
+        for (Collectible collectible : liveCollectibles) {
+            if (collectible != null) {
+                collectibles.add(collectible);
+            }
+        }
+        return result;
+    }
+
+    private static void replaceTile(final LevelTiles tiles,
+                                    final int x,
+                                    final int y,
+                                    final int code) {
+        if (!tiles.isInBounds(x, y)) {
+            return;
+        }
+        TileType type = TileType.fromCode((byte) code);
+        if (!type.isStateful() && type != TileType.EMPTY) {
+            tiles.set(x, y, type.getTile());
+        }
+    }
+
+    private static Set<Key.KeyColor> keysOf(final int mask) {
+        Set<Key.KeyColor> keys = EnumSet.noneOf(Key.KeyColor.class);
+        for (Key.KeyColor color : KEY_COLORS) {
+            if ((mask & (1 << color.ordinal())) != 0) {
+                keys.add(color);
+            }
+        }
+        return keys;
+    }
+}
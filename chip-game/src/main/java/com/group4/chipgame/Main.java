@@ -1,31 +1,47 @@
 package com.group4.chipgame;
 
+import com.group4.chipgame.Level.LevelCatalog;
 import com.group4.chipgame.Level.LevelData;
 import com.group4.chipgame.Level.LevelLoader;
+import com.group4.chipgame.Level.LevelPreloader;
+import com.group4.chipgame.Level.LevelRandom;
 import com.group4.chipgame.Level.LevelRenderer;
 import com.group4.chipgame.Level.LevelStateManager;
+import com.group4.chipgame.Level.PathSearchMode;
+import com.group4.chipgame.Level.saving.AutosaveJournal;
 import com.group4.chipgame.entities.actors.Player;
 import com.group4.chipgame.events.LevelCompletedEvent;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
 import com.group4.chipgame.menu.MainMenu;
 import com.group4.chipgame.menu.SaveLoadMenu;
 import com.group4.chipgame.menu.SettingsMenu;
+import com.group4.chipgame.profile.Profile;
 import com.group4.chipgame.profile.ProfileManager;
-import com.group4.chipgame.entities.actors.tiles.Tile;
+import com.group4.chipgame.replay.ReplayPlayer;
+import com.group4.chipgame.replay.ReplayRecorder;
+import com.group4.chipgame.spectator.FileSink;
+import com.group4.chipgame.spectator.SocketSink;
+import com.group4.chipgame.spectator.SpectatorSink;
+import com.group4.chipgame.spectator.SpectatorStream;
+import com.group4.chipgame.telemetry.Telemetry;
+import com.group4.chipgame.telemetry.TelemetryDumper;
+import com.group4.chipgame.telemetry.TelemetryOverlay;
 import com.group4.chipgame.ui.TimerUI;
 import javafx.application.Application;
 import javafx.application.Platform;
-import javafx.beans.property.SimpleIntegerProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import org.json.JSONObject;
+
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main application class for the Chip Game.
@@ -33,10 +49,6 @@ import java.nio.file.Paths;
  * @author William Buckley
  */
 public class Main extends Application {
-    public static final SimpleIntegerProperty TILE_SIZE =
-            new SimpleIntegerProperty(50);
-    public static final SimpleIntegerProperty ACTOR_SIZE =
-            new SimpleIntegerProperty((int) (TILE_SIZE.get() / 1.5));
     public static final String MAIN_MENU_TITLE = "Chip Game Main Menu";
     public static final String GAME_TITLE = "Chip Game";
     public static final String BACKGROUND_COLOR =
@@ -46,38 +58,114 @@ public class Main extends Application {
     private static final String SAVES_DIR = "src/main/java/saves";
     private static final long INPUT_DELAY = 200;
     private static final int MAX_QUEUE_SIZE = 5;
-    private static final double TILE_SIZE_DIMENSION_RATIO = 1.5;
     private static final int TILE_MAIN = 100;
     private static final int TILE_DIVIDE = 10;
     private static final double DEFAULT_SCENE_WIDTH = 400;
     private static final double DEFAULT_SCENE_HEIGHT = 400;
     private static final double SCENE_MIN_WIDTH = 400;
     private static final double SCENE_MIN_HEIGHT = 400;
-    private static final int DEFAULT_TIMER = 300;
     private static final int INSECT = 10;
-
+    private static final String RECORD_OPTION = "record";
+    private static final String REPLAY_OPTION = "replay";
+    private static final String REPLAY_EXTENSION = ".replay";
+    private static final String AUTOSAVE_NAME = "autosave";
+    private static final Logger LOG = Logger.get(LogCategory.SAVE);
+    private static final Logger GAME_LOG = Logger.get(LogCategory.GAME);
+    private static final Logger LEVEL_LOG = Logger.get(LogCategory.LEVEL);
+    private static final String TELEMETRY_PREFIX = "--telemetry";
+    private static final String TELEMETRY_DUMP_OPTION = "telemetry-dump";
+    private static final String TELEMETRY_OVERLAY_OPTION =
+            "telemetry-overlay";
+    private static final long TELEMETRY_DUMP_SECONDS = 5;
+    private static final String SPECTATE_PORT_OPTION = "spectate-port";
+    private static final String SPECTATE_FILE_OPTION = "spectate-file";
+    private static final String FROG_SEARCH_OPTION = "frog-search";
+    private static final String ENEMY_BUDGET_OPTION = "enemy-budget-ms";
+    private static final String ENEMY_PLANNERS_OPTION = "enemy-planners";
+
+    private final GameContext gameContext = new GameContext();
     private GameLoop gameLoop;
+    private LevelRenderer playedRenderer;
     private Stage primaryStage;
     private StackPane settingsMenu;
     private ProfileManager profileManager;
     private LevelData currentLevelData;
     private TimerUI timerUI;
+    private LevelCatalog levelCatalog;
+    private LevelPreloader levelPreloader;
+    private String replayDir;
+    private ReplayPlayer pendingReplay;
+    private TelemetryDumper telemetryDumper;
+    private TelemetryOverlay telemetryOverlay;
+    private SpectatorSink spectatorSink;
+    private boolean showTelemetryOverlay;
+    private long enemyBudgetNanos = EnemyScheduler.DEFAULT_BUDGET_NANOS;
+    private int enemyPlanners;
     private String currentLevelPath = LEVELS_BASE_DIR + "/level1.json";
 
 
     public static void main(final String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(TELEMETRY_PREFIX)) {
+                System.setProperty(Telemetry.ENABLED_PROPERTY,
+                        Boolean.TRUE.toString());
+            }
+        }
         launch(args);
     }
 
     /**
      * Starts the application and initializes the main game window.
+     * The option --record=DIR records a replay of every level played
+     * into DIR, and --replay=FILE starts the level of a replay file
+     * and plays its inputs back with the frog path search it was
+     * recorded with. The option --telemetry-dump=FILE
+     * writes frame and tick telemetry to FILE every few seconds,
+     * and --telemetry-overlay=true shows it on screen.
+     * The option --spectate-port=PORT serves the game to spectators
+     * on a local port, and --spectate-file=FILE writes the same
+     * spectator stream to FILE. The option --frog-search=jump-point
+     * has frogs find the player with a jump point search, and
+     * --enemy-budget-ms=N lets enemy decisions take N milliseconds
+     * of a frame before costly ones are put off to later frames.
+     * The option --enemy-planners=N plans frog moves on N worker
+     * threads instead of the JavaFX thread.
      * @param primaryStage The primary stage for this application.
      * @throws IOException if there is an error loading level data.
      */
     @Override
     public void start(final Stage primaryStage) throws IOException {
         this.primaryStage = primaryStage;
+        Map<String, String> options = getParameters().getNamed();
+        String frogSearch = options.get(FROG_SEARCH_OPTION);
+        if (frogSearch != null) {
+            gameContext.setPathSearchMode(
+                    PathSearchMode.fromOption(frogSearch));
+        }
+        String enemyBudget = options.get(ENEMY_BUDGET_OPTION);
+        if (enemyBudget != null) {
+            enemyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(
+                    Long.parseLong(enemyBudget));
+        }
+        String planners = options.get(ENEMY_PLANNERS_OPTION);
+        if (planners != null) {
+            enemyPlanners = Integer.parseInt(planners);
+        }
+        if (Telemetry.ENABLED) {
+            String dumpFile = options.get(TELEMETRY_DUMP_OPTION);
+            if (dumpFile != null) {
+                telemetryDumper = new TelemetryDumper(
+                        Paths.get(dumpFile), TELEMETRY_DUMP_SECONDS);
+            }
+            showTelemetryOverlay = Boolean.parseBoolean(
+                    options.get(TELEMETRY_OVERLAY_OPTION));
+        }
         profileManager = new ProfileManager();
+        levelCatalog = new LevelCatalog(LEVELS_BASE_DIR);
+        levelPreloader = new LevelPreloader(
+                path -> new LevelLoader().parse(path));
+        levelCatalog.addChangeListener(levelPreloader::invalidate);
+        levelCatalog.startWatching();
         primaryStage.addEventHandler(LevelCompletedEvent.
                 LEVEL_COMPLETED, event -> {
             profileManager.markLevelAsCompleted(currentLevelPath);
@@ -86,6 +174,67 @@ public class Main extends Application {
         });
         showMainMenu(primaryStage);
         addStageSizeListeners(primaryStage);
+
+        spectatorSink = openSpectatorSink(options);
+        replayDir = options.get(RECORD_OPTION);
+        String replayFile = options.get(REPLAY_OPTION);
+        if (replayFile != null) {
+            pendingReplay = ReplayPlayer.open(Paths.get(replayFile));
+            gameContext.setPathSearchMode(
+                    pendingReplay.getPathSearchMode());
+            startLevel(pendingReplay.getLevelPath(), primaryStage);
+        }
+    }
+
+    /**
+     * Stops the game loop, which flushes and closes its recorders and
+     * planners, and then the background level watcher and preloader
+     * when the application exits.
+     */
+    @Override
+    public void stop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+        if (levelCatalog != null) {
+            levelCatalog.close();
+        }
+        if (levelPreloader != null) {
+            levelPreloader.close();
+        }
+        if (telemetryDumper != null) {
+            telemetryDumper.close();
+        }
+        if (spectatorSink != null) {
+            try {
+                spectatorSink.close();
+            } catch (IOException e) {
+                GAME_LOG.warn("Could not close the spectator stream: {}", e);
+            }
+        }
+    }
+
+    /**
+     * Opens the sink named by the spectator options, if any.
+     *
+     * @param options The named command line options.
+     * @return The sink, or null if spectating is not enabled.
+     * @throws IOException If the port cannot be bound
+     *                     or the file cannot be created.
+     */
+    private static SpectatorSink openSpectatorSink(
+            final Map<String, String> options) throws IOException {
+        String port = options.get(SPECTATE_PORT_OPTION);
+        if (port != null) {
+            SocketSink sink = new SocketSink(Integer.parseInt(port));
+            LOG.info("Serving spectators on port {}", sink.getPort());
+            return sink;
+        }
+        String file = options.get(SPECTATE_FILE_OPTION);
+        if (file != null) {
+            return new FileSink(Paths.get(file));
+        }
+        return null;
     }
 
     /**
@@ -106,8 +255,7 @@ public class Main extends Application {
      */
     private void updateSizes(final Stage stage) {
         int newTileSize = calculateTileSize(stage);
-        TILE_SIZE.set(newTileSize);
-        ACTOR_SIZE.set((int) (newTileSize / TILE_SIZE_DIMENSION_RATIO));
+        gameContext.setTileSize(newTileSize);
     }
 
     /**
@@ -161,6 +309,14 @@ public class Main extends Application {
         return profileManager;
     }
 
+    /**
+     * Gets the catalog of available levels.
+     * @return The level catalog.
+     */
+    public LevelCatalog getLevelCatalog() {
+        return levelCatalog;
+    }
+
     /**
      * Saves the current game state to a specified file.
      *
@@ -175,7 +331,7 @@ public class Main extends Application {
                 + profileName
                 + "_" + saveName
                 + ".json";
-        System.out.println(saveFilePath);
+        LOG.info("Saving game to {}", saveFilePath);
         currentLevelData.setTimer(timerUI.getTimeRemaining());
         LevelStateManager.saveLevel(currentLevelData, saveFilePath);
         profileManager.addSaveToProfile(profileName, saveFilePath);
@@ -191,11 +347,12 @@ public class Main extends Application {
             throws IOException {
         this.currentLevelData =
                 LevelStateManager.loadLevel(saveName,
-                        new LevelRenderer(currentLevelData));
+                        new LevelRenderer(gameContext, currentLevelData));
         this.currentLevelPath =
                 currentLevelData.getLevelPath();
 
         reinitializeLevel(currentLevelData);
+        preloadNextLevel();
     }
 
 
@@ -253,12 +410,12 @@ public class Main extends Application {
         levelRenderer.updateTileOccupation();
         double sceneWidth = calculateSceneDimension(
                 levelData.getGridWidth()
-                        * TILE_SIZE.get(),
+                        * gameContext.getTileSize(),
                 primaryStage.getWidth(),
                 SCENE_MIN_WIDTH);
         double sceneHeight = calculateSceneDimension(
                 levelData.getGridHeight()
-                        * TILE_SIZE.get(),
+                        * gameContext.getTileSize(),
                 primaryStage.getHeight(),
                 SCENE_MIN_HEIGHT);
 
@@ -285,6 +442,7 @@ public class Main extends Application {
         this.currentLevelData = loadLevel(levelPath);
         initGamePane(currentLevelData);
         adjustPrimaryStage(primaryStage, currentLevelData);
+        preloadNextLevel();
     }
 
 
@@ -317,10 +475,10 @@ public class Main extends Application {
         double stageHeight = primaryStage.getHeight();
         double sceneWidth = calculateSceneDimension(
                 levelData.getGridWidth()
-                * TILE_SIZE.get(), stageWidth, MIN_WINDOW_SIZE);
+                * gameContext.getTileSize(), stageWidth, MIN_WINDOW_SIZE);
         double sceneHeight = calculateSceneDimension(
                 levelData.getGridHeight()
-                * TILE_SIZE.get(), stageHeight, MIN_WINDOW_SIZE);
+                * gameContext.getTileSize(), stageHeight, MIN_WINDOW_SIZE);
         StackPane gamePane = initGamePane(levelData);
         initScene(gamePane, primaryStage,
                 (int) sceneWidth,
@@ -338,10 +496,11 @@ public class Main extends Application {
     }
 
     /**
-     * Loads level data from the specified path.
-     * This includes reading level configuration,
-     * initializing tiles, actors, collectibles,
-     * and setting up the level renderer with the loaded data.
+     * Loads level data from the specified path
+     * and makes it the current level.
+     * The level file is taken from the preloader, which may have
+     * parsed it already, and is built into the game here on the
+     * JavaFX thread, which owns the game's sizing.
      *
      * @param levelPath The path to the level file.
      * @return An instance of LevelData containing all thedata for the loaded level.
@@ -349,34 +508,20 @@ public class Main extends Application {
      */
     private LevelData loadLevel(final String levelPath)
             throws IOException {
-        String content = Files.readString(Paths.get(levelPath));
-        JSONObject levelJson = new JSONObject(content);
-        int timer = levelJson.optInt("timer", DEFAULT_TIMER);
-
-        LevelLoader levelLoader = new LevelLoader();
-        Tile[][] tiles = levelLoader.loadTiles(levelPath);
-        int gridWidth = tiles[0].length;
-        int gridHeight = tiles.length;
-
-        LevelRenderer levelRenderer =
-                new LevelRenderer(currentLevelData);
-        levelRenderer.renderTiles(tiles);
-        this.currentLevelData = new LevelData(
-                tiles,
-                gridWidth,
-                gridHeight,
-                levelLoader.loadActors(levelPath, levelRenderer),
-                levelLoader.loadCollectibles(levelPath, levelRenderer),
-                levelRenderer,
-                levelPath,
-                timer);
-        levelRenderer.setCurrentLevelData(currentLevelData);
-
+        this.currentLevelData = new LevelLoader().build(
+                levelPreloader.take(levelPath), gameContext);
         this.currentLevelPath = levelPath;
-
         return currentLevelData;
     }
 
+    /**
+     * Starts parsing the level that follows the current one
+     * in the background, so that advancing to it is quick.
+     */
+    private void preloadNextLevel() {
+        levelPreloader.preload(getNextLevelPath());
+    }
+
     /**
      * Initializes the game pane with the provided level data.
      * This includes setting up the game pane's children, style, and rendering actors and collectibles.
@@ -402,12 +547,22 @@ public class Main extends Application {
                 Pos.TOP_RIGHT);
         StackPane.setMargin(timerUI.getTimerLabel(),
                 new Insets(INSECT, INSECT, 0, 0));
+        if (telemetryOverlay != null) {
+            telemetryOverlay.detach();
+            telemetryOverlay = null;
+        }
+        if (showTelemetryOverlay) {
+            telemetryOverlay = new TelemetryOverlay();
+            telemetryOverlay.attach(rootPane);
+        }
         return rootPane;
     }
 
     /**
      * Initializes and starts the game loop for the provided level data.
-     * Stops any existing game loop before starting a new one. Sets up the camera,
+     * Stops any existing game loop before starting a new one, and
+     * disposes of the level it played if that level is being replaced,
+     * so the game's context lets go of it. Sets up the camera,
      * game loop, and keybind handler for the level.
      *
      * @param levelData The data of the level for which the game loop is initialized.
@@ -416,16 +571,31 @@ public class Main extends Application {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        if (playedRenderer != null
+                && playedRenderer != levelData.getLevelRenderer()) {
+            playedRenderer.dispose();
+        }
+        playedRenderer = levelData.getLevelRenderer();
 
         Camera camera = new Camera(
                 levelData.getLevelRenderer().getGamePane(),
-                levelData.getGridWidth() * TILE_SIZE.get(),
-                levelData.getGridHeight() * TILE_SIZE.get());
+                levelData.getGridWidth() * gameContext.getTileSize(),
+                levelData.getGridHeight() * gameContext.getTileSize());
 
         gameLoop = new GameLoop(levelData.getActors(),
                 levelData.getLevelRenderer(),
                 camera, timerUI);
-
+        gameLoop.setEnemyBudget(enemyBudgetNanos);
+        if (enemyPlanners > 0) {
+            gameLoop.setEnemyPlanner(new EnemyPlanner(
+                    levelData.getLevelRenderer(), enemyPlanners));
+        }
+        attachReplay(levelData);
+        attachAutosave(levelData);
+        if (spectatorSink != null) {
+            gameLoop.setSpectatorStream(
+                    new SpectatorStream(levelData, spectatorSink));
+        }
 
         KeybindHandler movementHandler =
                 new KeybindHandler(gameLoop,
@@ -440,6 +610,67 @@ public class Main extends Application {
         gameLoop.start();
     }
 
+    /**
+     * Attaches a replay to the new game loop. A pending replay
+     * is played back with its recorded seed; otherwise, if recording
+     * is enabled, a new replay file is started for the level.
+     * The level's random generator is restarted from its seed
+     * in both cases so that the run matches the replay exactly.
+     *
+     * @param levelData The data of the level being started.
+     */
+    private void attachReplay(final LevelData levelData) {
+        LevelRandom random = levelData.getLevelRenderer().getRandom();
+        if (pendingReplay != null) {
+            random.reseed(pendingReplay.getSeed());
+            gameLoop.setReplayPlayer(pendingReplay);
+            pendingReplay = null;
+        } else if (replayDir != null) {
+            random.reseed(random.getSeed());
+            Path file = Paths.get(replayDir,
+                    Paths.get(levelData.getLevelPath()).getFileName()
+                            + "-" + System.currentTimeMillis()
+                            + REPLAY_EXTENSION);
+            try {
+                gameLoop.setReplayRecorder(new ReplayRecorder(file,
+                        levelData.getLevelPath(), random.getSeed(),
+                        levelData.getLevelRenderer().getContext()
+                                .getPathSearchMode()));
+            } catch (IOException e) {
+                GAME_LOG.warn("Could not record a replay to {}: {}",
+                        file, e);
+            }
+        }
+    }
+
+    /**
+     * Starts journaling the level into the current profile's autosave,
+     * which is listed with the profile's saves so it can be loaded
+     * like any other save after a crash. Without a current profile,
+     * such as when a level is started from the command line, there is
+     * nowhere to list the autosave, so none is kept.
+     *
+     * @param levelData The data of the level being started.
+     */
+    private void attachAutosave(final LevelData levelData) {
+        Profile profile = profileManager.getCurrentProfile();
+        if (profile == null) {
+            LOG.info("No profile selected; the level is not autosaved");
+            return;
+        }
+        String profileName = profile.getName();
+        Path checkpoint = Paths.get(SAVES_DIR,
+                profileName + "_" + AUTOSAVE_NAME + ".json");
+        try {
+            gameLoop.setAutosave(
+                    AutosaveJournal.open(checkpoint, levelData));
+            profileManager.addSaveToProfile(profileName,
+                    checkpoint.toString());
+        } catch (IOException e) {
+            LOG.warn("Could not open the autosave {}: {}", checkpoint, e);
+        }
+    }
+
     /**
      * Advances the game to the
      * next level based on the current level's path.
@@ -454,38 +685,23 @@ public class Main extends Application {
                 currentLevelData = loadLevel(nextLevelPath);
                 currentLevelPath = nextLevelPath;
                 reinitializeLevel(currentLevelData);
+                preloadNextLevel();
             } catch (IOException e) {
-                e.printStackTrace();
+                LEVEL_LOG.error("Could not load the next level {}: {}",
+                        nextLevelPath, e);
             }
         }
     }
 
     /**
-     * Calculates and returns the path to
-     * the next level based on the current level's path.
-     * Determines the next level number
-     * and constructs the path for the next level.
+     * Returns the path to the level that follows
+     * the current one in the level catalog.
      *
      * @return The file path to the next level or null
      * if the next level does not exist.
      */
     private String getNextLevelPath() {
-        String currentLevel =
-                currentLevelPath.substring(
-                        currentLevelPath.lastIndexOf('/') + 1);
-        int currentLevelNumber =
-                Integer.parseInt(
-                        currentLevel.replaceAll(
-                                "[^0-9]", ""));
-        String nextLevel = "/level" + (
-                currentLevelNumber + 1) + ".json";
-        Path nextLevelPath = Paths.get(
-                LEVELS_BASE_DIR + nextLevel);
-        if (Files.exists(nextLevelPath)) {
-            return nextLevelPath.toString();
-        } else {
-            return null;
-        }
+        return levelCatalog.getNextLevel(currentLevelPath);
     }
 
     public enum SceneType {
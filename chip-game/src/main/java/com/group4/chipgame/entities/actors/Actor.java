@@ -3,13 +3,13 @@ package com.group4.chipgame.entities.actors;
 import com.group4.chipgame.Direction;
 import com.group4.chipgame.EffectManager;
 import com.group4.chipgame.Level.LevelRenderer;
-import com.group4.chipgame.Main;
-import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.GameContext;
 import com.group4.chipgame.entities.actors.tiles.Tile;
-import com.group4.chipgame.entities.actors.tiles.Trap;
+import com.group4.chipgame.events.GameEvent;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
+import javafx.beans.value.ChangeListener;
 import javafx.geometry.Point2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -29,6 +29,12 @@ public abstract class Actor extends ImageView implements Entity {
     private Point2D currentPosition;
     private long moveInterval;
     private boolean isMoving;
+    private boolean held;
+    private boolean wakePending;
+    private Timeline motion;
+    private GameContext context;
+    private final ChangeListener<Number> resizeListener =
+            (obs, oldVal, newVal) -> updatePosition();
     private static final double BASE_SPEED = 0.003;
 
     /**
@@ -53,8 +59,38 @@ public abstract class Actor extends ImageView implements Entity {
                  final double y) {
         initializeImage(imagePath);
         currentPosition = new Point2D(x, y);
+    }
+
+    /**
+     * Binds the size and position of the actor to the sizing of a game.
+     * Attaching it again to the same game does nothing.
+     *
+     * @param gameContext The context of the game showing the actor.
+     */
+    public void attach(final GameContext gameContext) {
+        if (context == gameContext) {
+            return;
+        }
+        detach();
+        context = gameContext;
+        fitWidthProperty().bind(gameContext.actorSizeProperty());
+        fitHeightProperty().bind(gameContext.actorSizeProperty());
+        gameContext.actorSizeProperty().addListener(resizeListener);
         updatePosition();
-        Main.ACTOR_SIZE.addListener((obs, oldVal, newVal) -> updatePosition());
+    }
+
+    /**
+     * Unbinds the actor from the sizing of its game, so the game no
+     * longer holds on to it once its level is discarded.
+     */
+    public void detach() {
+        if (context == null) {
+            return;
+        }
+        fitWidthProperty().unbind();
+        fitHeightProperty().unbind();
+        context.actorSizeProperty().removeListener(resizeListener);
+        context = null;
     }
 
     /**
@@ -68,8 +104,6 @@ public abstract class Actor extends ImageView implements Entity {
                         getClass().getResourceAsStream(imagePath)));
         setImage(image);
         setSmooth(true);
-        fitWidthProperty().bind(Main.ACTOR_SIZE);
-        fitHeightProperty().bind(Main.ACTOR_SIZE);
     }
 
     /**
@@ -88,21 +122,32 @@ public abstract class Actor extends ImageView implements Entity {
     /**
      * Updates the position of the actor on
      * the screen based on its current grid position.
+     * Actors not yet attached to a game are left where they are.
      */
     private void updatePosition() {
+        if (context == null) {
+            return;
+        }
         double offset = calculateOffset();
-        setLayoutX(currentPosition.getX() * Main.TILE_SIZE.get() + offset);
-        setLayoutY(currentPosition.getY() * Main.TILE_SIZE.get() + offset);
+        setLayoutX(currentPosition.getX() * tileSize() + offset);
+        setLayoutY(currentPosition.getY() * tileSize() + offset);
         EffectManager.applyDynamicShadowEffect(this);
     }
 
+    /**
+     * Gets the tile size of the actor's game, or 0 before it is attached.
+     */
+    private int tileSize() {
+        return context == null ? 0 : context.getTileSize();
+    }
+
     /**
      * Calculates the offset required to center the actor within a tile.
      *
      * @return The calculated offset value.
      */
     private double calculateOffset() {
-        return (Main.TILE_SIZE.get() - fitWidthProperty().get()) / 2.0;
+        return (tileSize() - fitWidthProperty().get()) / 2.0;
     }
 
     /**
@@ -121,9 +166,53 @@ public abstract class Actor extends ImageView implements Entity {
      * @return True if the actor should move, false otherwise.
      */
     public boolean shouldMove(final long ticksElapsed) {
+        if (wakePending) {
+            wakePending = false;
+            return true;
+        }
         return ticksElapsed % this.moveInterval == 0;
     }
 
+    /**
+     * Checks whether the actor will be due to move on a tick, without
+     * using up a pending wake as {@link #shouldMove(long)} does.
+     *
+     * @param tick The tick to check.
+     * @return True if the actor will be due to move on that tick.
+     */
+    public boolean isDueAt(final long tick) {
+        return wakePending || tick % this.moveInterval == 0;
+    }
+
+    /**
+     * Holds the actor in place, typically because it entered an active trap.
+     */
+    public void hold() {
+        held = true;
+        wakePending = false;
+    }
+
+    /**
+     * Releases a held actor and schedules it
+     * to move on the next tick instead of waiting
+     * for its regular move interval.
+     */
+    public void release() {
+        if (held) {
+            held = false;
+            wakePending = true;
+        }
+    }
+
+    /**
+     * Checks if the actor is held in place.
+     *
+     * @return True if the actor is held, false otherwise.
+     */
+    public boolean isHeld() {
+        return held;
+    }
+
     /**
      * Moves the actor by a specified delta in x and y direction.
      *
@@ -145,6 +234,45 @@ public abstract class Actor extends ImageView implements Entity {
         performMove(newX, newY, levelRenderer, direction);
     }
 
+    /**
+     * Puts the actor straight onto a cell, cutting short any move
+     * in progress and clearing any hold. Tile occupancy and events
+     * are left to the caller, which is restoring a whole level.
+     *
+     * @param x The column to place the actor on.
+     * @param y The row to place the actor on.
+     */
+    public void placeAt(final double x, final double y) {
+        if (motion != null) {
+            motion.stop();
+            motion = null;
+        }
+        isMoving = false;
+        held = false;
+        wakePending = false;
+        currentPosition = new Point2D(x, y);
+        updatePosition();
+    }
+
+    /**
+     * Gets the direction the actor is heading in,
+     * for actors whose next move depends on it.
+     *
+     * @return The heading, or null if the actor keeps none.
+     */
+    public Direction getHeading() {
+        return null;
+    }
+
+    /**
+     * Sets the direction the actor is heading in. Actors that
+     * keep no heading ignore it.
+     *
+     * @param heading The new heading.
+     */
+    public void setHeading(final Direction heading) {
+    }
+
     /**
      * Checks if the actor is currently moving.
      *
@@ -171,6 +299,9 @@ public abstract class Actor extends ImageView implements Entity {
 
     /**
      * Validates if a move to a new position is valid.
+     * The target is tested against the level's passable layer first,
+     * a single bit test, so walls are turned down without any tile
+     * being looked up.
      *
      * @param newPosition The new position to validate.
      * @param levelRenderer The renderer for the game level.
@@ -178,10 +309,10 @@ public abstract class Actor extends ImageView implements Entity {
      */
     protected boolean isMoveValid(final Point2D newPosition,
                                   final LevelRenderer levelRenderer) {
-        Optional<Tile> targetTileOpt =
-                levelRenderer.getTileAtGridPosition((int) newPosition.getX(),
-                        (int) newPosition.getY());
-        if (targetTileOpt.isEmpty()) {
+        int x = (int) newPosition.getX();
+        int y = (int) newPosition.getY();
+        if (!levelRenderer.getWalkability().isPassable(
+                getMovementClass(), x, y)) {
             return false;
         }
 
@@ -189,25 +320,36 @@ public abstract class Actor extends ImageView implements Entity {
                 levelRenderer.getTileAtGridPosition(
                         (int) currentPosition.getX(),
                         (int) currentPosition.getY());
-        if (currentTileOpt.isPresent()
-                && currentTileOpt.get() instanceof Trap currentTrap
-                && currentTrap.isActive()) {
+        if (currentTileOpt.isPresent() && currentTileOpt.get().isHolding()) {
             return false;
         }
 
-        Tile targetTile = targetTileOpt.get();
-        Entity occupiedBy = targetTile.getOccupiedBy();
+        Entity occupiedBy = levelRenderer.getOccupant(x, y);
+        return occupiedBy == null || canShareTileWith(occupiedBy);
+    }
 
-        return targetTile.isWalkable()
-                && (occupiedBy == null
-                || (this instanceof Player
-                && occupiedBy instanceof Collectible)
-                || (this instanceof Enemy
-                && occupiedBy instanceof Player));
+    /**
+     * Gets the movement class of the actor,
+     * which decides the tile types it may enter.
+     *
+     * @return The movement class of the actor.
+     */
+    public abstract MovementClass getMovementClass();
+
+    /**
+     * Checks if the actor may move onto a tile
+     * that is already occupied by another entity.
+     *
+     * @param occupant The entity occupying the target tile.
+     * @return True if the actor may move onto the tile, false otherwise.
+     */
+    protected boolean canShareTileWith(final Entity occupant) {
+        return false;
     }
 
     /**
      * Performs the move action for the actor to a new position.
+     * In a game whose moves are not animated the actor lands at once.
      *
      * @param newX The new x-coordinate.
      * @param newY The new y-coordinate.
@@ -219,7 +361,14 @@ public abstract class Actor extends ImageView implements Entity {
                             final LevelRenderer levelRenderer,
                             final Direction direction) {
         isMoving = true;
+        if (!levelRenderer.getContext().isAnimated()) {
+            updateTileOccupancy(levelRenderer, newX, newY, direction);
+            updatePosition();
+            isMoving = false;
+            return;
+        }
         Timeline timeline = createTimeline(newX, newY);
+        motion = timeline;
 
         updateTileOccupancy(levelRenderer, newX, newY, direction);
 
@@ -239,17 +388,27 @@ public abstract class Actor extends ImageView implements Entity {
                                      final double newX,
                                      final double newY,
                                      final Direction direction) {
-        levelRenderer.getTileAtGridPosition(
-                (int) currentPosition.getX(),
-                        (int) currentPosition.getY())
-                .ifPresent(tile -> tile.setOccupiedBy(null));
+        int oldX = (int) currentPosition.getX();
+        int oldY = (int) currentPosition.getY();
+        levelRenderer.getTileAtGridPosition(oldX, oldY)
+                .ifPresent(tile -> {
+                    levelRenderer.setOccupant(oldX, oldY, null);
+                    levelRenderer.getEventBus().publish(
+                            GameEvent.leave(this, tile, oldX, oldY,
+                                    direction));
+                });
 
         currentPosition = new Point2D(newX, newY);
 
-        levelRenderer.getTileAtGridPosition((int) newX, (int) newY)
+        int x = (int) newX;
+        int y = (int) newY;
+        levelRenderer.getTileAtGridPosition(x, y)
                 .ifPresent(tile -> {
-                    tile.setOccupiedBy(this);
-                    tile.onStep(this, levelRenderer, direction);
+                    levelRenderer.setOccupant(x, y, this);
+                    levelRenderer.getEventBus().publish(
+                            GameEvent.enter(this, tile, x, y, direction));
+                    levelRenderer.getEventBus().publish(
+                            GameEvent.step(this, tile, x, y, direction));
                 });
     }
 
@@ -268,9 +427,9 @@ public abstract class Actor extends ImageView implements Entity {
         double durationMillis = distance / BASE_SPEED;
 
         KeyValue kvX = new KeyValue(this.layoutXProperty(),
-                newX * Main.TILE_SIZE.get() + offset);
+                newX * tileSize() + offset);
         KeyValue kvY = new KeyValue(this.layoutYProperty(),
-                newY * Main.TILE_SIZE.get() + offset);
+                newY * tileSize() + offset);
         KeyFrame kf = new KeyFrame(Duration.millis(durationMillis), kvX, kvY);
 
         return new Timeline(kf);
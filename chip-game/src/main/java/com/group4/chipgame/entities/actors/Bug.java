@@ -1,6 +1,7 @@
 package com.group4.chipgame.entities.actors;
 
 import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.BitLayer;
 import com.group4.chipgame.Level.LevelRenderer;
 import javafx.geometry.Point2D;
 import org.json.JSONObject;
@@ -17,6 +18,9 @@ public class Bug extends Enemy {
     private static final String BUG_IMAGE_PATH =
             "/images/chipgame/actors/bug.png";
     private static final int MOVE_INTERVAL = 100;
+    private static final Direction[] SIDES = {
+        Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT
+    };
 
     /**
      * Constructs a Bug with specified initial position and movement behavior.
@@ -38,17 +42,19 @@ public class Bug extends Enemy {
     /**
      * Decides the next move for the Bug
      * based on its current position and movement rules.
+     * The four sides are checked once, up front, by
+     * {@link #openSides(LevelRenderer)}.
      *
      * @param levelRenderer The renderer for the game level.
      */
     @Override
     public void makeMoveDecision(final LevelRenderer levelRenderer) {
-        if (!canMoveInDirection(
-                currentDirection, levelRenderer)) {
+        int open = openSides(levelRenderer);
+        if (!isOpen(open, currentDirection)) {
             Direction sideDirection =
                     followLeftEdge ? currentDirection.turnLeft()
                             : currentDirection.turnRight();
-            if (isWallOnSide(sideDirection, levelRenderer)) {
+            if (!isOpen(open, sideDirection)) {
                 currentDirection =
                         followLeftEdge ? currentDirection.turnRight()
                                 : currentDirection.turnLeft();
@@ -59,42 +65,50 @@ public class Bug extends Enemy {
             Direction sideDirection =
                     followLeftEdge ? currentDirection.turnRight()
                             : currentDirection.turnLeft();
-            if (!isWallOnSide(sideDirection, levelRenderer)) {
+            if (isOpen(open, sideDirection)) {
                 currentDirection = sideDirection;
             }
         }
 
-        if (canMoveInDirection(currentDirection, levelRenderer)) {
+        if (isOpen(open, currentDirection)) {
             moveInDirection(currentDirection, levelRenderer);
         }
     }
 
     /**
-     * Checks if there is a wall on a given side of the Bug.
+     * Works out which of its four sides the Bug may move to.
+     * The walls around it are read from the level's passable layer
+     * in a single neighbour mask, and only the open sides are then
+     * checked for occupants and traps.
      *
-     * @param sideDirection The direction to check for a wall.
      * @param levelRenderer The renderer for the game level.
-     * @return true if there is a wall on the given side, false otherwise.
+     * @return A combination of the {@link BitLayer} neighbour bits.
      */
-    private boolean isWallOnSide(final Direction sideDirection,
-                                 final LevelRenderer levelRenderer) {
-        Point2D sidePosition = getPosition()
-                .add(sideDirection.getDx(), sideDirection.getDy());
-        return !isMoveValid(sidePosition, levelRenderer);
+    private int openSides(final LevelRenderer levelRenderer) {
+        Point2D position = getPosition();
+        int passable = levelRenderer.getWalkability().passableNeighbours(
+                getMovementClass(), (int) position.getX(),
+                (int) position.getY());
+        int open = 0;
+        for (Direction side : SIDES) {
+            int bit = maskOf(side);
+            if ((passable & bit) != 0 && isMoveValid(
+                    position.add(side.getDx(), side.getDy()),
+                    levelRenderer)) {
+                open |= bit;
+            }
+        }
+        return open;
     }
 
-    /**
-     * Checks if the Bug can move in a given direction.
-     *
-     * @param direction     The direction to check for possible movement.
-     * @param levelRenderer The renderer for the game level.
-     * @return true if the Bug can move in the given direction, false otherwise.
-     */
-    private boolean canMoveInDirection(final Direction direction,
-                                       final LevelRenderer levelRenderer) {
-        Point2D newPosition = getPosition()
-                .add(direction.getDx(), direction.getDy());
-        return isMoveValid(newPosition, levelRenderer);
+    private static boolean isOpen(final int open,
+                                  final Direction direction) {
+        return (open & maskOf(direction)) != 0;
+    }
+
+    private static int maskOf(final Direction direction) {
+        return BitLayer.maskFor((int) direction.getDx(),
+                (int) direction.getDy());
     }
 
     /**
@@ -112,6 +126,26 @@ public class Bug extends Enemy {
         }
     }
 
+    /**
+     * Gets the direction the actor is moving in.
+     *
+     * @return The current direction.
+     */
+    @Override
+    public Direction getHeading() {
+        return currentDirection;
+    }
+
+    /**
+     * Sets the direction the actor is moving in.
+     *
+     * @param heading The new direction.
+     */
+    @Override
+    public void setHeading(final Direction heading) {
+        currentDirection = heading;
+    }
+
     /**
      * Serializes the state of the Bug to a JSON object.
      *
@@ -124,6 +158,7 @@ public class Bug extends Enemy {
         object.put("x", getCurrentPosition().getX());
         object.put("y", getCurrentPosition().getY());
         object.put("followLeftEdge", followLeftEdge);
+        object.put("direction", currentDirection.name());
         return object;
     }
 }
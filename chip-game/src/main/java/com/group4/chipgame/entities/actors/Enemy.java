@@ -0,0 +1,162 @@
+package com.group4.chipgame.entities.actors;
+
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.PlanningSnapshot;
+import com.group4.chipgame.entities.actors.tiles.Tile;
+import javafx.geometry.Point2D;
+import java.util.Optional;
+
+/**
+ * Represents an abstract Enemy in the ChipGame.
+ * This class provides the basic functionality for all enemy types in the game.
+ * @author William Buckley
+ */
+public abstract class Enemy extends Actor {
+
+    /**
+     * Constructs an Enemy with the specified image and initial position.
+     *
+     * @param imagePath The path to the image representing the enemy.
+     * @param x         The initial x-coordinate of the enemy.
+     * @param y         The initial y-coordinate of the enemy.
+     */
+    public Enemy(final String imagePath,
+                 final double x,
+                 final double y) {
+        super(imagePath, x, y);
+    }
+
+    /**
+     * An abstract method that should be implemented
+     * to define the enemy's movement decision logic.
+     *
+     * @param levelRenderer The renderer for the game level.
+     */
+    public abstract void makeMoveDecision(LevelRenderer levelRenderer);
+
+    /**
+     * Checks if the enemy's move decisions are costly enough
+     * to be spread across frames when a frame runs short of time.
+     *
+     * @return True if decisions may be deferred, false by default.
+     */
+    public boolean hasCostlyDecisions() {
+        return false;
+    }
+
+    /**
+     * Carries on with the enemy's previous decision while its next one
+     * waits for its turn. By default the enemy stays where it is.
+     *
+     * @param levelRenderer The renderer for the game level.
+     */
+    public void continuePreviousDecision(final LevelRenderer levelRenderer) {
+    }
+
+    /**
+     * Checks if the enemy can plan its moves from a
+     * {@link PlanningSnapshot} on a planning thread.
+     *
+     * @return True if it can, false by default.
+     */
+    public boolean plansOffThread() {
+        return false;
+    }
+
+    /**
+     * Plans the enemy's next move from a snapshot. It runs on a planning
+     * thread, so it must read nothing but the snapshot and its arguments.
+     *
+     * @param snapshot The level at the end of the last tick.
+     * @param x        The column the enemy was on.
+     * @param y        The row the enemy was on.
+     * @return The cell to step to, or null to decide on the game thread.
+     */
+    public int[] planMove(final PlanningSnapshot snapshot,
+                          final int x,
+                          final int y) {
+        return null;
+    }
+
+    /**
+     * Carries out a move planned by {@link #planMove} on the game thread.
+     * The move is checked against the live level like any other.
+     *
+     * @param step          The cell to step to, or null if
+     *                      the plan found nothing to do.
+     * @param levelRenderer The renderer for the game level.
+     */
+    public void applyPlannedMove(final int[] step,
+                                 final LevelRenderer levelRenderer) {
+        if (step == null) {
+            makeMoveDecision(levelRenderer);
+            return;
+        }
+        double dx = step[0] - getCurrentPosition().getX();
+        double dy = step[1] - getCurrentPosition().getY();
+        if (canMove(dx, dy, levelRenderer)) {
+            move(dx, dy, levelRenderer);
+        }
+    }
+
+    /**
+     * Gets the movement class of the enemy.
+     * Enemies keep to paths, buttons and traps.
+     *
+     * @return The enemy movement class.
+     */
+    @Override
+    public MovementClass getMovementClass() {
+        return MovementClass.ENEMY;
+    }
+
+    /**
+     * Enemies may move onto the player, which kills them.
+     *
+     * @param occupant The entity occupying the target tile.
+     * @return True if the occupant is the player, false otherwise.
+     */
+    @Override
+    protected boolean canShareTileWith(final Entity occupant) {
+        return occupant instanceof Player;
+    }
+
+    /**
+     * Checks if the enemy can move to a new position
+     * based on a specified delta in x and y direction.
+     * Also handles the interaction if the target tile is occupied by a player.
+     *
+     * @param dx            The change in the x-coordinate.
+     * @param dy            The change in the y-coordinate.
+     * @param levelRenderer The renderer for the game level.
+     * @return True if the enemy can move to the new position, false otherwise.
+     */
+    @Override
+    protected boolean canMove(final double dx, final double dy, final LevelRenderer levelRenderer) {
+        Tile currentTile = levelRenderer.getTileAtGridPosition((int) getCurrentPosition().getX(), (int) getCurrentPosition().getY())
+                .orElseThrow(() -> new IllegalStateException("Current tile not found"));
+
+        if (currentTile.isHolding()) {
+            return false;
+        }
+
+        Point2D newPosition = getCurrentPosition().add(dx, dy);
+        Optional<Tile> targetTileOpt = levelRenderer.getTileAtGridPosition((int) newPosition.getX(), (int) newPosition.getY());
+
+        if (!isMoveValid(newPosition, levelRenderer)) {
+            return false;
+        }
+
+        Tile targetTile = targetTileOpt.
+                orElseThrow(() -> new IllegalStateException("Target tile not found"));
+
+        int x = (int) newPosition.getX();
+        int y = (int) newPosition.getY();
+        if (levelRenderer.getOccupant(x, y) instanceof Player player) {
+            player.kill(levelRenderer, this);
+            levelRenderer.setOccupant(x, y, null);
+        }
+
+        return targetTile.isWalkable();
+    }
+}
@@ -1,10 +1,12 @@
 package com.group4.chipgame.entities.actors;
 
 import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.HierarchicalPathfinder;
+import com.group4.chipgame.Level.HierarchicalPathfinder.CellTest;
+import com.group4.chipgame.Level.JumpPointSearch;
 import com.group4.chipgame.Level.LevelRenderer;
-import com.group4.chipgame.entities.actors.tiles.Button;
-import com.group4.chipgame.entities.actors.tiles.Path;
-import com.group4.chipgame.entities.actors.tiles.Tile;
+import com.group4.chipgame.Level.PathSearchMode;
+import com.group4.chipgame.Level.PlanningSnapshot;
 import javafx.geometry.Point2D;
 
 import java.util.*;
@@ -18,8 +20,9 @@ import java.util.*;
 public class Frog extends Enemy {
     private static final String FROG_IMAGE_PATH =
             "/images/chipgame/actors/frog.png";
-    private final Random random = new Random();
     private static final int MOVE_INTERVAL = 100;
+    private double lastDx;
+    private double lastDy;
 
     /**
      * Constructs a Frog enemy with specified initial position.
@@ -34,30 +37,14 @@ public class Frog extends Enemy {
     }
 
     /**
-     * Determines if a move to a specified position is valid.
-     * Validates the move based on the target tile's walkability, occupancy (excluding Player),
-     * and specific types (Path or Button).
+     * Gets the movement class of the Frog.
+     * Frogs keep to paths and buttons only.
      *
-     * @param newPosition   The intended new position.
-     * @param levelRenderer The renderer providing level tile information.
-     * @return              True if the move is valid, false otherwise.
+     * @return The frog movement class.
      */
     @Override
-    protected boolean isMoveValid(final Point2D newPosition,
-                                  final LevelRenderer levelRenderer) {
-        Optional<Tile> targetTileOpt =
-                levelRenderer.getTileAtGridPosition((int) newPosition.getX(),
-                        (int) newPosition.getY());
-        if (targetTileOpt.isEmpty()) {
-            return false;
-        }
-        Tile targetTile = targetTileOpt.get();
-        boolean isTileNotOccupied = targetTile.getOccupiedBy()
-                == null || targetTile.getOccupiedBy() instanceof Player;
-        return (targetTile instanceof Path
-                || targetTile instanceof Button)
-                && targetTile.isWalkable()
-                && isTileNotOccupied;
+    public MovementClass getMovementClass() {
+        return MovementClass.FROG;
     }
 
     /**
@@ -73,13 +60,101 @@ public class Frog extends Enemy {
         if (playerPosition != null) {
             nextMove = findNextMoveTowardsPlayer(playerPosition, levelRenderer);
         }
-        if (nextMove == null) {
-            nextMove = findRandomValidMove(levelRenderer);
+        moveTo(nextMove, levelRenderer);
+    }
+
+    /**
+     * Steps to the chosen cell, or to a random neighbouring
+     * cell if no cell was chosen.
+     *
+     * @param nextMove      The cell to step to, or null.
+     * @param levelRenderer The renderer for the game level.
+     */
+    private void moveTo(final Point2D nextMove,
+                        final LevelRenderer levelRenderer) {
+        Point2D target = nextMove != null
+                ? nextMove : findRandomValidMove(levelRenderer);
+        if (target != null) {
+            lastDx = target.getX() - getCurrentPosition().getX();
+            lastDy = target.getY() - getCurrentPosition().getY();
+            moveOneStep(lastDx, lastDy, levelRenderer);
+        }
+    }
+
+    /**
+     * Frogs plan their path to the player off the game thread.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean plansOffThread() {
+        return true;
+    }
+
+    /**
+     * Plans the first step of a shortest path to the player over the
+     * snapshot, choosing the search the same way as a move decided on
+     * the game thread and walking only where the Frog could: on paths
+     * and buttons that are empty or hold the player.
+     *
+     * @param snapshot The level at the end of the last tick.
+     * @param x        The column the Frog was on.
+     * @param y        The row the Frog was on.
+     * @return The cell to step to, or null if the player cannot be reached.
+     */
+    @Override
+    public int[] planMove(final PlanningSnapshot snapshot,
+                          final int x,
+                          final int y) {
+        if (!snapshot.hasPlayer()
+                || !snapshot.canReach(MovementClass.FROG, x, y,
+                        snapshot.getPlayerX(), snapshot.getPlayerY())) {
+            return null;
         }
-        if (nextMove != null) {
-            double dx = nextMove.getX() - getCurrentPosition().getX();
-            double dy = nextMove.getY() - getCurrentPosition().getY();
-            moveOneStep(dx, dy, levelRenderer);
+        return chooseStep(snapshot.getPathSearchMode(),
+                snapshot.pathSearch(),
+                snapshot.hierarchicalSearch(MovementClass.FROG),
+                x, y, snapshot.getPlayerX(), snapshot.getPlayerY(),
+                (cx, cy) -> snapshot.isPassable(MovementClass.FROG, cx, cy)
+                        && (!snapshot.isOccupied(cx, cy)
+                                || snapshot.isPlayerAt(cx, cy)));
+    }
+
+    /**
+     * Steps to the planned cell, or to a random neighbouring
+     * cell if the player could not be reached.
+     *
+     * @param step          The cell to step to, or null.
+     * @param levelRenderer The renderer for the game level.
+     */
+    @Override
+    public void applyPlannedMove(final int[] step,
+                                 final LevelRenderer levelRenderer) {
+        moveTo(step == null ? null : new Point2D(step[0], step[1]),
+                levelRenderer);
+    }
+
+    /**
+     * A Frog's path search is costly on large levels,
+     * so its decisions may be deferred.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean hasCostlyDecisions() {
+        return true;
+    }
+
+    /**
+     * Takes another step the way the Frog last moved,
+     * if that way is still open.
+     *
+     * @param levelRenderer The renderer for the game level.
+     */
+    @Override
+    public void continuePreviousDecision(final LevelRenderer levelRenderer) {
+        if (lastDx != 0 || lastDy != 0) {
+            moveOneStep(lastDx, lastDy, levelRenderer);
         }
     }
 
@@ -99,7 +174,8 @@ public class Frog extends Enemy {
             }
         }
         if (!validMoves.isEmpty()) {
-            return validMoves.get(random.nextInt(validMoves.size()));
+            return validMoves.get(levelRenderer.getRandom()
+                    .nextInt(validMoves.size()));
         }
         return null;
     }
@@ -151,6 +227,8 @@ public class Frog extends Enemy {
 
     /**
      * Finds the next move towards the player based on the player's position.
+     * The search is skipped when the player is in a region
+     * of the level the Frog cannot walk to at all.
      *
      * @param playerPosition The position of the player.
      * @param levelRenderer The renderer for the game level.
@@ -160,23 +238,74 @@ public class Frog extends Enemy {
     private Point2D findNextMoveTowardsPlayer(
             final Point2D playerPosition,
             final LevelRenderer levelRenderer) {
+        int fromX = (int) getCurrentPosition().getX();
+        int fromY = (int) getCurrentPosition().getY();
+        int toX = (int) playerPosition.getX();
+        int toY = (int) playerPosition.getY();
+        if (!levelRenderer.getWalkability().canReach(getMovementClass(),
+                fromX, fromY, toX, toY)) {
+            return null;
+        }
+        int[] step = chooseStep(
+                levelRenderer.getContext().getPathSearchMode(),
+                levelRenderer.getFrogJumps(), levelRenderer.getFrogPaths(),
+                fromX, fromY, toX, toY,
+                (x, y) -> canMoveTo(new Point2D(x, y), levelRenderer));
+        return step == null ? null : new Point2D(step[0], step[1]);
+    }
+
+    /**
+     * Finds the first step of a path to a target, for moves decided on
+     * the game thread and planned off it alike. In jump point mode every
+     * level is searched with a jump point search; otherwise large levels
+     * are searched with a hierarchical path-finder, and the rest with
+     * A* cell by cell.
+     *
+     * @param mode      The path search mode of the game.
+     * @param jumps     The jump point search sized for the level.
+     * @param paths     The hierarchical path-finder of the level,
+     *                  or null if it is searched cell by cell.
+     * @param fromX     The x-coordinate of the Frog.
+     * @param fromY     The y-coordinate of the Frog.
+     * @param toX       The x-coordinate of the target.
+     * @param toY       The y-coordinate of the target.
+     * @param enterable Whether the Frog could step onto a cell right now.
+     * @return The cell to step to as {x, y}, or null if there is no path.
+     */
+    private static int[] chooseStep(final PathSearchMode mode,
+                                    final JumpPointSearch jumps,
+                                    final HierarchicalPathfinder paths,
+                                    final int fromX,
+                                    final int fromY,
+                                    final int toX,
+                                    final int toY,
+                                    final CellTest enterable) {
+        if (mode == PathSearchMode.JUMP_POINT) {
+            return jumps.firstStep(fromX, fromY, toX, toY, enterable);
+        }
+        if (paths != null) {
+            return paths.firstStep(fromX, fromY, toX, toY, enterable);
+        }
+        Point2D start = new Point2D(fromX, fromY);
+        Point2D target = new Point2D(toX, toY);
         List<Node> openList = new ArrayList<>();
         Set<Node> closedSet = new HashSet<>();
-        Node startNode = new Node(getCurrentPosition(),
-                null, 0,
-                getCurrentPosition().distance(playerPosition));
+        Node startNode = new Node(start, null, 0, start.distance(target));
         openList.add(startNode);
         while (!openList.isEmpty()) {
             Node currentNode = openList.stream().min(Comparator.comparingDouble(
                     n -> n.fCost)).orElseThrow();
             openList.remove(currentNode);
             closedSet.add(currentNode);
-            if (currentNode.position.equals(playerPosition)) {
-                return retracePath(startNode, currentNode);
+            if (currentNode.position.equals(target)) {
+                Point2D step = retracePath(startNode, currentNode);
+                return step == null ? null
+                        : new int[]{(int) step.getX(), (int) step.getY()};
             }
             for (Point2D neighborPos
                     : getNeighborPositions(currentNode.position)) {
-                if (!canMoveTo(neighborPos, levelRenderer)
+                if (!enterable.test((int) neighborPos.getX(),
+                        (int) neighborPos.getY())
                         || closedSet.contains(
                                 new Node(neighborPos,
                                         null,
@@ -185,12 +314,12 @@ public class Frog extends Enemy {
                     continue;
                 }
                 double newGCost = currentNode.gCost
-                        + getCurrentPosition().distance(neighborPos);
+                        + start.distance(neighborPos);
                 Node neighborNode = new Node(
                         neighborPos,
                         currentNode,
                         newGCost,
-                        neighborPos.distance(playerPosition));
+                        neighborPos.distance(target));
                 if (openList.stream().noneMatch(n
                         -> n.position.equals(neighborPos)
                         && n.gCost <= newGCost)) {
@@ -207,7 +336,8 @@ public class Frog extends Enemy {
      * @param position The current position.
      * @return A list of neighboring positions.
      */
-    private List<Point2D> getNeighborPositions(final Point2D position) {
+    private static List<Point2D> getNeighborPositions(
+            final Point2D position) {
         return Arrays.asList(
                 new Point2D(position.getX() + 1, position.getY()),
                 new Point2D(position.getX() - 1, position.getY()),
@@ -236,8 +366,8 @@ public class Frog extends Enemy {
      * @param endNode The ending node.
      * @return The next position to move to as part of the path.
      */
-    private Point2D retracePath(final Node startNode,
-                                final Node endNode) {
+    private static Point2D retracePath(final Node startNode,
+                                       final Node endNode) {
         Node currentNode = endNode;
         while (currentNode != null
                 && currentNode.parent != null
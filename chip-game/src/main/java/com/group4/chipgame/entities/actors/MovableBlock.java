@@ -2,11 +2,7 @@ package com.group4.chipgame.entities.actors;
 
 import com.group4.chipgame.Direction;
 import com.group4.chipgame.Level.LevelRenderer;
-import com.group4.chipgame.entities.actors.tiles.Path;
-import com.group4.chipgame.entities.actors.tiles.Tile;
-import com.group4.chipgame.entities.actors.tiles.Water;
-
-import java.util.Optional;
+import com.group4.chipgame.entities.actors.tiles.TileType;
 
 /**
  * Represents a movable block in the ChipGame.
@@ -29,6 +25,16 @@ public class MovableBlock extends Actor {
         this.setMoveInterval(MOVE_INTERVAL);
     }
 
+    /**
+     * Gets the movement class of the block.
+     *
+     * @return The block movement class.
+     */
+    @Override
+    public MovementClass getMovementClass() {
+        return MovementClass.BLOCK;
+    }
+
     /**
      * Pushes the block in a specified direction.
      * Handles interactions when the block is
@@ -44,11 +50,8 @@ public class MovableBlock extends Actor {
         double newX = getCurrentPosition().getX() + dx;
         double newY = getCurrentPosition().getY() + dy;
 
-        if (levelRenderer.getTileAtGridPosition(
-                (int) newX, (int) newY)
-                .map(tile
-                        -> tile.getOccupiedBy() instanceof Player)
-                .orElse(false)) {
+        if (levelRenderer.getOccupant((int) newX, (int) newY)
+                instanceof Player) {
             performMove(newX, newY, levelRenderer, Direction.fromDelta(dx, dy));
             killPlayerAt(newX, newY, levelRenderer);
             return;
@@ -71,7 +74,7 @@ public class MovableBlock extends Actor {
                                     final LevelRenderer levelRenderer) {
         return levelRenderer.getTileAtGridPosition(
                 (int) newX, (int) newY)
-                .filter(tile -> tile instanceof Water)
+                .filter(tile -> tile.getType() == TileType.WATER)
                 .isPresent();
     }
 
@@ -86,14 +89,10 @@ public class MovableBlock extends Actor {
     public void transformIntoPath(final double x,
                                    final double y,
                                    final LevelRenderer levelRenderer) {
-        Optional<Tile> currentTile =
-                levelRenderer.getTileAtGridPosition((int)
-                getCurrentPosition().getX(),
-                (int) getCurrentPosition().getY());
-        currentTile.ifPresent(tile
-                -> tile.setOccupiedBy(null));
+        levelRenderer.setOccupant((int) getCurrentPosition().getX(),
+                (int) getCurrentPosition().getY(), null);
         levelRenderer.updateTile((int) x,
-                (int) y, new Path());
+                (int) y, TileType.PATH.getTile());
         levelRenderer.remove(this);
     }
 
@@ -111,6 +110,6 @@ public class MovableBlock extends Actor {
                         && actor.getPosition().getX() == x
                         && actor.getPosition().getY() == y)
                 .findFirst()
-                .ifPresent(player -> ((Player) player).kill(levelRenderer));
+                .ifPresent(player -> ((Player) player).kill(levelRenderer, this));
     }
 }
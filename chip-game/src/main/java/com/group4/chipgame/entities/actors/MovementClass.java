@@ -0,0 +1,13 @@
+package com.group4.chipgame.entities.actors;
+
+/**
+ * The movement classes of actors in the ChipGame.
+ * Actors of the same class obey the same rules
+ * about which tile types they may enter.
+ */
+public enum MovementClass {
+    PLAYER,
+    ENEMY,
+    FROG,
+    BLOCK
+}
@@ -56,6 +56,26 @@ public class PinkBall extends Enemy {
         }
     }
 
+    /**
+     * Gets the direction the actor is moving in.
+     *
+     * @return The current direction.
+     */
+    @Override
+    public Direction getHeading() {
+        return currentDirection;
+    }
+
+    /**
+     * Sets the direction the actor is moving in.
+     *
+     * @param heading The new direction.
+     */
+    @Override
+    public void setHeading(final Direction heading) {
+        currentDirection = heading;
+    }
+
     /**
      * Serializes the state of the PinkBall to a JSON object.
      *
@@ -4,9 +4,9 @@ import com.group4.chipgame.Direction;
 import com.group4.chipgame.Level.LevelRenderer;
 import com.group4.chipgame.entities.actors.collectibles.Collectible;
 import com.group4.chipgame.entities.actors.collectibles.Key;
-import com.group4.chipgame.entities.actors.tiles.ChipSocket;
-import com.group4.chipgame.entities.actors.tiles.Ice;
-import com.group4.chipgame.entities.actors.tiles.LockedDoor;
+import com.group4.chipgame.events.GameEvent;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -20,6 +20,7 @@ import java.util.Set;
  * @author William Buckley
  */
 public class Player extends Actor {
+    private static final Logger LOG = Logger.get(LogCategory.ACTORS);
     private static final String PLAYER_IMAGE_PATH =
             "/images/chipgame/actors/steve.png";
 
@@ -41,6 +42,27 @@ public class Player extends Actor {
         this.setMoveInterval(MOVE_INTERVAL);
     }
 
+    /**
+     * Gets the movement class of the player.
+     *
+     * @return The player movement class.
+     */
+    @Override
+    public MovementClass getMovementClass() {
+        return MovementClass.PLAYER;
+    }
+
+    /**
+     * The player may move onto collectibles, picking them up.
+     *
+     * @param occupant The entity occupying the target tile.
+     * @return True if the occupant is a collectible, false otherwise.
+     */
+    @Override
+    protected boolean canShareTileWith(final Entity occupant) {
+        return occupant instanceof Collectible;
+    }
+
     /**
      * Adds a key to the player's collection.
      *
@@ -50,6 +72,27 @@ public class Player extends Actor {
         collectedKeys.add(key.getColor());
     }
 
+    /**
+     * Gets the colors of the keys the player holds.
+     *
+     * @return A copy of the player's key colors.
+     */
+    public Set<Key.KeyColor> getKeys() {
+        return collectedKeys.isEmpty()
+                ? EnumSet.noneOf(Key.KeyColor.class)
+                : EnumSet.copyOf(collectedKeys);
+    }
+
+    /**
+     * Replaces the keys the player holds.
+     *
+     * @param keys The colors of the keys to hold.
+     */
+    public void setKeys(final Set<Key.KeyColor> keys) {
+        collectedKeys.clear();
+        collectedKeys.addAll(keys);
+    }
+
     /**
      * Checks if the player has a key of a specific color.
      *
@@ -96,7 +139,7 @@ public class Player extends Actor {
     private boolean isOnIce(final LevelRenderer levelRenderer) {
         return levelRenderer.getTileAtGridPosition((int) getCurrentPosition().getX(),
                         (int) getCurrentPosition().getY())
-                .map(tile -> tile instanceof Ice)
+                .map(tile -> tile.getType().isIce())
                 .orElse(false);
     }
 
@@ -107,7 +150,9 @@ public class Player extends Actor {
      */
     public void addChips(final int count) {
         this.chipsCount += count;
-        System.out.println("Chips count: " + this.chipsCount);
+        if (Logger.DEBUG) {
+            LOG.debug("Chips count: {}", chipsCount);
+        }
     }
 
     /**
@@ -138,14 +183,16 @@ public class Player extends Actor {
             final double dy,
             final LevelRenderer levelRenderer,
             final Direction direction) {
-        levelRenderer.getTileAtGridPosition((int) newX, (int) newY)
+        int x = (int) newX;
+        int y = (int) newY;
+        levelRenderer.getTileAtGridPosition(x, y)
                 .ifPresent(tile -> {
-                    if (tile.getOccupiedBy() instanceof MovableBlock block) {
+                    if (levelRenderer.getOccupant(x, y)
+                            instanceof MovableBlock block) {
                         block.push(dx, dy, levelRenderer);
-                    } else if (tile instanceof LockedDoor door) {
-                        door.onStep(this, levelRenderer, direction);
-                    } else if (tile instanceof ChipSocket chipSocket) {
-                        chipSocket.onStep(this, levelRenderer, direction);
+                    } else {
+                        tile.onApproach(this, levelRenderer, x, y,
+                                direction);
                     }
                 });
     }
@@ -161,15 +208,19 @@ public class Player extends Actor {
     public void checkForCollectibles(final double x,
                                      final double y,
                                      final LevelRenderer levelRenderer) {
-        levelRenderer.getTileAtGridPosition(
-                (int) x, (int) y)
+        int cellX = (int) x;
+        int cellY = (int) y;
+        levelRenderer.getTileAtGridPosition(cellX, cellY)
                 .ifPresent(tile -> {
-                    if (tile.getOccupiedBy()
+                    if (levelRenderer.getOccupant(cellX, cellY)
                             instanceof Collectible collectible) {
                         collectible.onCollect(this);
                         levelRenderer.remove(collectible);
-                        tile.setOccupiedBy(null);
+                        levelRenderer.setOccupant(cellX, cellY, null);
                         onCollect(collectible, levelRenderer);
+                        levelRenderer.getEventBus().publish(
+                                GameEvent.collect(this, tile,
+                                        cellX, cellY, collectible));
                     }
                 });
     }
@@ -178,9 +229,17 @@ public class Player extends Actor {
      * Kills the player and performs necessary cleanup.
      *
      * @param levelRenderer The renderer for the game level.
+     * @param killer        The entity that killed the player,
+     *                      or null if the tile did.
      */
-    public void kill(final LevelRenderer levelRenderer) {
+    public void kill(final LevelRenderer levelRenderer,
+                     final Entity killer) {
         isAlive = false;
+        int x = (int) getCurrentPosition().getX();
+        int y = (int) getCurrentPosition().getY();
+        levelRenderer.getEventBus().publish(GameEvent.kill(this,
+                levelRenderer.getTileAtGridPosition(x, y).orElse(null),
+                x, y, killer));
         levelRenderer.remove(this);
         levelRenderer.getGamePane().getChildren().remove(this);
     }
@@ -1,10 +1,11 @@
 package com.group4.chipgame.entities.actors.collectibles;
 
 import com.group4.chipgame.EffectManager;
-import com.group4.chipgame.Main;
+import com.group4.chipgame.GameContext;
 import com.group4.chipgame.entities.actors.Actor;
 import com.group4.chipgame.entities.actors.Entity;
 import com.group4.chipgame.entities.actors.Player;
+import javafx.beans.value.ChangeListener;
 import javafx.geometry.Point2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -18,6 +19,9 @@ import java.util.Objects;
  */
 public class Collectible extends ImageView implements Entity {
     private final Point2D currentPosition;
+    private GameContext context;
+    private final ChangeListener<Number> resizeListener =
+            (obs, oldVal, newVal) -> updatePosition();
 
     /**
      * Creates a collectible entity with a specified image and position.
@@ -32,13 +36,39 @@ public class Collectible extends ImageView implements Entity {
                 getResourceAsStream(imagePath)));
         setImage(image);
         setSmooth(true);
-        fitWidthProperty().bind(Main.ACTOR_SIZE);
-        fitHeightProperty().bind(Main.ACTOR_SIZE);
-
         this.currentPosition = new Point2D(x, y);
+    }
+
+    /**
+     * Binds the size and position of the collectible to the sizing
+     * of a game. Attaching it again to the same game does nothing.
+     *
+     * @param gameContext The context of the game showing the collectible.
+     */
+    public void attach(final GameContext gameContext) {
+        if (context == gameContext) {
+            return;
+        }
+        detach();
+        context = gameContext;
+        fitWidthProperty().bind(gameContext.actorSizeProperty());
+        fitHeightProperty().bind(gameContext.actorSizeProperty());
+        gameContext.actorSizeProperty().addListener(resizeListener);
         updatePosition();
+    }
 
-        Main.ACTOR_SIZE.addListener((obs, oldVal, newVal) -> updatePosition());
+    /**
+     * Unbinds the collectible from the sizing of its game, so the game no
+     * longer holds on to it once its level is discarded.
+     */
+    public void detach() {
+        if (context == null) {
+            return;
+        }
+        fitWidthProperty().unbind();
+        fitHeightProperty().unbind();
+        context.actorSizeProperty().removeListener(resizeListener);
+        context = null;
     }
 
     /**
@@ -58,9 +88,13 @@ public class Collectible extends ImageView implements Entity {
      * Updates the position of the collectible based on its current coordinates.
      */
     private void updatePosition() {
-        double offset = (Main.TILE_SIZE.get() - Main.ACTOR_SIZE.get()) / 2.0;
-        setLayoutX(currentPosition.getX() * Main.TILE_SIZE.get() + offset);
-        setLayoutY(currentPosition.getY() * Main.TILE_SIZE.get() + offset);
+        if (context == null) {
+            return;
+        }
+        int tileSize = context.getTileSize();
+        double offset = (tileSize - context.getActorSize()) / 2.0;
+        setLayoutX(currentPosition.getX() * tileSize + offset);
+        setLayoutY(currentPosition.getY() * tileSize + offset);
         EffectManager.applyDynamicShadowEffect(this);
     }
 
@@ -0,0 +1,80 @@
+package com.group4.chipgame.entities.actors.tiles;
+
+import com.group4.chipgame.entities.actors.Actor;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The ice slides being played in one level, at most one per actor.
+ * Each level keeps its own, so slides never leak between games
+ * or into a level built alongside the one being played.
+ * In a game whose moves are not animated the slides have no timelines
+ * and the game loop moves them on by calling {@link #advance()}.
+ */
+public final class ActiveSlides {
+    private final Map<Actor, IceSlide> slides = new WeakHashMap<>();
+
+    /**
+     * Gets the slide an actor is on.
+     *
+     * @param actor The actor.
+     * @return The slide, or null if the actor is not sliding.
+     */
+    IceSlide get(final Actor actor) {
+        return slides.get(actor);
+    }
+
+    /**
+     * Checks if an actor is on a slide.
+     *
+     * @param actor The actor.
+     * @return True if the actor is sliding.
+     */
+    public boolean isSliding(final Actor actor) {
+        return slides.containsKey(actor);
+    }
+
+    /**
+     * Checks if no slide is under way.
+     *
+     * @return True if no actor is sliding.
+     */
+    public boolean isEmpty() {
+        return slides.isEmpty();
+    }
+
+    /**
+     * Records the slide an actor is on, replacing any other.
+     *
+     * @param actor The actor.
+     * @param slide The slide.
+     */
+    void put(final Actor actor, final IceSlide slide) {
+        slides.put(actor, slide);
+    }
+
+    /**
+     * Forgets a slide if it is still the one the actor is on.
+     *
+     * @param actor The actor.
+     * @param slide The slide that has ended.
+     */
+    void remove(final Actor actor, final IceSlide slide) {
+        slides.remove(actor, slide);
+    }
+
+    /**
+     * Plays one step of every slide under way. A slide that ends or is
+     * replaced before its turn is skipped, and one that starts during
+     * the call takes its first step on the next.
+     */
+    public void advance() {
+        for (IceSlide slide : new ArrayList<>(slides.values())) {
+            if (slides.get(slide.getActor()) == slide) {
+                slide.advance();
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.group4.chipgame.entities.actors.tiles;
+
+import com.group4.chipgame.entities.actors.Entity;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a Button tile.
+ * A button controls any number of traps and pushes
+ * its state to them whenever it is pressed or released.
+ * @author William Buckley
+ */
+public class Button extends Tile {
+    private String id;
+    private boolean isActive = false;
+    private final List<Trap> traps = new ArrayList<>();
+
+    /**
+     * Constructs a Button with a given ID.
+     *
+     * @param id The ID of the Button.
+     */
+    public Button(final String id) {
+        super(TileType.BUTTON);
+        this.id = id;
+    }
+
+    /**
+     * Gets the ID associated with this Button.
+     *
+     * @return The Button's ID.
+     */
+    public String getConnection() {
+        return id;
+    }
+
+    /**
+     * Sets a new ID for this Button.
+     *
+     * @param id The new ID to be set.
+     */
+    public void setConnection(final String id) {
+        this.id = id;
+    }
+
+    /**
+     * Sets the active state of the Button.
+     *
+     * @param active The active state to be set.
+     */
+    public void setActive(final boolean active) {
+        if (isActive == active) {
+            return;
+        }
+        isActive = active;
+        for (Trap trap : traps) {
+            trap.onButtonChanged(active);
+        }
+    }
+
+    /**
+     * Connects a trap to this Button, so that pressing
+     * the Button releases the trap. Connecting the same
+     * trap twice has no effect.
+     *
+     * @param trap The trap to connect.
+     */
+    public void connect(final Trap trap) {
+        if (traps.contains(trap)) {
+            return;
+        }
+        traps.add(trap);
+        trap.onButtonLinked(isActive);
+    }
+
+    /**
+     * Gets the traps controlled by this Button.
+     *
+     * @return An unmodifiable list of connected traps.
+     */
+    public List<Trap> getTraps() {
+        return Collections.unmodifiableList(traps);
+    }
+
+    /**
+     * Checks if the Button is active.
+     *
+     * @return True if active, false otherwise.
+     */
+    public boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Updates the Button's active state as an Entity
+     * steps on or off it.
+     *
+     * @param occupant The Entity on the Button, or null if none.
+     */
+    @Override
+    public void onOccupantChanged(final Entity occupant) {
+        setActive(occupant != null);
+    }
+
+    /**
+     * Serializes the Button into a JSONObject.
+     *
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @return A JSONObject representing the Button's state.
+     */
+    @Override
+    public JSONObject serialize(final int x, final int y) {
+        JSONObject json = super.serialize(x, y);
+        json.put("id", this.getConnection());
+        json.put("isActive", this.isActive());
+        return json;
+    }
+}
+
@@ -11,8 +11,6 @@ import org.json.JSONObject;
  * @author William Buckley
  */
 public class ChipSocket extends Tile {
-    private static final String CHIP_SOCKET_IMAGE_PATH =
-            "/images/chipgame/tiles/chipSocket.png";
     private final int requiredChips;
 
     /**
@@ -22,26 +20,50 @@ public class ChipSocket extends Tile {
      *                      required to activate this ChipSocket.
      */
     public ChipSocket(final int requiredChips) {
-        super(CHIP_SOCKET_IMAGE_PATH, false);
+        super(TileType.CHIP_SOCKET);
         this.requiredChips = requiredChips;
     }
 
+    /**
+     * Defines the action to be taken when the player moves against this tile.
+     * The socket opens if the player holds enough chips.
+     *
+     * @param player The player approaching the tile.
+     * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @param incomingDirection The direction from
+     *                          which the player approaches.
+     */
+    @Override
+    public void onApproach(final Player player,
+                           final LevelRenderer levelRenderer,
+                           final int x,
+                           final int y,
+                           final Direction incomingDirection) {
+        onStep(player, levelRenderer, x, y, incomingDirection);
+    }
+
     /**
      * Defines the action to be taken when an Actor steps on this ChipSocket.
      *
      * @param actor The Actor stepping on the tile.
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @param incomingDirection The direction from
      *                          which the Actor steps onto the tile.
      */
     @Override
     public void onStep(final Actor actor,
                        final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
                        final Direction incomingDirection) {
         if (actor instanceof Player player) {
             if (player.getChipsCount() >= requiredChips) {
                 player.consumeChips(requiredChips);
-                openSocket(levelRenderer);
+                openSocket(levelRenderer, x, y);
             }
         }
     }
@@ -50,22 +72,25 @@ public class ChipSocket extends Tile {
      * Opens the socket, changing its state in the level renderer.
      *
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the socket's cell.
+     * @param y The y-coordinate of the socket's cell.
      */
-    private void openSocket(final LevelRenderer levelRenderer) {
-        levelRenderer.updateTile(
-                this.getGridX(),
-                this.getGridY(),
-                new Path());
+    private void openSocket(final LevelRenderer levelRenderer,
+                            final int x,
+                            final int y) {
+        levelRenderer.updateTile(x, y, TileType.PATH.getTile());
     }
 
     /**
      * Serializes the ChipSocket into a JSONObject.
      *
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @return A JSONObject representing the ChipSocket's state.
      */
     @Override
-    public JSONObject serialize() {
-        JSONObject json = super.serialize();
+    public JSONObject serialize(final int x, final int y) {
+        JSONObject json = super.serialize(x, y);
         json.put("requiredChips", this.requiredChips);
         return json;
     }
@@ -3,20 +3,21 @@ package com.group4.chipgame.entities.actors.tiles;
 import com.group4.chipgame.Direction;
 import com.group4.chipgame.Level.LevelRenderer;
 import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
 
 /**
  * Represents a Dirt tile in the ChipGame.
  * @author William Buckley
  */
 public class Dirt extends Tile {
-    private static final String DIRT_IMAGE_PATH =
-            "/images/chipgame/tiles/dirt.jpg";
+    private static final Logger LOG = Logger.get(LogCategory.TILES);
 
     /**
      * Constructs a new Dirt tile.
      */
     public Dirt() {
-        super(DIRT_IMAGE_PATH, true);
+        super(TileType.DIRT);
     }
 
     /**
@@ -24,16 +25,20 @@ public class Dirt extends Tile {
      *
      * @param actor The Actor stepping on the tile.
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @param incomingDirection The direction from
      *                          which the Actor steps onto the tile.
      */
     @Override
     public void onStep(final Actor actor,
                        final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
                        final Direction incomingDirection) {
-        Path path = new Path();
-        path.setOccupiedBy(actor);
-        System.out.println(this.getGridX() + " " + this.getGridY());
-        levelRenderer.updateTile(this.getGridX(), this.getGridY(), path);
+        if (Logger.DEBUG) {
+            LOG.debug("Dirt cleared at {}, {}", x, y);
+        }
+        levelRenderer.updateTile(x, y, TileType.PATH.getTile());
     }
 }
@@ -13,34 +13,44 @@ import javafx.util.Duration;
  * @author William Buckley
  */
 public class Exit extends Tile {
-    private static final String EXIT_IMAGE_PATH =
-            "/images/chipgame/tiles/exit.png";
     private static final double PAUSE_DURATION = 0.5;
 
     /**
      * Constructs a new Exit tile.
      */
     public Exit() {
-        super(EXIT_IMAGE_PATH, true);
+        super(TileType.EXIT);
     }
 
     /**
      * Defines the action to be taken when an Actor steps on this Exit tile.
+     * The level is completed after a short pause, or at once in a game
+     * whose moves are not animated.
      *
      * @param actor The Actor stepping on the tile.
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @param incomingDirection The direction from
      *                          which the Actor steps onto the tile.
      */
     @Override
     public void onStep(final Actor actor,
                        final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
                        final Direction incomingDirection) {
-        if (actor instanceof Player) {
-            PauseTransition pause =
-                    new PauseTransition(Duration.seconds(PAUSE_DURATION));
-            pause.setOnFinished(event -> fireEvent(new LevelCompletedEvent()));
-            pause.play();
+        if (!(actor instanceof Player)) {
+            return;
         }
+        if (!levelRenderer.getContext().isAnimated()) {
+            levelRenderer.getGamePane().fireEvent(new LevelCompletedEvent());
+            return;
+        }
+        PauseTransition pause =
+                new PauseTransition(Duration.seconds(PAUSE_DURATION));
+        pause.setOnFinished(event -> levelRenderer.getGamePane()
+                .fireEvent(new LevelCompletedEvent()));
+        pause.play();
     }
 }
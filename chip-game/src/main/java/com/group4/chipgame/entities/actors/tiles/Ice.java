@@ -0,0 +1,100 @@
+package com.group4.chipgame.entities.actors.tiles;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.Level.LevelRenderer;
+import org.json.JSONObject;
+
+/**
+ * Class representing an Ice tile in the game.
+ * @author William Buckley
+ */
+public class Ice extends Tile {
+    private final Direction.Corner corner;
+    static final int DURATION = 500;
+    static final String BASE_PATH = "/images/chipgame/tiles/ice/";
+    static final String ICE = "ice.png";
+    static final String ICE_BOTTOM_LEFT = "ice_bottom_left.png";
+    static final String ICE_BOTTOM_RIGHT = "ice_bottom_right.png";
+    static final String ICE_TOP_LEFT = "ice_top_left.png";
+    static final String ICE_TOP_RIGHT = "ice_top_right.png";
+
+    /**
+     * Constructor for Ice class.
+     *
+     * @param corner The corner direction of the ice.
+     */
+    public Ice(final Direction.Corner corner) {
+        super(TileType.ice(corner));
+        this.corner = corner;
+    }
+
+    /**
+     * Handles the action when an actor steps on this tile.
+     * The whole slide is resolved up front and then played
+     * one move per step.
+     *
+     * @param actor The actor stepping on the tile.
+     * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @param incomingDirection The direction from
+     *                          which the actor steps onto the tile.
+     */
+    public void onStep(final Actor actor,
+                       final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
+                       final Direction incomingDirection) {
+        IceSlide.start(actor, levelRenderer, x, y,
+                incomingDirection);
+    }
+
+    /**
+     * Ends any slide an actor is on, leaving it where it is.
+     *
+     * @param actor         The actor to stop.
+     * @param levelRenderer The renderer for the level.
+     */
+    public static void stopSliding(final Actor actor,
+                                   final LevelRenderer levelRenderer) {
+        IceSlide.cancel(actor, levelRenderer);
+    }
+
+    /**
+     * Works out the direction an actor leaves an ice tile in,
+     * turning at corners.
+     *
+     * @param corner   The corner of the ice tile.
+     * @param incoming The direction the actor entered the tile in.
+     * @return The direction of the slide.
+     */
+    public static Direction slideDirection(final Direction.Corner corner,
+                                           final Direction incoming) {
+        return switch (corner) {
+            case BOTTOM_LEFT -> incoming == Direction.LEFT ? Direction.UP
+                    : incoming == Direction.DOWN ? Direction.RIGHT : incoming;
+            case BOTTOM_RIGHT -> incoming == Direction.RIGHT ? Direction.UP
+                    : incoming == Direction.DOWN ? Direction.LEFT : incoming;
+            case TOP_LEFT -> incoming == Direction.LEFT ? Direction.DOWN
+                    : incoming == Direction.UP ? Direction.RIGHT : incoming;
+            case TOP_RIGHT -> incoming == Direction.RIGHT ? Direction.DOWN
+                    : incoming == Direction.UP ? Direction.LEFT : incoming;
+            default -> incoming;
+        };
+    }
+
+    /**
+     * Serializes this tile's state to JSON.
+     *
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @return A JSONObject containing the state of this tile.
+     */
+    @Override
+    public JSONObject serialize(final int x, final int y) {
+        JSONObject json = super.serialize(x, y);
+        json.put("corner", this.corner);
+        return json;
+    }
+}
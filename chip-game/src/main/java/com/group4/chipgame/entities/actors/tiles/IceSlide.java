@@ -0,0 +1,314 @@
+package com.group4.chipgame.entities.actors.tiles;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.SlidePath;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.MovableBlock;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+import java.util.Optional;
+
+/**
+ * Plays a resolved slide across ice for one actor.
+ * The whole path is worked out when the slide starts and a single
+ * timeline plays one move per step, or, in a game whose moves are not
+ * animated, the game loop plays one step per tick through
+ * {@link ActiveSlides#advance()}. Before each move the target cell's
+ * occupant is checked, since actors may have moved since the path was
+ * resolved; a blocked move is settled on the spot with a push, a bounce
+ * or a wait, and the rest of the slide is resolved again if needed.
+ */
+final class IceSlide {
+    private static final Logger LOG = Logger.get(LogCategory.TILES);
+
+    private final Actor actor;
+    private final LevelRenderer levelRenderer;
+    private final Timeline timeline;
+    private SlidePath path;
+    private int step;
+    private int x;
+    private int y;
+    private Direction resumeDirection;
+    private boolean moving;
+
+    private IceSlide(final Actor actor,
+                     final LevelRenderer levelRenderer,
+                     final int x,
+                     final int y,
+                     final Direction incoming) {
+        this.actor = actor;
+        this.levelRenderer = levelRenderer;
+        this.x = x;
+        this.y = y;
+        this.path = levelRenderer.getIceSlides().resolve(x, y, incoming,
+                actor.getMovementClass());
+        if (levelRenderer.getContext().isAnimated()) {
+            timeline = new Timeline(new KeyFrame(
+                    Duration.millis(Ice.DURATION), event -> advance()));
+            timeline.setCycleCount(Animation.INDEFINITE);
+        } else {
+            timeline = null;
+        }
+    }
+
+    /**
+     * Starts an actor sliding from an ice cell.
+     * Steps taken by the actor's own slide are ignored, since the
+     * slide already knows where it goes; any other slide the actor
+     * was on is replaced.
+     *
+     * @param actor         The actor that stepped onto the ice.
+     * @param levelRenderer The renderer for the level.
+     * @param x             The column of the ice.
+     * @param y             The row of the ice.
+     * @param incoming      The direction the actor entered the ice in.
+     */
+    static void start(final Actor actor,
+                      final LevelRenderer levelRenderer,
+                      final int x,
+                      final int y,
+                      final Direction incoming) {
+        ActiveSlides active = levelRenderer.getActiveSlides();
+        IceSlide current = active.get(actor);
+        if (current != null) {
+            if (current.moving) {
+                return;
+            }
+            current.stop();
+        }
+        IceSlide slide = new IceSlide(actor, levelRenderer, x, y, incoming);
+        active.put(actor, slide);
+        if (slide.timeline != null) {
+            slide.timeline.play();
+        }
+    }
+
+    /**
+     * Ends the slide an actor is on, if any.
+     *
+     * @param actor         The actor to stop.
+     * @param levelRenderer The renderer for the level.
+     */
+    static void cancel(final Actor actor,
+                       final LevelRenderer levelRenderer) {
+        IceSlide current = levelRenderer.getActiveSlides().get(actor);
+        if (current != null) {
+            current.stop();
+        }
+    }
+
+    /**
+     * Gets the actor on the slide.
+     *
+     * @return The sliding actor.
+     */
+    Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * Plays the next step of the slide.
+     */
+    void advance() {
+        if ((int) actor.getPosition().getX() != x
+                || (int) actor.getPosition().getY() != y) {
+            stop();
+            return;
+        }
+        if (resumeDirection != null) {
+            path = levelRenderer.getIceSlides().resolve(x, y,
+                    resumeDirection, actor.getMovementClass());
+            step = 0;
+            resumeDirection = null;
+        }
+        if (step < path.length()) {
+            playMove();
+        } else {
+            finish();
+        }
+    }
+
+    /**
+     * Plays the next move of the path, or settles it
+     * if the target cell has become occupied.
+     */
+    private void playMove() {
+        int nx = path.getX(step);
+        int ny = path.getY(step);
+        Direction direction = path.getDirection(step);
+        boolean bounce = path.isBounce(step);
+        if (!bounce && actor instanceof Player player) {
+            player.checkForCollectibles(nx, ny, levelRenderer);
+        }
+        Entity occupant = levelRenderer.getOccupant(nx, ny);
+        if (occupant == null) {
+            move(nx, ny, direction);
+            completeMove();
+        } else if (bounce) {
+            stop();
+        } else {
+            settleOccupied(occupant, nx, ny, direction);
+        }
+    }
+
+    /**
+     * Moves past a completed move, ending the slide
+     * if that move took the actor off the ice.
+     */
+    private void completeMove() {
+        step++;
+        if (step == path.length()
+                && path.getOutcome() == SlidePath.Outcome.STOP) {
+            stop();
+        }
+    }
+
+    /**
+     * Handles a forward move into an occupied cell.
+     */
+    private void settleOccupied(final Entity occupant,
+                                final int nx,
+                                final int ny,
+                                final Direction direction) {
+        if (Logger.DEBUG) {
+            LOG.debug("Slide blocked by {}", occupant);
+        }
+        if (actor instanceof MovableBlock && occupant instanceof Player) {
+            ((Player) occupant).kill(levelRenderer, actor);
+            stop();
+            return;
+        }
+        if (!(actor instanceof Player)) {
+            bounce(direction);
+            return;
+        }
+        if (occupant instanceof MovableBlock block) {
+            if (push(block, nx, ny, direction)) {
+                completeMove();
+            } else {
+                bounce(direction);
+            }
+        }
+        // Collectibles and enemies are waited out until the next step.
+    }
+
+    /**
+     * Handles the end of the path.
+     */
+    private void finish() {
+        switch (path.getOutcome()) {
+            case LOOP -> {
+                path = levelRenderer.getIceSlides().resolve(x, y,
+                        path.getEndDirection(), actor.getMovementClass());
+                step = 0;
+                if (path.length() > 0) {
+                    playMove();
+                } else {
+                    finish();
+                }
+            }
+            case DOOR -> openDoor();
+            case WATER -> {
+                MovableBlock block = (MovableBlock) actor;
+                block.transformIntoPath(path.getEndX(), path.getEndY(),
+                        levelRenderer);
+                levelRenderer.remove(block);
+                stop();
+            }
+            default -> stop();
+        }
+    }
+
+    /**
+     * Opens the door at the end of the path if the player
+     * has its key, carrying on with the slide on the next step,
+     * or bounces off it otherwise.
+     */
+    private void openDoor() {
+        Optional<Tile> door = levelRenderer.getTileAtGridPosition(
+                path.getEndX(), path.getEndY());
+        if (door.isEmpty() || !door.get().getType().isDoor()) {
+            resumeDirection = path.getEndDirection();
+            return;
+        }
+        Player player = (Player) actor;
+        if (player.hasKey(door.get().getType().getKeyColor())) {
+            door.get().onStep(player, levelRenderer,
+                    path.getEndX(), path.getEndY(), path.getEndDirection());
+            resumeDirection = path.getEndDirection();
+        } else {
+            bounce(path.getEndDirection());
+        }
+    }
+
+    /**
+     * Pushes a block ahead of the player, moving both.
+     */
+    private boolean push(final MovableBlock block,
+                         final int nx,
+                         final int ny,
+                         final Direction direction) {
+        int bx = nx + (int) direction.getDx();
+        int by = ny + (int) direction.getDy();
+        Optional<Tile> target = levelRenderer.getTileAtGridPosition(bx, by);
+        if (target.isEmpty() || !target.get().isWalkable()
+                || levelRenderer.isOccupied(bx, by)) {
+            return false;
+        }
+        block.performMove(bx, by, levelRenderer, direction);
+        move(nx, ny, direction);
+        return true;
+    }
+
+    /**
+     * Bounces the actor back off an obstacle, turning at corners.
+     * If it lands on more ice the slide carries on from there.
+     */
+    private void bounce(final Direction direction) {
+        Direction.Corner corner = levelRenderer.getTileAtGridPosition(x, y)
+                .map(tile -> tile.getType().getCorner())
+                .orElse(Direction.Corner.NONE);
+        Direction reverse = Ice.slideDirection(
+                corner, direction.getOpposite());
+        int rx = x + (int) reverse.getDx();
+        int ry = y + (int) reverse.getDy();
+        Optional<Tile> target = levelRenderer.getTileAtGridPosition(rx, ry);
+        if (target.isEmpty() || !target.get().isWalkable()
+                || levelRenderer.isOccupied(rx, ry)) {
+            stop();
+            return;
+        }
+        move(rx, ry, reverse);
+        if (target.get().getType().isIce()) {
+            resumeDirection = reverse;
+        } else {
+            stop();
+        }
+    }
+
+    private void move(final int nx, final int ny, final Direction direction) {
+        moving = true;
+        try {
+            actor.performMove(nx, ny, levelRenderer, direction);
+        } finally {
+            moving = false;
+        }
+        x = nx;
+        y = ny;
+    }
+
+    private void stop() {
+        if (timeline != null) {
+            timeline.stop();
+        }
+        levelRenderer.getActiveSlides().remove(actor, this);
+    }
+}
@@ -14,15 +14,6 @@ import org.json.JSONObject;
  */
 public class LockedDoor extends Tile {
 
-    private static final String RED_DOOR_IMAGE_PATH =
-            "/images/chipgame/tiles/doors/redDoor.png";
-    private static final String GREEN_DOOR_IMAGE_PATH =
-            "/images/chipgame/tiles/doors/greenDoor.png";
-    private static final String YELLOW_DOOR_IMAGE_PATH =
-            "/images/chipgame/tiles/doors/yellowDoor.png";
-    private static final String BLUE_DOOR_IMAGE_PATH =
-            "/images/chipgame/tiles/doors/blueDoor.png";
-
     private final Key.KeyColor requiredKeyColor;
 
     /**
@@ -31,18 +22,20 @@ public class LockedDoor extends Tile {
      * @param requiredKeyColor The color of the key required to open the door.
      */
     public LockedDoor(final Key.KeyColor requiredKeyColor) {
-        super(getImagePathForColor(requiredKeyColor), false);
+        super(TileType.door(requiredKeyColor));
         this.requiredKeyColor = requiredKeyColor;
     }
 
     /**
      * Serializes the locked door's state to JSON.
      *
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @return A JSONObject representing the locked door's state.
      */
     @Override
-    public JSONObject serialize() {
-        JSONObject object = super.serialize();
+    public JSONObject serialize(final int x, final int y) {
+        JSONObject object = super.serialize(x, y);
         object.put("requiredKeyColor", this.requiredKeyColor.name());
         return object;
     }
@@ -57,18 +50,23 @@ public class LockedDoor extends Tile {
     }
 
     /**
-     * Gets the image path for a door of a specific color.
+     * Defines the action to be taken when the player moves against this tile.
+     * The door opens if the player holds the matching key.
      *
-     * @param color The color of the door.
-     * @return The image path for the door.
+     * @param player The player approaching the tile.
+     * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @param incomingDirection The direction from
+     *                          which the player approaches.
      */
-    private static String getImagePathForColor(final Key.KeyColor color) {
-        return switch (color) {
-            case RED -> RED_DOOR_IMAGE_PATH;
-            case GREEN -> GREEN_DOOR_IMAGE_PATH;
-            case YELLOW -> YELLOW_DOOR_IMAGE_PATH;
-            case BLUE -> BLUE_DOOR_IMAGE_PATH;
-        };
+    @Override
+    public void onApproach(final Player player,
+                           final LevelRenderer levelRenderer,
+                           final int x,
+                           final int y,
+                           final Direction incomingDirection) {
+        onStep(player, levelRenderer, x, y, incomingDirection);
     }
 
     /**
@@ -77,19 +75,20 @@ public class LockedDoor extends Tile {
      *
      * @param actor The actor stepping on the tile.
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @param incomingDirection The direction from
      *                          which the actor steps onto the tile.
      */
     @Override
     public void onStep(final Actor actor,
                        final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
                        final Direction incomingDirection) {
         if (actor instanceof Player player) {
             if (player.hasKey(requiredKeyColor)) {
-                levelRenderer.updateTile(
-                        this.getGridX(),
-                        this.getGridY(),
-                        new Path());
+                levelRenderer.updateTile(x, y, TileType.PATH.getTile());
             }
         }
     }
@@ -11,24 +11,11 @@ import com.group4.chipgame.entities.actors.Actor;
  */
 public class Path extends Tile {
 
-    private static final String PATH_IMAGE_PATH =
-            "/images/chipgame/tiles/path.png";
-
     /**
      * Constructs a new Path tile.
      */
     public Path() {
-        super(PATH_IMAGE_PATH, true);
-    }
-
-    /**
-     * Determines if the tile is walkable.
-     *
-     * @return true, as Path tiles are always walkable.
-     */
-    @Override
-    public boolean isWalkable() {
-        return true;
+        super(TileType.PATH);
     }
 
     /**
@@ -37,12 +24,16 @@ public class Path extends Tile {
      *
      * @param actor The actor stepping on the tile.
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @param incomingDirection The direction from
      *                          which the actor steps onto the tile.
      */
     @Override
     public void onStep(final Actor actor,
                        final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
                        final Direction incomingDirection) {
         // No specific action defined for stepping on a Path tile.
     }
@@ -0,0 +1,126 @@
+package com.group4.chipgame.entities.actors.tiles;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Player;
+import org.json.JSONObject;
+
+/**
+ * Represents a tile in the ChipGame.
+ * A tile is a component of the game level and holds the behaviour of
+ * its cell; what stands on the cell is kept by the level, and the cell
+ * a tile acts on is passed to it. Tiles of a stateless type are
+ * therefore shared by every cell of that type, and only stateful tiles
+ * such as buttons, traps and chip sockets are created per cell.
+ * Tiles are drawn from the level's
+ * {@link com.group4.chipgame.Level.TileGrid} with the shared image of
+ * their type.
+ * @author William Buckley
+ */
+public abstract class Tile {
+    private final TileType type;
+
+    /**
+     * Constructs a new Tile of the specified type.
+     *
+     * @param type The palette type of the tile.
+     */
+    public Tile(final TileType type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the palette type of this tile.
+     *
+     * @return The tile type.
+     */
+    public TileType getType() {
+        return type;
+    }
+
+    /**
+     * Serializes the tile's state to a JSON object.
+     *
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @return A JSONObject representing the tile's state.
+     */
+    public JSONObject serialize(final int x, final int y) {
+        JSONObject object = new JSONObject();
+        object.put("type", this.getClass().getSimpleName());
+        object.put("x", x);
+        object.put("y", y);
+        return object;
+    }
+
+    /**
+     * Called by the level when the entity on this tile's cell changes.
+     * Tiles that react to what stands on them override this.
+     *
+     * @param occupant The entity now on the cell, or null if none.
+     */
+    public void onOccupantChanged(final Entity occupant) {
+        // Only stateful tiles react to their occupant.
+    }
+
+    /**
+     * Checks if the tile is walkable.
+     *
+     * @return true if the tile is walkable, false otherwise.
+     */
+    public boolean isWalkable() {
+        return type.isWalkable();
+    }
+
+    /**
+     * Defines the action to be taken
+     * when an actor steps on this tile.
+     * This method should be overridden
+     * by subclasses to define specific behavior.
+     *
+     * @param actor The actor stepping on the tile.
+     * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @param incomingDirection The direction
+     *                          from which the actor steps onto the tile.
+     */
+    public void onStep(final Actor actor,
+                       final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
+                       final Direction incomingDirection) {
+        // To be implemented in subclasses
+    }
+
+    /**
+     * Defines the action to be taken when the player
+     * tries to move onto this tile, before the move is validated.
+     * Tiles that block the player until opened override this.
+     *
+     * @param player The player approaching the tile.
+     * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @param incomingDirection The direction
+     *                          from which the player approaches.
+     */
+    public void onApproach(final Player player,
+                           final LevelRenderer levelRenderer,
+                           final int x,
+                           final int y,
+                           final Direction incomingDirection) {
+        // To be implemented in subclasses
+    }
+
+    /**
+     * Checks if the tile currently holds its occupant in place.
+     *
+     * @return true if an actor on this tile cannot leave it.
+     */
+    public boolean isHolding() {
+        return false;
+    }
+}
@@ -0,0 +1,286 @@
+package com.group4.chipgame.entities.actors.tiles;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.collectibles.Key;
+import javafx.scene.image.Image;
+
+import java.util.Objects;
+
+/**
+ * The palette of tile types in the ChipGame.
+ * Each type is a shared flyweight holding the image and the
+ * static behaviour of its tiles, so a grid cell can be stored as
+ * a single byte and every tile of a type shares one decoded image.
+ * Cells of a stateless type share one tile object too, from
+ * {@link #getTile()}; only stateful cells have tiles of their own.
+ */
+public enum TileType {
+    EMPTY(null, false, false),
+    PATH("/images/chipgame/tiles/path.png", true, false),
+    WALL("/images/chipgame/tiles/iron.jpg", false, false),
+    WATER("/images/chipgame/tiles/water.jpg", true, false),
+    DIRT("/images/chipgame/tiles/dirt.jpg", true, false),
+    EXIT("/images/chipgame/tiles/exit.png", true, false),
+    ICE(Ice.BASE_PATH + Ice.ICE, true, false),
+    ICE_BOTTOM_LEFT(Ice.BASE_PATH + Ice.ICE_BOTTOM_LEFT, true, false),
+    ICE_BOTTOM_RIGHT(Ice.BASE_PATH + Ice.ICE_BOTTOM_RIGHT, true, false),
+    ICE_TOP_LEFT(Ice.BASE_PATH + Ice.ICE_TOP_LEFT, true, false),
+    ICE_TOP_RIGHT(Ice.BASE_PATH + Ice.ICE_TOP_RIGHT, true, false),
+    DOOR_RED("/images/chipgame/tiles/doors/redDoor.png", false, false),
+    DOOR_GREEN("/images/chipgame/tiles/doors/greenDoor.png", false, false),
+    DOOR_YELLOW("/images/chipgame/tiles/doors/yellowDoor.png", false, false),
+    DOOR_BLUE("/images/chipgame/tiles/doors/blueDoor.png", false, false),
+    BUTTON("/images/chipgame/tiles/button.png", true, true),
+    TRAP("/images/chipgame/tiles/trap.jpg", true, true),
+    CHIP_SOCKET("/images/chipgame/tiles/chipSocket.png", false, true);
+
+    private static final TileType[] VALUES = values();
+    private static final boolean[][] PASSABLE =
+            new boolean[VALUES.length][MovementClass.values().length];
+
+    static {
+        for (TileType type : VALUES) {
+            for (MovementClass movementClass : MovementClass.values()) {
+                PASSABLE[type.ordinal()][movementClass.ordinal()] =
+                        type.computePassable(movementClass);
+            }
+        }
+    }
+
+    private final String imagePath;
+    private final boolean walkable;
+    private final boolean stateful;
+    private volatile Image image;
+
+    /**
+     * Constructs a tile type.
+     *
+     * @param imagePath The path to the image shared by tiles of this type.
+     * @param walkable  Whether tiles of this type are walkable.
+     * @param stateful  Whether tiles of this type carry per-cell state.
+     */
+    TileType(final String imagePath,
+             final boolean walkable,
+             final boolean stateful) {
+        this.imagePath = imagePath;
+        this.walkable = walkable;
+        this.stateful = stateful;
+    }
+
+    /**
+     * Gets the palette index of this type.
+     *
+     * @return The palette index.
+     */
+    public byte getCode() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Gets the type stored under a palette index.
+     *
+     * @param code The palette index.
+     * @return The tile type.
+     */
+    public static TileType fromCode(final byte code) {
+        return VALUES[code];
+    }
+
+    /**
+     * Checks if tiles of this type are walkable.
+     *
+     * @return true if walkable, false otherwise.
+     */
+    public boolean isWalkable() {
+        return walkable;
+    }
+
+    /**
+     * Checks if actors of a movement class may enter tiles of this type.
+     * The answer comes from a table precomputed for every pair,
+     * so movement checks never test the concrete tile class.
+     *
+     * @param movementClass The movement class of the actor.
+     * @return true if the actor may enter, false otherwise.
+     */
+    public boolean isPassableFor(final MovementClass movementClass) {
+        return PASSABLE[ordinal()][movementClass.ordinal()];
+    }
+
+    /**
+     * Works out the passability of this type for a movement class.
+     * Enemies keep to paths, buttons and traps,
+     * and frogs keep to paths and buttons only.
+     */
+    private boolean computePassable(final MovementClass movementClass) {
+        return switch (movementClass) {
+            case PLAYER, BLOCK -> walkable;
+            case ENEMY -> this == PATH || this == BUTTON || this == TRAP;
+            case FROG -> this == PATH || this == BUTTON;
+        };
+    }
+
+    /**
+     * Checks if tiles of this type carry per-cell state,
+     * such as a button connection or a chip requirement.
+     *
+     * @return true if stateful, false otherwise.
+     */
+    public boolean isStateful() {
+        return stateful;
+    }
+
+    /**
+     * Checks if this type is one of the ice types.
+     *
+     * @return true for plain ice and ice corners.
+     */
+    public boolean isIce() {
+        return this == ICE || this == ICE_BOTTOM_LEFT
+                || this == ICE_BOTTOM_RIGHT || this == ICE_TOP_LEFT
+                || this == ICE_TOP_RIGHT;
+    }
+
+    /**
+     * Checks if this type is one of the locked door types.
+     *
+     * @return true for locked doors.
+     */
+    public boolean isDoor() {
+        return this == DOOR_RED || this == DOOR_GREEN
+                || this == DOOR_YELLOW || this == DOOR_BLUE;
+    }
+
+    /**
+     * Gets the image shared by every tile of this type.
+     * The image is decoded the first time it is requested.
+     *
+     * @return The shared image.
+     */
+    public Image getImage() {
+        Image result = image;
+        if (result == null) {
+            synchronized (this) {
+                result = image;
+                if (result == null) {
+                    result = new Image(Objects.requireNonNull(
+                            TileType.class.getResourceAsStream(imagePath)));
+                    image = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the ice type for a corner.
+     *
+     * @param corner The corner of the ice.
+     * @return The matching ice type.
+     */
+    public static TileType ice(final Direction.Corner corner) {
+        return switch (corner) {
+            case NONE -> ICE;
+            case BOTTOM_LEFT -> ICE_BOTTOM_LEFT;
+            case BOTTOM_RIGHT -> ICE_BOTTOM_RIGHT;
+            case TOP_LEFT -> ICE_TOP_LEFT;
+            case TOP_RIGHT -> ICE_TOP_RIGHT;
+        };
+    }
+
+    /**
+     * Gets the corner of an ice type.
+     *
+     * @return The corner, or NONE for plain ice and other types.
+     */
+    public Direction.Corner getCorner() {
+        return switch (this) {
+            case ICE_BOTTOM_LEFT -> Direction.Corner.BOTTOM_LEFT;
+            case ICE_BOTTOM_RIGHT -> Direction.Corner.BOTTOM_RIGHT;
+            case ICE_TOP_LEFT -> Direction.Corner.TOP_LEFT;
+            case ICE_TOP_RIGHT -> Direction.Corner.TOP_RIGHT;
+            default -> Direction.Corner.NONE;
+        };
+    }
+
+    /**
+     * Gets the door type for a key color.
+     *
+     * @param color The key color that opens the door.
+     * @return The matching door type.
+     */
+    public static TileType door(final Key.KeyColor color) {
+        return switch (color) {
+            case RED -> DOOR_RED;
+            case GREEN -> DOOR_GREEN;
+            case YELLOW -> DOOR_YELLOW;
+            case BLUE -> DOOR_BLUE;
+        };
+    }
+
+    /**
+     * Gets the key color that opens a door type.
+     *
+     * @return The key color, or null if this type is not a door.
+     */
+    public Key.KeyColor getKeyColor() {
+        return switch (this) {
+            case DOOR_RED -> Key.KeyColor.RED;
+            case DOOR_GREEN -> Key.KeyColor.GREEN;
+            case DOOR_YELLOW -> Key.KeyColor.YELLOW;
+            case DOOR_BLUE -> Key.KeyColor.BLUE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Gets the tile shared by every cell of a stateless type.
+     * A stateless tile holds nothing but behaviour, and is told
+     * the cell it acts on, so one instance serves every level.
+     * Stateful types need their per-cell data and
+     * must be created through their own constructors.
+     *
+     * @return The shared tile of this type.
+     * @throws IllegalStateException If the type is stateful or empty.
+     */
+    public Tile getTile() {
+        Tile tile = SharedTiles.TILES[ordinal()];
+        if (tile == null) {
+            throw new IllegalStateException(
+                    "Cannot share a " + this + " tile without cell data");
+        }
+        return tile;
+    }
+
+    /**
+     * Creates the shared tiles the first time one is asked for,
+     * as the tiles refer back to their types.
+     */
+    private static final class SharedTiles {
+        private static final Tile[] TILES = new Tile[VALUES.length];
+
+        static {
+            for (TileType type : VALUES) {
+                TILES[type.ordinal()] = create(type);
+            }
+        }
+
+        private static Tile create(final TileType type) {
+            if (type.isIce()) {
+                return new Ice(type.getCorner());
+            }
+            if (type.isDoor()) {
+                return new LockedDoor(type.getKeyColor());
+            }
+            return switch (type) {
+                case PATH -> new Path();
+                case WALL -> new Wall();
+                case WATER -> new Water();
+                case DIRT -> new Dirt();
+                case EXIT -> new Exit();
+                default -> null;
+            };
+        }
+    }
+}
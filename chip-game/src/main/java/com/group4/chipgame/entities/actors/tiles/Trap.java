@@ -0,0 +1,144 @@
+package com.group4.chipgame.entities.actors.tiles;
+
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Entity;
+import org.json.JSONObject;
+
+/**
+ * Represents a trap tile in the ChipGame.
+ * A trap tile can be linked to one or more buttons
+ * and changes its state based on the buttons' state.
+ * The buttons push their state to the trap,
+ * so checking whether the trap is active is a field read.
+ * @author William Buckley
+ */
+public class Trap extends Tile {
+
+    private String id;
+    private int linkedButtons;
+    private int pressedButtons;
+    private boolean active;
+    private Entity occupant;
+
+    /**
+     * Constructs a new Trap tile with a specific identifier.
+     * The trap stays inactive until a button is connected to it.
+     *
+     * @param id The identifier of the buttons controlling this trap.
+     */
+    public Trap(final String id) {
+        super(TileType.TRAP);
+        this.id = id;
+    }
+
+    /**
+     * Checks if the trap is active.
+     * A trap is considered active if it is linked to
+     * at least one button and none of its buttons are pressed.
+     *
+     * @return true if the trap is active, false otherwise.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Holds any actor on the trap while the trap is active.
+     *
+     * @return true if the trap is active, false otherwise.
+     */
+    @Override
+    public boolean isHolding() {
+        return active;
+    }
+
+    /**
+     * Gets the identifier of the connection.
+     *
+     * @return The unique identifier of the trap.
+     */
+    public String getConnection() {
+        return id;
+    }
+
+    /**
+     * Sets the identifier of the connection.
+     *
+     * @param id The new unique identifier for the trap.
+     */
+    public void setConnection(final String id) {
+        this.id = id;
+    }
+
+    /**
+     * Serializes the trap's state to a JSON object.
+     *
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
+     * @return A JSONObject representing the trap's state.
+     */
+    @Override
+    public JSONObject serialize(final int x, final int y) {
+        JSONObject json = super.serialize(x, y);
+        json.put("id", this.getConnection());
+        return json;
+    }
+
+    /**
+     * Records the entity on this trap, so it can be held and released.
+     * An actor entering an active trap is held in place.
+     *
+     * @param occupant The entity on the trap, or null if none.
+     */
+    @Override
+    public void onOccupantChanged(final Entity occupant) {
+        this.occupant = occupant;
+        if (active && occupant instanceof Actor trapped) {
+            trapped.hold();
+        }
+    }
+
+    /**
+     * Records that a button now controls this trap.
+     * Called by {@link Button#connect(Trap)}.
+     *
+     * @param pressed Whether the button is currently pressed.
+     */
+    void onButtonLinked(final boolean pressed) {
+        linkedButtons++;
+        if (pressed) {
+            pressedButtons++;
+        }
+        updateState();
+    }
+
+    /**
+     * Records that one of the controlling buttons was
+     * pressed or released. Called by {@link Button#setActive(boolean)}.
+     *
+     * @param pressed Whether the button is now pressed.
+     */
+    void onButtonChanged(final boolean pressed) {
+        pressedButtons += pressed ? 1 : -1;
+        updateState();
+    }
+
+    /**
+     * Recomputes whether the trap is active, holding or
+     * releasing its occupant when the state changes.
+     */
+    private void updateState() {
+        boolean nowActive = linkedButtons > 0 && pressedButtons == 0;
+        if (nowActive == active) {
+            return;
+        }
+        active = nowActive;
+        if (occupant instanceof Actor trapped) {
+            if (active) {
+                trapped.hold();
+            } else {
+                trapped.release();
+            }
+        }
+    }
+}
@@ -10,24 +10,12 @@ import com.group4.chipgame.entities.actors.Actor;
  * @author William Buckley
  */
 public class Wall extends Tile {
-    private static final String WALL_IMAGE_PATH =
-            "/images/chipgame/tiles/iron.jpg";
 
     /**
      * Constructs a new Wall tile.
      */
     public Wall() {
-        super(WALL_IMAGE_PATH, false);
-    }
-
-    /**
-     * Determines if the tile is walkable.
-     *
-     * @return false, as Wall tiles are not walkable.
-     */
-    @Override
-    public boolean isWalkable() {
-        return false;
+        super(TileType.WALL);
     }
 
     /**
@@ -36,10 +24,13 @@ public class Wall extends Tile {
      *
      * @param actor The actor stepping on the tile.
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @param incomingDirection The direction from which the actor steps onto the tile.
      */
     @Override
-    public void onStep(Actor actor, LevelRenderer levelRenderer, Direction incomingDirection) {
+    public void onStep(Actor actor, LevelRenderer levelRenderer, int x, int y,
+                       Direction incomingDirection) {
         // No specific action defined for stepping on a Wall tile.
     }
 }
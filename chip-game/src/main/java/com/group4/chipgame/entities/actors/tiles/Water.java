@@ -11,24 +11,12 @@ import com.group4.chipgame.entities.actors.Player;
  * @author William Buckley
  */
 public class Water extends Tile {
-    private static final String WATER_IMAGE_PATH =
-            "/images/chipgame/tiles/water.jpg";
 
     /**
      * Constructs a new Water tile.
      */
     public Water() {
-        super(WATER_IMAGE_PATH, false);
-    }
-
-    /**
-     * Determines if the tile is walkable.
-     *
-     * @return false, as Water tiles are not walkable.
-     */
-    @Override
-    public boolean isWalkable() {
-        return true;
+        super(TileType.WATER);
     }
 
     /**
@@ -37,12 +25,16 @@ public class Water extends Tile {
      *
      * @param actor The actor stepping on the tile.
      * @param levelRenderer The renderer for the level.
+     * @param x The x-coordinate of the tile's cell.
+     * @param y The y-coordinate of the tile's cell.
      * @param incomingDirection The direction
      *                          from which the actor steps onto the tile.
      */
     @Override
     public void onStep(final Actor actor,
                        final LevelRenderer levelRenderer,
+                       final int x,
+                       final int y,
                        final Direction incomingDirection) {
         killPlayerAt(actor.getPosition().getX(),
                 actor.getPosition().getY(),
@@ -66,6 +58,6 @@ public class Water extends Tile {
                         && actor.getPosition().getX() == x
                         && actor.getPosition().getY() == y)
                 .findFirst()
-                .ifPresent(player -> ((Player) player).kill(levelRenderer));
+                .ifPresent(player -> ((Player) player).kill(levelRenderer, null));
     }
 }
@@ -0,0 +1,291 @@
+package com.group4.chipgame.events;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.tiles.Tile;
+
+/**
+ * A single interaction between actors and tiles in the ChipGame.
+ * Events are published on the {@link GameEventBus} of a level
+ * and carry everything a listener needs, so listeners never have
+ * to look the tile or actor up again.
+ */
+public final class GameEvent {
+    private final Type type;
+    private final Actor actor;
+    private final Tile tile;
+    private final Entity subject;
+    private final Tile replacedTile;
+    private final Direction direction;
+    private final int x;
+    private final int y;
+    private long tick;
+
+    /**
+     * The kinds of game event.
+     */
+    public enum Type {
+        /** An actor stepped onto a tile and its behaviour should run. */
+        STEP,
+        /** An actor started occupying a tile. */
+        ENTER,
+        /** An actor stopped occupying a tile. */
+        LEAVE,
+        /** The player collected a collectible. */
+        COLLECT,
+        /** An actor was killed. */
+        KILL,
+        /** A tile in the grid was replaced by another tile. */
+        TILE_REPLACED,
+        /** An actor was taken out of the level. */
+        REMOVE
+    }
+
+    private GameEvent(final Type type,
+                      final Actor actor,
+                      final Tile tile,
+                      final Entity subject,
+                      final Tile replacedTile,
+                      final int x,
+                      final int y,
+                      final Direction direction) {
+        this.type = type;
+        this.actor = actor;
+        this.tile = tile;
+        this.subject = subject;
+        this.replacedTile = replacedTile;
+        this.x = x;
+        this.y = y;
+        this.direction = direction;
+    }
+
+    /**
+     * Creates an event for an actor stepping onto a tile.
+     *
+     * @param actor     The actor stepping on the tile.
+     * @param tile      The tile being stepped on.
+     * @param x         The x-coordinate of the tile's cell.
+     * @param y         The y-coordinate of the tile's cell.
+     * @param direction The direction the actor moved in.
+     * @return The new event.
+     */
+    public static GameEvent step(final Actor actor,
+                                 final Tile tile,
+                                 final int x,
+                                 final int y,
+                                 final Direction direction) {
+        return new GameEvent(Type.STEP, actor, tile, null, null, x, y,
+                direction);
+    }
+
+    /**
+     * Creates an event for an actor starting to occupy a tile.
+     *
+     * @param actor     The actor entering the tile.
+     * @param tile      The tile being entered.
+     * @param x         The x-coordinate of the tile's cell.
+     * @param y         The y-coordinate of the tile's cell.
+     * @param direction The direction the actor moved in.
+     * @return The new event.
+     */
+    public static GameEvent enter(final Actor actor,
+                                  final Tile tile,
+                                  final int x,
+                                  final int y,
+                                  final Direction direction) {
+        return new GameEvent(Type.ENTER, actor, tile, null, null, x, y,
+                direction);
+    }
+
+    /**
+     * Creates an event for an actor leaving a tile.
+     *
+     * @param actor     The actor leaving the tile.
+     * @param tile      The tile being left.
+     * @param x         The x-coordinate of the tile's cell.
+     * @param y         The y-coordinate of the tile's cell.
+     * @param direction The direction the actor moved in.
+     * @return The new event.
+     */
+    public static GameEvent leave(final Actor actor,
+                                  final Tile tile,
+                                  final int x,
+                                  final int y,
+                                  final Direction direction) {
+        return new GameEvent(Type.LEAVE, actor, tile, null, null, x, y,
+                direction);
+    }
+
+    /**
+     * Creates an event for the player collecting a collectible.
+     *
+     * @param actor       The actor collecting the item.
+     * @param tile        The tile the item was on.
+     * @param x           The x-coordinate of the tile's cell.
+     * @param y           The y-coordinate of the tile's cell.
+     * @param collectible The collected item.
+     * @return The new event.
+     */
+    public static GameEvent collect(final Actor actor,
+                                    final Tile tile,
+                                    final int x,
+                                    final int y,
+                                    final Entity collectible) {
+        return new GameEvent(Type.COLLECT, actor, tile,
+                collectible, null, x, y, null);
+    }
+
+    /**
+     * Creates an event for an actor being taken out of the level.
+     *
+     * @param actor The actor that was removed.
+     * @param tile  The tile the actor was on, or null if unknown.
+     * @param x     The x-coordinate of the actor's cell.
+     * @param y     The y-coordinate of the actor's cell.
+     * @return The new event.
+     */
+    public static GameEvent remove(final Actor actor,
+                                   final Tile tile,
+                                   final int x,
+                                   final int y) {
+        return new GameEvent(Type.REMOVE, actor, tile, null, null, x, y,
+                null);
+    }
+
+    /**
+     * Creates an event for an actor being killed.
+     *
+     * @param actor  The actor that was killed.
+     * @param tile   The tile the actor died on, or null if unknown.
+     * @param x      The x-coordinate of the actor's cell.
+     * @param y      The y-coordinate of the actor's cell.
+     * @param killer The entity that killed it, or null if
+     *               the tile did, such as water.
+     * @return The new event.
+     */
+    public static GameEvent kill(final Actor actor,
+                                 final Tile tile,
+                                 final int x,
+                                 final int y,
+                                 final Entity killer) {
+        return new GameEvent(Type.KILL, actor, tile, killer, null, x, y,
+                null);
+    }
+
+    /**
+     * Creates an event for a tile being replaced in the grid.
+     *
+     * @param oldTile The tile that was removed.
+     * @param newTile The tile that took its place.
+     * @param x       The x-coordinate of the cell.
+     * @param y       The y-coordinate of the cell.
+     * @return The new event.
+     */
+    public static GameEvent tileReplaced(final Tile oldTile,
+                                         final Tile newTile,
+                                         final int x,
+                                         final int y) {
+        return new GameEvent(Type.TILE_REPLACED, null, newTile,
+                null, oldTile, x, y, null);
+    }
+
+    /**
+     * Gets the kind of this event.
+     *
+     * @return The event type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the actor involved in this event.
+     *
+     * @return The actor, or null for tile replacements.
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * Gets the tile involved in this event.
+     * For a tile replacement this is the new tile.
+     *
+     * @return The tile, or null if there is none.
+     */
+    public Tile getTile() {
+        return tile;
+    }
+
+    /**
+     * Gets the entity acted upon, such as a collected item,
+     * or the entity that did the killing in a kill.
+     *
+     * @return The subject entity, or null if there is none.
+     */
+    public Entity getSubject() {
+        return subject;
+    }
+
+    /**
+     * Gets the tile removed by a tile replacement.
+     *
+     * @return The replaced tile, or null for other events.
+     */
+    public Tile getReplacedTile() {
+        return replacedTile;
+    }
+
+    /**
+     * Gets the column of the cell this event happened on.
+     * Tiles may be shared between cells, so this, not the tile,
+     * says where the event happened.
+     *
+     * @return The x-coordinate of the cell.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row of the cell this event happened on.
+     *
+     * @return The y-coordinate of the cell.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the direction of the movement that caused this event.
+     *
+     * @return The direction, or null if the event has none.
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Gets the game tick during which this event was published.
+     *
+     * @return The tick number.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Stamps the event with the tick it was published in.
+     *
+     * @param tick The tick number.
+     */
+    void setTick(final long tick) {
+        this.tick = tick;
+    }
+
+    @Override
+    public String toString() {
+        return type + " at tick " + tick;
+    }
+}
@@ -0,0 +1,253 @@
+package com.group4.chipgame.events;
+
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A typed, synchronous event bus for one level of the ChipGame.
+ * Listeners subscribe to an event type, optionally narrowed to a
+ * tile type and an actor movement class. Subscriptions are compiled
+ * into a flat dispatch table indexed by event, tile and actor, so
+ * publishing an event is a single array lookup and never tests the
+ * concrete class of the tile or actor.
+ * Published events are also collected into a per-tick batch which is
+ * handed to observers when the tick is flushed, for instrumentation.
+ */
+public class GameEventBus {
+    private static final int EVENT_TYPES = GameEvent.Type.values().length;
+    private static final int TILE_TYPES = TileType.values().length;
+    /** One slot per movement class plus one for events without an actor. */
+    private static final int ACTOR_SLOTS = MovementClass.values().length + 1;
+    private static final int NO_ACTOR_SLOT = 0;
+    private static final Consumer<GameEvent>[] NO_LISTENERS = newArray(0);
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final List<Consumer<List<GameEvent>>> observers =
+            new ArrayList<>();
+    private final List<GameEvent> batch = new ArrayList<>();
+    private Consumer<GameEvent>[][] dispatchTable;
+    private long currentTick;
+
+    /**
+     * Subscribes a listener to every event of a type.
+     *
+     * @param type     The event type to listen for.
+     * @param listener The listener to call.
+     */
+    public void subscribe(final GameEvent.Type type,
+                          final Consumer<GameEvent> listener) {
+        subscribe(type, null, null, listener);
+    }
+
+    /**
+     * Subscribes a listener to events of a type on tiles of a type.
+     *
+     * @param type     The event type to listen for.
+     * @param tileType The tile type to listen on.
+     * @param listener The listener to call.
+     */
+    public void subscribe(final GameEvent.Type type,
+                          final TileType tileType,
+                          final Consumer<GameEvent> listener) {
+        subscribe(type, tileType, null, listener);
+    }
+
+    /**
+     * Subscribes a listener to events of a type, narrowed to a
+     * tile type and an actor movement class.
+     *
+     * @param type          The event type to listen for.
+     * @param tileType      The tile type to listen on, or null for all.
+     * @param movementClass The movement class of the actor,
+     *                      or null for all actors.
+     * @param listener      The listener to call.
+     */
+    public void subscribe(final GameEvent.Type type,
+                          final TileType tileType,
+                          final MovementClass movementClass,
+                          final Consumer<GameEvent> listener) {
+        subscriptions.add(new Subscription(type, tileType,
+                movementClass, listener));
+        dispatchTable = null;
+    }
+
+    /**
+     * Removes every subscription of a listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void unsubscribe(final Consumer<GameEvent> listener) {
+        if (subscriptions.removeIf(s -> s.listener == listener)) {
+            dispatchTable = null;
+        }
+    }
+
+    /**
+     * Registers an observer that receives every event published
+     * during a tick, in order, once the tick is flushed.
+     *
+     * @param observer The observer to register.
+     */
+    public void addObserver(final Consumer<List<GameEvent>> observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Removes a previously registered observer.
+     *
+     * @param observer The observer to remove.
+     */
+    public void removeObserver(final Consumer<List<GameEvent>> observer) {
+        observers.remove(observer);
+        if (observers.isEmpty()) {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Marks the start of a game tick. Events published from now on
+     * are stamped with this tick.
+     *
+     * @param tick The tick number.
+     */
+    public void beginTick(final long tick) {
+        currentTick = tick;
+    }
+
+    /**
+     * Publishes an event, calling every matching listener immediately.
+     *
+     * @param event The event to publish.
+     */
+    public void publish(final GameEvent event) {
+        event.setTick(currentTick);
+        if (!observers.isEmpty()) {
+            batch.add(event);
+        }
+        int tileSlot = event.getTile() == null
+                ? TileType.EMPTY.ordinal()
+                : event.getTile().getType().ordinal();
+        int actorSlot = event.getActor() == null
+                ? NO_ACTOR_SLOT
+                : event.getActor().getMovementClass().ordinal() + 1;
+        for (Consumer<GameEvent> listener
+                : table()[slot(event.getType(), tileSlot, actorSlot)]) {
+            listener.accept(event);
+        }
+    }
+
+    /**
+     * Ends the current tick, handing the batch
+     * of events published during it to every observer.
+     */
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<GameEvent> delivered =
+                Collections.unmodifiableList(new ArrayList<>(batch));
+        batch.clear();
+        for (Consumer<List<GameEvent>> observer : observers) {
+            observer.accept(delivered);
+        }
+    }
+
+    /**
+     * Gets the dispatch table, rebuilding it
+     * if the subscriptions changed since it was last built.
+     */
+    private Consumer<GameEvent>[][] table() {
+        if (dispatchTable == null) {
+            dispatchTable = buildTable();
+        }
+        return dispatchTable;
+    }
+
+    /**
+     * Compiles the subscriptions into an array
+     * of listeners for every event, tile and actor slot.
+     */
+    private Consumer<GameEvent>[][] buildTable() {
+        List<List<Consumer<GameEvent>>> cells = new ArrayList<>(
+                Collections.nCopies(EVENT_TYPES * TILE_TYPES * ACTOR_SLOTS,
+                        null));
+        for (Subscription subscription : subscriptions) {
+            for (int tile = 0; tile < TILE_TYPES; tile++) {
+                if (!subscription.matchesTile(tile)) {
+                    continue;
+                }
+                for (int actor = 0; actor < ACTOR_SLOTS; actor++) {
+                    if (!subscription.matchesActor(actor)) {
+                        continue;
+                    }
+                    int slot = slot(subscription.type, tile, actor);
+                    if (cells.get(slot) == null) {
+                        cells.set(slot, new ArrayList<>());
+                    }
+                    cells.get(slot).add(subscription.listener);
+                }
+            }
+        }
+        Consumer<GameEvent>[][] table = newTable(cells.size());
+        Arrays.fill(table, NO_LISTENERS);
+        for (int slot = 0; slot < cells.size(); slot++) {
+            List<Consumer<GameEvent>> listeners = cells.get(slot);
+            if (listeners != null) {
+                table[slot] = listeners.toArray(newArray(0));
+            }
+        }
+        return table;
+    }
+
+    private static int slot(final GameEvent.Type type,
+                            final int tileSlot,
+                            final int actorSlot) {
+        return (type.ordinal() * TILE_TYPES + tileSlot)
+                * ACTOR_SLOTS + actorSlot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<GameEvent>[] newArray(final int length) {
+        return (Consumer<GameEvent>[]) new Consumer<?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<GameEvent>[][] newTable(final int length) {
+        return (Consumer<GameEvent>[][]) new Consumer<?>[length][];
+    }
+
+    /**
+     * A registered listener and the events it is narrowed to.
+     */
+    private static final class Subscription {
+        private final GameEvent.Type type;
+        private final TileType tileType;
+        private final MovementClass movementClass;
+        private final Consumer<GameEvent> listener;
+
+        Subscription(final GameEvent.Type type,
+                     final TileType tileType,
+                     final MovementClass movementClass,
+                     final Consumer<GameEvent> listener) {
+            this.type = type;
+            this.tileType = tileType;
+            this.movementClass = movementClass;
+            this.listener = listener;
+        }
+
+        boolean matchesTile(final int tileSlot) {
+            return tileType == null || tileType.ordinal() == tileSlot;
+        }
+
+        boolean matchesActor(final int actorSlot) {
+            return movementClass == null
+                    || movementClass.ordinal() + 1 == actorSlot;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.group4.chipgame.logging;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log records to a stream from a background thread.
+ * Callers place records into a fixed-size ring buffer and return
+ * at once, so no console I/O happens on the game thread. When the
+ * buffer is full new records are dropped rather than blocking the
+ * caller, and the number dropped is reported with the next write.
+ */
+final class AsyncAppender {
+    private static final String WRITER_THREAD_NAME = "log-writer";
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS")
+                    .withZone(ZoneId.systemDefault());
+
+    private final AtomicReferenceArray<LogRecord> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final PrintStream out;
+    private volatile long head;
+
+    /**
+     * Constructs an appender and starts its writer thread.
+     *
+     * @param capacity The size of the ring buffer, a power of two.
+     * @param out      The stream to write to.
+     */
+    AsyncAppender(final int capacity, final PrintStream out) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.out = out;
+        Thread writer = new Thread(this::drainLoop, WRITER_THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain));
+    }
+
+    /**
+     * Queues a record for writing without blocking.
+     *
+     * @param record The record to write.
+     * @return true if queued, false if the buffer was full.
+     */
+    boolean append(final LogRecord record) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head > mask) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.set((int) sequence & mask, record);
+        return true;
+    }
+
+    /**
+     * Writes queued records until the process exits,
+     * parking briefly whenever the buffer is empty.
+     */
+    private void drainLoop() {
+        while (true) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Writes every record currently available. Only the writer
+     * thread and the shutdown hook drain, so the lock is never
+     * contended by callers appending records.
+     *
+     * @return true if anything was written.
+     */
+    private synchronized boolean drain() {
+        boolean wrote = false;
+        while (true) {
+            int index = (int) head & mask;
+            LogRecord record = slots.get(index);
+            if (record == null) {
+                break;
+            }
+            slots.set(index, null);
+            head = head + 1;
+            write(record);
+            wrote = true;
+        }
+        if (wrote) {
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                out.println("... " + lost + " log messages dropped");
+            }
+            out.flush();
+        }
+        return wrote;
+    }
+
+    private void write(final LogRecord record) {
+        out.println(TIME_FORMAT.format(
+                        Instant.ofEpochMilli(record.getTimestamp()))
+                + " " + record.getLevel()
+                + " [" + record.getThread() + "] "
+                + record.getCategory().name().toLowerCase()
+                + " - " + record.getMessage());
+    }
+}
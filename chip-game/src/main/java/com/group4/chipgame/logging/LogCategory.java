@@ -0,0 +1,16 @@
+package com.group4.chipgame.logging;
+
+/**
+ * The subsystems that log messages. Each category can be given
+ * its own level with the system property chipgame.log.category.CATEGORY,
+ * for example -Dchipgame.log.category.tiles=trace.
+ */
+public enum LogCategory {
+    GAME,
+    LEVEL,
+    TILES,
+    ACTORS,
+    CAMERA,
+    PROFILE,
+    SAVE
+}
@@ -0,0 +1,32 @@
+package com.group4.chipgame.logging;
+
+/**
+ * The severity levels of log messages, from most to least verbose.
+ */
+public enum LogLevel {
+    TRACE,
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * Parses a level name, ignoring case.
+     *
+     * @param name     The level name, or null.
+     * @param fallback The level to use if the name is null or unknown.
+     * @return The parsed level.
+     */
+    public static LogLevel parse(final String name, final LogLevel fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        for (LogLevel level : values()) {
+            if (level.name().equalsIgnoreCase(name.trim())) {
+                return level;
+            }
+        }
+        return fallback;
+    }
+}
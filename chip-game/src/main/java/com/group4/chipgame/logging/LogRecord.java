@@ -0,0 +1,68 @@
+package com.group4.chipgame.logging;
+
+/**
+ * A single log message waiting to be written.
+ * The message is kept as a format and its arguments and is only
+ * formatted on the appender's thread, so arguments should be
+ * immutable values.
+ */
+final class LogRecord {
+    private static final String PLACEHOLDER = "{}";
+
+    private final long timestamp;
+    private final LogLevel level;
+    private final LogCategory category;
+    private final String thread;
+    private final String format;
+    private final Object[] args;
+
+    LogRecord(final LogLevel level,
+              final LogCategory category,
+              final String format,
+              final Object[] args) {
+        this.timestamp = System.currentTimeMillis();
+        this.level = level;
+        this.category = category;
+        this.thread = Thread.currentThread().getName();
+        this.format = format;
+        this.args = args;
+    }
+
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    LogLevel getLevel() {
+        return level;
+    }
+
+    LogCategory getCategory() {
+        return category;
+    }
+
+    String getThread() {
+        return thread;
+    }
+
+    /**
+     * Substitutes the arguments for the {} placeholders in the format.
+     *
+     * @return The formatted message.
+     */
+    String getMessage() {
+        if (args == null || args.length == 0) {
+            return format;
+        }
+        StringBuilder message = new StringBuilder(format.length());
+        int start = 0;
+        for (Object arg : args) {
+            int index = format.indexOf(PLACEHOLDER, start);
+            if (index < 0) {
+                break;
+            }
+            message.append(format, start, index).append(arg);
+            start = index + PLACEHOLDER.length();
+        }
+        return message.append(format, start, format.length()).toString();
+    }
+}
@@ -0,0 +1,153 @@
+package com.group4.chipgame.logging;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A lightweight logger for one subsystem of the game.
+ * Messages use {} placeholders and are formatted and written on a
+ * background thread, so logging never performs console I/O on the
+ * game thread.
+ *
+ * <p>The global level is read once from the system property
+ * {@value #LEVEL_PROPERTY} (INFO by default) into the constants
+ * {@link #TRACE} and {@link #DEBUG}. Guarding a call site with one
+ * of them lets the JIT remove it entirely in normal runs:
+ * <pre>
+ * if (Logger.DEBUG) {
+ *     LOG.debug("Sliding to {}, {}", x, y);
+ * }
+ * </pre>
+ * A category can be made quieter or more verbose than the global
+ * level with chipgame.log.category.CATEGORY, but never more verbose
+ * than the global constants allow. The extra part of the name keeps
+ * the LEVEL category from clashing with the global property.
+ */
+public final class Logger {
+    /** The system property holding the global log level. */
+    public static final String LEVEL_PROPERTY = "chipgame.log.level";
+    private static final String CATEGORY_PROPERTY_PREFIX =
+            "chipgame.log.category.";
+    private static final int BUFFER_CAPACITY = 4096;
+
+    private static final LogLevel GLOBAL_LEVEL = LogLevel.parse(
+            System.getProperty(LEVEL_PROPERTY), LogLevel.INFO);
+    /** Whether trace messages can be logged at all. */
+    public static final boolean TRACE =
+            GLOBAL_LEVEL.compareTo(LogLevel.TRACE) <= 0;
+    /** Whether debug messages can be logged at all. */
+    public static final boolean DEBUG =
+            GLOBAL_LEVEL.compareTo(LogLevel.DEBUG) <= 0;
+
+    private static final Map<LogCategory, Logger> LOGGERS =
+            new EnumMap<>(LogCategory.class);
+
+    static {
+        for (LogCategory category : LogCategory.values()) {
+            LOGGERS.put(category, new Logger(category));
+        }
+    }
+
+    private final LogCategory category;
+    private final LogLevel level;
+
+    private Logger(final LogCategory category) {
+        this.category = category;
+        this.level = LogLevel.parse(System.getProperty(
+                CATEGORY_PROPERTY_PREFIX + category.name().toLowerCase()),
+                GLOBAL_LEVEL);
+    }
+
+    /**
+     * Gets the logger of a category.
+     *
+     * @param category The subsystem logging.
+     * @return The category's logger.
+     */
+    public static Logger get(final LogCategory category) {
+        return LOGGERS.get(category);
+    }
+
+    /**
+     * Checks if messages of a level are written for this category.
+     *
+     * @param messageLevel The level of the message.
+     * @return true if the message would be written.
+     */
+    public boolean isEnabled(final LogLevel messageLevel) {
+        return messageLevel.compareTo(level) >= 0
+                && messageLevel.compareTo(GLOBAL_LEVEL) >= 0;
+    }
+
+    /**
+     * Logs a trace message.
+     *
+     * @param format The message, with {} placeholders.
+     * @param args   The values for the placeholders.
+     */
+    public void trace(final String format, final Object... args) {
+        if (TRACE) {
+            log(LogLevel.TRACE, format, args);
+        }
+    }
+
+    /**
+     * Logs a debug message.
+     *
+     * @param format The message, with {} placeholders.
+     * @param args   The values for the placeholders.
+     */
+    public void debug(final String format, final Object... args) {
+        if (DEBUG) {
+            log(LogLevel.DEBUG, format, args);
+        }
+    }
+
+    /**
+     * Logs an informational message.
+     *
+     * @param format The message, with {} placeholders.
+     * @param args   The values for the placeholders.
+     */
+    public void info(final String format, final Object... args) {
+        log(LogLevel.INFO, format, args);
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param format The message, with {} placeholders.
+     * @param args   The values for the placeholders.
+     */
+    public void warn(final String format, final Object... args) {
+        log(LogLevel.WARN, format, args);
+    }
+
+    /**
+     * Logs an error.
+     *
+     * @param format The message, with {} placeholders.
+     * @param args   The values for the placeholders.
+     */
+    public void error(final String format, final Object... args) {
+        log(LogLevel.ERROR, format, args);
+    }
+
+    private void log(final LogLevel messageLevel,
+                     final String format,
+                     final Object[] args) {
+        if (isEnabled(messageLevel)) {
+            AppenderHolder.APPENDER.append(new LogRecord(messageLevel, category,
+                    format, args));
+        }
+    }
+
+    /**
+     * Holds the appender, so its writer thread is only started
+     * once the first message is actually logged.
+     */
+    private static final class AppenderHolder {
+        private static final AsyncAppender APPENDER =
+                new AsyncAppender(BUFFER_CAPACITY, System.err);
+    }
+}
@@ -4,10 +4,8 @@ import com.group4.chipgame.Main;
 import javafx.scene.control.Button;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -39,61 +37,34 @@ public class LevelMenu extends BaseMenu {
                                          final Stage primaryStage,
                                          final Main mainApp) {
         menuBox.getChildren().clear();
-        try {
-            List<File> allFiles = loadLevelFiles();
-
-            int startIndex = currentPage
-                    * LEVELS_PER_PAGE;
-            int endIndex = Math.min(startIndex
-                    + LEVELS_PER_PAGE,
-                    allFiles.size());
-
-            for (int i = startIndex; i < endIndex; i++) {
-                File child = allFiles.get(i);
-                String levelDisplayName =
-                        formatLevelDisplayName(child.getName());
-                addButtonForLevel(menuBox,
-                        levelDisplayName,
-                        child.getName(),
-                        primaryStage,
-                        mainApp);
-            }
-
-            addNavigationButtons(menuBox,
+        List<Path> allFiles = mainApp.getLevelCatalog().getLevels();
+
+        int startIndex = currentPage
+                * LEVELS_PER_PAGE;
+        int endIndex = Math.min(startIndex
+                + LEVELS_PER_PAGE,
+                allFiles.size());
+
+        for (int i = startIndex; i < endIndex; i++) {
+            Path child = allFiles.get(i);
+            String levelDisplayName =
+                    formatLevelDisplayName(
+                            child.getFileName().toString());
+            addButtonForLevel(menuBox,
+                    levelDisplayName,
+                    child.toString(),
                     primaryStage,
-                    mainApp,
-                    allFiles.size());
-
-            Button backButton = createBackButton(primaryStage, mainApp);
-            backButton.setStyle(LEVEL_BUTTON_STYLE);
-            menuBox.getChildren().add(backButton);
-
-        } catch (IOException e) {
-            e.printStackTrace();
+                    mainApp);
         }
-    }
 
-    /**
-     * Loads level files from a specified directory path.
-     */
-    private static List<File> loadLevelFiles() throws IOException {
-        String levelsPath = "src/main/java/levels";
-
-        File dir = new File(levelsPath);
-        List<File> allFiles = new ArrayList<>();
-
-        if (dir.exists() && dir.isDirectory()) {
-            File[] directoryListing = dir.listFiles();
-            if (directoryListing != null) {
-                allFiles.addAll(Arrays.asList(directoryListing));
-            }
-        } else {
-            throw new IOException(
-                    "Levels directory not found or not a directory: "
-                            + levelsPath);
-        }
+        addNavigationButtons(menuBox,
+                primaryStage,
+                mainApp,
+                allFiles.size());
 
-        return allFiles;
+        Button backButton = createBackButton(primaryStage, mainApp);
+        backButton.setStyle(LEVEL_BUTTON_STYLE);
+        menuBox.getChildren().add(backButton);
     }
 
     /**
@@ -102,7 +73,7 @@ public class LevelMenu extends BaseMenu {
     private static void addButtonForLevel(
             final VBox menuBox,
             final String levelDisplayName,
-            final String fileName,
+            final String filePath,
             final Stage primaryStage,
             final Main mainApp) {
         Button levelButton =
@@ -110,7 +81,6 @@ public class LevelMenu extends BaseMenu {
                         menuBox.widthProperty(),
                         menuBox.heightProperty(), () -> {
             try {
-                String filePath = "src/main/java/levels/" + fileName;
                 mainApp.startLevel(filePath, primaryStage);
             } catch (IOException ioException) {
                 ioException.printStackTrace();
@@ -1,5 +1,7 @@
 package com.group4.chipgame.profile;
 
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
 import javafx.scene.input.KeyCode;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -16,6 +18,7 @@ import java.util.*;
  * @author William Buckley
  */
 public class ProfileManager {
+    private static final Logger LOG = Logger.get(LogCategory.PROFILE);
     private static final String PROFILES_FILE_PATH =
             "src/main/resources/profiles/profile.json";
     private static final int MAX_SCORE_ENTRIES = 10;
@@ -208,7 +211,9 @@ public class ProfileManager {
             JSONArray savesArray = new JSONArray();
             for (String savePath : profile.getSaveFilePaths()) {
                 savesArray.put(savePath);
-                System.out.println(savePath);
+                if (Logger.DEBUG) {
+                    LOG.debug("Saving reference to {}", savePath);
+                }
             }
             profileObj.put("saves", savesArray);
             profilesArray.put(profileObj);
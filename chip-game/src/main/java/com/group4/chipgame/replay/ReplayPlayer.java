@@ -0,0 +1,219 @@
+package com.group4.chipgame.replay;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.PathSearchMode;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Plays back a replay written by {@link ReplayRecorder}.
+ * The whole input log is decoded up front into parallel arrays,
+ * and the game loop asks for the direction due at each tick.
+ */
+public class ReplayPlayer {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final String levelPath;
+    private final long seed;
+    private final PathSearchMode pathSearchMode;
+    private final long[] ticks;
+    private final Direction[] directions;
+    private int cursor;
+
+    private ReplayPlayer(final String levelPath,
+                         final long seed,
+                         final PathSearchMode pathSearchMode,
+                         final long[] ticks,
+                         final Direction[] directions) {
+        this.levelPath = levelPath;
+        this.seed = seed;
+        this.pathSearchMode = pathSearchMode;
+        this.ticks = ticks;
+        this.directions = directions;
+    }
+
+    /**
+     * Reads a replay file. Replays from before the path search mode
+     * was recorded were all played with {@link PathSearchMode#A_STAR}.
+     *
+     * @param file The replay file.
+     * @return The player for the replay.
+     * @throws IOException If the file cannot be read or is not a replay.
+     */
+    public static ReplayPlayer open(final Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != ReplayRecorder.MAGIC) {
+                throw new IOException("Not a replay file: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != ReplayRecorder.VERSION
+                    && version != ReplayRecorder.VERSION_WITHOUT_MODE) {
+                throw new IOException("Unsupported replay version "
+                        + version + ": " + file);
+            }
+            String levelPath = in.readUTF();
+            long seed = in.readLong();
+            PathSearchMode mode =
+                    version == ReplayRecorder.VERSION_WITHOUT_MODE
+                    ? PathSearchMode.A_STAR
+                    : readMode(in, file);
+
+            long[] ticks = new long[INITIAL_CAPACITY];
+            Direction[] directions = new Direction[INITIAL_CAPACITY];
+            int count = 0;
+            long tick = 0;
+            for (long entry = readVarLong(in); entry >= 0;
+                 entry = readVarLong(in)) {
+                if (count == ticks.length) {
+                    ticks = Arrays.copyOf(ticks, count * 2);
+                    directions = Arrays.copyOf(directions, count * 2);
+                }
+                tick += entry >>> ReplayRecorder.DIRECTION_BITS;
+                ticks[count] = tick;
+                directions[count] = DIRECTIONS[
+                        (int) (entry & ReplayRecorder.DIRECTION_MASK)];
+                count++;
+            }
+            return new ReplayPlayer(levelPath, seed, mode,
+                    Arrays.copyOf(ticks, count),
+                    Arrays.copyOf(directions, count));
+        }
+    }
+
+    /**
+     * Gets the path of the level the replay was recorded on.
+     *
+     * @return The level path.
+     */
+    public String getLevelPath() {
+        return levelPath;
+    }
+
+    /**
+     * Gets the seed of the level's random generator during recording.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the way the frogs searched for the player during recording.
+     * The replay only plays back the same way with the same mode.
+     *
+     * @return The path search mode.
+     */
+    public PathSearchMode getPathSearchMode() {
+        return pathSearchMode;
+    }
+
+    /**
+     * Gets the number of inputs in the replay.
+     *
+     * @return The number of inputs.
+     */
+    public int size() {
+        return ticks.length;
+    }
+
+    /**
+     * Gets the tick of an input.
+     *
+     * @param index The index of the input.
+     * @return The tick at which the input was consumed.
+     */
+    public long getTick(final int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Gets the direction of an input.
+     *
+     * @param index The index of the input.
+     * @return The direction of the input.
+     */
+    public Direction getDirection(final int index) {
+        return directions[index];
+    }
+
+    /**
+     * Takes the next input if it is due at or before the given tick.
+     * An input that could not be applied on its exact tick is
+     * handed out late rather than dropped, so the input
+     * sequence is always preserved.
+     *
+     * @param tick The current tick.
+     * @return The due direction, or null if none is due yet.
+     */
+    public Direction next(final long tick) {
+        if (cursor < ticks.length && ticks[cursor] <= tick) {
+            return directions[cursor++];
+        }
+        return null;
+    }
+
+    /**
+     * Checks if every input of the replay has been taken.
+     *
+     * @return True if the replay is finished.
+     */
+    public boolean isFinished() {
+        return cursor >= ticks.length;
+    }
+
+    /**
+     * Rewinds the replay to its first input.
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    /**
+     * Reads the path search mode of the header.
+     */
+    private static PathSearchMode readMode(final DataInputStream in,
+                                           final Path file)
+            throws IOException {
+        String name = in.readUTF();
+        try {
+            return PathSearchMode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown path search mode "
+                    + name + ": " + file);
+        }
+    }
+
+    /**
+     * Reads a variable-length integer, returning -1 at the end of the file.
+     */
+    private static long readVarLong(final DataInputStream in)
+            throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            int b;
+            try {
+                b = in.readUnsignedByte();
+            } catch (EOFException e) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw e;
+            }
+            value |= (long) (b & ReplayRecorder.VARINT_MASK) << shift;
+            if ((b & ReplayRecorder.VARINT_MORE) == 0) {
+                return value;
+            }
+            shift += ReplayRecorder.VARINT_BITS;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.group4.chipgame.replay;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.PathSearchMode;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records the inputs of a level session into a compact binary replay.
+ * The file starts with a header holding the level path, the seed
+ * of the level's random generator and the {@link PathSearchMode} the
+ * frogs used, followed by one entry per input.
+ * Each entry packs the number of ticks since the previous input and
+ * the direction into a single variable-length integer, so a typical
+ * input takes one or two bytes.
+ */
+public class ReplayRecorder implements AutoCloseable {
+    /** The magic number identifying replay files ("CGRP"). */
+    static final int MAGIC = 0x43475250;
+    /** The version of the replay format. */
+    static final int VERSION = 2;
+    /** The last version whose header has no path search mode. */
+    static final int VERSION_WITHOUT_MODE = 1;
+    /** The number of low bits holding the direction of an entry. */
+    static final int DIRECTION_BITS = 3;
+    /** The mask of the direction bits of an entry. */
+    static final int DIRECTION_MASK = (1 << DIRECTION_BITS) - 1;
+    /** The number of payload bits in each byte of a varint. */
+    static final int VARINT_BITS = 7;
+    /** The mask of the payload bits in a varint byte. */
+    static final int VARINT_MASK = 0x7F;
+    /** The flag marking that more varint bytes follow. */
+    static final int VARINT_MORE = 0x80;
+
+    private final DataOutputStream out;
+    private long lastTick;
+
+    /**
+     * Creates a replay file and writes its header.
+     *
+     * @param file      The file to write the replay to.
+     * @param levelPath The path of the level being played.
+     * @param seed      The seed of the level's random generator.
+     * @param mode      The way the game's frogs search for the player.
+     * @throws IOException If the file cannot be created.
+     */
+    public ReplayRecorder(final Path file,
+                          final String levelPath,
+                          final long seed,
+                          final PathSearchMode mode) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file)));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeUTF(levelPath);
+        out.writeLong(seed);
+        out.writeUTF(mode.name());
+    }
+
+    /**
+     * Records a direction consumed by the game loop.
+     *
+     * @param tick      The tick at which the direction was consumed.
+     * @param direction The direction.
+     * @throws IOException If the entry cannot be written.
+     */
+    public void record(final long tick,
+                       final Direction direction) throws IOException {
+        long delta = tick - lastTick;
+        lastTick = tick;
+        writeVarLong((delta << DIRECTION_BITS) | direction.ordinal());
+    }
+
+    /**
+     * Flushes and closes the replay file.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeVarLong(final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~VARINT_MASK) != 0) {
+            out.writeByte((int) (remaining & VARINT_MASK) | VARINT_MORE);
+            remaining >>>= VARINT_BITS;
+        }
+        out.writeByte((int) remaining);
+    }
+}
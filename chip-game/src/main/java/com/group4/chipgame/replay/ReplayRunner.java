@@ -0,0 +1,173 @@
+package com.group4.chipgame.replay;
+
+import com.group4.chipgame.Level.FileBatch;
+import com.group4.chipgame.Level.HeadlessGame;
+import com.group4.chipgame.Level.PathSearchMode;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A command-line runner that plays replay files back through the game
+ * loop of a {@link HeadlessGame} as fast as the CPU allows, for use
+ * as a regression suite. Every replay is run to the end of its
+ * inputs, plus a settling period for enemies, and the hash of its
+ * final state is printed and compared against a baseline file.
+ *
+ * <p>Usage: {@code ReplayRunner [--baseline=FILE] [--update-baseline]
+ * [--threads=N] REPLAY_OR_DIR...}. Each replay is played with the
+ * {@link PathSearchMode} it was recorded with.
+ *
+ * <p>Sessions run in parallel on a {@link ForkJoinPool}, each in a
+ * game of its own.
+ * The process exits with status 1 if any replay mismatches its
+ * baseline or fails to run.
+ */
+public final class ReplayRunner {
+    private static final String REPLAY_EXTENSION = ".replay";
+    private static final String BASELINE_OPTION = "--baseline=";
+    private static final String UPDATE_OPTION = "--update-baseline";
+    private static final int JSON_INDENT = 2;
+    private static final int FAILURE_STATUS = 1;
+    /** Ticks run after the last input, so enemies can finish the game. */
+    private static final long SETTLE_TICKS = 600;
+
+    private ReplayRunner() {
+    }
+
+    /**
+     * Runs the replays named on the command line.
+     *
+     * @param args The options and replay files or directories.
+     * @throws IOException If a replay directory or the baseline
+     *                     cannot be read, or the baseline cannot be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        Path baselineFile = null;
+        boolean updateBaseline = false;
+        int threads = FileBatch.defaultThreads();
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(BASELINE_OPTION)) {
+                baselineFile = Paths.get(
+                        arg.substring(BASELINE_OPTION.length()));
+            } else if (arg.equals(UPDATE_OPTION)) {
+                updateBaseline = true;
+            } else if (FileBatch.isThreadsOption(arg)) {
+                threads = FileBatch.parseThreads(arg);
+            } else {
+                FileBatch.collect(Paths.get(arg), REPLAY_EXTENSION, files);
+            }
+        }
+
+        JSONObject baseline = baselineFile != null
+                && Files.exists(baselineFile)
+                ? new JSONObject(Files.readString(baselineFile))
+                : new JSONObject();
+
+        List<Result> results = runAll(files, threads);
+        boolean failed = false;
+        for (Result result : results) {
+            String expected = baseline.optString(result.name, null);
+            String verdict;
+            if (result.error != null) {
+                verdict = "ERROR " + result.error;
+                failed = true;
+            } else if (expected == null) {
+                verdict = "NEW";
+            } else if (expected.equals(result.hash)) {
+                verdict = "MATCH";
+            } else {
+                verdict = "MISMATCH expected " + expected;
+                failed = !updateBaseline;
+            }
+            System.out.printf("%s ticks=%d status=%s hash=%s %s%n",
+                    result.name, result.ticks, result.status,
+                    result.hash, verdict);
+            if (updateBaseline && result.error == null) {
+                baseline.put(result.name, result.hash);
+            }
+        }
+
+        if (updateBaseline && baselineFile != null) {
+            Files.writeString(baselineFile, baseline.toString(JSON_INDENT),
+                    StandardCharsets.UTF_8);
+        }
+        if (failed) {
+            System.exit(FAILURE_STATUS);
+        }
+    }
+
+    /**
+     * Runs every replay on a pool of the given size.
+     *
+     * @param files   The replay files.
+     * @param threads The number of worker threads.
+     * @return The results, sorted by replay name.
+     */
+    private static List<Result> runAll(final List<Path> files, final int threads) {
+        List<Result> results = new ArrayList<>(
+                FileBatch.runAll(files, threads, ReplayRunner::run));
+        results.sort(Comparator.comparing(r -> r.name));
+        return results;
+    }
+
+    /**
+     * Plays a single replay to completion.
+     *
+     * @param file The replay file.
+     * @return The final state of the session.
+     */
+    private static Result run(final Path file) {
+        String name = file.getFileName().toString();
+        try {
+            ReplayPlayer replay = ReplayPlayer.open(file);
+            HeadlessGame game = HeadlessGame.load(replay.getLevelPath(),
+                    replay.getPathSearchMode());
+            game.getLevel().getLevelRenderer().getRandom()
+                    .reseed(replay.getSeed());
+            game.getLoop().setReplayPlayer(replay);
+
+            long lastTick = replay.size() == 0 ? 0
+                    : replay.getTick(replay.size() - 1);
+            long endTick = lastTick + SETTLE_TICKS;
+            while (game.getStatus() == HeadlessGame.Status.RUNNING
+                    && game.getTick() < endTick) {
+                game.tick();
+            }
+            return new Result(name, game.getTick(), game.getStatus(),
+                    Long.toHexString(game.hash()), null);
+        } catch (IOException | RuntimeException e) {
+            return new Result(name, 0, null, null, e.toString());
+        }
+    }
+
+    /**
+     * The outcome of a single replay.
+     */
+    private static final class Result {
+        private final String name;
+        private final long ticks;
+        private final HeadlessGame.Status status;
+        private final String hash;
+        private final String error;
+
+        Result(final String name, final long ticks,
+               final HeadlessGame.Status status, final String hash,
+               final String error) {
+            this.name = name;
+            this.ticks = ticks;
+            this.status = status;
+            this.hash = hash;
+            this.error = error;
+        }
+    }
+}
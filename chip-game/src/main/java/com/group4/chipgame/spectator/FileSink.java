@@ -0,0 +1,65 @@
+package com.group4.chipgame.spectator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes a spectator stream to a file, which a spectator
+ * can follow while it is written or play back later.
+ */
+public class FileSink implements SpectatorSink {
+    private final FileChannel channel;
+
+    /**
+     * Creates the file, replacing any existing one,
+     * and writes the stream header.
+     *
+     * @param path The file to write.
+     * @throws IOException If the file cannot be created.
+     */
+    public FileSink(final Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        channel.write(ByteBuffer.wrap(SpectatorProtocol.header()));
+    }
+
+    /**
+     * Writes the batch with a single gathering write.
+     *
+     * @param frames The frames, each including its length.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public synchronized void write(final List<byte[]> frames)
+            throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[frames.size()];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(frames.get(i));
+            remaining += buffers[i].remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
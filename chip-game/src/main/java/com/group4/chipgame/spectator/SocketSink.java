@@ -0,0 +1,215 @@
+package com.group4.chipgame.spectator;
+
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves a spectator stream to any number of spectators on a local port.
+ * A spectator that connects is sent the stream header and then nothing
+ * until the next keyframe, which the sink asks for as soon as it joins.
+ * A spectator that disconnects or cannot be written to is dropped
+ * without affecting the others.
+ *
+ * <p>Writes never block. Each spectator keeps the bytes its socket has
+ * not yet taken and sends them as the socket drains, on later writes,
+ * so a slow spectator never holds up the others. One that falls more
+ * than {@link #MAX_BACKLOG_BYTES} behind is dropped and has to connect
+ * again.
+ */
+public class SocketSink implements SpectatorSink {
+    /** The most bytes a spectator may fall behind before it is dropped. */
+    public static final int MAX_BACKLOG_BYTES = 8 << 20;
+
+    private static final String ACCEPT_THREAD_NAME = "spectator-accept";
+    private static final Logger LOG = Logger.get(LogCategory.GAME);
+
+    private final ServerSocketChannel server;
+    private final Queue<SocketChannel> joining =
+            new ConcurrentLinkedQueue<>();
+    private final List<Spectator> spectators = new ArrayList<>();
+    private final AtomicBoolean keyframeWanted = new AtomicBoolean();
+
+    /**
+     * Starts listening for spectators on the loopback interface.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public SocketSink(final int port) throws IOException {
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(
+                InetAddress.getLoopbackAddress(), port));
+        Thread acceptor = new Thread(this::acceptLoop, ACCEPT_THREAD_NAME);
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Gets the port spectators connect to.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    /**
+     * Writes the batch to every spectator, letting each one that is
+     * waiting to join in from the first keyframe in the batch.
+     *
+     * @param frames The frames, each including its length.
+     */
+    @Override
+    public synchronized void write(final List<byte[]> frames) {
+        for (int i = 0; i < frames.size(); i++) {
+            if (SpectatorProtocol.isKeyframe(frames.get(i))) {
+                SocketChannel channel;
+                while ((channel = joining.poll()) != null) {
+                    spectators.add(new Spectator(channel, i));
+                }
+            }
+        }
+        Iterator<Spectator> it = spectators.iterator();
+        while (it.hasNext()) {
+            Spectator spectator = it.next();
+            try {
+                spectator.write(frames);
+            } catch (IOException e) {
+                LOG.info("Spectator {} left: {}", spectator, e);
+                closeQuietly(spectator.channel);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Reports, once, that a spectator has joined since the last keyframe.
+     *
+     * @return true if the next frame should be a keyframe.
+     */
+    @Override
+    public boolean wantsKeyframe() {
+        return keyframeWanted.getAndSet(false);
+    }
+
+    /**
+     * Stops listening and disconnects every spectator.
+     *
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        server.close();
+        for (Spectator spectator : spectators) {
+            closeQuietly(spectator.channel);
+        }
+        spectators.clear();
+        SocketChannel channel;
+        while ((channel = joining.poll()) != null) {
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Accepts spectators until the sink is closed.
+     */
+    private void acceptLoop() {
+        while (server.isOpen()) {
+            try {
+                SocketChannel channel = server.accept();
+                channel.socket().setTcpNoDelay(true);
+                writeFully(channel,
+                        ByteBuffer.wrap(SpectatorProtocol.header()));
+                channel.configureBlocking(false);
+                joining.add(channel);
+                keyframeWanted.set(true);
+                LOG.info("Spectator joined from {}",
+                        channel.getRemoteAddress());
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                LOG.warn("Could not accept a spectator: {}", e);
+            }
+        }
+    }
+
+    private static void writeFully(final SocketChannel channel,
+                                   final ByteBuffer buffer)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void closeQuietly(final SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.warn("Could not close a spectator: {}", e);
+        }
+    }
+
+    /**
+     * A connected spectator, the frame of the first batch it
+     * receives from and the bytes its socket has yet to take.
+     */
+    private static final class Spectator {
+        private final SocketChannel channel;
+        private final Deque<ByteBuffer> backlog = new ArrayDeque<>();
+        private long backlogBytes;
+        private int firstFrame;
+
+        Spectator(final SocketChannel channel, final int firstFrame) {
+            this.channel = channel;
+            this.firstFrame = firstFrame;
+        }
+
+        /**
+         * Adds the frames the spectator has not yet seen to its backlog
+         * and sends as much of it as the socket will take right now,
+         * with a single gathering write.
+         *
+         * @throws IOException If the socket fails or the spectator
+         *                     has fallen too far behind.
+         */
+        void write(final List<byte[]> frames) throws IOException {
+            for (int i = firstFrame; i < frames.size(); i++) {
+                ByteBuffer buffer = ByteBuffer.wrap(frames.get(i));
+                backlog.addLast(buffer);
+                backlogBytes += buffer.remaining();
+            }
+            firstFrame = 0;
+            backlogBytes -= channel.write(
+                    backlog.toArray(new ByteBuffer[0]));
+            while (!backlog.isEmpty() && !backlog.peekFirst().hasRemaining()) {
+                backlog.pollFirst();
+            }
+            if (backlogBytes > MAX_BACKLOG_BYTES) {
+                throw new IOException("fell " + backlogBytes
+                        + " bytes behind");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(
+                    channel.socket().getRemoteSocketAddress());
+        }
+    }
+}
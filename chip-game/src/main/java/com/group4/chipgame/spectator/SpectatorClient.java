@@ -0,0 +1,268 @@
+package com.group4.chipgame.spectator;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.LevelStateManager;
+import com.group4.chipgame.Main;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+import com.group4.chipgame.ui.TimerUI;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.json.JSONObject;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * A window that mirrors a live game from its spectator stream alone.
+ * The option --connect=PORT watches a game serving a stream on a local
+ * port, and --file=PATH follows a stream file as it is written, playing
+ * it at the speed it was recorded.
+ *
+ * <p>Frames are read and decoded on a background thread and applied on
+ * the JavaFX thread: a keyframe rebuilds the level, and each delta moves
+ * actors, replaces tiles, removes what was collected and sets the timer.
+ */
+public class SpectatorClient extends Application {
+    /** The title of the spectator window. */
+    public static final String TITLE = "Chip Game Spectator";
+
+    private static final String CONNECT_OPTION = "connect";
+    private static final String FILE_OPTION = "file";
+    private static final String READER_THREAD_NAME = "spectator-reader";
+    private static final long TICKS_PER_SECOND = 60;
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long FOLLOW_POLL_MILLIS = 50;
+    private static final Logger LOG = Logger.get(LogCategory.GAME);
+
+    private final GameContext context = new GameContext();
+    private Stage stage;
+    private StackPane root;
+    private LevelRenderer renderer;
+    private TimerUI timerUI;
+    private Actor[] actors = new Actor[0];
+    private Collectible[] collectibles = new Collectible[0];
+
+    /**
+     * Launches the spectator window.
+     *
+     * @param args The options, as described on the class.
+     */
+    public static void main(final String[] args) {
+        launch(args);
+    }
+
+    /**
+     * Opens the window and starts reading the stream named by the options.
+     *
+     * @param primaryStage The primary stage for this application.
+     */
+    @Override
+    public void start(final Stage primaryStage) {
+        this.stage = primaryStage;
+        root = new StackPane();
+        root.setStyle(Main.BACKGROUND_COLOR);
+        primaryStage.setScene(new Scene(root));
+        primaryStage.setTitle(TITLE);
+        primaryStage.show();
+
+        Map<String, String> options = getParameters().getNamed();
+        String port = options.get(CONNECT_OPTION);
+        String file = options.get(FILE_OPTION);
+        if (port == null && file == null) {
+            throw new IllegalArgumentException(
+                    "Usage: SpectatorClient --connect=PORT | --file=PATH");
+        }
+        Thread reader = new Thread(() -> read(port, file),
+                READER_THREAD_NAME);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Reads frames until the stream ends, handing
+     * each one to the JavaFX thread to apply.
+     */
+    private void read(final String port, final String file) {
+        boolean paced = port == null;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(open(port, file)))) {
+            SpectatorProtocol.readHeader(in);
+            long lastTick = -1;
+            while (true) {
+                ByteBuffer frame = SpectatorProtocol.readFrame(in);
+                byte kind = frame.get();
+                long tick = SpectatorProtocol.getVarint(frame);
+                if (paced && lastTick >= 0 && tick > lastTick) {
+                    Thread.sleep((tick - lastTick) * MILLIS_PER_SECOND
+                            / TICKS_PER_SECOND);
+                }
+                lastTick = tick;
+                Platform.runLater(() -> apply(kind, frame));
+            }
+        } catch (IOException e) {
+            LOG.info("Spectator stream ended: {}", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static InputStream open(final String port, final String file)
+            throws IOException {
+        if (port != null) {
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                    Integer.parseInt(port));
+            return socket.getInputStream();
+        }
+        return new FollowingInputStream(
+                Files.newInputStream(Paths.get(file)));
+    }
+
+    /**
+     * Applies a frame to the mirrored level.
+     */
+    private void apply(final byte kind, final ByteBuffer frame) {
+        if (kind == SpectatorProtocol.KEYFRAME) {
+            showKeyframe(new String(frame.array(), frame.position(),
+                    frame.remaining(), StandardCharsets.UTF_8));
+        } else if (kind == SpectatorProtocol.DELTA && renderer != null) {
+            while (frame.hasRemaining()) {
+                applyRecord(frame);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the level from its full state.
+     */
+    private void showKeyframe(final String state) {
+        if (renderer != null) {
+            renderer.dispose();
+        }
+        LevelData levelData = LevelStateManager.fromJson(
+                new JSONObject(state), new LevelRenderer(context, null));
+        renderer = levelData.getLevelRenderer();
+        renderer.setCurrentLevelData(levelData);
+        renderer.renderTiles(levelData.getTiles());
+        renderer.renderActors(levelData.getActors());
+        renderer.renderCollectibles(levelData.getCollectibles());
+        actors = levelData.getActors().toArray(new Actor[0]);
+        collectibles = levelData.getCollectibles()
+                .toArray(new Collectible[0]);
+
+        root.getChildren().setAll(renderer.getGamePane());
+        timerUI = new TimerUI(root, levelData.getTimer());
+        root.setPrefSize(
+                levelData.getGridWidth() * context.getTileSize(),
+                levelData.getGridHeight() * context.getTileSize());
+        stage.sizeToScene();
+    }
+
+    /**
+     * Applies the next record of a delta frame.
+     */
+    private void applyRecord(final ByteBuffer frame) {
+        byte kind = frame.get();
+        int a = (int) SpectatorProtocol.getVarint(frame);
+        switch (kind) {
+            case SpectatorProtocol.MOVE -> {
+                int dx = SpectatorProtocol.unzigzag(
+                        (int) SpectatorProtocol.getVarint(frame));
+                int dy = SpectatorProtocol.unzigzag(
+                        (int) SpectatorProtocol.getVarint(frame));
+                Actor actor = actorAt(a);
+                if (actor != null) {
+                    Point2D position = actor.getPosition();
+                    actor.placeAt(position.getX() + dx,
+                            position.getY() + dy);
+                }
+            }
+            case SpectatorProtocol.REMOVE -> {
+                Actor actor = actorAt(a);
+                if (actor != null) {
+                    renderer.remove(actor);
+                    actors[a] = null;
+                }
+            }
+            case SpectatorProtocol.COLLECT -> {
+                if (a >= 0 && a < collectibles.length
+                        && collectibles[a] != null) {
+                    renderer.remove(collectibles[a]);
+                    collectibles[a] = null;
+                }
+            }
+            case SpectatorProtocol.TILE -> {
+                int y = (int) SpectatorProtocol.getVarint(frame);
+                int code = (int) SpectatorProtocol.getVarint(frame);
+                renderer.updateTile(a, y,
+                        TileType.fromCode((byte) code).getTile());
+            }
+            case SpectatorProtocol.TIMER -> timerUI.updateTime(a);
+            default -> throw new IllegalStateException(
+                    "Unknown spectator record " + kind);
+        }
+    }
+
+    private Actor actorAt(final int index) {
+        return index >= 0 && index < actors.length ? actors[index] : null;
+    }
+
+    /**
+     * An input stream over a file that is still being written.
+     * At the end of the file it waits for more instead of ending.
+     */
+    private static final class FollowingInputStream
+            extends FilterInputStream {
+        FollowingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int next;
+            while ((next = super.read()) < 0) {
+                await();
+            }
+            return next;
+        }
+
+        @Override
+        public int read(final byte[] b,
+                        final int off,
+                        final int len) throws IOException {
+            int count;
+            while ((count = super.read(b, off, len)) < 0) {
+                await();
+            }
+            return count;
+        }
+
+        private static void await() throws IOException {
+            try {
+                Thread.sleep(FOLLOW_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
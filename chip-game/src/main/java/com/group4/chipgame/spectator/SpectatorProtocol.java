@@ -0,0 +1,174 @@
+package com.group4.chipgame.spectator;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The wire format of a spectator stream.
+ *
+ * <p>A stream starts with a header of the magic number and the format
+ * version, each a big-endian int. It is followed by frames, each a
+ * big-endian int giving the length of the rest of the frame, a kind
+ * byte and the tick as a varint. A {@link #KEYFRAME} carries the full
+ * level state as UTF-8 JSON in the format of
+ * {@link com.group4.chipgame.Level.LevelStateManager#toJson}. A
+ * {@link #DELTA} carries the changes made in one tick as a run of
+ * records, each a kind byte followed by varint fields:
+ * <ul>
+ *     <li>{@link #MOVE}: actor index, zigzag x and y change since
+ *     the actor's last position</li>
+ *     <li>{@link #REMOVE}: actor index</li>
+ *     <li>{@link #COLLECT}: collectible index</li>
+ *     <li>{@link #TILE}: x, y, tile type code</li>
+ *     <li>{@link #TIMER}: seconds remaining</li>
+ * </ul>
+ * Actors and collectibles are referred to by their index in the lists
+ * of the last keyframe, so an actor stepping one cell costs three bytes.
+ */
+public final class SpectatorProtocol {
+    /** The magic number opening every stream ("CGSP"). */
+    public static final int MAGIC = 0x43475350;
+    /** The version of the stream format. */
+    public static final int VERSION = 1;
+    /** The number of bytes in the stream header. */
+    public static final int HEADER_BYTES = 2 * Integer.BYTES;
+    /** The offset of the kind byte in an encoded frame. */
+    public static final int KIND_OFFSET = Integer.BYTES;
+
+    /** A frame holding the full level state. */
+    public static final byte KEYFRAME = 1;
+    /** A frame holding the changes made in one tick. */
+    public static final byte DELTA = 2;
+
+    /** An actor moved to another cell. */
+    public static final byte MOVE = 1;
+    /** An actor left the level. */
+    public static final byte REMOVE = 2;
+    /** A collectible was picked up. */
+    public static final byte COLLECT = 3;
+    /** A tile was replaced. */
+    public static final byte TILE = 4;
+    /** The timer counted down. */
+    public static final byte TIMER = 5;
+
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+
+    private SpectatorProtocol() {
+    }
+
+    /**
+     * Creates the header that opens a stream.
+     *
+     * @return The header bytes.
+     */
+    public static byte[] header() {
+        return ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .array();
+    }
+
+    /**
+     * Checks whether an encoded frame is a keyframe,
+     * from which a spectator can start rendering.
+     *
+     * @param frame The encoded frame, including its length.
+     * @return true for a keyframe.
+     */
+    public static boolean isKeyframe(final byte[] frame) {
+        return frame[KIND_OFFSET] == KEYFRAME;
+    }
+
+    /**
+     * Writes an unsigned varint: seven bits per byte,
+     * low bits first, with the top bit set on all but the last.
+     *
+     * @param out   The buffer to write to.
+     * @param value The value, treated as unsigned.
+     */
+    public static void putVarint(final ByteBuffer out, final long value) {
+        long rest = value;
+        while ((rest & ~VARINT_MASK) != 0) {
+            out.put((byte) ((rest & VARINT_MASK) | VARINT_MORE));
+            rest >>>= VARINT_BITS;
+        }
+        out.put((byte) rest);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param in The buffer to read from.
+     * @return The value.
+     */
+    public static long getVarint(final ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte next;
+        do {
+            next = in.get();
+            value |= (long) (next & VARINT_MASK) << shift;
+            shift += VARINT_BITS;
+        } while ((next & VARINT_MORE) != 0);
+        return value;
+    }
+
+    /**
+     * Maps a signed value to an unsigned one so that
+     * small changes either way encode in one byte.
+     *
+     * @param value The signed value.
+     * @return The zigzag encoding.
+     */
+    public static int zigzag(final int value) {
+        return (value << 1) ^ (value >> (Integer.SIZE - 1));
+    }
+
+    /**
+     * Reverses {@link #zigzag(int)}.
+     *
+     * @param value The zigzag encoding.
+     * @return The signed value.
+     */
+    public static int unzigzag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Checks the header at the start of a stream.
+     *
+     * @param in The stream.
+     * @throws IOException If the stream is not a spectator stream
+     *                     of this version.
+     */
+    public static void readHeader(final DataInputStream in)
+            throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException("Not a spectator stream of version "
+                    + VERSION);
+        }
+    }
+
+    /**
+     * Reads the next frame of a stream, without its length.
+     *
+     * @param in The stream.
+     * @return The frame, positioned at its kind byte.
+     * @throws IOException If the stream ends or cannot be read.
+     */
+    public static ByteBuffer readFrame(final DataInputStream in)
+            throws IOException {
+        int length = in.readInt();
+        if (length <= 0) {
+            throw new IOException("Bad frame length " + length);
+        }
+        byte[] body = new byte[length];
+        in.readFully(body);
+        return ByteBuffer.wrap(body);
+    }
+}
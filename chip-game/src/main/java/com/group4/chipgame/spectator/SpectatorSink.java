@@ -0,0 +1,32 @@
+package com.group4.chipgame.spectator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A destination for the frames of a {@link SpectatorStream}.
+ * Frames are only written from a stream's writer thread, never from
+ * the game loop, so writing may block. A sink outlives the stream of
+ * each level, so spectators stay connected from one level to the next.
+ */
+public interface SpectatorSink extends Closeable {
+    /**
+     * Writes a batch of encoded frames, in order.
+     *
+     * @param frames The frames, each including its length.
+     * @throws IOException If the sink can take no more frames.
+     */
+    void write(List<byte[]> frames) throws IOException;
+
+    /**
+     * Checks whether the sink needs a keyframe, for example because a
+     * spectator has just joined. It is polled once per tick by the game
+     * loop, so it must be cheap and must not block.
+     *
+     * @return true if the next frame should be a keyframe.
+     */
+    default boolean wantsKeyframe() {
+        return false;
+    }
+}
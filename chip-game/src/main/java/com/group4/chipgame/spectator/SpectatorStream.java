@@ -0,0 +1,385 @@
+package com.group4.chipgame.spectator;
+
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelStateManager;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import com.group4.chipgame.events.GameEvent;
+import com.group4.chipgame.events.GameEventBus;
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Publishes a running level as a stream of frames for spectators,
+ * in the format described by {@link SpectatorProtocol}.
+ * The changes made in a tick are delta-encoded into one small frame
+ * on the game thread as the tick is flushed, and ticks in which
+ * nothing changed send nothing. Frames are handed to a bounded queue
+ * and written to the {@link SpectatorSink} in batches by a background
+ * thread, so a slow sink never holds up the game. While the queue is
+ * full nothing is encoded, and the first frame sent once it has room
+ * is a keyframe, which brings every spectator back in step.
+ *
+ * <p>A keyframe is also sent when the stream starts, when the sink
+ * asks for one and whenever a change cannot be expressed as a delta,
+ * such as a stateful tile being replaced or an actor joining the level.
+ * Once the sink fails the stream stops encoding and buffers nothing.
+ */
+public class SpectatorStream implements AutoCloseable {
+    /** The number of frames that can wait to be written. */
+    public static final int QUEUE_FRAMES = 1024;
+
+    private static final String WRITER_THREAD_NAME = "spectator-writer";
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+    private static final int INITIAL_RECORD_BYTES = 4096;
+    /** The most bytes a record can take: a kind and three varints. */
+    private static final int MAX_RECORD_BYTES = 1 + 3 * 5;
+    /** The most bytes a frame prefix can take: length, kind, tick. */
+    private static final int MAX_PREFIX_BYTES = Integer.BYTES + 1 + 10;
+    private static final byte[] END = new byte[0];
+    private static final Logger LOG = Logger.get(LogCategory.GAME);
+
+    private final LevelData levelData;
+    private final SpectatorSink sink;
+    private final BlockingQueue<byte[]> queue =
+            new ArrayBlockingQueue<>(QUEUE_FRAMES);
+    private final Consumer<List<GameEvent>> observer = this::onTick;
+    private final Map<Entity, Integer> indices = new IdentityHashMap<>();
+    private final Thread writer;
+    private ByteBuffer records = ByteBuffer.allocate(INITIAL_RECORD_BYTES);
+    private int[] lastX = new int[0];
+    private int[] lastY = new int[0];
+    private int timer;
+    private boolean keyframeDue = true;
+    private long dropped;
+    private volatile boolean failed;
+
+    /**
+     * Starts a stream of a level. The first frame will be a keyframe.
+     *
+     * @param levelData The level to stream.
+     * @param sink      Where to write the frames.
+     */
+    public SpectatorStream(final LevelData levelData,
+                           final SpectatorSink sink) {
+        this.levelData = levelData;
+        this.sink = sink;
+        this.timer = levelData.getTimer();
+        writer = new Thread(this::writeLoop, WRITER_THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Starts streaming the events of the level.
+     *
+     * @param bus The level's event bus.
+     */
+    public void attach(final GameEventBus bus) {
+        bus.removeObserver(observer);
+        bus.addObserver(observer);
+    }
+
+    /**
+     * Stops streaming the events of the level.
+     *
+     * @param bus The level's event bus.
+     */
+    public void detach(final GameEventBus bus) {
+        bus.removeObserver(observer);
+    }
+
+    /**
+     * Records the time left on the level's timer,
+     * to be sent with the current tick.
+     *
+     * @param seconds The seconds remaining.
+     */
+    public void recordTimer(final int seconds) {
+        timer = seconds;
+        append(SpectatorProtocol.TIMER, seconds, 0, 0);
+    }
+
+    /**
+     * Sends a keyframe at the end of the current tick. It is needed after
+     * any change made without events, such as an undo.
+     */
+    public void requestKeyframe() {
+        keyframeDue = true;
+    }
+
+    /**
+     * Checks if the stream stopped because the sink could not be written.
+     *
+     * @return true if the sink failed.
+     */
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    /**
+     * Sends what changed in a tick. It is called once per tick,
+     * after the level's event bus has been flushed.
+     *
+     * @param tick The tick that has just ended.
+     */
+    public void endTick(final long tick) {
+        if (failed) {
+            records.clear();
+            return;
+        }
+        if (sink.wantsKeyframe()) {
+            keyframeDue = true;
+        }
+        if (queue.remainingCapacity() == 0) {
+            if (keyframeDue || records.position() > 0) {
+                dropped++;
+            }
+            records.clear();
+            keyframeDue = true;
+            return;
+        }
+        byte[] frame;
+        if (keyframeDue) {
+            frame = keyframe(tick);
+        } else if (records.position() > 0) {
+            frame = delta(tick);
+        } else {
+            return;
+        }
+        records.clear();
+        if (queue.offer(frame)) {
+            keyframeDue = false;
+        } else {
+            dropped++;
+            keyframeDue = true;
+        }
+    }
+
+    /**
+     * Stops the stream, writing what is queued if the sink keeps up.
+     * The sink is left open, so that the next level can be streamed
+     * to the same spectators.
+     */
+    @Override
+    public void close() {
+        if (!queue.offer(END)) {
+            queue.clear();
+            queue.offer(END);
+        }
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped > 0) {
+            LOG.warn("Spectator stream dropped {} frames", dropped);
+        }
+    }
+
+    /**
+     * Encodes the events of one tick as records.
+     */
+    private void onTick(final List<GameEvent> events) {
+        if (failed) {
+            return;
+        }
+        for (GameEvent event : events) {
+            encode(event);
+        }
+    }
+
+    /**
+     * Appends the record for an event, or marks a keyframe
+     * as due if the event cannot be expressed as a delta.
+     */
+    private void encode(final GameEvent event) {
+        switch (event.getType()) {
+            case ENTER -> {
+                int index = indexOf(event.getActor());
+                if (index < 0) {
+                    return;
+                }
+                append(SpectatorProtocol.MOVE, index,
+                        SpectatorProtocol.zigzag(
+                                event.getX() - lastX[index]),
+                        SpectatorProtocol.zigzag(
+                                event.getY() - lastY[index]));
+                lastX[index] = event.getX();
+                lastY[index] = event.getY();
+            }
+            case REMOVE -> {
+                int index = indexOf(event.getActor());
+                if (index >= 0) {
+                    append(SpectatorProtocol.REMOVE, index, 0, 0);
+                }
+            }
+            case COLLECT -> {
+                int index = indexOf(event.getSubject());
+                if (index >= 0) {
+                    append(SpectatorProtocol.COLLECT, index, 0, 0);
+                }
+            }
+            case TILE_REPLACED -> {
+                TileType type = event.getTile().getType();
+                if (type.isStateful()) {
+                    keyframeDue = true;
+                } else {
+                    append(SpectatorProtocol.TILE, event.getX(),
+                            event.getY(), type.getCode());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private int indexOf(final Entity entity) {
+        Integer index = indices.get(entity);
+        if (index == null) {
+            keyframeDue = true;
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Appends a record to the current tick, growing the buffer if needed.
+     * Nothing is appended while a keyframe is due, since the keyframe
+     * will carry the change, or once the sink has failed.
+     */
+    private void append(final byte kind,
+                        final int a,
+                        final int b,
+                        final int c) {
+        if (keyframeDue || failed) {
+            return;
+        }
+        if (records.remaining() < MAX_RECORD_BYTES) {
+            records = ByteBuffer.wrap(
+                            Arrays.copyOf(records.array(),
+                                    records.capacity() * 2))
+                    .position(records.position());
+        }
+        records.put(kind);
+        SpectatorProtocol.putVarint(records, Integer.toUnsignedLong(a));
+        if (kind == SpectatorProtocol.MOVE
+                || kind == SpectatorProtocol.TILE) {
+            SpectatorProtocol.putVarint(records,
+                    Integer.toUnsignedLong(b));
+            SpectatorProtocol.putVarint(records,
+                    Integer.toUnsignedLong(c));
+        }
+    }
+
+    /**
+     * Gets the number of bytes of records waiting for the end of the tick.
+     *
+     * @return The size of the current tick's records.
+     */
+    int bufferedBytes() {
+        return records.position();
+    }
+
+    /**
+     * Encodes the records of a tick as a delta frame.
+     */
+    private byte[] delta(final long tick) {
+        ByteBuffer frame = ByteBuffer.allocate(
+                MAX_PREFIX_BYTES + records.position());
+        frame.position(Integer.BYTES);
+        frame.put(SpectatorProtocol.DELTA);
+        SpectatorProtocol.putVarint(frame, tick);
+        frame.put(records.array(), 0, records.position());
+        return finish(frame);
+    }
+
+    /**
+     * Encodes the whole level as a keyframe and numbers its
+     * actors and collectibles for the deltas that follow.
+     */
+    private byte[] keyframe(final long tick) {
+        levelData.setTimer(timer);
+        byte[] state = LevelStateManager.toJson(levelData).toString()
+                .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(
+                MAX_PREFIX_BYTES + state.length);
+        frame.position(Integer.BYTES);
+        frame.put(SpectatorProtocol.KEYFRAME);
+        SpectatorProtocol.putVarint(frame, tick);
+        frame.put(state);
+        indexEntities();
+        return finish(frame);
+    }
+
+    /**
+     * Fills in the length of a frame and trims it.
+     */
+    private static byte[] finish(final ByteBuffer frame) {
+        frame.putInt(0, frame.position() - Integer.BYTES);
+        return Arrays.copyOf(frame.array(), frame.position());
+    }
+
+    /**
+     * Numbers the actors and collectibles in the order
+     * the keyframe stores them.
+     */
+    private void indexEntities() {
+        indices.clear();
+        List<Actor> actors = levelData.getActors();
+        lastX = new int[actors.size()];
+        lastY = new int[actors.size()];
+        for (int i = 0; i < actors.size(); i++) {
+            Actor actor = actors.get(i);
+            indices.put(actor, i);
+            lastX[i] = (int) actor.getPosition().getX();
+            lastY[i] = (int) actor.getPosition().getY();
+        }
+        List<Collectible> collectibles = levelData.getCollectibles();
+        for (int i = 0; i < collectibles.size(); i++) {
+            indices.put(collectibles.get(i), i);
+        }
+    }
+
+    /**
+     * Writes queued frames to the sink in batches until the stream
+     * is closed or the sink fails.
+     */
+    private void writeLoop() {
+        List<byte[]> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                int end = batch.indexOf(END);
+                if (end >= 0) {
+                    if (end > 0) {
+                        sink.write(batch.subList(0, end));
+                    }
+                    return;
+                }
+                sink.write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            failed = true;
+            LOG.warn("Spectator stream stopped: {}", e);
+        }
+    }
+}
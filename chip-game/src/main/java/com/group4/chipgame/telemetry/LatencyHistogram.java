@@ -0,0 +1,161 @@
+package com.group4.chipgame.telemetry;
+
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ * Buckets are log-linear in the style of HdrHistogram: every power
+ * of two is split into equal sub-buckets, so any recorded value is
+ * reported to within about two percent while the whole range, from
+ * a nanosecond to over a minute, fits in two thousand counters.
+ * Recording is a handful of atomic increments and never blocks,
+ * so it is safe from the game loop and from background threads alike.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 36;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT
+            + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF;
+    private static final int LONG_BITS = 64;
+    private static final double PERCENT = 100.0;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double P50 = 50;
+    private static final double P90 = 90;
+    private static final double P99 = 99;
+    private static final double P999 = 99.9;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a single duration. Negative durations are
+     * recorded as zero and very long ones are clamped.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(final long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(bucketOf(value));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The count of values.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The maximum in nanoseconds.
+     */
+    public long getMax() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return The mean in nanoseconds, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalNanos.get() / count;
+    }
+
+    /**
+     * Gets the value below which the given percentage
+     * of the recorded values fall.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1,
+                (long) Math.ceil(percentile / PERCENT * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Clears every recorded value.
+     * Values recorded concurrently with a reset may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    /**
+     * Summarises the histogram in microseconds.
+     *
+     * @return A JSON object with the count, mean, percentiles and maximum.
+     */
+    public JSONObject toJson() {
+        return new JSONObject()
+                .put("count", getCount())
+                .put("meanUs", getMean() / NANOS_PER_MICRO)
+                .put("p50Us", getValueAtPercentile(P50) / NANOS_PER_MICRO)
+                .put("p90Us", getValueAtPercentile(P90) / NANOS_PER_MICRO)
+                .put("p99Us", getValueAtPercentile(P99) / NANOS_PER_MICRO)
+                .put("p999Us", getValueAtPercentile(P999) / NANOS_PER_MICRO)
+                .put("maxUs", getMax() / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Finds the bucket holding a value. Values below the sub-bucket
+     * count have a bucket each; above that, each power of two is
+     * split into the upper half of the sub-buckets.
+     */
+    private static int bucketOf(final long value) {
+        int bits = LONG_BITS - Long.numberOfLeadingZeros(value);
+        if (bits <= SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = bits - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF
+                + subBucket - SUB_BUCKET_HALF;
+    }
+
+    /**
+     * Gets the largest value that falls into a bucket.
+     */
+    private static long highestValueOf(final int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int offset = bucket - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF + 1;
+        long subBucket = offset % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
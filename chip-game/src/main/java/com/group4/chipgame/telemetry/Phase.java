@@ -0,0 +1,21 @@
+package com.group4.chipgame.telemetry;
+
+/**
+ * The timed phases of a frame of the game loop.
+ */
+public enum Phase {
+    /** The interval between the starts of consecutive frames. */
+    FRAME,
+    /** The whole of the game loop's work for one tick. */
+    TICK,
+    /** Taking the player's next input from the queue or a replay. */
+    INPUT,
+    /** Enemies deciding and starting their moves. */
+    ENEMY_AI,
+    /** The player's move, including pushes and pickups. */
+    MOVEMENT,
+    /** Tiles reacting to actors stepping onto them. */
+    TILE_CALLBACKS,
+    /** Keeping the camera, timer and event observers in step. */
+    RENDER_SYNC
+}
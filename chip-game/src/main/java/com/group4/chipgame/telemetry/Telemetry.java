@@ -0,0 +1,173 @@
+package com.group4.chipgame.telemetry;
+
+import org.json.JSONObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Frame and tick telemetry for the game loop.
+ * Phase timings go into lock-free histograms and every enemy type
+ * gets its own decision counters. Telemetry is switched on with the
+ * system property {@value #ENABLED_PROPERTY}; the switch is a
+ * constant, so when it is off the JIT removes the timing calls
+ * entirely and the game pays nothing for them.
+ *
+ * <p>Call sites take a timestamp with {@link #start()} and pass it
+ * back to {@link #record(Phase, long)} when the phase ends.
+ */
+public final class Telemetry {
+    /** The system property that switches telemetry on. */
+    public static final String ENABLED_PROPERTY = "chipgame.telemetry";
+    /** Whether telemetry is being recorded. */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final LatencyHistogram[] HISTOGRAMS =
+            new LatencyHistogram[PHASES.length];
+    private static final Map<String, EnemyCounters> ENEMIES =
+            new ConcurrentHashMap<>();
+    private static final ClassValue<EnemyCounters> ENEMY_COUNTERS =
+            new ClassValue<>() {
+                @Override
+                protected EnemyCounters computeValue(final Class<?> type) {
+                    return ENEMIES.computeIfAbsent(type.getSimpleName(),
+                            name -> new EnemyCounters());
+                }
+            };
+    private static final LongAdder DEFERRED_DECISIONS = new LongAdder();
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    static {
+        for (int i = 0; i < HISTOGRAMS.length; i++) {
+            HISTOGRAMS[i] = new LatencyHistogram();
+        }
+    }
+
+    private Telemetry() {
+    }
+
+    /**
+     * Takes the timestamp at the start of a phase.
+     *
+     * @return The current time in nanoseconds,
+     * or 0 if telemetry is disabled.
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the end of a phase started with {@link #start()}.
+     *
+     * @param phase The phase that ended.
+     * @param start The timestamp taken at the start of the phase.
+     */
+    public static void record(final Phase phase, final long start) {
+        if (ENABLED) {
+            recordDuration(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a duration measured elsewhere, such as a frame interval.
+     *
+     * @param phase The phase measured.
+     * @param nanos The duration in nanoseconds.
+     */
+    public static void recordDuration(final Phase phase, final long nanos) {
+        if (ENABLED) {
+            HISTOGRAMS[phase.ordinal()].record(nanos);
+        }
+    }
+
+    /**
+     * Records one move decision by an enemy, charging its time
+     * both to the enemy AI phase and to the enemy's type.
+     *
+     * @param enemyType The class of the enemy.
+     * @param start     The timestamp taken before the decision.
+     */
+    public static void recordEnemy(final Class<?> enemyType,
+                                   final long start) {
+        if (ENABLED) {
+            long nanos = System.nanoTime() - start;
+            HISTOGRAMS[Phase.ENEMY_AI.ordinal()].record(nanos);
+            EnemyCounters counters = ENEMY_COUNTERS.get(enemyType);
+            counters.decisions.increment();
+            counters.nanos.add(nanos);
+        }
+    }
+
+    /**
+     * Records an enemy decision put off to a later
+     * frame because the frame's budget was spent.
+     */
+    public static void recordDeferredDecision() {
+        if (ENABLED) {
+            DEFERRED_DECISIONS.increment();
+        }
+    }
+
+    /**
+     * Gets the histogram of a phase.
+     *
+     * @param phase The phase.
+     * @return The phase's histogram.
+     */
+    public static LatencyHistogram getHistogram(final Phase phase) {
+        return HISTOGRAMS[phase.ordinal()];
+    }
+
+    /**
+     * Clears every histogram and counter.
+     */
+    public static void reset() {
+        for (LatencyHistogram histogram : HISTOGRAMS) {
+            histogram.reset();
+        }
+        for (EnemyCounters counters : ENEMIES.values()) {
+            counters.decisions.reset();
+            counters.nanos.reset();
+        }
+        DEFERRED_DECISIONS.reset();
+    }
+
+    /**
+     * Takes a snapshot of all telemetry.
+     *
+     * @return A JSON object with a histogram summary
+     * for every phase, the counters of every enemy type
+     * and the number of enemy decisions deferred.
+     */
+    public static JSONObject toJson() {
+        JSONObject phases = new JSONObject();
+        for (Phase phase : PHASES) {
+            phases.put(phase.name(), getHistogram(phase).toJson());
+        }
+        JSONObject enemies = new JSONObject();
+        ENEMIES.forEach((name, counters) -> {
+            long decisions = counters.decisions.sum();
+            long nanos = counters.nanos.sum();
+            enemies.put(name, new JSONObject()
+                    .put("decisions", decisions)
+                    .put("totalUs", nanos / NANOS_PER_MICRO)
+                    .put("meanUs", decisions == 0 ? 0
+                            : nanos / NANOS_PER_MICRO / decisions));
+        });
+        return new JSONObject()
+                .put("timestamp", System.currentTimeMillis())
+                .put("phases", phases)
+                .put("enemies", enemies)
+                .put("deferredDecisions", DEFERRED_DECISIONS.sum());
+    }
+
+    /**
+     * The counters kept for one enemy type.
+     */
+    private static final class EnemyCounters {
+        private final LongAdder decisions = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,77 @@
+package com.group4.chipgame.telemetry;
+
+import com.group4.chipgame.logging.LogCategory;
+import com.group4.chipgame.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes a telemetry snapshot to a JSON file
+ * from a background thread. Each dump replaces the file
+ * atomically, so readers never see a half-written snapshot.
+ */
+public class TelemetryDumper implements AutoCloseable {
+    private static final Logger LOG = Logger.get(LogCategory.GAME);
+    private static final String DUMP_THREAD_NAME = "telemetry-dumper";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int INDENT_FACTOR = 4;
+
+    private final Path file;
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, DUMP_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Starts dumping telemetry to a file at a fixed interval.
+     *
+     * @param file            The file to write.
+     * @param intervalSeconds The number of seconds between dumps.
+     */
+    public TelemetryDumper(final Path file, final long intervalSeconds) {
+        this.file = file;
+        executor.scheduleAtFixedRate(this::dumpQuietly,
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes a snapshot now.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    public void dump() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        Files.writeString(temp, Telemetry.toJson().toString(INDENT_FACTOR));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException e) {
+            LOG.warn("Could not write telemetry to {}: {}", file, e);
+        }
+    }
+
+    /**
+     * Stops the periodic dumps after writing a final snapshot.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        dumpQuietly();
+    }
+}
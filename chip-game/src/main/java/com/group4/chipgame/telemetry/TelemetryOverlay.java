@@ -0,0 +1,76 @@
+package com.group4.chipgame.telemetry;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.util.Duration;
+
+/**
+ * An on-screen panel showing the median and 99th percentile
+ * time of every phase, refreshed a few times a second.
+ */
+public class TelemetryOverlay {
+    private static final String FONT_FAMILY = "Monospaced";
+    private static final int FONT_SIZE = 11;
+    private static final double REFRESH_MILLIS = 500;
+    private static final Insets MARGIN = new Insets(10, 0, 0, 10);
+    private static final String BACKGROUND =
+            "-fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 4;";
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+
+    private final Label label = new Label();
+    private final Timeline refresh = new Timeline(
+            new KeyFrame(Duration.millis(REFRESH_MILLIS), e -> update()));
+
+    /**
+     * Constructs the overlay.
+     */
+    public TelemetryOverlay() {
+        label.setFont(Font.font(FONT_FAMILY, FONT_SIZE));
+        label.setTextFill(Color.WHITE);
+        label.setStyle(BACKGROUND);
+        label.setMouseTransparent(true);
+        refresh.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * Adds the overlay to the top-left corner of a pane
+     * and starts refreshing it.
+     *
+     * @param pane The pane to show the overlay in.
+     */
+    public void attach(final StackPane pane) {
+        pane.getChildren().add(label);
+        StackPane.setAlignment(label, Pos.TOP_LEFT);
+        StackPane.setMargin(label, MARGIN);
+        update();
+        refresh.play();
+    }
+
+    /**
+     * Stops refreshing the overlay.
+     */
+    public void detach() {
+        refresh.stop();
+    }
+
+    private void update() {
+        StringBuilder text = new StringBuilder("phase          p50us   p99us");
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram histogram = Telemetry.getHistogram(phase);
+            text.append(String.format("%n%-14s %7.1f %7.1f",
+                    phase.name().toLowerCase(),
+                    histogram.getValueAtPercentile(P50) / NANOS_PER_MICRO,
+                    histogram.getValueAtPercentile(P99) / NANOS_PER_MICRO));
+        }
+        label.setText(text.toString());
+    }
+}
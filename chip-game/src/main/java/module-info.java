@@ -18,5 +18,10 @@ module com.group.chipgame {
     exports com.group4.chipgame.menu;
     opens com.group4.chipgame.menu to javafx.fxml;
     exports com.group4.chipgame.Level;
+    exports com.group4.chipgame.replay;
+    exports com.group4.chipgame.telemetry;
+    exports com.group4.chipgame.logging;
+    exports com.group4.chipgame.events;
+    exports com.group4.chipgame.spectator;
     opens com.group4.chipgame.Level to javafx.fxml;
 }
\ No newline at end of file
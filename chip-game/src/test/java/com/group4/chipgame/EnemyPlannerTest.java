@@ -0,0 +1,287 @@
+package com.group4.chipgame;
+
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.PathSearchMode;
+import com.group4.chipgame.Level.PlanningSnapshot;
+import com.group4.chipgame.Level.TestLevels;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Enemy;
+import com.group4.chipgame.entities.actors.Frog;
+import com.group4.chipgame.entities.actors.Player;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that planned enemy moves are applied only from the cell they
+ * were planned from, that the first enemy to claim a cell gets it, and
+ * that a frog plans the step it would take on the game thread.
+ */
+class EnemyPlannerTest {
+    private static final String[] ROWS = {
+        "P P P P P P",
+        "P P P P P P"
+    };
+    private static final String PLAYER =
+            "{\"type\": \"Player\", \"x\": 5, \"y\": 1}";
+    private static final long TICK = 10;
+    private static final String[] MAZE = {
+        "P P P G P P",
+        "P G P G P P",
+        "P G P P P G",
+        "P G G G P P"
+    };
+    private static final String[] WALLED = {
+        "P P G P P P",
+        "P P G P P P"
+    };
+    private static final String MAZE_ACTORS =
+            "{\"type\": \"Frog\", \"x\": 0, \"y\": 3},"
+            + "{\"type\": \"Player\", \"x\": 5, \"y\": 3}";
+    private static final String WALLED_ACTORS =
+            "{\"type\": \"Frog\", \"x\": 0, \"y\": 0}," + PLAYER;
+    /** The side of a level large enough to be searched hierarchically. */
+    private static final int LARGE_SIZE = 32;
+    private static final String LARGE_ACTORS =
+            "{\"type\": \"Frog\", \"x\": 0, \"y\": 0},"
+            + "{\"type\": \"Player\", \"x\": 31, \"y\": 0}";
+    private static final int MAX_FROG_MOVES = 200;
+
+    @TempDir
+    Path dir;
+
+    private LevelData level;
+    private LevelRenderer renderer;
+    private ExecutorService pool;
+    private EnemyPlanner planner;
+
+    @BeforeEach
+    void start() throws IOException {
+        level = TestLevels.load(TestLevels.write(dir, ROWS, PLAYER, ""));
+        renderer = level.getLevelRenderer();
+        pool = Executors.newSingleThreadExecutor();
+        planner = new EnemyPlanner(renderer, pool);
+    }
+
+    @AfterEach
+    void stop() {
+        planner.close();
+    }
+
+    @Test
+    void appliesAPlanFromTheCellItWasMadeFrom() throws Exception {
+        Planned enemy = add(1, 0, 2, 0);
+        plan();
+        planner.due(enemy);
+        assertAt(enemy, 2, 0);
+        assertEquals(List.of("1,0"), enemy.plannedFrom);
+        assertEquals(0, enemy.continued);
+    }
+
+    @Test
+    void carriesOnUntilAPlanArrives() throws Exception {
+        Planned enemy = add(1, 0, 2, 0);
+        planner.due(enemy);
+        assertEquals(1, enemy.continued);
+        assertAt(enemy, 1, 0);
+
+        plan();
+        planner.applyReady(level.getActors());
+        assertAt(enemy, 2, 0);
+    }
+
+    @Test
+    void throwsAwayAPlanMadeFromACellSinceLeft() throws Exception {
+        Planned enemy = add(1, 0, 2, 0);
+        plan();
+        enemy.move(0, 1, renderer);
+        planner.due(enemy);
+        assertAt(enemy, 1, 1);
+
+        enemy.step = new int[]{2, 1};
+        plan();
+        assertEquals(List.of("1,0", "1,1"), enemy.plannedFrom);
+        planner.due(enemy);
+        assertAt(enemy, 2, 1);
+    }
+
+    @Test
+    void givesAClaimedCellToTheFirstEnemyOnly() throws Exception {
+        Planned first = add(1, 0, 2, 0);
+        Planned second = add(3, 0, 2, 0);
+        plan();
+        planner.due(first);
+        planner.due(second);
+        assertAt(first, 2, 0);
+        assertAt(second, 3, 0);
+        assertEquals(1, planner.getConflicts());
+
+        second.step = new int[]{3, 1};
+        plan();
+        assertEquals(List.of("3,0", "3,0"), second.plannedFrom);
+        planner.due(second);
+        assertAt(second, 3, 1);
+    }
+
+    @Test
+    void dropsPlansMadeBeforeAClear() throws Exception {
+        Planned enemy = add(1, 0, 2, 0);
+        plan();
+        planner.clear();
+        planner.due(enemy);
+        assertAt(enemy, 1, 0);
+        assertEquals(1, enemy.continued);
+    }
+
+    @Test
+    void frogsPlanTheStepTheyWouldTakeOnTheGameThread() throws IOException {
+        for (PathSearchMode mode : PathSearchMode.values()) {
+            assertPlansMatch(MAZE, MAZE_ACTORS, mode);
+            assertPlansMatch(largeLevel(), LARGE_ACTORS, mode);
+        }
+    }
+
+    @Test
+    void frogsPlanNothingWhenThePlayerIsOutOfReach() throws IOException {
+        for (PathSearchMode mode : PathSearchMode.values()) {
+            LevelData walled = TestLevels.load(TestLevels.write(dir, WALLED,
+                    WALLED_ACTORS, ""), mode);
+            assertNull(TestLevels.find(walled, Frog.class).planMove(
+                    PlanningSnapshot.capture(walled.getLevelRenderer(), 0),
+                    0, 0));
+        }
+    }
+
+    /**
+     * Walks a frog up to the player, checking before each move that
+     * the step planned from a snapshot is the one it then takes.
+     */
+    private void assertPlansMatch(final String[] rows,
+                                  final String actors,
+                                  final PathSearchMode mode)
+            throws IOException {
+        LevelData maze = TestLevels.load(
+                TestLevels.write(dir, rows, actors, ""), mode);
+        LevelRenderer mazeRenderer = maze.getLevelRenderer();
+        Frog frog = TestLevels.find(maze, Frog.class);
+        Point2D player = TestLevels.find(maze, Player.class)
+                .getCurrentPosition();
+        for (int moves = 0; frog.getCurrentPosition().distance(player) > 1;
+             moves++) {
+            assertTrue(moves < MAX_FROG_MOVES, mode + " never arrived");
+            int x = (int) frog.getCurrentPosition().getX();
+            int y = (int) frog.getCurrentPosition().getY();
+            int[] step = frog.planMove(
+                    PlanningSnapshot.capture(mazeRenderer, 0), x, y);
+            assertNotNull(step, mode + " from " + x + "," + y);
+            frog.makeMoveDecision(mazeRenderer);
+            assertArrayEquals(step, new int[]{
+                (int) frog.getCurrentPosition().getX(),
+                (int) frog.getCurrentPosition().getY()}, mode.toString());
+        }
+    }
+
+    /**
+     * Builds a square level split by a wall with a gap at the bottom.
+     */
+    private static String[] largeLevel() {
+        String[] rows = new String[LARGE_SIZE];
+        for (int y = 0; y < LARGE_SIZE; y++) {
+            String[] cells = new String[LARGE_SIZE];
+            Arrays.fill(cells, "P");
+            if (y < LARGE_SIZE - 1) {
+                cells[LARGE_SIZE / 2] = "G";
+            }
+            rows[y] = String.join(" ", cells);
+        }
+        return rows;
+    }
+
+    /**
+     * Plans the next tick and waits for the single
+     * planning thread to finish every plan.
+     */
+    private void plan() throws InterruptedException, ExecutionException {
+        planner.planNext(TICK, level.getActors());
+        pool.submit(() -> { }).get();
+    }
+
+    private Planned add(final int x,
+                        final int y,
+                        final int toX,
+                        final int toY) {
+        Planned enemy = new Planned(x, y, new int[]{toX, toY});
+        renderer.add(enemy);
+        renderer.updateTileOccupation();
+        return enemy;
+    }
+
+    private static void assertAt(final Actor actor,
+                                 final int x,
+                                 final int y) {
+        assertEquals(new Point2D(x, y), actor.getCurrentPosition());
+    }
+
+    /**
+     * An enemy that is always due and plans a fixed step,
+     * noting each cell it was planned from.
+     */
+    private static final class Planned extends Enemy {
+        private static final String IMAGE =
+                "/images/chipgame/actors/frog.png";
+        private final List<String> plannedFrom = new ArrayList<>();
+        private volatile int[] step;
+        private int continued;
+
+        Planned(final int x, final int y, final int[] step) {
+            super(IMAGE, x, y);
+            this.step = step;
+        }
+
+        @Override
+        public void makeMoveDecision(final LevelRenderer levelRenderer) {
+        }
+
+        @Override
+        public boolean plansOffThread() {
+            return true;
+        }
+
+        @Override
+        public boolean isDueAt(final long tick) {
+            return true;
+        }
+
+        @Override
+        public int[] planMove(final PlanningSnapshot snapshot,
+                              final int x,
+                              final int y) {
+            plannedFrom.add(x + "," + y);
+            return step;
+        }
+
+        @Override
+        public void continuePreviousDecision(
+                final LevelRenderer levelRenderer) {
+            continued++;
+        }
+    }
+}
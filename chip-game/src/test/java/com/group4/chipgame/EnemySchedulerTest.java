@@ -0,0 +1,193 @@
+package com.group4.chipgame;
+
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.TestLevels;
+import com.group4.chipgame.entities.actors.Enemy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the enemy scheduler defers costly decisions once a frame's
+ * budget is spent and makes them, oldest first, in later frames.
+ */
+class EnemySchedulerTest {
+    private static final String[] ROWS = {"P P P P P P"};
+    private static final String PLAYER =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0}";
+    /** A budget spent by any decision, however quick. */
+    private static final long TINY_BUDGET = 1;
+    private static final int ENEMIES = 5;
+
+    @TempDir
+    Path dir;
+
+    private LevelRenderer renderer;
+    private final List<String> decisions = new ArrayList<>();
+    private final List<String> continued = new ArrayList<>();
+
+    @BeforeEach
+    void loadLevel() throws IOException {
+        LevelData level = TestLevels.load(
+                TestLevels.write(dir, ROWS, PLAYER, ""));
+        renderer = level.getLevelRenderer();
+    }
+
+    @Test
+    void defersCostlyDecisionsOnceTheBudgetIsSpent() {
+        EnemyScheduler scheduler = new EnemyScheduler(renderer);
+        scheduler.setBudget(TINY_BUDGET);
+        List<Recorder> enemies = enemies(ENEMIES, true);
+
+        scheduler.beginTick();
+        for (Recorder enemy : enemies) {
+            scheduler.schedule(enemy);
+        }
+        assertEquals(List.of("e0"), decisions);
+        assertEquals(List.of("e1", "e2", "e3", "e4"), continued);
+        assertEquals(ENEMIES - 1, scheduler.getWaitingDecisions());
+        assertEquals(ENEMIES - 1, scheduler.getDeferredDecisions());
+
+        for (int frame = 1; frame < ENEMIES; frame++) {
+            scheduler.endTick();
+            scheduler.beginTick();
+            assertEquals(frame + 1, decisions.size());
+            assertEquals(ENEMIES - 1 - frame,
+                    scheduler.getWaitingDecisions());
+        }
+        assertEquals(List.of("e0", "e1", "e2", "e3", "e4"), decisions);
+    }
+
+    @Test
+    void queuesACostlyEnemyOnlyOnce() {
+        EnemyScheduler scheduler = new EnemyScheduler(renderer);
+        scheduler.setBudget(TINY_BUDGET);
+        List<Recorder> enemies = enemies(2, true);
+
+        scheduler.beginTick();
+        scheduler.schedule(enemies.get(0));
+        scheduler.schedule(enemies.get(1));
+        scheduler.schedule(enemies.get(1));
+        assertEquals(1, scheduler.getWaitingDecisions());
+        assertEquals(1, scheduler.getDeferredDecisions());
+        assertEquals(List.of("e1", "e1"), continued);
+    }
+
+    @Test
+    void makesCheapDecisionsWhateverTheBudget() {
+        EnemyScheduler scheduler = new EnemyScheduler(renderer);
+        scheduler.setBudget(TINY_BUDGET);
+        List<Recorder> enemies = enemies(ENEMIES, false);
+
+        scheduler.beginTick();
+        for (Recorder enemy : enemies) {
+            scheduler.schedule(enemy);
+        }
+        assertEquals(ENEMIES, decisions.size());
+        assertEquals(0, scheduler.getWaitingDecisions());
+    }
+
+    @Test
+    void defersNothingWithAnUnlimitedBudget() {
+        EnemyScheduler scheduler = new EnemyScheduler(renderer);
+        scheduler.setBudget(EnemyScheduler.UNLIMITED);
+        List<Recorder> enemies = enemies(ENEMIES, true);
+
+        scheduler.beginTick();
+        for (Recorder enemy : enemies) {
+            scheduler.schedule(enemy);
+        }
+        scheduler.endTick();
+        assertEquals(List.of("e0", "e1", "e2", "e3", "e4"), decisions);
+        assertEquals(0, scheduler.getDeferredDecisions());
+        assertEquals(List.of(), continued);
+    }
+
+    @Test
+    void keepsMovingEnemiesWaitingAndDropsRemovedOnes() {
+        EnemyScheduler scheduler = new EnemyScheduler(renderer);
+        scheduler.setBudget(TINY_BUDGET);
+        List<Recorder> enemies = enemies(3, true);
+
+        scheduler.beginTick();
+        for (Recorder enemy : enemies) {
+            scheduler.schedule(enemy);
+        }
+        enemies.get(1).moving = true;
+        renderer.remove(enemies.get(2));
+        scheduler.endTick();
+        assertEquals(List.of("e0"), decisions);
+        assertEquals(1, scheduler.getWaitingDecisions());
+
+        enemies.get(1).moving = false;
+        scheduler.beginTick();
+        scheduler.endTick();
+        assertEquals(List.of("e0", "e1"), decisions);
+        assertEquals(0, scheduler.getWaitingDecisions());
+    }
+
+    /**
+     * Adds enemies to the level that record their decisions.
+     */
+    private List<Recorder> enemies(final int count, final boolean costly) {
+        List<Recorder> enemies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Recorder enemy = new Recorder("e" + i, i + 1, costly);
+            renderer.add(enemy);
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    /**
+     * An enemy that notes each decision it makes or carries on with.
+     * A decision lasts until the clock has moved on, so that it always
+     * uses up a budget of a nanosecond.
+     */
+    private final class Recorder extends Enemy {
+        private static final String IMAGE =
+                "/images/chipgame/actors/frog.png";
+        private final String name;
+        private final boolean costly;
+        private boolean moving;
+
+        Recorder(final String name, final int x, final boolean costly) {
+            super(IMAGE, x, 0);
+            this.name = name;
+            this.costly = costly;
+        }
+
+        @Override
+        public void makeMoveDecision(final LevelRenderer levelRenderer) {
+            long start = System.nanoTime();
+            while (System.nanoTime() == start) {
+                Thread.onSpinWait();
+            }
+            decisions.add(name);
+        }
+
+        @Override
+        public boolean hasCostlyDecisions() {
+            return costly;
+        }
+
+        @Override
+        public void continuePreviousDecision(
+                final LevelRenderer levelRenderer) {
+            continued.add(name);
+        }
+
+        @Override
+        public boolean isMoving() {
+            return moving;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.group4.chipgame.Level;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the word-wide row scans and neighbour masks of a bit layer
+ * against cell-by-cell answers, on widths around the 64-bit word
+ * boundaries, where a row ends part way into its last word.
+ */
+class BitLayerTest {
+    private static final int[] WIDTHS = {
+        1, 2, 5, 63, 64, 65, 100, 127, 128, 129, 191, 200
+    };
+    private static final int HEIGHT = 4;
+    private static final long SEED = 1;
+    private static final int LAYERS = 20;
+
+    @Test
+    void scansMatchCellByCell() {
+        Random random = new Random(SEED);
+        for (int width : WIDTHS) {
+            for (int trial = 0; trial < LAYERS; trial++) {
+                BitLayer layer = randomLayer(random, width);
+                for (int y = 0; y < HEIGHT; y++) {
+                    for (int x = -1; x <= width + 1; x++) {
+                        String where = "width " + width + " at " + x + ","
+                                + y;
+                        assertEquals(nextSet(layer, x, y),
+                                layer.nextSetInRow(x, y), where);
+                        assertEquals(nextClear(layer, x, y),
+                                layer.nextClearInRow(x, y), where);
+                        assertEquals(previousClear(layer, x, y),
+                                layer.previousClearInRow(x, y), where);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void fullRowsEndAtTheirWidth() {
+        for (int width : WIDTHS) {
+            BitLayer layer = new BitLayer(width, 1);
+            for (int x = 0; x < width; x++) {
+                layer.set(x, 0, true);
+            }
+            String where = "width " + width;
+            assertEquals(width, layer.nextClearInRow(0, 0), where);
+            assertEquals(width, layer.nextClearInRow(width - 1, 0), where);
+            assertEquals(-1, layer.previousClearInRow(width - 1, 0), where);
+            assertEquals(-1, layer.nextSetInRow(width, 0), where);
+            assertEquals(width - 1, layer.nextSetInRow(width - 1, 0), where);
+        }
+    }
+
+    @Test
+    void emptyRowsHaveNoSetBits() {
+        for (int width : WIDTHS) {
+            BitLayer layer = new BitLayer(width, 1);
+            String where = "width " + width;
+            assertEquals(-1, layer.nextSetInRow(0, 0), where);
+            assertEquals(0, layer.nextClearInRow(0, 0), where);
+            assertEquals(width - 1,
+                    layer.previousClearInRow(width - 1, 0), where);
+            assertEquals(width - 1,
+                    layer.previousClearInRow(width + 1, 0), where);
+        }
+    }
+
+    @Test
+    void neighboursMatchCellByCell() {
+        Random random = new Random(SEED);
+        for (int width : WIDTHS) {
+            BitLayer layer = randomLayer(random, width);
+            for (int y = -1; y <= HEIGHT; y++) {
+                for (int x = -1; x <= width; x++) {
+                    int expected = 0;
+                    if (inBounds(layer, x, y)) {
+                        expected = bit(layer, x + 1, y, BitLayer.RIGHT)
+                                | bit(layer, x - 1, y, BitLayer.LEFT)
+                                | bit(layer, x, y + 1, BitLayer.DOWN)
+                                | bit(layer, x, y - 1, BitLayer.UP);
+                    }
+                    assertEquals(expected, layer.neighbours(x, y),
+                            "width " + width + " at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void copiesAreIndependent() {
+        BitLayer layer = new BitLayer(70, 1);
+        layer.set(65, 0, true);
+        BitLayer copy = layer.copy();
+
+        layer.set(65, 0, false);
+        copy.set(3, 0, true);
+
+        assertEquals(-1, layer.nextSetInRow(0, 0));
+        assertEquals(3, copy.nextSetInRow(0, 0));
+        assertEquals(65, copy.nextSetInRow(4, 0));
+    }
+
+    /**
+     * Fills a layer with rows of varying density, including rows
+     * that are wholly set or wholly clear.
+     */
+    private static BitLayer randomLayer(final Random random,
+                                        final int width) {
+        BitLayer layer = new BitLayer(width, HEIGHT);
+        for (int y = 0; y < HEIGHT; y++) {
+            double density = random.nextInt(4) / 3.0;
+            for (int x = 0; x < width; x++) {
+                layer.set(x, y, random.nextDouble() < density);
+            }
+        }
+        return layer;
+    }
+
+    private static int nextSet(final BitLayer layer,
+                               final int x,
+                               final int y) {
+        for (int c = Math.max(x, 0); c < layer.getWidth(); c++) {
+            if (layer.get(c, y)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private static int nextClear(final BitLayer layer,
+                                 final int x,
+                                 final int y) {
+        for (int c = Math.max(x, 0); c < layer.getWidth(); c++) {
+            if (!layer.get(c, y)) {
+                return c;
+            }
+        }
+        return layer.getWidth();
+    }
+
+    private static int previousClear(final BitLayer layer,
+                                     final int x,
+                                     final int y) {
+        for (int c = Math.min(x, layer.getWidth() - 1); c >= 0; c--) {
+            if (!layer.get(c, y)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private static int bit(final BitLayer layer,
+                           final int x,
+                           final int y,
+                           final int mask) {
+        return layer.get(x, y) ? mask : 0;
+    }
+
+    private static boolean inBounds(final BitLayer layer,
+                                    final int x,
+                                    final int y) {
+        return x >= 0 && y >= 0
+                && x < layer.getWidth() && y < layer.getHeight();
+    }
+}
@@ -0,0 +1,155 @@
+package com.group4.chipgame.Level;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the hierarchical path-finder reaches every target that
+ * breadth-first search can, by routes close to the shortest.
+ */
+class HierarchicalPathfinderTest {
+    private static final long SEED = 3;
+    private static final int SIZE = 64;
+    private static final int QUERIES = 300;
+    private static final double[] DENSITIES = {0.0, 0.15, 0.3};
+    private static final int WALLS = 8;
+    /** The most a single route may exceed the shortest, in steps. */
+    private static final int MAX_DETOUR =
+            HierarchicalPathfinder.CLUSTER_SIZE;
+    /** The most all routes together may exceed the shortest. */
+    private static final double MAX_TOTAL_RATIO = 1.1;
+    private static final int UPDATES = 200;
+
+    @Test
+    void reachesEveryReachableTargetNearlyDirectly() {
+        Random random = new Random(SEED);
+        long shortest = 0;
+        long walked = 0;
+        for (double density : DENSITIES) {
+            TestGrids grid = new TestGrids(SIZE, SIZE, density, WALLS,
+                    random);
+            HierarchicalPathfinder finder =
+                    new HierarchicalPathfinder(SIZE, SIZE, grid::isOpen);
+            for (int q = 0; q < QUERIES; q++) {
+                int[] query = randomQuery(grid, random);
+                int steps = walk(grid, finder, query);
+                if (steps >= 0) {
+                    shortest += grid.distancesTo(query[2], query[3])
+                            [query[1] * SIZE + query[0]];
+                    walked += steps;
+                }
+            }
+        }
+        assertTrue(walked <= shortest * MAX_TOTAL_RATIO,
+                walked + " steps for " + shortest);
+    }
+
+    @Test
+    void followsTerrainChanges() {
+        Random random = new Random(SEED);
+        TestGrids grid = new TestGrids(SIZE, SIZE, 0.15, WALLS, random);
+        HierarchicalPathfinder finder =
+                new HierarchicalPathfinder(SIZE, SIZE, grid::isOpen);
+        for (int u = 0; u < UPDATES; u++) {
+            int x = random.nextInt(SIZE);
+            int y = random.nextInt(SIZE);
+            grid.setOpen(x, y, !grid.isOpen(x, y));
+            finder.update(x, y);
+            walk(grid, finder, randomQuery(grid, random));
+        }
+    }
+
+    @Test
+    void walksAroundAnActorInTheWay() {
+        TestGrids grid = new TestGrids(SIZE, SIZE, 0.0, 0,
+                new Random(SEED));
+        HierarchicalPathfinder finder =
+                new HierarchicalPathfinder(SIZE, SIZE, grid::isOpen);
+        int[] step = finder.firstStep(0, 0, SIZE - 1, 0,
+                (x, y) -> !(x == 1 && y == 0));
+        assertNotNull(step);
+        assertNotEquals(1, step[0]);
+        assertEquals(1, step[1]);
+    }
+
+    @Test
+    void findsNoStepToABlockedOrCutOffTarget() {
+        TestGrids grid = new TestGrids(SIZE, SIZE, 0.0, 0,
+                new Random(SEED));
+        for (int y = 0; y < SIZE; y++) {
+            grid.setOpen(SIZE / 2, y, false);
+        }
+        HierarchicalPathfinder finder =
+                new HierarchicalPathfinder(SIZE, SIZE, grid::isOpen);
+        assertNull(finder.firstStep(0, 0, SIZE - 1, SIZE - 1,
+                grid::isOpen));
+        assertNull(finder.firstStep(0, 0, SIZE / 2, 0, grid::isOpen));
+        assertNull(finder.firstStep(0, 0, 0, 0, grid::isOpen));
+        assertTrue(HierarchicalPathfinder.suits(SIZE, SIZE));
+        assertFalse(HierarchicalPathfinder.suits(
+                HierarchicalPathfinder.CLUSTER_SIZE,
+                HierarchicalPathfinder.CLUSTER_SIZE));
+    }
+
+    /**
+     * Picks an open start and an open target, as {fromX, fromY, toX, toY}.
+     */
+    private static int[] randomQuery(final TestGrids grid,
+                                     final Random random) {
+        int[] query = new int[4];
+        do {
+            query[0] = random.nextInt(SIZE);
+            query[1] = random.nextInt(SIZE);
+        } while (!grid.isOpen(query[0], query[1]));
+        do {
+            query[2] = random.nextInt(SIZE);
+            query[3] = random.nextInt(SIZE);
+        } while (!grid.isOpen(query[2], query[3]));
+        return query;
+    }
+
+    /**
+     * Walks a query one first step at a time, checking each step is onto
+     * an open neighbour and the route is at most {@link #MAX_DETOUR}
+     * longer than the shortest.
+     *
+     * @return The number of steps walked, or -1 if the target cannot be
+     *         reached, in which case no step may be given.
+     */
+    private static int walk(final TestGrids grid,
+                            final HierarchicalPathfinder finder,
+                            final int[] query) {
+        int x = query[0];
+        int y = query[1];
+        int toX = query[2];
+        int toY = query[3];
+        String where = x + "," + y + " to " + toX + "," + toY;
+        int shortest = grid.distancesTo(toX, toY)[y * SIZE + x];
+        if (shortest == TestGrids.UNREACHABLE) {
+            assertNull(finder.firstStep(x, y, toX, toY, grid::isOpen),
+                    where);
+            return -1;
+        }
+        int steps = 0;
+        while (x != toX || y != toY) {
+            int[] step = finder.firstStep(x, y, toX, toY, grid::isOpen);
+            assertNotNull(step, where);
+            assertEquals(1, Math.abs(step[0] - x) + Math.abs(step[1] - y),
+                    where);
+            assertTrue(grid.isOpen(step[0], step[1]), where);
+            x = step[0];
+            y = step[1];
+            steps++;
+            assertTrue(steps <= shortest + MAX_DETOUR, where);
+        }
+        return steps;
+    }
+}
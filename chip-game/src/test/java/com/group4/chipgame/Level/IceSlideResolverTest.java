@@ -0,0 +1,162 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the ice slide resolver and the paths it returns,
+ * on small grids of tile types.
+ */
+class IceSlideResolverTest {
+    private static final TileType P = TileType.PATH;
+    private static final TileType G = TileType.WALL;
+    private static final TileType I = TileType.ICE;
+
+    @Test
+    void slidesStraightAcrossIceAndStops() {
+        IceSlideResolver resolver = resolver(new TileType[][]{
+            {P, I, I, I, P}
+        });
+        SlidePath path = resolver.resolve(1, 0, Direction.RIGHT,
+                MovementClass.PLAYER);
+        assertEquals(SlidePath.Outcome.STOP, path.getOutcome());
+        assertEquals(3, path.length());
+        assertCell(path, 0, 2, 0);
+        assertCell(path, 2, 4, 0);
+        assertEquals(Direction.RIGHT, path.getDirection(2));
+        assertFalse(path.isBounce(2));
+        assertEquals(4, path.getStopX());
+        assertEquals(0, path.getStopY());
+    }
+
+    @Test
+    void bouncesOffAWallAndSlidesBack() {
+        IceSlideResolver resolver = resolver(new TileType[][]{
+            {P, I, I, G}
+        });
+        SlidePath path = resolver.resolve(1, 0, Direction.RIGHT,
+                MovementClass.PLAYER);
+        assertEquals(SlidePath.Outcome.STOP, path.getOutcome());
+        assertEquals(3, path.length());
+        assertCell(path, 1, 1, 0);
+        assertTrue(path.isBounce(1));
+        assertEquals(Direction.LEFT, path.getDirection(1));
+        assertCell(path, 2, 0, 0);
+    }
+
+    @Test
+    void endsAtDoorsForPlayersAndWaterForBlocks() {
+        IceSlideResolver resolver = resolver(new TileType[][]{
+            {I, TileType.DOOR_RED},
+            {I, TileType.WATER}
+        });
+        SlidePath toDoor = resolver.resolve(0, 0, Direction.RIGHT,
+                MovementClass.PLAYER);
+        assertEquals(SlidePath.Outcome.DOOR, toDoor.getOutcome());
+        assertEquals(1, toDoor.getEndX());
+        assertEquals(0, toDoor.getEndY());
+        assertEquals(0, toDoor.length());
+
+        SlidePath blockToDoor = resolver.resolve(0, 0, Direction.RIGHT,
+                MovementClass.BLOCK);
+        assertEquals(SlidePath.Outcome.BLOCKED, blockToDoor.getOutcome());
+
+        SlidePath toWater = resolver.resolve(0, 1, Direction.RIGHT,
+                MovementClass.BLOCK);
+        assertEquals(SlidePath.Outcome.WATER, toWater.getOutcome());
+        assertEquals(1, toWater.getEndX());
+        assertEquals(1, toWater.getEndY());
+    }
+
+    @Test
+    void detectsASlideRoundARing() {
+        TileType[][] types = new TileType[6][7];
+        for (TileType[] row : types) {
+            Arrays.fill(row, G);
+        }
+        for (int i = 1; i <= 4; i++) {
+            types[1][i] = I;
+            types[4][i] = I;
+            types[i][1] = I;
+            types[i][4] = I;
+        }
+        types[1][1] = TileType.ICE_TOP_LEFT;
+        types[1][4] = TileType.ICE_TOP_RIGHT;
+        types[4][4] = TileType.ICE_BOTTOM_RIGHT;
+        types[4][1] = TileType.ICE_BOTTOM_LEFT;
+        types[1][5] = P;
+        IceSlideResolver resolver = resolver(types);
+
+        SlidePath path = resolver.resolve(4, 1, Direction.LEFT,
+                MovementClass.PLAYER);
+        assertEquals(SlidePath.Outcome.LOOP, path.getOutcome());
+        // The ring leads back into the corner going up, not left, so
+        // the first state to repeat is the move after the corner.
+        assertEquals(13, path.length());
+        assertCell(path, 11, 4, 1);
+        assertCell(path, 12, 3, 1);
+        assertEquals(3, path.getStopX());
+        assertEquals(1, path.getStopY());
+        assertEquals(Direction.LEFT, path.getEndDirection());
+    }
+
+    @Test
+    void leavesAStartThatIsNotIceAtOnce() {
+        IceSlideResolver resolver = resolver(new TileType[][]{{P, I}});
+        SlidePath path = resolver.resolve(0, 0, Direction.RIGHT,
+                MovementClass.PLAYER);
+        assertEquals(SlidePath.Outcome.STOP, path.getOutcome());
+        assertEquals(0, path.length());
+        assertEquals(0, path.getStopX());
+    }
+
+    @Test
+    void dropsOnlyCachedPathsThatReadAReplacedTile() {
+        IceSlideResolver resolver = resolver(new TileType[][]{
+            {P, I, I, P},
+            {P, P, P, P}
+        });
+        SlidePath path = resolver.resolve(1, 0, Direction.RIGHT,
+                MovementClass.PLAYER);
+        assertSame(path, resolver.resolve(1, 0, Direction.RIGHT,
+                MovementClass.PLAYER));
+
+        resolver.update(0, 1, G);
+        assertSame(path, resolver.resolve(1, 0, Direction.RIGHT,
+                MovementClass.PLAYER));
+
+        resolver.update(3, 0, G);
+        SlidePath blocked = resolver.resolve(1, 0, Direction.RIGHT,
+                MovementClass.PLAYER);
+        assertNotSame(path, blocked);
+        assertTrue(blocked.isBounce(1));
+    }
+
+    private static IceSlideResolver resolver(final TileType[][] types) {
+        TileGrid grid = new TileGrid(types[0].length, types.length);
+        for (int y = 0; y < types.length; y++) {
+            for (int x = 0; x < types[y].length; x++) {
+                grid.setType(x, y, types[y][x]);
+            }
+        }
+        return new IceSlideResolver(grid);
+    }
+
+    private static void assertCell(final SlidePath path,
+                                   final int step,
+                                   final int x,
+                                   final int y) {
+        assertEquals(x, path.getX(step), "x of step " + step);
+        assertEquals(y, path.getY(step), "y of step " + step);
+    }
+}
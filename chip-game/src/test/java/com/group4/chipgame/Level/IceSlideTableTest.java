@@ -0,0 +1,116 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests that the slide table, updated one tile at a time,
+ * always agrees with a table built afresh.
+ */
+class IceSlideTableTest {
+    private static final TileType[] PALETTE = {
+        TileType.ICE, TileType.ICE, TileType.ICE,
+        TileType.ICE_TOP_LEFT, TileType.ICE_TOP_RIGHT,
+        TileType.ICE_BOTTOM_LEFT, TileType.ICE_BOTTOM_RIGHT,
+        TileType.PATH, TileType.WALL, TileType.WATER, TileType.DOOR_RED
+    };
+    private static final long SEED = 1;
+    private static final int GRIDS = 50;
+    private static final int UPDATES = 30;
+
+    @Test
+    void updatesMatchARebuild() {
+        Random random = new Random(SEED);
+        for (int trial = 0; trial < GRIDS; trial++) {
+            for (MovementClass movementClass : new MovementClass[]{
+                MovementClass.PLAYER, MovementClass.BLOCK}) {
+                TileGrid grid = randomGrid(random);
+                IceSlideTable table = IceSlideTable.build(grid, movementClass);
+                for (int u = 0; u < UPDATES; u++) {
+                    int x = random.nextInt(grid.getWidth());
+                    int y = random.nextInt(grid.getHeight());
+                    TileType type = PALETTE[random.nextInt(PALETTE.length)];
+                    grid.setType(x, y, type);
+                    table.update(x, y, type);
+                    assertSameSlides(
+                            IceSlideTable.build(grid, movementClass),
+                            table, grid);
+                }
+            }
+        }
+    }
+
+    @Test
+    void copiesDoNotSeeLaterUpdates() {
+        TileGrid grid = new TileGrid(4, 1);
+        grid.setType(0, 0, TileType.PATH);
+        grid.setType(1, 0, TileType.ICE);
+        grid.setType(2, 0, TileType.ICE);
+        grid.setType(3, 0, TileType.PATH);
+        IceSlideTable table = IceSlideTable.build(grid,
+                MovementClass.PLAYER);
+        IceSlideTable copy = table.copy();
+
+        table.update(3, 0, TileType.WALL);
+        assertEquals(3, copy.getExit(1, 0, Direction.RIGHT));
+        assertEquals(0, table.getExit(1, 0, Direction.RIGHT));
+
+        copy.update(2, 0, TileType.PATH);
+        assertEquals(0, table.getExit(1, 0, Direction.RIGHT));
+        assertEquals(2, copy.getExit(1, 0, Direction.RIGHT));
+    }
+
+    @Test
+    void hasNoSlidesFromCellsThatAreNotIce() {
+        TileGrid grid = new TileGrid(2, 1);
+        grid.setType(0, 0, TileType.PATH);
+        grid.setType(1, 0, TileType.ICE);
+        IceSlideTable table = IceSlideTable.build(grid,
+                MovementClass.PLAYER);
+        assertNull(table.get(0, 0, Direction.RIGHT));
+        assertEquals(IceSlideTable.NO_EXIT,
+                table.getExit(0, 0, Direction.RIGHT));
+        assertNull(table.get(-1, 0, Direction.RIGHT));
+    }
+
+    private static TileGrid randomGrid(final Random random) {
+        int width = 5 + random.nextInt(10);
+        int height = 5 + random.nextInt(10);
+        TileGrid grid = new TileGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.setType(x, y, PALETTE[random.nextInt(PALETTE.length)]);
+            }
+        }
+        return grid;
+    }
+
+    private static void assertSameSlides(final IceSlideTable expected,
+                                         final IceSlideTable actual,
+                                         final TileGrid grid) {
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                for (Direction direction : Direction.values()) {
+                    String where = x + "," + y + " " + direction;
+                    assertEquals(expected.getExit(x, y, direction),
+                            actual.getExit(x, y, direction), where);
+                    assertEquals(expected.getLength(x, y, direction),
+                            actual.getLength(x, y, direction), where);
+                    SlidePath path = expected.get(x, y, direction);
+                    if (path != null) {
+                        assertEquals(path.getOutcome(),
+                                actual.get(x, y, direction).getOutcome(),
+                                where);
+                    }
+                }
+            }
+        }
+    }
+}
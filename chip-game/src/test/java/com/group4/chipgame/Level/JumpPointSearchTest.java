@@ -0,0 +1,118 @@
+package com.group4.chipgame.Level;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that jump point search always steps along a shortest path,
+ * checked against breadth-first distances on random grids.
+ */
+class JumpPointSearchTest {
+    private static final long SEED = 7;
+    private static final int SIZE = 40;
+    private static final int QUERIES = 300;
+    private static final double[] DENSITIES = {0.0, 0.15, 0.3};
+    private static final int WALLS = 6;
+
+    @Test
+    void followsShortestPathsOnRandomGrids() {
+        Random random = new Random(SEED);
+        for (double density : DENSITIES) {
+            TestGrids grid = new TestGrids(SIZE, SIZE, density, WALLS,
+                    random);
+            JumpPointSearch search = new JumpPointSearch(SIZE, SIZE);
+            for (int q = 0; q < QUERIES; q++) {
+                int fromX = random.nextInt(SIZE);
+                int fromY = random.nextInt(SIZE);
+                int toX = random.nextInt(SIZE);
+                int toY = random.nextInt(SIZE);
+                if (!grid.isOpen(fromX, fromY) || !grid.isOpen(toX, toY)) {
+                    continue;
+                }
+                walk(grid, search, fromX, fromY, toX, toY);
+            }
+        }
+    }
+
+    @Test
+    void treatsTheStartAsOpenEvenWhenTheTestSaysNot() {
+        TestGrids grid = new TestGrids(SIZE, SIZE, 0.2, WALLS,
+                new Random(SEED));
+        JumpPointSearch search = new JumpPointSearch(SIZE, SIZE);
+        grid.setOpen(SIZE - 1, SIZE - 1, true);
+        int[] distance = grid.distancesTo(SIZE - 1, SIZE - 1);
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                if (distance[y * SIZE + x] <= 0) {
+                    continue;
+                }
+                int fromX = x;
+                int fromY = y;
+                int[] step = search.firstStep(x, y, SIZE - 1, SIZE - 1,
+                        (cx, cy) -> grid.isOpen(cx, cy)
+                                && !(cx == fromX && cy == fromY));
+                assertNotNull(step, x + "," + y);
+                assertEquals(distance[y * SIZE + x] - 1,
+                        distance[step[1] * SIZE + step[0]], x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void expandsFewNodesAcrossOpenGround() {
+        TestGrids grid = new TestGrids(SIZE, SIZE, 0.0, 0,
+                new Random(SEED));
+        JumpPointSearch search = new JumpPointSearch(SIZE, SIZE);
+        assertNotNull(search.firstStep(0, 0, SIZE - 1, SIZE - 1,
+                grid::isOpen));
+        assertTrue(search.getExpanded() < SIZE,
+                "expanded " + search.getExpanded());
+    }
+
+    @Test
+    void findsNoStepAtTheTargetOrWhenCutOff() {
+        TestGrids grid = new TestGrids(3, 1, 0.0, 0, new Random(SEED));
+        grid.setOpen(1, 0, false);
+        JumpPointSearch search = new JumpPointSearch(3, 1);
+        assertNull(search.firstStep(0, 0, 2, 0, grid::isOpen));
+        assertNull(search.firstStep(0, 0, 0, 0, grid::isOpen));
+        assertNull(search.firstStep(0, 0, 3, 0, grid::isOpen));
+        assertTrue(search.fits(3, 1));
+    }
+
+    /**
+     * Walks from a cell to a target one first step at a time, checking
+     * each step brings it one closer, or that there is no step when the
+     * target cannot be reached.
+     */
+    private static void walk(final TestGrids grid,
+                             final JumpPointSearch search,
+                             final int fromX,
+                             final int fromY,
+                             final int toX,
+                             final int toY) {
+        int[] distance = grid.distancesTo(toX, toY);
+        int x = fromX;
+        int y = fromY;
+        String query = fromX + "," + fromY + " to " + toX + "," + toY;
+        if (distance[y * grid.width() + x] == TestGrids.UNREACHABLE) {
+            assertNull(search.firstStep(x, y, toX, toY, grid::isOpen),
+                    query);
+            return;
+        }
+        while (x != toX || y != toY) {
+            int[] step = search.firstStep(x, y, toX, toY, grid::isOpen);
+            assertNotNull(step, query);
+            assertEquals(distance[y * grid.width() + x] - 1,
+                    distance[step[1] * grid.width() + step[0]], query);
+            x = step[0];
+            y = step[1];
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.group4.chipgame.Level;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the loader reads a level's tiles into a grid only when
+ * every row of the level is as wide as the first.
+ */
+class LevelLoaderTest {
+    private static final String PLAYER =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0}";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rectangularLevelIsLoaded() throws IOException {
+        Path level = TestLevels.write(dir, new String[] {
+            "P P P",
+            "P W P"
+        }, PLAYER, "");
+
+        TileGrid grid = new LevelLoader().loadGrid(level.toString());
+
+        assertEquals(3, grid.getWidth());
+        assertEquals(2, grid.getHeight());
+    }
+
+    @Test
+    void raggedRowIsRejected() throws IOException {
+        Path level = TestLevels.write(dir, new String[] {
+            "P P P",
+            "P P P",
+            "P P",
+            "P P P"
+        }, PLAYER, "");
+
+        IOException error = assertThrows(IOException.class,
+                () -> new LevelLoader().loadGrid(level.toString()));
+        assertTrue(error.getMessage().startsWith("Row 2 of "),
+                error.getMessage());
+    }
+
+    @Test
+    void raggedRowIsRejectedWhenLoadingTiles() throws IOException {
+        Path level = TestLevels.write(dir, new String[] {
+            "P P",
+            "P P P"
+        }, PLAYER, "");
+
+        assertThrows(IOException.class,
+                () -> new LevelLoader().loadTiles(level.toString()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests that a level follows the size of its game until it is
+ * disposed of, and lets go of the game's context afterwards.
+ */
+class LevelRendererTest {
+    private static final String[] ROWS = {
+        "P P P",
+        "P P P"
+    };
+    private static final String ACTORS =
+            "{\"type\": \"Player\", \"x\": 1, \"y\": 1}";
+    private static final String COLLECTIBLES =
+            "{\"type\": \"Chip\", \"x\": 2, \"y\": 0}";
+    private static final int LARGER_TILE_SIZE =
+            GameContext.DEFAULT_TILE_SIZE * 2;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void levelFollowsTheSizeOfItsGame() throws IOException {
+        GameContext context = unanimated();
+        LevelData level = load(context);
+        Player player = TestLevels.find(level, Player.class);
+        Collectible chip = level.getCollectibles().get(0);
+        double playerX = player.getLayoutX();
+        double chipX = chip.getLayoutX();
+
+        context.setTileSize(LARGER_TILE_SIZE);
+
+        assertNotEquals(playerX, player.getLayoutX());
+        assertNotEquals(chipX, chip.getLayoutX());
+        assertEquals(context.getActorSize(), player.getFitWidth());
+    }
+
+    @Test
+    void disposedLevelNoLongerFollowsTheSizeOfItsGame() throws IOException {
+        GameContext context = unanimated();
+        LevelData level = load(context);
+        Player player = TestLevels.find(level, Player.class);
+        Collectible chip = level.getCollectibles().get(0);
+        double playerX = player.getLayoutX();
+        double playerWidth = player.getFitWidth();
+        double chipX = chip.getLayoutX();
+
+        level.getLevelRenderer().dispose();
+        context.setTileSize(LARGER_TILE_SIZE);
+
+        assertEquals(playerX, player.getLayoutX());
+        assertEquals(playerWidth, player.getFitWidth());
+        assertEquals(chipX, chip.getLayoutX());
+    }
+
+    @Test
+    void removedActorIsLetGoOfToo() throws IOException {
+        GameContext context = unanimated();
+        LevelData level = load(context);
+        Player player = TestLevels.find(level, Player.class);
+        level.getLevelRenderer().remove(player);
+        double playerX = player.getLayoutX();
+
+        level.getLevelRenderer().dispose();
+        context.setTileSize(LARGER_TILE_SIZE);
+
+        assertEquals(playerX, player.getLayoutX());
+    }
+
+    private LevelData load(final GameContext context) throws IOException {
+        return new LevelLoader().loadLevel(
+                TestLevels.write(dir, ROWS, ACTORS, COLLECTIBLES).toString(),
+                context);
+    }
+
+    private static GameContext unanimated() {
+        GameContext context = new GameContext();
+        context.setAnimated(false);
+        return context;
+    }
+}
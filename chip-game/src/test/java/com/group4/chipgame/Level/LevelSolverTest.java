@@ -0,0 +1,110 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the level solver on the levels shipped with the game
+ * and on small levels written for the purpose.
+ */
+class LevelSolverTest {
+    private static final String LEVELS = "src/main/java/levels/";
+    private static final int SETTLE_TICKS = 1_000;
+    private static final String[] WALLED_EXIT = {
+        "P P G E",
+        "P P G P"
+    };
+    private static final String[] ICE_LOOP = {
+        "P P P P E",
+        "P I_TL I_TR G G",
+        "P I_BL I_BR G G"
+    };
+    private static final String PLAYER =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0}";
+    private static final String PLAYER_BY_LOOP =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 1}";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void solvesEveryShippedLevelInFewestMoves() throws IOException {
+        assertSolvedIn("level1.json", 14);
+        assertSolvedIn("level2.json", 57);
+        assertSolvedIn("level3.json", 14);
+        assertSolvedIn("level4.json", 11);
+    }
+
+    @Test
+    void reportsAWalledOffExitAsUnsolvable() throws IOException {
+        Path level = TestLevels.write(dir, WALLED_EXIT, PLAYER, "");
+        LevelSolver.Result result = new LevelSolver(
+                LevelSolver.DEFAULT_MAX_STATES).solve(level.toString());
+        assertEquals(LevelSolver.Outcome.UNSOLVABLE, result.getOutcome());
+        assertNull(result.getMoves());
+    }
+
+    @Test
+    void goesRoundAnIceLoopInsteadOfIntoIt() throws IOException {
+        Path level = TestLevels.write(dir, ICE_LOOP, PLAYER_BY_LOOP, "");
+        LevelSolver.Result result = new LevelSolver(
+                LevelSolver.DEFAULT_MAX_STATES).solve(level.toString());
+        assertEquals(LevelSolver.Outcome.SOLVED, result.getOutcome());
+        assertEquals(List.of(Direction.UP, Direction.RIGHT, Direction.RIGHT,
+                Direction.RIGHT, Direction.RIGHT), result.getMoves());
+    }
+
+    @Test
+    void givesUpAtTheStateLimit() throws IOException {
+        LevelSolver.Result result = new LevelSolver(10)
+                .solve(LEVELS + "level2.json");
+        assertEquals(LevelSolver.Outcome.GAVE_UP, result.getOutcome());
+        assertEquals(10, result.getStatesExplored());
+    }
+
+    /**
+     * Solves a shipped level and plays the moves found
+     * through the game to check that they win.
+     */
+    private static void assertSolvedIn(final String name,
+                                       final int moves) throws IOException {
+        LevelSolver.Result result = new LevelSolver(
+                LevelSolver.DEFAULT_MAX_STATES).solve(LEVELS + name);
+        assertEquals(LevelSolver.Outcome.SOLVED, result.getOutcome(), name);
+        assertEquals(moves, result.getMoveCount(), name);
+
+        HeadlessGame game =
+                HeadlessGame.load(LEVELS + name, PathSearchMode.A_STAR);
+        game.removeEnemies();
+        settle(game);
+        List<Direction> solution = result.getMoves();
+        for (Direction move : solution) {
+            game.queueMove(move);
+            game.tick();
+            settle(game);
+        }
+        assertEquals(HeadlessGame.Status.WON, game.getStatus(), name);
+    }
+
+    /**
+     * Runs ticks until nothing is sliding and the player may move,
+     * as the solver does between moves.
+     */
+    private static void settle(final HeadlessGame game) {
+        for (int i = 0; i < SETTLE_TICKS
+                && game.getStatus() == HeadlessGame.Status.RUNNING; i++) {
+            if (game.isSettled() && game.isPlayerDue()) {
+                return;
+            }
+            game.tick();
+        }
+    }
+}
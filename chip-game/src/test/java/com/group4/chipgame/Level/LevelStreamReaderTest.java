@@ -0,0 +1,215 @@
+package com.group4.chipgame.Level;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the streaming reader sees a level file the way org.json
+ * does: the same tiles row by row, and the same fields besides, and
+ * that it rejects a file cut short rather than reading part of it.
+ */
+class LevelStreamReaderTest {
+    private static final Path LEVELS = Paths.get("src/main/java/levels");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shippedLevelsReadAsJsonDoes() throws IOException {
+        List<Path> levels;
+        try (Stream<Path> files = Files.list(LEVELS)) {
+            levels = files.filter(file -> file.toString().endsWith(".json"))
+                    .sorted().toList();
+        }
+        assertFalse(levels.isEmpty());
+        for (Path level : levels) {
+            assertReadsAsJsonDoes(level);
+        }
+    }
+
+    @Test
+    void escapesAreDecoded() throws IOException {
+        Path level = write("{\"tiles\": [[\"B_\\u0031\", \"T_\\u00e9\","
+                + " \"a\\\"b\", \"c\\\\d\", \"e\\/f\"],"
+                + " [\"\\n\\t\\r\\b\\f\", \"\\ud83d\\ude00\", \"\u00e9\","
+                + " \"\\u2603\", \"x\"]],"
+                + " \"na\\u006de\": \"a\\\"]}\\\\\"}");
+
+        List<List<String>> tiles = readTiles(level);
+
+        assertEquals(List.of("B_1", "T_\u00e9", "a\"b", "c\\d", "e/f"),
+                tiles.get(0));
+        assertEquals(List.of("\n\t\r\b\f", "\ud83d\ude00", "\u00e9",
+                "\u2603", "x"), tiles.get(1));
+        assertReadsAsJsonDoes(level);
+    }
+
+    @Test
+    void nestedValuesAreSkipped() throws IOException {
+        Path level = write("{\"timer\": 5,"
+                + " \"actors\": [{\"type\": \"Player\", \"path\": [[1, 2],"
+                + " {\"note\": \"]}[{\"}]}],"
+                + " \"tiles\": [[\"P\", {\"type\": \"W\","
+                + " \"extra\": {\"a\": [1, {\"b\": \"]\"}], \"c\": null}},"
+                + " {\"no\": \"type\"}, 7, null, [\"P\"]]],"
+                + " \"collectibles\": [], \"seed\": -12.5e3,"
+                + " \"flags\": {\"on\": true, \"off\": false}}");
+
+        assertEquals(Arrays.asList("P", "W", null, null, null, null),
+                readTiles(level).get(0));
+        assertReadsAsJsonDoes(level);
+    }
+
+    @Test
+    void tilesAreSkippedWithoutVisitor() throws IOException {
+        Path level = write("{\"tiles\": [[\"P\", {\"type\": \"[\"}],"
+                + " [\"]\", \"W\"]], \"timer\": 9}");
+
+        JSONObject header = new LevelStreamReader(level.toString())
+                .read(null);
+
+        assertTrue(header.similar(new JSONObject("{\"timer\": 9}")),
+                header.toString());
+    }
+
+    @Test
+    void whitespaceIsIgnored() throws IOException {
+        Path level = write(" \r\n\t{ \n \"timer\" \t:\r\n 12 ,\n\t\"tiles\""
+                + " :\n[\n\t[ \"P\" ,\r\n\"W\" ] ,\n [ ] ,[\"E\"\t,\"P\"\n]\n"
+                + "\t] , \"actors\" : [ { \"type\" : \"Player\" } ] \n}\n ");
+
+        List<List<String>> tiles = readTiles(level);
+
+        assertEquals(List.of(List.of("P", "W"), List.of(),
+                List.of("E", "P")), tiles);
+        assertReadsAsJsonDoes(level);
+    }
+
+    @Test
+    void emptyLevelsAreRead() throws IOException {
+        assertEquals(List.of(), readTiles(write("{\"tiles\": []}")));
+        assertEquals(List.of(), readTiles(write("{}")));
+        assertTrue(new LevelStreamReader(write("{}").toString())
+                .read(null).isEmpty());
+    }
+
+    @Test
+    void truncatedInputIsRejected() throws IOException {
+        String text = "{\"timer\": 60, \"tiles\": [[\"P\", \"B_\\u0031\"],"
+                + " [{\"type\": \"T_1\", \"x\": [1]}, \"\u00e9\"]],"
+                + " \"actors\": [{\"type\": \"Player\", \"x\": 0}]}";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        assertReadsAsJsonDoes(write(text));
+
+        for (int length = 0; length < bytes.length; length++) {
+            Path level = dir.resolve("cut" + length + ".json");
+            Files.write(level, Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> readTiles(level),
+                    "Read the first " + length + " bytes");
+        }
+    }
+
+    @Test
+    void malformedInputIsRejected() throws IOException {
+        for (String text : List.of("[]", "{\"tiles\": [[\"P\" \"W\"]]}",
+                "{\"tiles\": [\"P\"]}", "{\"timer\" 1}",
+                "{\"tiles\": [[\"P\"]; \"timer\": 1}",
+                "{\"tiles\": [[\"\\u12g4\"]]}")) {
+            Path level = write(text);
+            assertThrows(IOException.class, () -> readTiles(level), text);
+        }
+    }
+
+    /**
+     * Checks that a level's tiles and its other fields are read as
+     * org.json reads them, where a tile given as an object stands
+     * for its type and any other tile that is not a string for none.
+     */
+    private static void assertReadsAsJsonDoes(final Path level)
+            throws IOException {
+        JSONObject json = new JSONObject(
+                Files.readString(level, StandardCharsets.UTF_8));
+        List<List<String>> expected = new ArrayList<>();
+        JSONArray rows = json.optJSONArray("tiles");
+        for (int y = 0; rows != null && y < rows.length(); y++) {
+            List<String> row = new ArrayList<>();
+            JSONArray cells = rows.getJSONArray(y);
+            for (int x = 0; x < cells.length(); x++) {
+                Object cell = cells.get(x);
+                if (cell instanceof String type) {
+                    row.add(type);
+                } else if (cell instanceof JSONObject object) {
+                    row.add(object.optString("type", null));
+                } else {
+                    row.add(null);
+                }
+            }
+            expected.add(row);
+        }
+        json.remove("tiles");
+
+        List<List<String>> tiles = new ArrayList<>();
+        JSONObject header = new LevelStreamReader(level.toString())
+                .read(visitor(tiles));
+
+        assertEquals(expected, tiles, level.toString());
+        assertTrue(json.similar(header), level + ": " + header);
+    }
+
+    private static List<List<String>> readTiles(final Path level)
+            throws IOException {
+        List<List<String>> tiles = new ArrayList<>();
+        new LevelStreamReader(level.toString()).read(visitor(tiles));
+        return tiles;
+    }
+
+    /**
+     * Collects the rows read into a list, checking that the tiles
+     * come in order and that every row is ended with its width.
+     */
+    private static LevelStreamReader.TileVisitor visitor(
+            final List<List<String>> tiles) {
+        List<String> row = new ArrayList<>();
+        return new LevelStreamReader.TileVisitor() {
+            @Override
+            public void visit(final int x,
+                              final int y,
+                              final String tileType) {
+                assertEquals(tiles.size(), y);
+                assertEquals(row.size(), x);
+                row.add(tileType);
+            }
+
+            @Override
+            public void endRow(final int y, final int width) {
+                assertEquals(tiles.size(), y);
+                assertEquals(row.size(), width);
+                tiles.add(new ArrayList<>(row));
+                row.clear();
+            }
+        };
+    }
+
+    private Path write(final String text) throws IOException {
+        Path level = Files.createTempFile(dir, "level", ".json");
+        Files.writeString(level, text, StandardCharsets.UTF_8);
+        return level;
+    }
+}
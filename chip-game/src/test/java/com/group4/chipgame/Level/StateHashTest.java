@@ -0,0 +1,80 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.MovableBlock;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests that the incremental state hash of a running level
+ * always equals a hash of the level worked out from scratch.
+ */
+class StateHashTest {
+    private static final String[] ROWS = {
+        "P P P P P",
+        "P P P RD P",
+        "P P I I P",
+        "P P P P P"
+    };
+    private static final String ACTORS =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0},"
+            + "{\"type\": \"MovableBlock\", \"x\": 4, \"y\": 2}";
+    private static final String COLLECTIBLES =
+            "{\"type\": \"Chip\", \"x\": 1, \"y\": 0},"
+            + "{\"type\": \"redKey\", \"x\": 2, \"y\": 0}";
+    private static final int SLIDE_STEPS = 4;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void startsAtTheSameHashEveryTimeTheLevelIsLoaded() throws IOException {
+        Path file = TestLevels.write(dir, ROWS, ACTORS, COLLECTIBLES);
+        LevelData first = TestLevels.load(file);
+        LevelData second = TestLevels.load(file);
+        assertEquals(first.getStateHash().get(),
+                second.getStateHash().get());
+        assertMatchesRehash(first);
+    }
+
+    @Test
+    void followsMovesCollectionsDoorsPushesAndSlides() throws IOException {
+        LevelData level = TestLevels.load(
+                TestLevels.write(dir, ROWS, ACTORS, COLLECTIBLES));
+        LevelRenderer renderer = level.getLevelRenderer();
+        Player player = TestLevels.find(level, Player.class);
+        MovableBlock block = TestLevels.find(level, MovableBlock.class);
+        long start = level.getStateHash().get();
+
+        int[][] moves = {
+            {1, 0}, {1, 0}, {0, 1}, {1, 0}, {1, 0}, {0, 1}, {-1, 0}
+        };
+        for (int[] move : moves) {
+            player.move(move[0], move[1], renderer);
+            assertMatchesRehash(level);
+        }
+        for (int i = 0; i < SLIDE_STEPS; i++) {
+            renderer.getActiveSlides().advance();
+            assertMatchesRehash(level);
+        }
+        assertEquals(1, player.getChipsCount());
+        assertEquals(new Point2D(1, 2), player.getPosition());
+        assertEquals(new Point2D(4, 3), block.getPosition());
+        assertEquals(TileType.PATH, renderer.getTiles().getType(3, 1));
+        assertNotEquals(start, level.getStateHash().get());
+    }
+
+    private static void assertMatchesRehash(final LevelData level) {
+        long rehash = StateHash.build(level.getTileGrid(),
+                level.getActors(), level.getCollectibles()).get();
+        assertEquals(rehash, level.getStateHash().get());
+    }
+}
@@ -0,0 +1,105 @@
+package com.group4.chipgame.Level;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Random open/blocked grids and breadth-first distances over them,
+ * to check the path-finders against.
+ */
+final class TestGrids {
+    /** The distance of a cell the target cannot be reached from. */
+    static final int UNREACHABLE = -1;
+
+    private static final int[][] NEIGHBOURS = {
+        {1, 0}, {-1, 0}, {0, 1}, {0, -1}
+    };
+
+    private final int width;
+    private final int height;
+    private final boolean[] open;
+
+    /**
+     * Creates a grid with scattered blocked cells and a few walls.
+     *
+     * @param width   The width of the grid.
+     * @param height  The height of the grid.
+     * @param density The share of cells blocked at random.
+     * @param walls   The number of straight walls to add.
+     * @param random  The source of randomness.
+     */
+    TestGrids(final int width,
+              final int height,
+              final double density,
+              final int walls,
+              final Random random) {
+        this.width = width;
+        this.height = height;
+        this.open = new boolean[width * height];
+        for (int i = 0; i < open.length; i++) {
+            open[i] = random.nextDouble() >= density;
+        }
+        for (int w = 0; w < walls; w++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            int length = random.nextInt(Math.max(width, height) / 2);
+            boolean across = random.nextBoolean();
+            for (int i = 0; i < length; i++) {
+                int wx = across ? x + i : x;
+                int wy = across ? y : y + i;
+                if (wx < width && wy < height) {
+                    open[wy * width + wx] = false;
+                }
+            }
+        }
+    }
+
+    int width() {
+        return width;
+    }
+
+    int height() {
+        return height;
+    }
+
+    boolean isOpen(final int x, final int y) {
+        return x >= 0 && y >= 0 && x < width && y < height
+                && open[y * width + x];
+    }
+
+    void setOpen(final int x, final int y, final boolean value) {
+        open[y * width + x] = value;
+    }
+
+    /**
+     * Finds the number of steps from every cell to a target.
+     *
+     * @param toX The x-coordinate of the target.
+     * @param toY The y-coordinate of the target.
+     * @return The distances, indexed by y * width + x, with
+     *         {@link #UNREACHABLE} for cells that cannot reach it.
+     */
+    int[] distancesTo(final int toX, final int toY) {
+        int[] distance = new int[width * height];
+        Arrays.fill(distance, UNREACHABLE);
+        int[] queue = new int[width * height];
+        int head = 0;
+        int tail = 0;
+        distance[toY * width + toX] = 0;
+        queue[tail++] = toY * width + toX;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            for (int[] step : NEIGHBOURS) {
+                int nx = x + step[0];
+                int ny = y + step[1];
+                if (isOpen(nx, ny) && distance[ny * width + nx] < 0) {
+                    distance[ny * width + nx] = distance[cell] + 1;
+                    queue[tail++] = ny * width + nx;
+                }
+            }
+        }
+        return distance;
+    }
+}
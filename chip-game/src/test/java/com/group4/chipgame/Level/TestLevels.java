@@ -0,0 +1,99 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.entities.actors.Actor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes small levels for tests and loads them the way the game builds
+ * a level, in a game whose moves are not animated, so tests can drive
+ * the real actors and tiles without a JavaFX toolkit.
+ */
+public final class TestLevels {
+    private static final int TIMER = 60;
+
+    private TestLevels() {
+    }
+
+    /**
+     * Writes a level file.
+     *
+     * @param dir          The directory to write the file in.
+     * @param rows         The rows of tile codes, separated by spaces.
+     * @param actors       The actors, as a JSON array body such as
+     *                     {@code {"type": "Player", "x": 0, "y": 0}}.
+     * @param collectibles The collectibles, as a JSON array body.
+     * @return The path of the written file.
+     * @throws IOException If the file cannot be written.
+     */
+    public static Path write(final Path dir,
+                             final String[] rows,
+                             final String actors,
+                             final String collectibles) throws IOException {
+        StringBuilder tiles = new StringBuilder();
+        for (String row : rows) {
+            if (tiles.length() > 0) {
+                tiles.append(',');
+            }
+            tiles.append("[\"")
+                    .append(String.join("\", \"", row.split(" ")))
+                    .append("\"]");
+        }
+        Path level = Files.createTempFile(dir, "level", ".json");
+        Files.writeString(level, "{\"timer\": " + TIMER
+                + ", \"tiles\": [" + tiles + "]"
+                + ", \"actors\": [" + actors + "]"
+                + ", \"collectibles\": [" + collectibles + "]}");
+        return level;
+    }
+
+    /**
+     * Loads a level file into a new renderer of an unanimated game.
+     *
+     * @param level The path of the level file.
+     * @return The loaded level.
+     * @throws IOException If the level cannot be read.
+     */
+    public static LevelData load(final Path level) throws IOException {
+        return load(level, PathSearchMode.A_STAR);
+    }
+
+    /**
+     * Loads a level file into a new renderer of an unanimated game
+     * whose enemies search for paths in a given mode.
+     *
+     * @param level The path of the level file.
+     * @param mode  The path search mode of the game.
+     * @return The loaded level.
+     * @throws IOException If the level cannot be read.
+     */
+    public static LevelData load(final Path level,
+                                 final PathSearchMode mode)
+            throws IOException {
+        GameContext context = new GameContext();
+        context.setAnimated(false);
+        context.setPathSearchMode(mode);
+        return new LevelLoader().loadLevel(level.toString(), context);
+    }
+
+    /**
+     * Finds the first actor of a class in a level.
+     *
+     * @param level The level.
+     * @param type  The class of actor.
+     * @param <T>   The type of actor.
+     * @return The actor, or null if there is none.
+     */
+    public static <T extends Actor> T find(final LevelData level,
+                                           final Class<T> type) {
+        for (Actor actor : level.getActors()) {
+            if (type.isInstance(actor)) {
+                return type.cast(actor);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,176 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.PinkBall;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.tiles.Button;
+import com.group4.chipgame.entities.actors.tiles.Trap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that buttons and traps sharing a connection are wired together,
+ * that a trap holds what enters it until one of its buttons is pressed,
+ * and that an actor it lets go of moves on the very next tick.
+ */
+class TrapWiringTest {
+    private static final String[] ROWS = {
+        "P P B_1 P P",
+        "P P P P P",
+        "P T_1 P P P"
+    };
+    /** The ball comes first, so it is checked before the player moves. */
+    private static final String ACTORS =
+            "{\"type\": \"RPinkBall\", \"x\": 1, \"y\": 2},"
+            + "{\"type\": \"Player\", \"x\": 1, \"y\": 0}";
+    /** Enough ticks for the ball to fall due while it is held. */
+    private static final int HELD_TICKS = 150;
+    private static final int MAX_TICKS = 1000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void linksTrapsToEveryButtonSharingTheirConnection() {
+        TrapWiring wiring = new TrapWiring();
+        Button first = new Button("1");
+        Button second = new Button("1");
+        Trap trap = new Trap("1");
+        Trap other = new Trap("1");
+        Trap loose = new Trap("2");
+        wiring.add(first);
+        wiring.add(second);
+        wiring.add(trap);
+        wiring.add(other);
+        wiring.add(loose);
+
+        assertEquals(List.of(loose), wiring.connect());
+        assertEquals(List.of(trap, other), first.getTraps());
+        assertEquals(List.of(trap, other), second.getTraps());
+        assertEquals(List.of(first, second), wiring.getButtons("1"));
+        assertEquals(List.of(), wiring.getButtons("2"));
+        assertTrue(trap.isActive());
+        assertFalse(loose.isActive());
+    }
+
+    @Test
+    void trapOpensWhileAnyOfItsButtonsIsPressed() {
+        TrapWiring wiring = new TrapWiring();
+        Button first = new Button("1");
+        Button second = new Button("1");
+        Trap trap = new Trap("1");
+        wiring.add(first);
+        wiring.add(second);
+        wiring.add(trap);
+        wiring.connect();
+        // Connecting again must not count the buttons twice.
+        wiring.connect();
+
+        first.setActive(true);
+        assertFalse(trap.isActive());
+        second.setActive(true);
+        first.setActive(false);
+        assertFalse(trap.isActive());
+        second.setActive(false);
+        assertTrue(trap.isActive());
+    }
+
+    @Test
+    void buttonPressedBeforeLinkingKeepsTheTrapOpen() {
+        TrapWiring wiring = new TrapWiring();
+        Button button = new Button("1");
+        Trap trap = new Trap("1");
+        button.setActive(true);
+        wiring.add(button);
+        wiring.add(trap);
+        wiring.connect();
+
+        assertFalse(trap.isActive());
+        button.setActive(false);
+        assertTrue(trap.isActive());
+    }
+
+    @Test
+    void loadedLevelIsWiredAndHoldsWhatStartsOnItsTrap()
+            throws IOException {
+        LevelData level = TestLevels.load(write());
+        LevelTiles tiles = level.getTiles();
+        Button button = (Button) tiles.get(2, 0);
+        Trap trap = (Trap) tiles.get(1, 2);
+        PinkBall ball = TestLevels.find(level, PinkBall.class);
+
+        assertEquals(List.of(button),
+                level.getTrapWiring().getButtons("1"));
+        assertEquals(List.of(trap), level.getTrapWiring().getTraps("1"));
+        assertEquals(List.of(trap), button.getTraps());
+        assertTrue(trap.isActive());
+        assertTrue(ball.isHeld());
+    }
+
+    @Test
+    void pressingAndLeavingTheButtonReleasesAndRearmsTheTrap()
+            throws IOException {
+        LevelData level = TestLevels.load(write());
+        LevelRenderer renderer = level.getLevelRenderer();
+        Trap trap = (Trap) level.getTiles().get(1, 2);
+        Player player = TestLevels.find(level, Player.class);
+        PinkBall ball = TestLevels.find(level, PinkBall.class);
+
+        player.move(1, 0, renderer);
+        assertFalse(trap.isActive());
+        assertFalse(ball.isHeld());
+
+        player.move(1, 0, renderer);
+        assertTrue(trap.isActive());
+        // The ball is caught again, having not left the trap.
+        assertTrue(ball.isHeld());
+    }
+
+    @Test
+    void heldActorMovesOnTheTickAfterRelease() throws IOException {
+        HeadlessGame game = HeadlessGame.load(write().toString(),
+                PathSearchMode.A_STAR);
+        PinkBall ball = TestLevels.find(game.getLevel(), PinkBall.class);
+        Player player = game.getPlayer();
+
+        for (int i = 0; i < HELD_TICKS; i++) {
+            game.tick();
+        }
+        assertPosition(1, 2, ball);
+
+        game.queueMove(Direction.RIGHT);
+        while (player.getPosition().getX() != 2) {
+            assertTrue(game.getTick() < MAX_TICKS, "The player never moved");
+            game.tick();
+        }
+        long released = game.getTick();
+        assertFalse(ball.isHeld());
+        assertPosition(1, 2, ball);
+
+        // The player moves on a multiple of ten ticks, so the next tick
+        // is not one the ball would have been due on anyway.
+        game.tick();
+        assertEquals(released + 1, game.getTick());
+        assertPosition(2, 2, ball);
+    }
+
+    private Path write() throws IOException {
+        return TestLevels.write(dir, ROWS, ACTORS, "");
+    }
+
+    private static void assertPosition(final int x,
+                                       final int y,
+                                       final Actor actor) {
+        assertEquals(x, (int) actor.getPosition().getX());
+        assertEquals(y, (int) actor.getPosition().getY());
+    }
+}
@@ -0,0 +1,164 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Enemy;
+import com.group4.chipgame.entities.actors.Entity;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that undoing and rewinding bring a level back to exactly
+ * the state it was in before each move.
+ */
+class UndoHistoryTest {
+    private static final String[] ROWS = {
+        "P P P P P",
+        "P P P RD P",
+        "P P I I P",
+        "P P P P P"
+    };
+    private static final String ACTORS =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0},"
+            + "{\"type\": \"MovableBlock\", \"x\": 4, \"y\": 2},"
+            + "{\"type\": \"LPinkBall\", \"x\": 0, \"y\": 3}";
+    private static final String COLLECTIBLES =
+            "{\"type\": \"Chip\", \"x\": 1, \"y\": 0},"
+            + "{\"type\": \"redKey\", \"x\": 2, \"y\": 0}";
+    private static final int[][] MOVES = {
+        {1, 0}, {1, 0}, {0, 1}, {1, 0}, {1, 0}, {0, 1}, {-1, 0}
+    };
+    private static final int SLIDE_STEPS = 4;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void undoRestoresEveryEarlierState() throws IOException {
+        LevelData level = load();
+        UndoHistory history = level.getLevelRenderer().getUndoHistory();
+        List<String> before = play(level);
+
+        for (int i = before.size() - 1; i >= 0; i--) {
+            assertTrue(history.undo());
+            assertEquals(before.get(i), describe(level), "undo " + i);
+        }
+        assertFalse(history.undo());
+    }
+
+    @Test
+    void rewindGoesBackManyMovesInOneStep() throws IOException {
+        LevelData level = load();
+        UndoHistory history = level.getLevelRenderer().getUndoHistory();
+        List<String> before = play(level);
+
+        assertTrue(history.rewind(2));
+        assertEquals(before.get(before.size() - 2), describe(level));
+        assertTrue(history.rewind(before.size()));
+        assertEquals(before.get(0), describe(level));
+        assertEquals(0, history.size());
+    }
+
+    @Test
+    void keepsOnlyTheNewestMovesAndSkipsRepeats() throws IOException {
+        LevelData level = load();
+        LevelRenderer renderer = level.getLevelRenderer();
+        UndoHistory history = new UndoHistory(renderer, level, 2);
+        history.attach(renderer.getEventBus());
+        Player player = TestLevels.find(level, Player.class);
+
+        history.record();
+        history.record();
+        assertEquals(1, history.size());
+        for (int i = 0; i < 2; i++) {
+            player.move(1, 0, renderer);
+            history.record();
+        }
+        assertEquals(2, history.size());
+        String second = describe(level);
+        history.rewind(2);
+        assertEquals(1, (int) player.getPosition().getX());
+        assertEquals(1, player.getChipsCount());
+        player.move(1, 0, renderer);
+        assertEquals(second, describe(level));
+    }
+
+    private LevelData load() throws IOException {
+        return TestLevels.load(
+                TestLevels.write(dir, ROWS, ACTORS, COLLECTIBLES));
+    }
+
+    /**
+     * Plays the moves the way the game loop does, recording before each
+     * and letting the enemies decide after each, and returns the state
+     * of the level before each move.
+     */
+    private static List<String> play(final LevelData level) {
+        LevelRenderer renderer = level.getLevelRenderer();
+        UndoHistory history = renderer.getUndoHistory();
+        Player player = TestLevels.find(level, Player.class);
+        List<String> before = new ArrayList<>();
+        for (int[] move : MOVES) {
+            before.add(describe(level));
+            history.record();
+            player.move(move[0], move[1], renderer);
+            for (Actor actor : new ArrayList<>(level.getActors())) {
+                if (actor instanceof Enemy enemy) {
+                    enemy.makeMoveDecision(renderer);
+                }
+            }
+        }
+        for (int i = 0; i < SLIDE_STEPS; i++) {
+            renderer.getActiveSlides().advance();
+        }
+        return before;
+    }
+
+    /**
+     * Describes everything an undo must put back: the tiles and who
+     * occupies them, the actors and their headings, the collectibles, the player's
+     * inventory and the state hash. Collectibles are put back
+     * in any order, so they are listed sorted.
+     */
+    private static String describe(final LevelData level) {
+        StringBuilder state = new StringBuilder();
+        LevelRenderer renderer = level.getLevelRenderer();
+        LevelTiles tiles = renderer.getTiles();
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                Entity occupant = renderer.getOccupant(x, y);
+                state.append(tiles.getType(x, y)).append(occupant == null
+                        ? "" : "@" + occupant.getClass().getSimpleName())
+                        .append(' ');
+            }
+            state.append('\n');
+        }
+        for (Actor actor : level.getActors()) {
+            state.append(actor.getClass().getSimpleName())
+                    .append(actor.getPosition())
+                    .append(actor.getHeading()).append('\n');
+        }
+        List<String> lying = new ArrayList<>();
+        for (Collectible collectible : level.getCollectibles()) {
+            lying.add(collectible.getClass().getSimpleName()
+                    + collectible.getPosition());
+        }
+        Collections.sort(lying);
+        state.append(lying).append('\n');
+        Player player = TestLevels.find(level, Player.class);
+        state.append(player.getChipsCount()).append(player.getKeys())
+                .append('\n').append(level.getStateHash().get());
+        return state.toString();
+    }
+}
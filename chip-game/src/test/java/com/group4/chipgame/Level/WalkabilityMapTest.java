@@ -0,0 +1,179 @@
+package com.group4.chipgame.Level;
+
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the walkability map, updated one tile at a time,
+ * always agrees with a map built afresh: the same passable cells,
+ * and the same cells grouped into regions, whatever the labels.
+ */
+class WalkabilityMapTest {
+    private static final TileType[] PALETTE = {
+        TileType.PATH, TileType.PATH, TileType.PATH, TileType.PATH,
+        TileType.WALL, TileType.WALL, TileType.WATER, TileType.DIRT,
+        TileType.ICE, TileType.EXIT, TileType.DOOR_RED, TileType.BUTTON
+    };
+    private static final long SEED = 1;
+    private static final int GRIDS = 50;
+    private static final int UPDATES = 60;
+
+    @Test
+    void updatesMatchARebuild() {
+        Random random = new Random(SEED);
+        for (int trial = 0; trial < GRIDS; trial++) {
+            TileGrid grid = randomGrid(random);
+            WalkabilityMap map = WalkabilityMap.fromGrid(grid);
+            for (int u = 0; u < UPDATES; u++) {
+                int x = random.nextInt(grid.getWidth());
+                int y = random.nextInt(grid.getHeight());
+                TileType type = PALETTE[random.nextInt(PALETTE.length)];
+                grid.setType(x, y, type);
+                map.update(x, y, type);
+                // Now and then several updates pile up on stale labels
+                // before the map is read again.
+                if (random.nextInt(3) > 0) {
+                    assertSameMap(WalkabilityMap.fromGrid(grid), map, grid);
+                }
+            }
+        }
+    }
+
+    @Test
+    void openingACellJoinsTheRegionsAroundIt() {
+        TileGrid grid = grid("P W P",
+                             "W W W",
+                             "P W P");
+        WalkabilityMap map = WalkabilityMap.fromGrid(grid);
+        MovementClass player = MovementClass.PLAYER;
+        assertNotEquals(map.getRegion(player, 0, 0),
+                map.getRegion(player, 2, 0));
+        int lowerRight = map.getRegion(player, 2, 2);
+
+        map.update(1, 0, TileType.PATH);
+
+        assertEquals(map.getRegion(player, 0, 0),
+                map.getRegion(player, 1, 0));
+        assertEquals(map.getRegion(player, 0, 0),
+                map.getRegion(player, 2, 0));
+        assertTrue(map.canReach(player, 0, 0, 2, 0));
+        assertEquals(lowerRight, map.getRegion(player, 2, 2));
+        assertFalse(map.canReach(player, 0, 0, 2, 2));
+        assertSameMap(WalkabilityMap.fromGrid(grid(
+                "P P P",
+                "W W W",
+                "P W P")), map, grid);
+    }
+
+    @Test
+    void closingACellSplitsItsRegion() {
+        WalkabilityMap map = WalkabilityMap.fromGrid(grid("P P P"));
+        MovementClass player = MovementClass.PLAYER;
+        int[] before = map.frozenRegions(player);
+        assertTrue(map.canReach(player, 0, 0, 2, 0));
+
+        map.update(1, 0, TileType.WALL);
+
+        assertEquals(WalkabilityMap.NO_REGION, map.getRegion(player, 1, 0));
+        assertNotEquals(map.getRegion(player, 0, 0),
+                map.getRegion(player, 2, 0));
+        assertFalse(map.canReach(player, 0, 0, 2, 0));
+        // An actor on the closed cell still reaches either side.
+        assertTrue(map.canReach(player, 1, 0, 2, 0));
+        // The frozen labels taken before the update are left alone.
+        assertEquals(before[0], before[2]);
+    }
+
+    @Test
+    void cellsClosedOnlyToSomeClassesSplitOnlyTheirRegions() {
+        WalkabilityMap map = WalkabilityMap.fromGrid(grid("P P P"));
+        map.getRegion(MovementClass.PLAYER, 0, 0);
+        map.getRegion(MovementClass.BLOCK, 0, 0);
+
+        map.update(1, 0, TileType.DIRT);
+
+        assertEquals(TileType.DIRT.isPassableFor(MovementClass.PLAYER),
+                map.canReach(MovementClass.PLAYER, 0, 0, 2, 0));
+        assertEquals(TileType.DIRT.isPassableFor(MovementClass.BLOCK),
+                map.canReach(MovementClass.BLOCK, 0, 0, 2, 0));
+    }
+
+    /**
+     * Builds a grid from rows of tile codes, P for path and W for wall.
+     */
+    private static TileGrid grid(final String... rows) {
+        int width = rows[0].split(" ").length;
+        TileGrid grid = new TileGrid(width, rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            String[] cells = rows[y].split(" ");
+            for (int x = 0; x < width; x++) {
+                grid.setType(x, y, "P".equals(cells[x])
+                        ? TileType.PATH : TileType.WALL);
+            }
+        }
+        return grid;
+    }
+
+    private static TileGrid randomGrid(final Random random) {
+        int width = 3 + random.nextInt(12);
+        int height = 3 + random.nextInt(12);
+        TileGrid grid = new TileGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.setType(x, y, PALETTE[random.nextInt(PALETTE.length)]);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Checks that two maps have the same passable cells and group
+     * them into the same regions, mapping the labels of one onto
+     * the labels of the other one to one.
+     */
+    private static void assertSameMap(final WalkabilityMap expected,
+                                      final WalkabilityMap actual,
+                                      final TileGrid grid) {
+        for (MovementClass movementClass : MovementClass.values()) {
+            Map<Integer, Integer> forward = new HashMap<>();
+            Map<Integer, Integer> backward = new HashMap<>();
+            int[] frozen = actual.frozenRegions(movementClass);
+            for (int y = 0; y < grid.getHeight(); y++) {
+                for (int x = 0; x < grid.getWidth(); x++) {
+                    String where = movementClass + " " + x + "," + y;
+                    assertEquals(expected.isPassable(movementClass, x, y),
+                            actual.isPassable(movementClass, x, y), where);
+                    assertEquals(
+                            expected.passableNeighbours(movementClass, x, y),
+                            actual.passableNeighbours(movementClass, x, y),
+                            where);
+                    int want = expected.getRegion(movementClass, x, y);
+                    int got = actual.getRegion(movementClass, x, y);
+                    assertEquals(got, frozen[y * grid.getWidth() + x],
+                            where);
+                    if (want == WalkabilityMap.NO_REGION) {
+                        assertEquals(WalkabilityMap.NO_REGION, got, where);
+                        continue;
+                    }
+                    assertNotEquals(WalkabilityMap.NO_REGION, got, where);
+                    assertEquals(want,
+                            (int) forward.computeIfAbsent(got, k -> want),
+                            where);
+                    assertEquals(got,
+                            (int) backward.computeIfAbsent(want, k -> got),
+                            where);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.group4.chipgame.Level.saving;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.LevelStateManager;
+import com.group4.chipgame.Level.LevelTiles;
+import com.group4.chipgame.Level.TestLevels;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Enemy;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.events.GameEventBus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that loading an autosave checkpoint and replaying its journal
+ * gives back the level as it was when the last tick was committed.
+ */
+class AutosaveJournalTest {
+    private static final String[] ROWS = {
+        "P P P P P",
+        "P P P RD P",
+        "P P I I P",
+        "P P P P P"
+    };
+    private static final String ACTORS =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0},"
+            + "{\"type\": \"MovableBlock\", \"x\": 4, \"y\": 2},"
+            + "{\"type\": \"LPinkBall\", \"x\": 0, \"y\": 3}";
+    private static final String COLLECTIBLES =
+            "{\"type\": \"Chip\", \"x\": 1, \"y\": 0},"
+            + "{\"type\": \"redKey\", \"x\": 2, \"y\": 0}";
+    private static final int[][] MOVES = {
+        {1, 0}, {1, 0}, {0, 1}, {1, 0}, {1, 0}, {0, 1}, {-1, 0}
+    };
+    private static final int SLIDE_STEPS = 4;
+    private static final int TIMER_LEFT = 42;
+
+    @TempDir
+    Path dir;
+
+    private long tick;
+
+    @Test
+    void replaysMovesCollectionsDoorsPushesAndSlides() throws IOException {
+        LevelData level = load();
+        Path checkpoint = dir.resolve("autosave.json");
+        try (AutosaveJournal journal = open(checkpoint, level)) {
+            play(level, MOVES);
+            for (int i = 0; i < SLIDE_STEPS; i++) {
+                commit(level, () -> level.getLevelRenderer()
+                        .getActiveSlides().advance());
+            }
+            journal.recordTimer(TIMER_LEFT);
+        }
+        LevelData loaded = reload(checkpoint);
+        assertEquals(describe(level, level.getLevelRenderer().getTiles()),
+                describe(loaded, loaded.getTiles()));
+        assertEquals(TIMER_LEFT, loaded.getTimer());
+    }
+
+    @Test
+    void dropsATickThatWasNotCommitted() throws IOException {
+        LevelData level = load();
+        Path checkpoint = dir.resolve("autosave.json");
+        String committed;
+        AutosaveJournal journal = open(checkpoint, level);
+        try {
+            play(level, new int[][]{{1, 0}});
+            committed = describe(level, level.getLevelRenderer().getTiles());
+            TestLevels.find(level, Player.class)
+                    .move(1, 0, level.getLevelRenderer());
+        } finally {
+            journal.close();
+        }
+        LevelData loaded = reload(checkpoint);
+        assertEquals(committed, describe(loaded, loaded.getTiles()));
+    }
+
+    @Test
+    void ignoresAJournalFromAnotherCheckpoint() throws IOException {
+        LevelData level = load();
+        Path checkpoint = dir.resolve("autosave.json");
+        Path older = dir.resolve("older.json");
+        String start = describe(level, level.getLevelRenderer().getTiles());
+        try (AutosaveJournal journal = open(checkpoint, level)) {
+            Files.copy(checkpoint, older);
+            play(level, new int[][]{{1, 0}});
+            journal.checkpoint();
+            play(level, new int[][]{{1, 0}});
+        }
+        Files.copy(older, checkpoint, StandardCopyOption.REPLACE_EXISTING);
+        LevelData loaded = reload(checkpoint);
+        assertEquals(start, describe(loaded, loaded.getTiles()));
+    }
+
+    private LevelData load() throws IOException {
+        return TestLevels.load(
+                TestLevels.write(dir, ROWS, ACTORS, COLLECTIBLES));
+    }
+
+    private static AutosaveJournal open(final Path checkpoint,
+                                        final LevelData level)
+            throws IOException {
+        AutosaveJournal journal = AutosaveJournal.open(checkpoint, level);
+        journal.attach(level.getLevelRenderer().getEventBus());
+        return journal;
+    }
+
+    private static LevelData reload(final Path checkpoint)
+            throws IOException {
+        return LevelStateManager.loadLevel(checkpoint.toString(),
+                new LevelRenderer(new GameContext(), null));
+    }
+
+    /**
+     * Makes each move in its own tick, committing it to the journal.
+     */
+    private void play(final LevelData level, final int[][] moves) {
+        Player player = TestLevels.find(level, Player.class);
+        for (int[] move : moves) {
+            commit(level, () -> {
+                player.move(move[0], move[1], level.getLevelRenderer());
+                decideEnemies(level);
+            });
+        }
+    }
+
+    /**
+     * Lets every enemy make its move decision.
+     */
+    private static void decideEnemies(final LevelData level) {
+        for (Actor actor : new ArrayList<>(level.getActors())) {
+            if (actor instanceof Enemy enemy) {
+                enemy.makeMoveDecision(level.getLevelRenderer());
+            }
+        }
+    }
+
+    /**
+     * Runs one tick of the game, flushing its events as the loop does.
+     */
+    private void commit(final LevelData level, final Runnable step) {
+        GameEventBus bus = level.getLevelRenderer().getEventBus();
+        bus.beginTick(tick++);
+        step.run();
+        bus.flush();
+    }
+
+    /**
+     * Describes everything an autosave must keep: the tiles, the
+     * actors in order with their headings, the collectibles and
+     * the player's inventory.
+     */
+    private static String describe(final LevelData level,
+                                   final LevelTiles tiles) {
+        StringBuilder state = new StringBuilder();
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                state.append(tiles.getType(x, y)).append(' ');
+            }
+            state.append('\n');
+        }
+        for (Actor actor : level.getActors()) {
+            state.append(actor.getClass().getSimpleName())
+                    .append(actor.getPosition())
+                    .append(actor.getHeading()).append('\n');
+        }
+        List<String> lying = new ArrayList<>();
+        for (Collectible collectible : level.getCollectibles()) {
+            lying.add(collectible.getClass().getSimpleName()
+                    + collectible.getPosition());
+        }
+        Collections.sort(lying);
+        Player player = TestLevels.find(level, Player.class);
+        state.append(lying).append('\n')
+                .append(player.getChipsCount()).append(player.getKeys());
+        return state.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package com.group4.chipgame.events;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.TestLevels;
+import com.group4.chipgame.entities.actors.MovementClass;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.tiles.Tile;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the event bus calls listeners at once, in the order events
+ * are published and narrowed to their tiles and actors, and hands each
+ * tick's events to observers only when the tick is flushed.
+ */
+class GameEventBusTest {
+    private static final String[] ROWS = {"P B_1 P P"};
+    private static final String PLAYER =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0}";
+    private static final long TICK = 7;
+
+    @TempDir
+    Path dir;
+
+    private LevelRenderer renderer;
+    private GameEventBus bus;
+    private Player player;
+    private final List<String> heard = new ArrayList<>();
+
+    @BeforeEach
+    void loadLevel() throws IOException {
+        LevelData level = TestLevels.load(
+                TestLevels.write(dir, ROWS, PLAYER, ""));
+        renderer = level.getLevelRenderer();
+        bus = renderer.getEventBus();
+        player = TestLevels.find(level, Player.class);
+    }
+
+    @Test
+    void moveIsPublishedAsLeaveEnterThenStep() {
+        Consumer<GameEvent> listener = this::hear;
+        bus.subscribe(GameEvent.Type.STEP, listener);
+        bus.subscribe(GameEvent.Type.ENTER, listener);
+        bus.subscribe(GameEvent.Type.LEAVE, listener);
+
+        player.move(1, 0, renderer);
+        player.move(1, 0, renderer);
+
+        assertEquals(List.of(
+                "LEAVE PATH 0,0", "ENTER BUTTON 1,0", "STEP BUTTON 1,0",
+                "LEAVE BUTTON 1,0", "ENTER PATH 2,0", "STEP PATH 2,0"),
+                heard);
+    }
+
+    @Test
+    void narrowedListenersHearOnlyTheirTilesAndActors() {
+        bus.subscribe(GameEvent.Type.ENTER, TileType.BUTTON,
+                event -> heard.add("button " + event.getX()));
+        bus.subscribe(GameEvent.Type.ENTER, null, MovementClass.PLAYER,
+                event -> heard.add("player " + event.getX()));
+        bus.subscribe(GameEvent.Type.ENTER, null, MovementClass.BLOCK,
+                event -> heard.add("block " + event.getX()));
+        bus.subscribe(GameEvent.Type.LEAVE, TileType.WALL,
+                event -> heard.add("wall " + event.getX()));
+
+        player.move(1, 0, renderer);
+        player.move(1, 0, renderer);
+
+        assertEquals(List.of("button 1", "player 1", "player 2"), heard);
+    }
+
+    @Test
+    void listenersAddedOrRemovedLaterAreHonoured() {
+        Consumer<GameEvent> first = event -> heard.add("first");
+        Consumer<GameEvent> second = event -> heard.add("second");
+        bus.subscribe(GameEvent.Type.STEP, first);
+        bus.subscribe(GameEvent.Type.ENTER, first);
+        player.move(1, 0, renderer);
+
+        bus.subscribe(GameEvent.Type.STEP, second);
+        bus.unsubscribe(first);
+        player.move(1, 0, renderer);
+
+        assertEquals(List.of("first", "first", "second"), heard);
+    }
+
+    @Test
+    void observersHearATicksEventsOnlyWhenItIsFlushed() {
+        List<List<GameEvent>> batches = new ArrayList<>();
+        bus.addObserver(batches::add);
+
+        bus.beginTick(TICK);
+        player.move(1, 0, renderer);
+        assertTrue(batches.isEmpty());
+        bus.flush();
+
+        assertEquals(1, batches.size());
+        List<GameEvent> batch = batches.get(0);
+        assertEquals(List.of(GameEvent.Type.LEAVE, GameEvent.Type.ENTER,
+                GameEvent.Type.STEP), batch.stream()
+                .map(GameEvent::getType).toList());
+        for (GameEvent event : batch) {
+            assertEquals(TICK, event.getTick());
+        }
+        assertThrows(UnsupportedOperationException.class,
+                () -> batch.add(batch.get(0)));
+
+        bus.flush();
+        assertEquals(1, batches.size());
+
+        bus.beginTick(TICK + 1);
+        player.move(1, 0, renderer);
+        bus.flush();
+        assertEquals(2, batches.size());
+        assertEquals(TICK + 1, batches.get(1).get(0).getTick());
+    }
+
+    @Test
+    void eventsPublishedWithoutObserversAreNotKept() {
+        List<List<GameEvent>> batches = new ArrayList<>();
+        Consumer<List<GameEvent>> observer = batches::add;
+        player.move(1, 0, renderer);
+
+        bus.addObserver(observer);
+        bus.flush();
+        assertTrue(batches.isEmpty());
+
+        player.move(1, 0, renderer);
+        bus.removeObserver(observer);
+        bus.addObserver(observer);
+        bus.flush();
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void eventsWithoutATileOrActorReachListenersForAll() {
+        GameEventBus fresh = new GameEventBus();
+        Tile path = TileType.PATH.getTile();
+        fresh.subscribe(GameEvent.Type.TILE_REPLACED, this::hear);
+        fresh.subscribe(GameEvent.Type.ENTER, this::hear);
+
+        fresh.publish(GameEvent.tileReplaced(null, path, 3, 1));
+        fresh.publish(GameEvent.enter(player, null, 0, 0, Direction.UP));
+
+        assertEquals(List.of("TILE_REPLACED PATH 3,1", "ENTER - 0,0"),
+                heard);
+    }
+
+    private void hear(final GameEvent event) {
+        Tile tile = event.getTile();
+        heard.add(event.getType() + " "
+                + (tile == null ? "-" : tile.getType()) + " "
+                + event.getX() + "," + event.getY());
+    }
+}
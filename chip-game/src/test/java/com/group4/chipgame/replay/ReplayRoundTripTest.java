@@ -0,0 +1,134 @@
+package com.group4.chipgame.replay;
+
+import com.group4.chipgame.Direction;
+import com.group4.chipgame.Level.HeadlessGame;
+import com.group4.chipgame.Level.LevelRandom;
+import com.group4.chipgame.Level.PathSearchMode;
+import com.group4.chipgame.Level.TestLevels;
+import javafx.geometry.Point2D;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that a session recorded on a seeded level plays back on a
+ * headless game to exactly the same state: the same tiles, actors,
+ * draws from the level's random generator and final state hash.
+ */
+class ReplayRoundTripTest {
+    /** The player's side, and a pen of frogs it can never reach. */
+    private static final String[] ROWS = {
+        "P P P P W P P P",
+        "P P S P W P P P",
+        "P P RD P W P P P",
+        "P P P P W P P P",
+        "P P P P W P P P",
+        "P P P P W P P P"
+    };
+    private static final String ACTORS =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0},"
+            + "{\"type\": \"RPinkBall\", \"x\": 0, \"y\": 5},"
+            + "{\"type\": \"Frog\", \"x\": 6, \"y\": 1},"
+            + "{\"type\": \"Frog\", \"x\": 5, \"y\": 4}";
+    private static final String COLLECTIBLES =
+            "{\"type\": \"Chip\", \"x\": 2, \"y\": 0},"
+            + "{\"type\": \"redKey\", \"x\": 1, \"y\": 3}";
+    private static final long SEED = 42;
+    private static final long END_TICK = 1500;
+    private static final PathSearchMode MODE = PathSearchMode.A_STAR;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayEndsInTheRecordedState() throws IOException {
+        Path level = writeSeededLevel();
+        Path file = dir.resolve("session.replay");
+        Map<Long, Direction> inputs = inputs();
+
+        HeadlessGame recorded = HeadlessGame.load(level.toString(), MODE);
+        LevelRandom random =
+                recorded.getLevel().getLevelRenderer().getRandom();
+        assertEquals(SEED, random.getSeed());
+        try (ReplayRecorder recorder = new ReplayRecorder(file,
+                level.toString(), random.getSeed(), MODE)) {
+            recorded.getLoop().setReplayRecorder(recorder);
+            while (recorded.getTick() < END_TICK) {
+                Direction input = inputs.get(recorded.getTick());
+                if (input != null) {
+                    recorded.queueMove(input);
+                }
+                recorded.tick();
+            }
+        }
+        assertEquals(HeadlessGame.Status.RUNNING, recorded.getStatus());
+        // The player took the key, opened the door, dug through the
+        // dirt and picked up the chip.
+        assertEquals(new Point2D(3, 0), recorded.getPlayer().getPosition());
+        assertEquals(1, recorded.getPlayer().getChipsCount());
+        assertNotEquals(SEED, random.getState(),
+                "The frogs never drew from the level's generator");
+
+        ReplayPlayer replay = ReplayPlayer.open(file);
+        assertEquals(level.toString(), replay.getLevelPath());
+        assertEquals(SEED, replay.getSeed());
+        assertEquals(MODE, replay.getPathSearchMode());
+        assertEquals(inputs.size(), replay.size());
+
+        HeadlessGame played = HeadlessGame.load(replay.getLevelPath(),
+                replay.getPathSearchMode());
+        LevelRandom playedRandom =
+                played.getLevel().getLevelRenderer().getRandom();
+        playedRandom.reseed(replay.getSeed());
+        played.getLoop().setReplayPlayer(replay);
+        while (played.getTick() < END_TICK) {
+            played.tick();
+        }
+
+        assertTrue(replay.isFinished());
+        assertEquals(recorded.getStatus(), played.getStatus());
+        assertEquals(recorded.getPlayer().getPosition(),
+                played.getPlayer().getPosition());
+        assertEquals(recorded.getPlayer().getChipsCount(),
+                played.getPlayer().getChipsCount());
+        assertEquals(random.getState(), playedRandom.getState());
+        assertEquals(recorded.hash(), played.hash());
+    }
+
+    /**
+     * Gets the player's inputs by the tick they are queued before.
+     * Most are queued between the player's moves, so they are taken,
+     * and recorded, on a later tick than they were given.
+     */
+    private static Map<Long, Direction> inputs() {
+        Map<Long, Direction> inputs = new TreeMap<>();
+        inputs.put(3L, Direction.DOWN);
+        inputs.put(27L, Direction.DOWN);
+        inputs.put(41L, Direction.DOWN);
+        inputs.put(90L, Direction.RIGHT);
+        inputs.put(133L, Direction.UP);
+        inputs.put(250L, Direction.RIGHT);
+        inputs.put(301L, Direction.UP);
+        inputs.put(444L, Direction.UP);
+        inputs.put(789L, Direction.RIGHT);
+        return inputs;
+    }
+
+    private Path writeSeededLevel() throws IOException {
+        Path level = TestLevels.write(dir, ROWS, ACTORS, COLLECTIBLES);
+        JSONObject json = new JSONObject(Files.readString(level));
+        json.put("seed", SEED);
+        Files.writeString(level, json.toString());
+        return level;
+    }
+}
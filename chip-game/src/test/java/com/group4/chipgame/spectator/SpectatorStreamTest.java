@@ -0,0 +1,360 @@
+package com.group4.chipgame.spectator;
+
+import com.group4.chipgame.GameContext;
+import com.group4.chipgame.Level.LevelData;
+import com.group4.chipgame.Level.LevelRenderer;
+import com.group4.chipgame.Level.LevelStateManager;
+import com.group4.chipgame.Level.LevelTiles;
+import com.group4.chipgame.Level.TestLevels;
+import com.group4.chipgame.entities.actors.Actor;
+import com.group4.chipgame.entities.actors.Player;
+import com.group4.chipgame.entities.actors.collectibles.Collectible;
+import com.group4.chipgame.entities.actors.tiles.TileType;
+import com.group4.chipgame.events.GameEventBus;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that a spectator decoding the keyframes and deltas of a stream
+ * mirrors the live level, and that keyframes are sent when needed.
+ */
+class SpectatorStreamTest {
+    private static final String[] ROWS = {
+        "P P P P P",
+        "P P P RD P",
+        "P P I I P",
+        "P P P P P"
+    };
+    private static final String ACTORS =
+            "{\"type\": \"Player\", \"x\": 0, \"y\": 0},"
+            + "{\"type\": \"MovableBlock\", \"x\": 4, \"y\": 2}";
+    private static final String COLLECTIBLES =
+            "{\"type\": \"Chip\", \"x\": 1, \"y\": 0},"
+            + "{\"type\": \"redKey\", \"x\": 2, \"y\": 0}";
+    private static final int[][] MOVES = {
+        {1, 0}, {1, 0}, {0, 1}, {1, 0}, {1, 0}, {0, 1}, {-1, 0}
+    };
+    private static final int SLIDE_STEPS = 4;
+    private static final int TIMER_LEFT = 42;
+    /** A frame's length, kind, a one-byte tick and one move record. */
+    private static final int STEP_FRAME_BYTES = 4 + 1 + 1 + 4;
+    /** The frame of the third move, a plain step down. */
+    private static final int STEP_FRAME = 3;
+    private static final Duration FAILURE_TIMEOUT = Duration.ofSeconds(5);
+
+    @TempDir
+    Path dir;
+
+    private long tick;
+
+    @Test
+    void varintsAndZigzagsRoundTrip() {
+        long[] values = {0, 1, 127, 128, 300, Integer.MAX_VALUE,
+            0xFFFFFFFFL, Long.MAX_VALUE};
+        for (long value : values) {
+            ByteBuffer buffer = ByteBuffer.allocate(10);
+            SpectatorProtocol.putVarint(buffer, value);
+            buffer.flip();
+            assertEquals(value, SpectatorProtocol.getVarint(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+        for (int value : new int[]{0, 1, -1, 63, -64, Integer.MIN_VALUE}) {
+            assertEquals(value, SpectatorProtocol.unzigzag(
+                    SpectatorProtocol.zigzag(value)));
+        }
+        assertEquals(1, SpectatorProtocol.zigzag(-1));
+        assertEquals(2, SpectatorProtocol.zigzag(1));
+    }
+
+    @Test
+    void deltasKeepASpectatorInStep() throws IOException {
+        LevelData level = load();
+        RecordingSink sink = new RecordingSink();
+        SpectatorStream stream = open(level, sink);
+        Player player = TestLevels.find(level, Player.class);
+        endTick(level, stream, () -> { });
+        for (int[] move : MOVES) {
+            endTick(level, stream, () -> player.move(move[0], move[1],
+                    level.getLevelRenderer()));
+        }
+        for (int i = 0; i < SLIDE_STEPS; i++) {
+            endTick(level, stream, () -> level.getLevelRenderer()
+                    .getActiveSlides().advance());
+        }
+        endTick(level, stream, () -> stream.recordTimer(TIMER_LEFT));
+        stream.close();
+
+        List<byte[]> frames = sink.frames();
+        assertTrue(SpectatorProtocol.isKeyframe(frames.get(0)));
+        for (byte[] frame : frames.subList(1, frames.size())) {
+            assertFalse(SpectatorProtocol.isKeyframe(frame));
+        }
+        assertEquals(STEP_FRAME_BYTES, frames.get(STEP_FRAME).length);
+        Mirror mirror = new Mirror();
+        mirror.applyAll(frames);
+        assertEquals(describe(level, level.getLevelRenderer().getTiles(),
+                TIMER_LEFT), mirror.describe());
+    }
+
+    @Test
+    void quietTicksSendNothing() throws IOException {
+        LevelData level = load();
+        RecordingSink sink = new RecordingSink();
+        SpectatorStream stream = open(level, sink);
+        for (int i = 0; i < 3; i++) {
+            endTick(level, stream, () -> { });
+        }
+        stream.close();
+        assertEquals(1, sink.frames().size());
+    }
+
+    @Test
+    void sendsAKeyframeWhenAskedAndStaysInStep() throws IOException {
+        LevelData level = load();
+        RecordingSink sink = new RecordingSink();
+        SpectatorStream stream = open(level, sink);
+        Player player = TestLevels.find(level, Player.class);
+        LevelRenderer renderer = level.getLevelRenderer();
+        endTick(level, stream, () -> player.move(1, 0, renderer));
+        sink.wantsKeyframe = true;
+        endTick(level, stream, () -> player.move(1, 0, renderer));
+        sink.wantsKeyframe = false;
+        endTick(level, stream, () -> player.move(0, 1, renderer));
+        stream.requestKeyframe();
+        endTick(level, stream, () -> { });
+        endTick(level, stream, () -> player.move(1, 0, renderer));
+        stream.close();
+
+        List<byte[]> frames = sink.frames();
+        boolean[] keyframes = {true, true, false, true, false};
+        assertEquals(keyframes.length, frames.size());
+        for (int i = 0; i < keyframes.length; i++) {
+            assertEquals(keyframes[i],
+                    SpectatorProtocol.isKeyframe(frames.get(i)),
+                    "frame " + i);
+        }
+        Mirror mirror = new Mirror();
+        mirror.applyAll(frames);
+        assertEquals(describe(level, renderer.getTiles(),
+                level.getTimer()), mirror.describe());
+    }
+
+    @Test
+    void buffersNothingOnceTheSinkFails() throws IOException {
+        LevelData level = load();
+        SpectatorStream stream = open(level, new FailingSink());
+        Player player = TestLevels.find(level, Player.class);
+        LevelRenderer renderer = level.getLevelRenderer();
+        GameEventBus bus = renderer.getEventBus();
+        endTick(level, stream, () -> { });
+        assertTimeoutPreemptively(FAILURE_TIMEOUT, () -> {
+            while (!stream.hasFailed()) {
+                Thread.sleep(1);
+            }
+        });
+        for (int[] move : MOVES) {
+            bus.beginTick(tick);
+            player.move(move[0], move[1], renderer);
+            stream.recordTimer(TIMER_LEFT);
+            bus.flush();
+            assertEquals(0, stream.bufferedBytes());
+            stream.endTick(tick++);
+        }
+        stream.close();
+    }
+
+    private LevelData load() throws IOException {
+        return TestLevels.load(
+                TestLevels.write(dir, ROWS, ACTORS, COLLECTIBLES));
+    }
+
+    private static SpectatorStream open(final LevelData level,
+                                        final SpectatorSink sink) {
+        SpectatorStream stream = new SpectatorStream(level, sink);
+        stream.attach(level.getLevelRenderer().getEventBus());
+        return stream;
+    }
+
+    /**
+     * Runs one tick of the game, flushing its events
+     * and ending the stream's tick as the loop does.
+     */
+    private void endTick(final LevelData level,
+                         final SpectatorStream stream,
+                         final Runnable step) {
+        GameEventBus bus = level.getLevelRenderer().getEventBus();
+        bus.beginTick(tick);
+        step.run();
+        bus.flush();
+        stream.endTick(tick++);
+    }
+
+    /**
+     * Describes what a spectator sees: the tiles, the actors
+     * in order, the collectibles and the timer.
+     */
+    private static String describe(final LevelTiles tiles,
+                                   final List<Actor> actors,
+                                   final List<Collectible> collectibles,
+                                   final int timer) {
+        StringBuilder state = new StringBuilder();
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            for (int x = 0; x < tiles.getWidth(); x++) {
+                state.append(tiles.getType(x, y)).append(' ');
+            }
+            state.append('\n');
+        }
+        for (Actor actor : actors) {
+            state.append(actor.getClass().getSimpleName())
+                    .append(actor.getPosition()).append('\n');
+        }
+        List<String> lying = new ArrayList<>();
+        for (Collectible collectible : collectibles) {
+            lying.add(collectible.getClass().getSimpleName()
+                    + collectible.getPosition());
+        }
+        Collections.sort(lying);
+        return state.append(lying).append('\n').append(timer).toString();
+    }
+
+    private static String describe(final LevelData level,
+                                   final LevelTiles tiles,
+                                   final int timer) {
+        return describe(tiles, level.getActors(), level.getCollectibles(),
+                timer);
+    }
+
+    /**
+     * A sink that keeps every frame written to it.
+     */
+    private static final class RecordingSink implements SpectatorSink {
+        private final List<byte[]> written = new ArrayList<>();
+        private volatile boolean wantsKeyframe;
+
+        @Override
+        public synchronized void write(final List<byte[]> frames) {
+            written.addAll(frames);
+        }
+
+        @Override
+        public boolean wantsKeyframe() {
+            return wantsKeyframe;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        synchronized List<byte[]> frames() {
+            return new ArrayList<>(written);
+        }
+    }
+
+    /**
+     * A sink that fails on every write.
+     */
+    private static final class FailingSink implements SpectatorSink {
+        @Override
+        public void write(final List<byte[]> frames) throws IOException {
+            throw new IOException("Spectator went away");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A spectator's copy of the level, decoded from frames alone.
+     */
+    private static final class Mirror {
+        private LevelData level;
+        private Actor[] actors;
+        private Collectible[] collectibles;
+        private int timer;
+
+        void applyAll(final List<byte[]> frames) {
+            for (byte[] frame : frames) {
+                ByteBuffer in = ByteBuffer.wrap(frame, Integer.BYTES,
+                        frame.length - Integer.BYTES).slice();
+                byte kind = in.get();
+                SpectatorProtocol.getVarint(in);
+                if (kind == SpectatorProtocol.KEYFRAME) {
+                    keyframe(new String(frame, Integer.BYTES + in.position(),
+                            in.remaining(), StandardCharsets.UTF_8));
+                } else {
+                    while (in.hasRemaining()) {
+                        record(in);
+                    }
+                }
+            }
+        }
+
+        private void keyframe(final String state) {
+            level = LevelStateManager.fromJson(new JSONObject(state),
+                    new LevelRenderer(new GameContext(), null));
+            actors = level.getActors().toArray(new Actor[0]);
+            collectibles = level.getCollectibles()
+                    .toArray(new Collectible[0]);
+            timer = level.getTimer();
+        }
+
+        private void record(final ByteBuffer in) {
+            byte kind = in.get();
+            int a = (int) SpectatorProtocol.getVarint(in);
+            switch (kind) {
+                case SpectatorProtocol.MOVE -> {
+                    int dx = SpectatorProtocol.unzigzag(
+                            (int) SpectatorProtocol.getVarint(in));
+                    int dy = SpectatorProtocol.unzigzag(
+                            (int) SpectatorProtocol.getVarint(in));
+                    actors[a].placeAt(actors[a].getPosition().getX() + dx,
+                            actors[a].getPosition().getY() + dy);
+                }
+                case SpectatorProtocol.REMOVE -> actors[a] = null;
+                case SpectatorProtocol.COLLECT -> collectibles[a] = null;
+                case SpectatorProtocol.TILE -> {
+                    int y = (int) SpectatorProtocol.getVarint(in);
+                    int code = (int) SpectatorProtocol.getVarint(in);
+                    level.getTiles().set(a, y,
+                            TileType.fromCode((byte) code).getTile());
+                }
+                case SpectatorProtocol.TIMER -> timer = a;
+                default -> throw new IllegalStateException(
+                        "Unknown record " + kind);
+            }
+        }
+
+        String describe() {
+            List<Actor> live = new ArrayList<>();
+            for (Actor actor : actors) {
+                if (actor != null) {
+                    live.add(actor);
+                }
+            }
+            List<Collectible> lying = new ArrayList<>();
+            for (Collectible collectible : collectibles) {
+                if (collectible != null) {
+                    lying.add(collectible);
+                }
+            }
+            return SpectatorStreamTest.describe(level.getTiles(), live,
+                    lying, timer);
+        }
+    }
+}